@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.benchmark;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single benchmark, i.e., a named piece of code with a fixed set of parameters.
+ *
+ * The method <code>run</code> is timed by the <code>BenchmarkRunner</code>, the methods <code>setUp</code> and <code>tearDown</code> are not.
+ * The value returned by <code>run</code> is consumed by the runner to prevent the JIT from eliminating the benchmarked code.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public abstract class BenchmarkCase {
+
+	private final String				group;
+	private final String				name;
+	private final Map<String, Object>	parameters;
+	private final long					operationsPerInvocation;
+
+	/**
+	 * Create a benchmark case.
+	 *
+	 * @param group The group of the benchmark, e.g., the benchmarked class.
+	 * @param name The name of the benchmark.
+	 * @param parameters The parameters of the benchmark (used for reporting only).
+	 * @param operationsPerInvocation The number of operations performed by a single call to <code>run</code>, used to report the time per operation.
+	 */
+	public BenchmarkCase(String group, String name, Map<String, Object> parameters, long operationsPerInvocation) {
+		super();
+		this.group						= group;
+		this.name						= name;
+		this.parameters					= Collections.unmodifiableMap(new LinkedHashMap<String, Object>(parameters));
+		this.operationsPerInvocation	= operationsPerInvocation;
+	}
+
+	/**
+	 * Prepare the benchmark. Called once before the warm up.
+	 *
+	 * @throws Exception Thrown if the preparation fails.
+	 */
+	public void setUp() throws Exception {
+	}
+
+	/**
+	 * Run the benchmarked code once.
+	 *
+	 * @return A result of the calculation.
+	 * @throws Exception Thrown if the calculation fails.
+	 */
+	public abstract Object run() throws Exception;
+
+	/**
+	 * Release the resources of the benchmark. Called once after the measurement.
+	 *
+	 * @throws Exception Thrown if the release fails.
+	 */
+	public void tearDown() throws Exception {
+	}
+
+	public String getGroup() {
+		return group;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Map<String, Object> getParameters() {
+		return parameters;
+	}
+
+	public long getOperationsPerInvocation() {
+		return operationsPerInvocation;
+	}
+
+	/**
+	 * Helper to create a parameter map from key value pairs.
+	 *
+	 * @param keysAndValues Alternating keys (strings) and values.
+	 * @return The parameter map, preserving the given order.
+	 */
+	public static Map<String, Object> parameters(Object... keysAndValues) {
+		Map<String, Object> parameters = new LinkedHashMap<String, Object>();
+		for(int i=0; i<keysAndValues.length; i+=2) parameters.put((String)keysAndValues[i], keysAndValues[i+1]);
+		return parameters;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.benchmark;
+
+/**
+ * The result of a benchmark: the measured times of the individual iterations.
+ *
+ * All statistics are reported as time per operation in nanoseconds, see {@link BenchmarkCase#getOperationsPerInvocation()}.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BenchmarkResult {
+
+	private final BenchmarkCase	benchmarkCase;
+	private final long[]		iterationTimes;
+	private final double		allocatedBytesPerOperation;
+
+	/**
+	 * Create a benchmark result.
+	 *
+	 * @param benchmarkCase The benchmark.
+	 * @param iterationTimes The time of each measurement iteration in nanoseconds.
+	 * @param allocatedBytesPerOperation The average number of bytes allocated per operation (NaN if not available).
+	 */
+	public BenchmarkResult(BenchmarkCase benchmarkCase, long[] iterationTimes, double allocatedBytesPerOperation) {
+		super();
+		this.benchmarkCase				= benchmarkCase;
+		this.iterationTimes				= iterationTimes.clone();
+		this.allocatedBytesPerOperation	= allocatedBytesPerOperation;
+	}
+
+	public BenchmarkCase getBenchmarkCase() {
+		return benchmarkCase;
+	}
+
+	public int getNumberOfIterations() {
+		return iterationTimes.length;
+	}
+
+	/**
+	 * @return The mean time per operation in nanoseconds.
+	 */
+	public double getMean() {
+		double sum = 0.0;
+		for(long time : iterationTimes) sum += time;
+		return sum / iterationTimes.length / benchmarkCase.getOperationsPerInvocation();
+	}
+
+	/**
+	 * @return The minimum time per operation in nanoseconds.
+	 */
+	public double getMin() {
+		long min = Long.MAX_VALUE;
+		for(long time : iterationTimes) min = Math.min(min, time);
+		return (double)min / benchmarkCase.getOperationsPerInvocation();
+	}
+
+	/**
+	 * @return The maximum time per operation in nanoseconds.
+	 */
+	public double getMax() {
+		long max = Long.MIN_VALUE;
+		for(long time : iterationTimes) max = Math.max(max, time);
+		return (double)max / benchmarkCase.getOperationsPerInvocation();
+	}
+
+	/**
+	 * @return The average number of bytes allocated per operation (NaN if not available).
+	 */
+	public double getAllocatedBytesPerOperation() {
+		return allocatedBytesPerOperation;
+	}
+
+	/**
+	 * @return The sample standard deviation of the time per operation in nanoseconds.
+	 */
+	public double getStandardDeviation() {
+		if(iterationTimes.length < 2) return 0.0;
+
+		double mean = getMean();
+		double sumOfSquaredDeviations = 0.0;
+		for(long time : iterationTimes) {
+			double deviation = (double)time / benchmarkCase.getOperationsPerInvocation() - mean;
+			sumOfSquaredDeviations += deviation * deviation;
+		}
+		return Math.sqrt(sumOfSquaredDeviations / (iterationTimes.length-1));
+	}
+}
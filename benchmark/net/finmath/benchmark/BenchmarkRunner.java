@@ -0,0 +1,213 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.benchmark;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A minimal benchmark harness: runs a list of benchmark cases with a number of warm up and measurement iterations
+ * and reports the results as a table and as JSON.
+ *
+ * Each iteration is a single call to {@link BenchmarkCase#run()}. Benchmarks should hence be sized such that
+ * a single call takes at least a few milliseconds.
+ *
+ * In addition to the time, the runner reports the bytes allocated per operation by the thread running the benchmark
+ * (if supported by the JVM). Allocations of other threads (e.g., of a thread pool used by the benchmarked code) are not included.
+ *
+ * The JSON report has the form
+ * <pre>
+ * { "jvm" : "...", "timestamp" : ..., "benchmarks" : [
+ *     { "group" : "...", "name" : "...", "parameters" : { ... }, "unit" : "ns/op", "operationsPerInvocation" : ...,
+ *       "iterations" : ..., "mean" : ..., "min" : ..., "max" : ..., "standardDeviation" : ..., "allocatedBytesPerOperation" : ... }, ... ] }
+ * </pre>
+ * and is meant to be stored and compared across versions to track performance regressions.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+	private final int numberOfWarmUpIterations;
+	private final int numberOfMeasurementIterations;
+
+	private final PrintStream log;
+
+	// Consumes the results of the benchmarks such that the JIT cannot eliminate them
+	private int blackHole = 0;
+
+	/**
+	 * Create a benchmark runner.
+	 *
+	 * @param numberOfWarmUpIterations The number of (untimed) warm up iterations of each benchmark.
+	 * @param numberOfMeasurementIterations The number of timed iterations of each benchmark.
+	 * @param log A stream to which progress is reported (may be null).
+	 */
+	public BenchmarkRunner(int numberOfWarmUpIterations, int numberOfMeasurementIterations, PrintStream log) {
+		super();
+		this.numberOfWarmUpIterations		= numberOfWarmUpIterations;
+		this.numberOfMeasurementIterations	= numberOfMeasurementIterations;
+		this.log							= log;
+	}
+
+	/**
+	 * Run a single benchmark.
+	 *
+	 * @param benchmarkCase The benchmark.
+	 * @return The result of the benchmark.
+	 * @throws Exception Thrown if the benchmark fails.
+	 */
+	public BenchmarkResult run(BenchmarkCase benchmarkCase) throws Exception {
+		benchmarkCase.setUp();
+		try {
+			for(int iteration=0; iteration<numberOfWarmUpIterations; iteration++) consume(benchmarkCase.run());
+
+			long[] iterationTimes = new long[numberOfMeasurementIterations];
+			long allocatedBytes = 0;
+			for(int iteration=0; iteration<numberOfMeasurementIterations; iteration++) {
+				long allocatedBytesStart = getAllocatedBytes();
+				long start = System.nanoTime();
+				Object result = benchmarkCase.run();
+				long end = System.nanoTime();
+				allocatedBytes += getAllocatedBytes() - allocatedBytesStart;
+				consume(result);
+				iterationTimes[iteration] = end-start;
+			}
+
+			double allocatedBytesPerOperation = isAllocatedBytesSupported() ? (double)allocatedBytes / numberOfMeasurementIterations / benchmarkCase.getOperationsPerInvocation() : Double.NaN;
+			BenchmarkResult result = new BenchmarkResult(benchmarkCase, iterationTimes, allocatedBytesPerOperation);
+			if(log != null) log.println(format(result));
+			return result;
+		}
+		finally {
+			benchmarkCase.tearDown();
+		}
+	}
+
+	/**
+	 * Run a list of benchmarks.
+	 *
+	 * @param benchmarkCases The benchmarks.
+	 * @return The results of the benchmarks.
+	 * @throws Exception Thrown if a benchmark fails.
+	 */
+	public List<BenchmarkResult> run(List<BenchmarkCase> benchmarkCases) throws Exception {
+		List<BenchmarkResult> results = new ArrayList<BenchmarkResult>();
+		for(BenchmarkCase benchmarkCase : benchmarkCases) results.add(run(benchmarkCase));
+		if(blackHole == 42 && log != null) log.println();
+		return results;
+	}
+
+	/**
+	 * @return True, if the JVM reports the bytes allocated by a thread (HotSpot specific).
+	 */
+	private static boolean isAllocatedBytesSupported() {
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		return threadMXBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean)threadMXBean).isThreadAllocatedMemorySupported();
+	}
+
+	/**
+	 * @return The number of bytes allocated by the current thread so far, 0 if not supported.
+	 */
+	private static long getAllocatedBytes() {
+		if(!isAllocatedBytesSupported()) return 0;
+		return ((com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private void consume(Object result) {
+		if(result != null) blackHole ^= result.hashCode();
+	}
+
+	/**
+	 * Format a result as a single line of text.
+	 *
+	 * @param result The result.
+	 * @return A line of text.
+	 */
+	public static String format(BenchmarkResult result) {
+		BenchmarkCase benchmarkCase = result.getBenchmarkCase();
+		return String.format(Locale.ENGLISH, "%-30s %-28s %-64s %14.3f +- %10.3f ns/op (min %14.3f) %14.1f B/op",
+				benchmarkCase.getGroup(), benchmarkCase.getName(), benchmarkCase.getParameters(),
+				result.getMean(), result.getStandardDeviation(), result.getMin(), result.getAllocatedBytesPerOperation());
+	}
+
+	/**
+	 * Create a JSON report of the given results.
+	 *
+	 * @param results The results.
+	 * @return The JSON report.
+	 */
+	public static String toJSON(List<BenchmarkResult> results) {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n");
+		json.append("  \"jvm\" : ").append(quote(System.getProperty("java.vm.name") + " " + System.getProperty("java.version"))).append(",\n");
+		json.append("  \"availableProcessors\" : ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+		json.append("  \"timestamp\" : ").append(System.currentTimeMillis()).append(",\n");
+		json.append("  \"benchmarks\" : [");
+		for(int i=0; i<results.size(); i++) {
+			BenchmarkResult	result			= results.get(i);
+			BenchmarkCase	benchmarkCase	= result.getBenchmarkCase();
+
+			json.append(i == 0 ? "\n" : ",\n");
+			json.append("    { ");
+			json.append("\"group\" : ").append(quote(benchmarkCase.getGroup())).append(", ");
+			json.append("\"name\" : ").append(quote(benchmarkCase.getName())).append(", ");
+			json.append("\"parameters\" : {");
+			boolean isFirstParameter = true;
+			for(Map.Entry<String, Object> parameter : benchmarkCase.getParameters().entrySet()) {
+				json.append(isFirstParameter ? " " : ", ");
+				json.append(quote(parameter.getKey())).append(" : ").append(toJSONValue(parameter.getValue()));
+				isFirstParameter = false;
+			}
+			json.append(" }, ");
+			json.append("\"unit\" : \"ns/op\", ");
+			json.append("\"operationsPerInvocation\" : ").append(benchmarkCase.getOperationsPerInvocation()).append(", ");
+			json.append("\"iterations\" : ").append(result.getNumberOfIterations()).append(", ");
+			json.append("\"mean\" : ").append(toJSONValue(result.getMean())).append(", ");
+			json.append("\"min\" : ").append(toJSONValue(result.getMin())).append(", ");
+			json.append("\"max\" : ").append(toJSONValue(result.getMax())).append(", ");
+			json.append("\"standardDeviation\" : ").append(toJSONValue(result.getStandardDeviation())).append(", ");
+			json.append("\"allocatedBytesPerOperation\" : ").append(toJSONValue(result.getAllocatedBytesPerOperation()));
+			json.append(" }");
+		}
+		json.append("\n  ]\n");
+		json.append("}\n");
+		return json.toString();
+	}
+
+	private static String toJSONValue(Object value) {
+		if(value == null) return "null";
+		if(value instanceof Double || value instanceof Float) {
+			double doubleValue = ((Number)value).doubleValue();
+			if(Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) return "null";
+			return String.valueOf(doubleValue);
+		}
+		if(value instanceof Number || value instanceof Boolean) return value.toString();
+		return quote(value.toString());
+	}
+
+	private static String quote(String string) {
+		StringBuilder quoted = new StringBuilder("\"");
+		for(char c : string.toCharArray()) {
+			switch(c) {
+			case '"':	quoted.append("\\\"");	break;
+			case '\\':	quoted.append("\\\\");	break;
+			case '\n':	quoted.append("\\n");	break;
+			case '\r':	quoted.append("\\r");	break;
+			case '\t':	quoted.append("\\t");	break;
+			default:
+				if(c < 0x20)	quoted.append(String.format("\\u%04x", (int)c));
+				else			quoted.append(c);
+			}
+		}
+		return quoted.append('"').toString();
+	}
+}
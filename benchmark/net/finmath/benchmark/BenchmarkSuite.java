@@ -0,0 +1,80 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.benchmark;
+
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.finmath.functions.NormalDistributionBenchmark;
+import net.finmath.marketdata.calibration.CalibratedCurvesBenchmark;
+import net.finmath.montecarlo.BrownianMotionBenchmark;
+import net.finmath.montecarlo.RandomVariableOperatorsBenchmark;
+import net.finmath.montecarlo.assetderivativevaluation.MonteCarloBlackScholesModelBenchmark;
+import net.finmath.montecarlo.interestrate.LIBORMarketModelBenchmark;
+
+/**
+ * Runs the benchmarks of the Monte Carlo hot paths and writes the results as JSON.
+ *
+ * Usage: <code>java net.finmath.benchmark.BenchmarkSuite [outputFile] [groups]</code>, where
+ * <code>outputFile</code> is the JSON file to write (default <code>benchmark-results.json</code>) and
+ * <code>groups</code> is an optional comma separated list of benchmark groups to run, e.g. <code>RandomVariable,BermudanSwaption</code>.
+ *
+ * The number of iterations can be set via the system properties <code>net.finmath.benchmark.warmUpIterations</code> (default 3)
+ * and <code>net.finmath.benchmark.measurementIterations</code> (default 10).
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BenchmarkSuite {
+
+	private BenchmarkSuite() {
+	}
+
+	/**
+	 * @return All benchmarks of the suite.
+	 */
+	public static List<BenchmarkCase> getBenchmarkCases() {
+		List<BenchmarkCase> benchmarkCases = new ArrayList<BenchmarkCase>();
+		for(int numberOfPaths : new int[] { 10000, 100000 }) {
+			benchmarkCases.addAll((new RandomVariableOperatorsBenchmark(numberOfPaths)).getBenchmarkCases());
+		}
+		benchmarkCases.addAll(NormalDistributionBenchmark.getBenchmarkCases());
+		benchmarkCases.addAll(BrownianMotionBenchmark.getBenchmarkCases());
+		benchmarkCases.addAll(MonteCarloBlackScholesModelBenchmark.getBenchmarkCases());
+		benchmarkCases.addAll(LIBORMarketModelBenchmark.getBenchmarkCases());
+		benchmarkCases.addAll(CalibratedCurvesBenchmark.getBenchmarkCases());
+		return benchmarkCases;
+	}
+
+	public static void main(String[] args) throws Exception {
+		String outputFile			= args.length > 0 ? args[0] : "benchmark-results.json";
+		List<String> groups			= args.length > 1 ? Arrays.asList(args[1].split(",")) : null;
+
+		int numberOfWarmUpIterations		= Integer.getInteger("net.finmath.benchmark.warmUpIterations", 3);
+		int numberOfMeasurementIterations	= Integer.getInteger("net.finmath.benchmark.measurementIterations", 10);
+
+		List<BenchmarkCase> benchmarkCases = new ArrayList<BenchmarkCase>();
+		for(BenchmarkCase benchmarkCase : getBenchmarkCases()) {
+			if(groups == null || groups.contains(benchmarkCase.getGroup())) benchmarkCases.add(benchmarkCase);
+		}
+
+		BenchmarkRunner runner = new BenchmarkRunner(numberOfWarmUpIterations, numberOfMeasurementIterations, System.out);
+		List<BenchmarkResult> results = runner.run(benchmarkCases);
+
+		Writer writer = new OutputStreamWriter(new FileOutputStream(outputFile), "UTF-8");
+		try {
+			writer.write(BenchmarkRunner.toJSON(results));
+		}
+		finally {
+			writer.close();
+		}
+		System.out.println("Results written to " + outputFile + ".");
+	}
+}
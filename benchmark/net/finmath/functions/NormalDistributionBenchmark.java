@@ -0,0 +1,223 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.functions;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math3.special.Erf;
+
+import net.finmath.benchmark.BenchmarkCase;
+import net.finmath.randomnumbers.SplitMix64;
+import net.finmath.randomnumbers.ZigguratNormalGenerator;
+
+/**
+ * Throughput and accuracy of the generation of normal random numbers:
+ * <ul>
+ * 	<li>the element wise inverse normal distribution function <code>NormalDistribution.inverseCumulativeDistribution(double)</code>,</li>
+ * 	<li>the inverse normal distribution function applied to an array <code>NormalDistribution.inverseCumulativeDistribution(double[], double[])</code>,</li>
+ * 	<li>the Ziggurat method <code>ZigguratNormalGenerator</code>.</li>
+ * </ul>
+ * The benchmarks report the time per normal random number.
+ *
+ * The <code>main</code> method runs the accuracy checks (and exits with status 1 if a check fails):
+ * the array version has to agree bitwise with the element wise version, the probability of the inverse has to agree with p
+ * (up to a relative error of 1E-11 in the tail and an absolute error of 1E-15) and the Ziggurat samples have to pass a Kolmogorov-Smirnov test and a test of the moments.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class NormalDistributionBenchmark {
+
+	private static final int	numberOfValues	= 1 << 16;
+	private static final long	seed			= 3141;
+
+	private NormalDistributionBenchmark() {
+	}
+
+	private static double[] getUniforms(int numberOfValues) {
+		double[] uniforms = new double[numberOfValues];
+		(new SplitMix64(seed)).getDoubles(0, uniforms);
+		return uniforms;
+	}
+
+	/**
+	 * @return The benchmarks of the generation of normal random numbers.
+	 */
+	public static List<BenchmarkCase> getBenchmarkCases() {
+		List<BenchmarkCase> benchmarkCases = new ArrayList<BenchmarkCase>();
+
+		benchmarkCases.add(new BenchmarkCase("NormalDistribution", "inverseCumulativeDistribution", BenchmarkCase.parameters("numberOfValues", numberOfValues), numberOfValues) {
+			private final double[] uniforms	= getUniforms(numberOfValues);
+			private final double[] normals	= new double[numberOfValues];
+
+			@Override
+			public Object run() {
+				for(int i=0; i<uniforms.length; i++) normals[i] = NormalDistribution.inverseCumulativeDistribution(uniforms[i]);
+				return normals;
+			}
+		});
+
+		benchmarkCases.add(new BenchmarkCase("NormalDistribution", "inverseCumulativeDistributionOfArray", BenchmarkCase.parameters("numberOfValues", numberOfValues), numberOfValues) {
+			private final double[] uniforms	= getUniforms(numberOfValues);
+			private final double[] normals	= new double[numberOfValues];
+
+			@Override
+			public Object run() {
+				NormalDistribution.inverseCumulativeDistribution(uniforms, normals);
+				return normals;
+			}
+		});
+
+		benchmarkCases.add(new BenchmarkCase("NormalDistribution", "uniformsAndInverseCumulativeDistributionOfArray", BenchmarkCase.parameters("numberOfValues", numberOfValues), numberOfValues) {
+			private final SplitMix64	generator	= new SplitMix64(seed);
+			private final double[]		uniforms	= new double[numberOfValues];
+			private final double[]		normals		= new double[numberOfValues];
+
+			@Override
+			public Object run() {
+				generator.getDoubles(0, uniforms);
+				NormalDistribution.inverseCumulativeDistribution(uniforms, normals);
+				return normals;
+			}
+		});
+
+		benchmarkCases.add(new BenchmarkCase("NormalDistribution", "ziggurat", BenchmarkCase.parameters("numberOfValues", numberOfValues), numberOfValues) {
+			private final SplitMix64	generator	= new SplitMix64(seed);
+			private final double[]		normals		= new double[numberOfValues];
+
+			@Override
+			public Object run() {
+				(new ZigguratNormalGenerator(generator, 0)).nextDoubles(normals);
+				return normals;
+			}
+		});
+
+		return benchmarkCases;
+	}
+
+	/**
+	 * Checks that the array version of the inverse normal distribution function agrees bitwise with the element wise version.
+	 *
+	 * @return The number of elements which differ.
+	 */
+	public static int getNumberOfDifferencesOfArrayVersion() {
+		double[] probabilities = getUniforms(1 << 20);
+		// Include extreme values and the boundaries of the regions of the rational approximations
+		double[] specialProbabilities = { 1E-300, 1E-100, 1E-16, Math.exp(-25), 0.075, 0.5-0.425, 0.5, 0.5+0.425, 0.925, 1-1E-16, Double.MIN_VALUE };
+		System.arraycopy(specialProbabilities, 0, probabilities, 0, specialProbabilities.length);
+
+		double[] quantiles = new double[probabilities.length];
+		NormalDistribution.inverseCumulativeDistribution(probabilities, quantiles);
+
+		int numberOfDifferences = 0;
+		for(int i=0; i<probabilities.length; i++) {
+			double quantile = NormalDistribution.inverseCumulativeDistribution(probabilities[i]);
+			if(Double.doubleToLongBits(quantile) != Double.doubleToLongBits(quantiles[i])) numberOfDifferences++;
+		}
+		return numberOfDifferences;
+	}
+
+	/**
+	 * Returns the maximum relative error <i>|&Phi;(&Phi;<sup>-1</sup>(p)) - p| / p</i> of the inverse normal distribution function
+	 * on a logarithmic grid of probabilities p in [1E-300, 0.5], where &Phi; is calculated from the complementary error function of commons-math
+	 * (which is accurate in the tail, other than <code>NormalDistribution.cumulativeDistribution</code> and the inverse of commons-math).
+	 *
+	 * @return The maximum relative error.
+	 */
+	public static double getMaximumRelativeErrorOfInverse() {
+		double maximumError = 0.0;
+		for(int i=0; i<=3000; i++) {
+			double p = Math.pow(10.0, -300.0 + i * (300.0 - Math.log10(2.0)) / 3000.0);
+			double probability = 0.5 * Erf.erfc(-NormalDistribution.inverseCumulativeDistribution(p) / Math.sqrt(2.0));
+			maximumError = Math.max(maximumError, Math.abs(probability - p) / p);
+		}
+		return maximumError;
+	}
+
+	/**
+	 * Returns the maximum absolute error <i>|&Phi;(&Phi;<sup>-1</sup>(p)) - p|</i> of the inverse normal distribution function for uniformly distributed p.
+	 *
+	 * @return The maximum absolute error.
+	 */
+	public static double getMaximumAbsoluteErrorOfInverse() {
+		double[] probabilities = getUniforms(1 << 20);
+		double maximumError = 0.0;
+		for(double p : probabilities) {
+			double quantile = NormalDistribution.inverseCumulativeDistribution(p);
+			double probability = quantile < 0 ? 0.5 * Erf.erfc(-quantile / Math.sqrt(2.0)) : 1.0 - 0.5 * Erf.erfc(quantile / Math.sqrt(2.0));
+			maximumError = Math.max(maximumError, Math.abs(probability - p));
+		}
+		return maximumError;
+	}
+
+	/**
+	 * Returns the Kolmogorov-Smirnov statistic <i>sqrt(n) D<sub>n</sub></i> and the standardized first four moments
+	 * (i.e., the sample moments minus 0, 1, 0, 3 divided by their standard errors) of samples of the Ziggurat method.
+	 *
+	 * @param numberOfSamples The number of samples.
+	 * @return The array { sqrt(n) D<sub>n</sub>, z<sub>1</sub>, z<sub>2</sub>, z<sub>3</sub>, z<sub>4</sub> }.
+	 */
+	public static double[] getStatisticsOfZiggurat(int numberOfSamples) {
+		double[] samples = new double[numberOfSamples];
+		(new ZigguratNormalGenerator(new SplitMix64(seed), 0)).nextDoubles(samples);
+
+		double[] moments = new double[4];
+		for(double sample : samples) {
+			double power = 1.0;
+			for(int k=0; k<4; k++) {
+				power *= sample;
+				moments[k] += power;
+			}
+		}
+
+		Arrays.sort(samples);
+		double distance = 0.0;
+		for(int i=0; i<numberOfSamples; i++) {
+			double probability = NormalDistribution.cumulativeDistribution(samples[i]);
+			distance = Math.max(distance, Math.max(probability - (double)i / numberOfSamples, (i+1.0) / numberOfSamples - probability));
+		}
+
+		// Moments of the standard normal distribution and the variances of the sample moments, Var(Z^k) = E(Z^2k) - E(Z^k)^2
+		double[] expectedMoments	= { 0.0, 1.0, 0.0, 3.0 };
+		double[] variances			= { 1.0, 2.0, 15.0, 96.0 };
+		return new double[] {
+				Math.sqrt(numberOfSamples) * distance,
+				(moments[0] / numberOfSamples - expectedMoments[0]) / Math.sqrt(variances[0] / numberOfSamples),
+				(moments[1] / numberOfSamples - expectedMoments[1]) / Math.sqrt(variances[1] / numberOfSamples),
+				(moments[2] / numberOfSamples - expectedMoments[2]) / Math.sqrt(variances[2] / numberOfSamples),
+				(moments[3] / numberOfSamples - expectedMoments[3]) / Math.sqrt(variances[3] / numberOfSamples)
+		};
+	}
+
+	public static void main(String[] args) {
+		PrintStream out = System.out;
+		boolean isPassed = true;
+
+		int numberOfDifferences = getNumberOfDifferencesOfArrayVersion();
+		out.println("Array version of the inverse: number of elements differing from the element wise version: " + numberOfDifferences);
+		isPassed &= numberOfDifferences == 0;
+
+		double maximumRelativeError = getMaximumRelativeErrorOfInverse();
+		out.println("Inverse: maximum relative error of the probability for p in [1E-300, 0.5]: " + maximumRelativeError);
+		isPassed &= maximumRelativeError < 1E-11;
+
+		double maximumAbsoluteError = getMaximumAbsoluteErrorOfInverse();
+		out.println("Inverse: maximum absolute error of the probability for uniform p: " + maximumAbsoluteError);
+		isPassed &= maximumAbsoluteError < 1E-15;
+
+		double[] statistics = getStatisticsOfZiggurat(10000000);
+		out.println("Ziggurat: Kolmogorov-Smirnov sqrt(n) D_n = " + statistics[0] + " (1% critical value 1.63)");
+		out.println("Ziggurat: standardized moments z_1,...,z_4 = " + statistics[1] + ", " + statistics[2] + ", " + statistics[3] + ", " + statistics[4] + " (1% critical value 2.58)");
+		isPassed &= statistics[0] < 1.63;
+		for(int k=1; k<=4; k++) isPassed &= Math.abs(statistics[k]) < 2.58;
+
+		out.println(isPassed ? "All checks passed." : "Checks failed.");
+		if(!isPassed) System.exit(1);
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.marketdata.calibration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.finmath.benchmark.BenchmarkCase;
+import net.finmath.marketdata.calibration.CalibratedCurves.CalibrationSpec;
+
+/**
+ * Measures the calibration of a discount curve (from OIS swaps) and a 6M forward curve (from fix versus 6M swaps)
+ * by <code>CalibratedCurves</code>. The benchmark reports the time per calibration.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class CalibratedCurvesBenchmark {
+
+	private static final String discountCurveName	= "discount-EUR-OIS";
+	private static final String forwardCurveName	= "forward-EUR-6M";
+
+	private CalibratedCurvesBenchmark() {
+	}
+
+	/**
+	 * Create the calibration specifications: swaps with annual maturities 1, 2, ..., numberOfSwapsPerCurve
+	 * for each of the two curves.
+	 *
+	 * @param numberOfSwapsPerCurve The number of calibration swaps per curve.
+	 * @return The calibration specifications.
+	 */
+	public static CalibrationSpec[] createCalibrationSpecs(int numberOfSwapsPerCurve) {
+		CalibrationSpec[] calibrationSpecs = new CalibrationSpec[2*numberOfSwapsPerCurve];
+		for(int swapIndex=0; swapIndex<numberOfSwapsPerCurve; swapIndex++) {
+			double maturity = swapIndex + 1.0;
+
+			// Receive fix, pay OIS (single curve)
+			calibrationSpecs[swapIndex] = new CalibrationSpec("swap",
+					new double[] { 0.0, maturity, 1.0 }, "", 0.01 + 0.001 * swapIndex, discountCurveName,
+					new double[] { 0.0, maturity, 1.0 }, discountCurveName, 0.0, discountCurveName,
+					discountCurveName, maturity);
+
+			// Receive fix, pay 6M, discounted on OIS
+			calibrationSpecs[numberOfSwapsPerCurve+swapIndex] = new CalibrationSpec("swap",
+					new double[] { 0.0, maturity, 1.0 }, "", 0.012 + 0.001 * swapIndex, discountCurveName,
+					new double[] { 0.0, maturity, 0.5 }, forwardCurveName, 0.0, discountCurveName,
+					forwardCurveName, maturity);
+		}
+		return calibrationSpecs;
+	}
+
+	/**
+	 * Create a benchmark of the curve calibration.
+	 *
+	 * @param numberOfSwapsPerCurve The number of calibration swaps per curve.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getBenchmarkCase(final int numberOfSwapsPerCurve) {
+		return new BenchmarkCase("CalibratedCurves", "calibration", BenchmarkCase.parameters("numberOfSwapsPerCurve", numberOfSwapsPerCurve), 1) {
+			@Override
+			public Object run() throws Exception {
+				CalibratedCurves calibratedCurves = new CalibratedCurves(createCalibrationSpecs(numberOfSwapsPerCurve));
+				return calibratedCurves.getModel();
+			}
+		};
+	}
+
+	/**
+	 * @return The benchmarks for different numbers of calibration instruments.
+	 */
+	public static List<BenchmarkCase> getBenchmarkCases() {
+		List<BenchmarkCase> benchmarkCases = new ArrayList<BenchmarkCase>();
+		for(int numberOfSwapsPerCurve : new int[] { 5, 15 }) benchmarkCases.add(getBenchmarkCase(numberOfSwapsPerCurve));
+		return benchmarkCases;
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.finmath.benchmark.BenchmarkCase;
+import net.finmath.time.TimeDiscretization;
+
+/**
+ * Measures the generation of the increments of a <code>BrownianMotion</code>, a <code>BrownianMotionSobol</code> and a <code>BrownianMotionTimeSliced</code>,
+ * the reading of the increments from a <code>BrownianMotionFileCache</code>
+ * and the calculation of the increments of a <code>CorrelatedBrownianMotion</code>.
+ * The benchmark reports the time per generated increment (path &times; time step &times; factor) in nanoseconds.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BrownianMotionBenchmark {
+
+	private static final int	numberOfTimeSteps	= 40;
+	private static final double	deltaT				= 0.25;
+	private static final int	seed				= 3141;
+
+	private BrownianMotionBenchmark() {
+	}
+
+	/**
+	 * Create a benchmark of the generation of a Brownian motion.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfFactors The number of factors.
+	 * @param randomNumberGenerator The random number generator.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getBenchmarkCase(final int numberOfPaths, final int numberOfFactors, final BrownianMotion.RandomNumberGenerator randomNumberGenerator) {
+		return new BenchmarkCase("BrownianMotion", "generation",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfTimeSteps", numberOfTimeSteps, "numberOfFactors", numberOfFactors, "randomNumberGenerator", randomNumberGenerator),
+				(long)numberOfPaths * numberOfTimeSteps * numberOfFactors) {
+			private final TimeDiscretization timeDiscretization = new TimeDiscretization(0.0, numberOfTimeSteps, deltaT);
+
+			@Override
+			public Object run() {
+				BrownianMotion brownianMotion = new BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths, seed, randomNumberGenerator);
+				return brownianMotion.getBrownianIncrement(0, 0);
+			}
+		};
+	}
+
+	/**
+	 * Create a benchmark of the generation of a Brownian motion from a Sobol sequence (<code>BrownianMotionSobol</code>).
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfFactors The number of factors.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getSobolBenchmarkCase(final int numberOfPaths, final int numberOfFactors) {
+		return new BenchmarkCase("BrownianMotion", "generationSobol",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfTimeSteps", numberOfTimeSteps, "numberOfFactors", numberOfFactors),
+				(long)numberOfPaths * numberOfTimeSteps * numberOfFactors) {
+			private final TimeDiscretization timeDiscretization = new TimeDiscretization(0.0, numberOfTimeSteps, deltaT);
+
+			@Override
+			public Object run() {
+				BrownianMotionSobol brownianMotion = new BrownianMotionSobol(timeDiscretization, numberOfFactors, numberOfPaths, seed);
+				return brownianMotion.getBrownianIncrement(0, 0);
+			}
+		};
+	}
+
+	/**
+	 * Create a benchmark of the generation of a Brownian motion time slice by time slice (<code>BrownianMotionTimeSliced</code>),
+	 * requesting the increments forward in time (discarding the slices after use).
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfFactors The number of factors.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getTimeSlicedBenchmarkCase(final int numberOfPaths, final int numberOfFactors) {
+		return new BenchmarkCase("BrownianMotion", "generationTimeSliced",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfTimeSteps", numberOfTimeSteps, "numberOfFactors", numberOfFactors),
+				(long)numberOfPaths * numberOfTimeSteps * numberOfFactors) {
+			private final TimeDiscretization timeDiscretization = new TimeDiscretization(0.0, numberOfTimeSteps, deltaT);
+
+			@Override
+			public Object run() {
+				BrownianMotionTimeSliced brownianMotion = new BrownianMotionTimeSliced(timeDiscretization, numberOfFactors, numberOfPaths, seed);
+				double sum = 0.0;
+				for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+					for(int factor=0; factor<numberOfFactors; factor++) {
+						sum += brownianMotion.getBrownianIncrement(timeIndex, factor).get(0);
+					}
+				}
+				return sum;
+			}
+		};
+	}
+
+	/**
+	 * Create a benchmark of a Brownian motion read from an on-disk cache (<code>BrownianMotionFileCache</code>), i.e., a warm start.
+	 * The cache file is written in <code>setUp</code> to a temporary directory, which is deleted in <code>tearDown</code>.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfFactors The number of factors.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getFileCacheBenchmarkCase(final int numberOfPaths, final int numberOfFactors) {
+		return new BenchmarkCase("BrownianMotion", "generationFromFileCache",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfTimeSteps", numberOfTimeSteps, "numberOfFactors", numberOfFactors),
+				(long)numberOfPaths * numberOfTimeSteps * numberOfFactors) {
+			private final TimeDiscretization timeDiscretization = new TimeDiscretization(0.0, numberOfTimeSteps, deltaT);
+			private File cacheDirectory;
+
+			@Override
+			public void setUp() throws IOException {
+				cacheDirectory = File.createTempFile("brownianmotioncache", "");
+				if(!cacheDirectory.delete() || !cacheDirectory.mkdir()) throw new IOException("Unable to create " + cacheDirectory + ".");
+				(new BrownianMotionFileCache(cacheDirectory, timeDiscretization, numberOfFactors, numberOfPaths, seed)).getBrownianIncrement(0, 0);
+			}
+
+			@Override
+			public Object run() {
+				BrownianMotionFileCache brownianMotion = new BrownianMotionFileCache(cacheDirectory, timeDiscretization, numberOfFactors, numberOfPaths, seed);
+				return brownianMotion.getBrownianIncrement(0, 0);
+			}
+
+			@Override
+			public void tearDown() {
+				File[] files = cacheDirectory.listFiles();
+				if(files != null) for(File file : files) file.delete();
+				cacheDirectory.delete();
+			}
+		};
+	}
+
+	/**
+	 * Create a benchmark of the calculation of the increments of a correlated Brownian motion (<code>CorrelatedBrownianMotion</code>)
+	 * from a given (already generated) Brownian motion. Each increment is requested twice, as by a simulation which
+	 * accesses the increment in the drift and in the diffusion.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfComponents The number of correlated factors (components).
+	 * @param numberOfFactors The number of uncorrelated factors.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getCorrelatedBenchmarkCase(final int numberOfPaths, final int numberOfComponents, final int numberOfFactors) {
+		return new BenchmarkCase("BrownianMotion", "correlated",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfTimeSteps", numberOfTimeSteps, "numberOfComponents", numberOfComponents, "numberOfFactors", numberOfFactors),
+				(long)numberOfPaths * numberOfTimeSteps * numberOfComponents) {
+			private BrownianMotionInterface	brownianMotion;
+			private double[][]				factorLoadings;
+
+			@Override
+			public void setUp() {
+				brownianMotion = new BrownianMotion(new TimeDiscretization(0.0, numberOfTimeSteps, deltaT), numberOfFactors, numberOfPaths, seed);
+				brownianMotion.getBrownianIncrement(0, 0);
+
+				// Dense factor loadings (not normalized, the values are irrelevant for the benchmark)
+				factorLoadings = new double[numberOfComponents][numberOfFactors];
+				for(int component=0; component<numberOfComponents; component++) {
+					for(int factor=0; factor<numberOfFactors; factor++) {
+						factorLoadings[component][factor] = Math.cos(Math.PI * factor * (component + 0.5) / numberOfComponents);
+					}
+				}
+			}
+
+			@Override
+			public Object run() {
+				CorrelatedBrownianMotion correlatedBrownianMotion = new CorrelatedBrownianMotion(brownianMotion, factorLoadings);
+				double sum = 0.0;
+				for(int repetition=0; repetition<2; repetition++) {
+					for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+						for(int component=0; component<numberOfComponents; component++) {
+							sum += correlatedBrownianMotion.getBrownianIncrement(timeIndex, component).get(0);
+						}
+					}
+				}
+				return sum;
+			}
+		};
+	}
+
+	/**
+	 * @return The benchmarks for a grid of numbers of paths and factors, all random number generators, the Sobol sequence, the time sliced, the file cached and the correlated Brownian motion.
+	 */
+	public static List<BenchmarkCase> getBenchmarkCases() {
+		List<BenchmarkCase> benchmarkCases = new ArrayList<BenchmarkCase>();
+		for(int numberOfPaths : new int[] { 10000, 50000 }) {
+			for(int numberOfFactors : new int[] { 1, 3 }) {
+				for(BrownianMotion.RandomNumberGenerator randomNumberGenerator : BrownianMotion.RandomNumberGenerator.values()) {
+					benchmarkCases.add(getBenchmarkCase(numberOfPaths, numberOfFactors, randomNumberGenerator));
+				}
+				benchmarkCases.add(getSobolBenchmarkCase(numberOfPaths, numberOfFactors));
+				benchmarkCases.add(getTimeSlicedBenchmarkCase(numberOfPaths, numberOfFactors));
+				benchmarkCases.add(getFileCacheBenchmarkCase(numberOfPaths, numberOfFactors));
+			}
+			benchmarkCases.add(getCorrelatedBenchmarkCase(numberOfPaths, 20, 5));
+		}
+		return benchmarkCases;
+	}
+}
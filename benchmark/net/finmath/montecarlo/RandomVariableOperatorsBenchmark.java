@@ -0,0 +1,126 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.finmath.benchmark.BenchmarkCase;
+import net.finmath.benchmark.BenchmarkRunner;
+import net.finmath.stochastic.RandomVariableInterface;
+
+/**
+ * Measures the throughput of the element wise operators of <code>RandomVariable</code>.
+ *
+ * For each operator the benchmark reports the time per realization in nanoseconds.
+ * The operators are applied to stochastic random variables and, where the implementation has a special code path,
+ * to a mix of stochastic and deterministic random variables.
+ *
+ * Usage: <code>java net.finmath.montecarlo.RandomVariableOperatorsBenchmark [numberOfPaths] [numberOfIterations]</code>
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class RandomVariableOperatorsBenchmark {
+
+	private static final int	numberOfRepetitions		= 10;
+
+	private final int			numberOfPaths;
+
+	private final RandomVariableInterface	x;
+	private final RandomVariableInterface	y;
+	private final RandomVariableInterface	z;
+	private final RandomVariableInterface	constant;
+	private final RandomVariableInterface	probabilities;
+
+	private final double[]					histogramIntervalPoints	= new double[] { 0.5, 0.75, 0.9, 1.0, 1.1, 1.25, 1.5 };
+	private final double[]					quantileLevels			= new double[99];
+
+	/**
+	 * Create the benchmark.
+	 *
+	 * @param numberOfPaths The number of realizations of the random variables.
+	 */
+	public RandomVariableOperatorsBenchmark(int numberOfPaths) {
+		super();
+		this.numberOfPaths	= numberOfPaths;
+
+		Random random = new Random(3141);
+		double[] xRealizations = new double[numberOfPaths];
+		double[] yRealizations = new double[numberOfPaths];
+		double[] zRealizations = new double[numberOfPaths];
+		for(int i=0; i<numberOfPaths; i++) {
+			xRealizations[i] = 1.0 + 0.2 * random.nextGaussian();
+			yRealizations[i] = 0.05 + 0.01 * random.nextGaussian();
+			zRealizations[i] = random.nextGaussian();
+		}
+		x				= new RandomVariable(0.0, xRealizations);
+		y				= new RandomVariable(0.0, yRealizations);
+		z				= new RandomVariable(0.0, zRealizations);
+		constant		= new RandomVariable(0.0, 0.03);
+		probabilities	= new RandomVariable(0.0, 1.0 / numberOfPaths);
+
+		for(int i=0; i<quantileLevels.length; i++) quantileLevels[i] = (i+1) / 100.0;
+	}
+
+	/**
+	 * An operator applied <code>numberOfRepetitions</code> times per invocation.
+	 */
+	private abstract class Operation extends BenchmarkCase {
+		Operation(String name) {
+			super("RandomVariable", name, parameters("numberOfPaths", numberOfPaths), (long)numberOfPaths * numberOfRepetitions);
+		}
+
+		@Override
+		public Object run() {
+			double sum = 0.0;
+			for(int repetition=0; repetition<numberOfRepetitions; repetition++) sum += apply();
+			return sum;
+		}
+
+		abstract double apply();
+	}
+
+	/**
+	 * @return The benchmarks of all operators.
+	 */
+	public List<BenchmarkCase> getBenchmarkCases() {
+		List<BenchmarkCase> benchmarkCases = new ArrayList<BenchmarkCase>();
+		benchmarkCases.add(new Operation("add") 						{ double apply() { return x.add(y).get(0); } });
+		benchmarkCases.add(new Operation("sub") 						{ double apply() { return x.sub(y).get(0); } });
+		benchmarkCases.add(new Operation("mult") 						{ double apply() { return x.mult(y).get(0); } });
+		benchmarkCases.add(new Operation("div") 						{ double apply() { return x.div(y).get(0); } });
+		benchmarkCases.add(new Operation("mult(deterministic)")			{ double apply() { return x.mult(constant).get(0); } });
+		benchmarkCases.add(new Operation("exp") 						{ double apply() { return z.exp().get(0); } });
+		benchmarkCases.add(new Operation("log") 						{ double apply() { return x.log().get(0); } });
+		benchmarkCases.add(new Operation("sqrt") 						{ double apply() { return x.sqrt().get(0); } });
+		benchmarkCases.add(new Operation("floor") 						{ double apply() { return z.floor(0.0).get(0); } });
+		benchmarkCases.add(new Operation("addProduct") 					{ double apply() { return x.addProduct(y, z).get(0); } });
+		benchmarkCases.add(new Operation("addProduct(deterministic)")	{ double apply() { return x.addProduct(y, constant).get(0); } });
+		benchmarkCases.add(new Operation("accrue") 						{ double apply() { return x.accrue(y, 0.5).get(0); } });
+		benchmarkCases.add(new Operation("accrue(deterministic)")		{ double apply() { return x.accrue(constant, 0.5).get(0); } });
+		benchmarkCases.add(new Operation("discount") 					{ double apply() { return x.discount(y, 0.5).get(0); } });
+		benchmarkCases.add(new Operation("discount(deterministic)")		{ double apply() { return x.discount(constant, 0.5).get(0); } });
+		benchmarkCases.add(new Operation("barrier") 					{ double apply() { return x.barrier(z, x, y).get(0); } });
+		benchmarkCases.add(new Operation("getAverage") 					{ double apply() { return x.getAverage(); } });
+		benchmarkCases.add(new Operation("getAverage(probabilities)")	{ double apply() { return x.getAverage(probabilities); } });
+		benchmarkCases.add(new Operation("getVariance") 				{ double apply() { return x.getVariance(); } });
+		benchmarkCases.add(new Operation("getVariance(probabilities)")	{ double apply() { return x.getVariance(probabilities); } });
+		benchmarkCases.add(new Operation("getHistogram")				{ double apply() { return x.getHistogram(histogramIntervalPoints)[0]; } });
+		// Uses a new random variable in each repetition, since the sorted realizations are cached
+		benchmarkCases.add(new Operation("getQuantiles(99 levels)")		{ double apply() { return new RandomVariable(0.0, x.getRealizations()).getQuantiles(quantileLevels)[0]; } });
+		return benchmarkCases;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int numberOfPaths		= args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		int numberOfIterations	= args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+		BenchmarkRunner runner = new BenchmarkRunner(numberOfIterations/5, numberOfIterations, System.out);
+		runner.run((new RandomVariableOperatorsBenchmark(numberOfPaths)).getBenchmarkCases());
+	}
+}
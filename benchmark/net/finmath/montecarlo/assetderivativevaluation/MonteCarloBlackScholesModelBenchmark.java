@@ -0,0 +1,74 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.assetderivativevaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.finmath.benchmark.BenchmarkCase;
+import net.finmath.montecarlo.BrownianMotion;
+import net.finmath.montecarlo.process.AbstractProcess;
+import net.finmath.montecarlo.process.ProcessEulerScheme;
+import net.finmath.montecarlo.process.ProcessEulerSchemePathParallel;
+import net.finmath.time.TimeDiscretization;
+
+/**
+ * Benchmarks of the evolution of the (single component) Black-Scholes model by <code>ProcessEulerScheme</code>
+ * and by <code>ProcessEulerSchemePathParallel</code> (time per path &times; time step).
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class MonteCarloBlackScholesModelBenchmark {
+
+	private static final int	numberOfTimeSteps	= 100;
+	private static final double	timeStep			= 0.05;
+	private static final int	seed				= 3141;
+
+	private MonteCarloBlackScholesModelBenchmark() {
+	}
+
+	/**
+	 * Create a benchmark of the evolution of a Black-Scholes model. The Brownian motion is generated in the set up,
+	 * such that only the Euler scheme is timed.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param isPathParallel If true, the process is <code>ProcessEulerSchemePathParallel</code>, otherwise <code>ProcessEulerScheme</code>.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getProcessEulerSchemeBenchmarkCase(final int numberOfPaths, final boolean isPathParallel) {
+		return new BenchmarkCase("ProcessEulerScheme", isPathParallel ? "BlackScholesModelPathParallel" : "BlackScholesModel",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfTimeSteps", numberOfTimeSteps),
+				(long)numberOfPaths * numberOfTimeSteps) {
+			private BrownianMotion		brownianMotion;
+
+			@Override
+			public void setUp() {
+				brownianMotion	= new BrownianMotion(new TimeDiscretization(0.0, numberOfTimeSteps, timeStep), 1, numberOfPaths, seed);
+				brownianMotion.getBrownianIncrement(0, 0);
+			}
+
+			@Override
+			public Object run() throws Exception {
+				AbstractProcess process = isPathParallel ? new ProcessEulerSchemePathParallel(brownianMotion) : new ProcessEulerScheme(brownianMotion);
+				MonteCarloBlackScholesModel model = new MonteCarloBlackScholesModel(100.0, 0.05, 0.3, process);
+				return model.getAssetValue(numberOfTimeSteps, 0);
+			}
+		};
+	}
+
+	/**
+	 * @return All benchmarks of this class.
+	 */
+	public static List<BenchmarkCase> getBenchmarkCases() {
+		List<BenchmarkCase> benchmarkCases = new ArrayList<BenchmarkCase>();
+		for(int numberOfPaths : new int[] { 10000, 100000 }) {
+			benchmarkCases.add(getProcessEulerSchemeBenchmarkCase(numberOfPaths, false));
+			benchmarkCases.add(getProcessEulerSchemeBenchmarkCase(numberOfPaths, true));
+		}
+		return benchmarkCases;
+	}
+}
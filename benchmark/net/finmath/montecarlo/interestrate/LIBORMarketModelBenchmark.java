@@ -0,0 +1,353 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.interestrate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.finmath.benchmark.BenchmarkCase;
+import net.finmath.marketdata.model.curves.ForwardCurve;
+import net.finmath.montecarlo.BrownianMotion;
+import net.finmath.montecarlo.RandomVariable;
+import net.finmath.montecarlo.RandomVariableFactory;
+import net.finmath.montecarlo.interestrate.modelplugins.AbstractLIBORCovarianceModel;
+import net.finmath.montecarlo.interestrate.modelplugins.LIBORCorrelationModel;
+import net.finmath.montecarlo.interestrate.modelplugins.LIBORCorrelationModelExponentialDecay;
+import net.finmath.montecarlo.interestrate.modelplugins.LIBORCovarianceModelFromVolatilityAndCorrelation;
+import net.finmath.montecarlo.interestrate.modelplugins.LIBORVolatilityModel;
+import net.finmath.montecarlo.interestrate.modelplugins.LIBORVolatilityModelFourParameterExponentialForm;
+import net.finmath.montecarlo.interestrate.products.BermudanSwaption;
+import net.finmath.montecarlo.interestrate.products.SwaptionAnalyticApproximation;
+import net.finmath.montecarlo.process.ProcessEulerScheme;
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretization;
+
+/**
+ * Benchmarks of the LIBOR market model:
+ * <ul>
+ * 	<li>the evolution of the model by <code>ProcessEulerScheme</code> (time per path &times; time step &times; LIBOR),
+ * 		with and without lazy evaluation of the drift and the factor loadings,</li>
+ * 	<li>the drift and factor loadings of a single time step (time and allocated bytes per time step),</li>
+ * 	<li>the drift of all LIBORs, calculated as a vector or component by component (time and allocated bytes per LIBOR),</li>
+ * 	<li>the valuation of a <code>BermudanSwaption</code>, i.e., the regression of the exercise boundary (time per path),</li>
+ * 	<li>the analytic swaption approximation <code>SwaptionAnalyticApproximation</code> (time per valuation).</li>
+ * </ul>
+ *
+ * The model uses semi annual LIBORs, a simulation time step of 0.25 up to the last LIBOR period start,
+ * an exponential decay correlation and a four parameter exponential volatility.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class LIBORMarketModelBenchmark {
+
+	private static final double	liborPeriodLength		= 0.5;
+	private static final double	simulationTimeStep		= 0.25;
+	private static final int	seed					= 3141;
+
+	private LIBORMarketModelBenchmark() {
+	}
+
+	/**
+	 * Create a LIBOR market model.
+	 *
+	 * @param numberOfLIBORs The number of LIBOR periods.
+	 * @param numberOfFactors The number of factors.
+	 * @return The model.
+	 */
+	public static LIBORMarketModel createLIBORMarketModel(int numberOfLIBORs, int numberOfFactors) {
+		return createLIBORMarketModel(numberOfLIBORs, numberOfFactors, createTimeDiscretization(numberOfLIBORs));
+	}
+
+	/**
+	 * Create a LIBOR market model for the given simulation time discretization.
+	 *
+	 * @param numberOfLIBORs The number of LIBOR periods.
+	 * @param numberOfFactors The number of factors.
+	 * @param timeDiscretization The simulation time discretization.
+	 * @return The model.
+	 */
+	public static LIBORMarketModel createLIBORMarketModel(int numberOfLIBORs, int numberOfFactors, TimeDiscretization timeDiscretization) {
+		TimeDiscretization liborPeriodDiscretization	= new TimeDiscretization(0.0, numberOfLIBORs, liborPeriodLength);
+
+		ForwardCurve forwardCurve = ForwardCurve.createForwardCurveFromForwards("forwardCurve",
+				new double[] { 0.5, 1.0, 2.0, 5.0, 10.0, 20.0 },
+				new double[] { 0.02, 0.025, 0.03, 0.035, 0.04, 0.04 },
+				liborPeriodLength);
+
+		LIBORVolatilityModel	volatilityModel		= new LIBORVolatilityModelFourParameterExponentialForm(timeDiscretization, liborPeriodDiscretization, 0.2, 0.0, 0.25, 0.1, false);
+		LIBORCorrelationModel	correlationModel	= new LIBORCorrelationModelExponentialDecay(timeDiscretization, liborPeriodDiscretization, numberOfFactors, 0.1, false);
+		AbstractLIBORCovarianceModel covarianceModel = new LIBORCovarianceModelFromVolatilityAndCorrelation(timeDiscretization, liborPeriodDiscretization, volatilityModel, correlationModel);
+
+		return new LIBORMarketModel(liborPeriodDiscretization, forwardCurve, covarianceModel);
+	}
+
+	/**
+	 * Create the simulation time discretization of the model created by {@link #createLIBORMarketModel(int, int)}.
+	 *
+	 * @param numberOfLIBORs The number of LIBOR periods.
+	 * @return The simulation time discretization.
+	 */
+	public static TimeDiscretization createTimeDiscretization(int numberOfLIBORs) {
+		return new TimeDiscretization(0.0, (int)Math.round(numberOfLIBORs * liborPeriodLength / simulationTimeStep), simulationTimeStep);
+	}
+
+	/**
+	 * Create a benchmark of the evolution of a LIBOR market model. The Brownian motion is generated in the set up,
+	 * such that only the Euler scheme is timed.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfLIBORs The number of LIBOR periods.
+	 * @param numberOfFactors The number of factors.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getProcessEulerSchemeBenchmarkCase(final int numberOfPaths, final int numberOfLIBORs, final int numberOfFactors) {
+		return getProcessEulerSchemeBenchmarkCase(numberOfPaths, numberOfLIBORs, numberOfFactors, false);
+	}
+
+	/**
+	 * Create a benchmark of the evolution of a LIBOR market model, where the drift and the factor loadings may be calculated
+	 * with lazy evaluation (<code>RandomVariableLazyEvaluation</code>, see {@link RandomVariableFactory#isUseLazyEvaluation()}).
+	 * The Brownian motion is generated in the set up, such that only the Euler scheme is timed.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfLIBORs The number of LIBOR periods.
+	 * @param numberOfFactors The number of factors.
+	 * @param isUseLazyEvaluation If true, the drift and the factor loadings are calculated with lazy evaluation.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getProcessEulerSchemeBenchmarkCase(final int numberOfPaths, final int numberOfLIBORs, final int numberOfFactors, final boolean isUseLazyEvaluation) {
+		final int numberOfTimeSteps = createTimeDiscretization(numberOfLIBORs).getNumberOfTimeSteps();
+		return new BenchmarkCase("ProcessEulerScheme", isUseLazyEvaluation ? "LIBORMarketModelLazyEvaluation" : "LIBORMarketModel",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfLIBORs", numberOfLIBORs, "numberOfFactors", numberOfFactors),
+				(long)numberOfPaths * numberOfTimeSteps * numberOfLIBORs) {
+			private LIBORMarketModel	model;
+			private BrownianMotion		brownianMotion;
+
+			@Override
+			public void setUp() {
+				model			= createLIBORMarketModel(numberOfLIBORs, numberOfFactors);
+				brownianMotion	= new BrownianMotion(createTimeDiscretization(numberOfLIBORs), numberOfFactors, numberOfPaths, seed);
+				brownianMotion.getBrownianIncrement(0, 0);
+			}
+
+			@Override
+			public Object run() throws Exception {
+				LIBORModelMonteCarloSimulation simulation = new LIBORModelMonteCarloSimulation(model, new ProcessEulerScheme(brownianMotion, new RandomVariableFactory(true, isUseLazyEvaluation)));
+				return simulation.getLIBOR(numberOfTimeSteps, numberOfLIBORs-1);
+			}
+		};
+	}
+
+	/**
+	 * Create a benchmark of the model functions evaluated in a single time step of the Euler scheme,
+	 * i.e., the drift and the factor loadings of all LIBORs, given the simulated LIBORs of that time step.
+	 * The benchmark reports time and allocated bytes per time step. Since the calculation runs on the calling thread,
+	 * all allocations are recorded (which is not the case for <code>ProcessEulerScheme</code>, distributing the evolution over a thread pool).
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfLIBORs The number of LIBOR periods.
+	 * @param numberOfFactors The number of factors.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getTimeStepBenchmarkCase(final int numberOfPaths, final int numberOfLIBORs, final int numberOfFactors) {
+		final int numberOfTimeSteps = createTimeDiscretization(numberOfLIBORs).getNumberOfTimeSteps();
+		return new BenchmarkCase("LIBORMarketModel", "timeStep",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfLIBORs", numberOfLIBORs, "numberOfFactors", numberOfFactors),
+				numberOfTimeSteps) {
+			private LIBORMarketModel				model;
+			private RandomVariableInterface[][]		liborsAtTimeIndex;
+
+			@Override
+			public void setUp() throws Exception {
+				model = createLIBORMarketModel(numberOfLIBORs, numberOfFactors);
+				LIBORModelMonteCarloSimulation simulation = new LIBORModelMonteCarloSimulation(model,
+						new ProcessEulerScheme(new BrownianMotion(createTimeDiscretization(numberOfLIBORs), numberOfFactors, numberOfPaths, seed)));
+
+				liborsAtTimeIndex = new RandomVariableInterface[numberOfTimeSteps][];
+				for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) liborsAtTimeIndex[timeIndex] = simulation.getLIBORs(timeIndex);
+			}
+
+			@Override
+			public Object run() {
+				double sum = 0.0;
+				for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+					RandomVariableInterface[] drift = model.getDrift(timeIndex, liborsAtTimeIndex[timeIndex], null);
+					for(int componentIndex=0; componentIndex<numberOfLIBORs; componentIndex++) {
+						if(drift[componentIndex] == null) continue;
+						RandomVariableInterface[] factorLoading = model.getFactorLoading(timeIndex, componentIndex, liborsAtTimeIndex[timeIndex]);
+						sum += drift[componentIndex].get(0) + factorLoading[0].get(0);
+					}
+				}
+				return sum;
+			}
+		};
+	}
+
+	/**
+	 * Create a benchmark of the drift of all LIBORs at the first time step, given a stochastic LIBOR vector
+	 * (the initial forwards with a log-normal perturbation). The drift is calculated either as a vector,
+	 * using the running sums of the factor loadings (of order numberOfLIBORs &times; numberOfFactors),
+	 * or component by component (of order numberOfLIBORs<sup>2</sup> &times; numberOfFactors).
+	 * The benchmark reports time and allocated bytes per LIBOR.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfLIBORs The number of LIBOR periods.
+	 * @param numberOfFactors The number of factors.
+	 * @param isDriftByComponent If true, the drift is calculated component by component, otherwise as a vector.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getDriftBenchmarkCase(final int numberOfPaths, final int numberOfLIBORs, final int numberOfFactors, final boolean isDriftByComponent) {
+		return new BenchmarkCase("LIBORMarketModel", isDriftByComponent ? "driftByComponent" : "drift",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfLIBORs", numberOfLIBORs, "numberOfFactors", numberOfFactors),
+				numberOfLIBORs) {
+			private LIBORMarketModel			model;
+			private RandomVariableInterface[]	libors;
+
+			@Override
+			public void setUp() throws Exception {
+				model = createLIBORMarketModel(numberOfLIBORs, numberOfFactors);
+
+				// The model requires a process for its time discretization (the Brownian motion is never generated)
+				new LIBORModelMonteCarloSimulation(model, new ProcessEulerScheme(new BrownianMotion(createTimeDiscretization(numberOfLIBORs), numberOfFactors, 1, seed)));
+
+				Random random = new Random(seed);
+				libors = new RandomVariableInterface[numberOfLIBORs];
+				for(int liborIndex=0; liborIndex<numberOfLIBORs; liborIndex++) {
+					double		forward		= Math.exp(model.getInitialState()[liborIndex].get(0));
+					double[]	realizations	= new double[numberOfPaths];
+					for(int path=0; path<numberOfPaths; path++) realizations[path] = forward * Math.exp(0.2 * random.nextGaussian() - 0.02);
+					libors[liborIndex] = new RandomVariable(0.0, realizations);
+				}
+			}
+
+			@Override
+			public Object run() {
+				double sum = 0.0;
+				if(isDriftByComponent) {
+					for(int componentIndex=0; componentIndex<numberOfLIBORs; componentIndex++) {
+						RandomVariableInterface drift = model.getDrift(0, componentIndex, libors, null);
+						if(drift != null) sum += drift.get(0);
+					}
+				}
+				else {
+					RandomVariableInterface[] drift = model.getDrift(0, libors, null);
+					for(int componentIndex=0; componentIndex<numberOfLIBORs; componentIndex++) {
+						if(drift[componentIndex] != null) sum += drift[componentIndex].get(0);
+					}
+				}
+				return sum;
+			}
+		};
+	}
+
+	/**
+	 * Create a benchmark of the valuation of a Bermudan swaption exercisable at every period start of a swap.
+	 * The model is evolved in the set up, such that only the valuation (backward induction and regression) is timed.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfLIBORs The number of LIBOR periods of the model.
+	 * @param numberOfFactors The number of factors of the model.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getBermudanSwaptionBenchmarkCase(final int numberOfPaths, final int numberOfLIBORs, final int numberOfFactors) {
+		return new BenchmarkCase("BermudanSwaption", "regression",
+				BenchmarkCase.parameters("numberOfPaths", numberOfPaths, "numberOfLIBORs", numberOfLIBORs, "numberOfFactors", numberOfFactors),
+				numberOfPaths) {
+			private LIBORModelMonteCarloSimulation	simulation;
+			private BermudanSwaption				bermudanSwaption;
+
+			@Override
+			public void setUp() throws Exception {
+				simulation = new LIBORModelMonteCarloSimulation(
+						createLIBORMarketModel(numberOfLIBORs, numberOfFactors),
+						new ProcessEulerScheme(new BrownianMotion(createTimeDiscretization(numberOfLIBORs), numberOfFactors, numberOfPaths, seed)));
+
+				// Exercise dates from year 2 to the last but one LIBOR period
+				int numberOfPeriods = numberOfLIBORs - 5;
+				boolean[]	isPeriodStartDateExerciseDate	= new boolean[numberOfPeriods];
+				double[]	fixingDates						= new double[numberOfPeriods];
+				double[]	periodLengths					= new double[numberOfPeriods];
+				double[]	paymentDates					= new double[numberOfPeriods];
+				double[]	periodNotionals					= new double[numberOfPeriods];
+				double[]	swaprates						= new double[numberOfPeriods];
+				for(int periodIndex=0; periodIndex<numberOfPeriods; periodIndex++) {
+					isPeriodStartDateExerciseDate[periodIndex]	= true;
+					fixingDates[periodIndex]					= 2.0 + periodIndex * liborPeriodLength;
+					periodLengths[periodIndex]					= liborPeriodLength;
+					paymentDates[periodIndex]					= fixingDates[periodIndex] + liborPeriodLength;
+					periodNotionals[periodIndex]				= 1.0;
+					swaprates[periodIndex]						= 0.035;
+				}
+				bermudanSwaption = new BermudanSwaption(isPeriodStartDateExerciseDate, fixingDates, periodLengths, paymentDates, periodNotionals, swaprates);
+
+				// Evolve the model
+				simulation.getLIBOR(simulation.getTimeDiscretization().getNumberOfTimeSteps(), numberOfLIBORs-1);
+			}
+
+			@Override
+			public Object run() throws Exception {
+				return bermudanSwaption.getValue(simulation);
+			}
+		};
+	}
+
+	/**
+	 * Create a benchmark of the analytic swaption approximation for a swaption with exercise in 2 years
+	 * on a swap running to the end of the LIBOR period discretization. Since the model caches the integrated
+	 * LIBOR covariance, each valuation is performed on a newly created model (the model construction is cheap,
+	 * the Brownian motion is never generated).
+	 *
+	 * @param numberOfLIBORs The number of LIBOR periods of the model.
+	 * @param numberOfFactors The number of factors of the model.
+	 * @return The benchmark.
+	 */
+	public static BenchmarkCase getSwaptionAnalyticApproximationBenchmarkCase(final int numberOfLIBORs, final int numberOfFactors) {
+		return new BenchmarkCase("SwaptionAnalyticApproximation", "value",
+				BenchmarkCase.parameters("numberOfLIBORs", numberOfLIBORs, "numberOfFactors", numberOfFactors),
+				1) {
+			private final SwaptionAnalyticApproximation swaption = new SwaptionAnalyticApproximation(0.035, new TimeDiscretization(2.0, numberOfLIBORs-4, liborPeriodLength));
+
+			@Override
+			public Object run() throws Exception {
+				LIBORModelMonteCarloSimulation simulation = new LIBORModelMonteCarloSimulation(
+						createLIBORMarketModel(numberOfLIBORs, numberOfFactors),
+						new ProcessEulerScheme(new BrownianMotion(createTimeDiscretization(numberOfLIBORs), numberOfFactors, 1, seed)));
+				return swaption.getValue(0.0, simulation);
+			}
+		};
+	}
+
+	/**
+	 * @return The benchmarks for a grid of model sizes.
+	 */
+	public static List<BenchmarkCase> getBenchmarkCases() {
+		List<BenchmarkCase> benchmarkCases = new ArrayList<BenchmarkCase>();
+		for(int numberOfPaths : new int[] { 2000, 10000 }) {
+			for(int numberOfLIBORs : new int[] { 20, 40 }) {
+				for(int numberOfFactors : new int[] { 1, 5 }) {
+					benchmarkCases.add(getProcessEulerSchemeBenchmarkCase(numberOfPaths, numberOfLIBORs, numberOfFactors));
+				}
+			}
+		}
+		for(int numberOfLIBORs : new int[] { 20, 40 }) {
+			benchmarkCases.add(getProcessEulerSchemeBenchmarkCase(10000, numberOfLIBORs, 5, true));
+		}
+		benchmarkCases.add(getTimeStepBenchmarkCase(10000, 20, 3));
+		for(int numberOfLIBORs : new int[] { 40, 160 }) {
+			benchmarkCases.add(getDriftBenchmarkCase(10000, numberOfLIBORs, 5, false));
+			benchmarkCases.add(getDriftBenchmarkCase(10000, numberOfLIBORs, 5, true));
+		}
+		for(int numberOfPaths : new int[] { 5000, 20000 }) {
+			benchmarkCases.add(getBermudanSwaptionBenchmarkCase(numberOfPaths, 20, 3));
+		}
+		for(int numberOfLIBORs : new int[] { 20, 40 }) {
+			benchmarkCases.add(getSwaptionAnalyticApproximationBenchmarkCase(numberOfLIBORs, 5));
+		}
+		return benchmarkCases;
+	}
+}
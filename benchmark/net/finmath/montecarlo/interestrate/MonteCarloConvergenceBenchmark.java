@@ -0,0 +1,180 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.interestrate;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+import net.finmath.exception.CalculationException;
+import net.finmath.montecarlo.AbstractMonteCarloProduct;
+import net.finmath.montecarlo.BrownianMotion;
+import net.finmath.montecarlo.BrownianMotionAntithetic;
+import net.finmath.montecarlo.BrownianMotionInterface;
+import net.finmath.montecarlo.BrownianMotionMomentMatching;
+import net.finmath.montecarlo.BrownianMotionSobol;
+import net.finmath.montecarlo.interestrate.products.BermudanSwaption;
+import net.finmath.montecarlo.interestrate.products.Swaption;
+import net.finmath.montecarlo.process.ProcessEulerScheme;
+import net.finmath.time.TimeDiscretization;
+
+/**
+ * Compares the Monte-Carlo error of a swaption and a Bermudan swaption in a LIBOR market model for different constructions
+ * of the Brownian motion (all with the same total number of paths):
+ * <ul>
+ * 	<li>the <code>MersenneTwister64</code> based <code>BrownianMotion</code>,</li>
+ * 	<li>antithetic paths of <code>BrownianMotion</code> (<code>BrownianMotionAntithetic</code>),</li>
+ * 	<li>moment matched increments of <code>BrownianMotion</code> (<code>BrownianMotionMomentMatching</code>),</li>
+ * 	<li>moment matched antithetic paths,</li>
+ * 	<li>the Sobol sequence based <code>BrownianMotionSobol</code> (Brownian bridge construction, randomized by digital shifts).</li>
+ * </ul>
+ *
+ * For each number of paths the products are valued with a number of independent seeds. The error is the standard deviation
+ * of the values over the seeds. It is compared to the average of the standard error reported by <code>AbstractMonteCarloProduct.getValues</code>,
+ * which assumes independent paths. The path factor is the square of the ratio of the error of <code>BrownianMotion</code> and the error
+ * of the method, i.e., the factor by which the method reduces the number of paths required for a given error.
+ * The number of paths are powers of two, as required for the Sobol sequence.
+ * This generalizes {@link QuasiMonteCarloConvergenceBenchmark}, which compares <code>BrownianMotion</code> and <code>BrownianMotionSobol</code> only.
+ *
+ * Usage: <code>java net.finmath.montecarlo.interestrate.MonteCarloConvergenceBenchmark [numberOfSeeds]</code>
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class MonteCarloConvergenceBenchmark {
+
+	/**
+	 * The construction of the Brownian motion.
+	 */
+	public enum Method {
+		MERSENNE_TWISTER,
+		ANTITHETIC,
+		MOMENT_MATCHING,
+		ANTITHETIC_MOMENT_MATCHING,
+		SOBOL
+	}
+
+	private static final int	numberOfLIBORs		= 20;
+	private static final int	numberOfFactors		= 3;
+	private static final double	swaprate			= 0.035;
+
+	private MonteCarloConvergenceBenchmark() {
+	}
+
+	/**
+	 * Create the Brownian motion for the given method.
+	 *
+	 * @param method The construction of the Brownian motion.
+	 * @param timeDiscretization The time discretization.
+	 * @param numberOfPaths The (total) number of paths.
+	 * @param seed The seed.
+	 * @return The Brownian motion.
+	 */
+	public static BrownianMotionInterface createBrownianMotion(Method method, TimeDiscretization timeDiscretization, int numberOfPaths, int seed) {
+		switch(method) {
+		case MERSENNE_TWISTER:
+			return new BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths, seed);
+		case ANTITHETIC:
+			return new BrownianMotionAntithetic(new BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths / 2, seed));
+		case MOMENT_MATCHING:
+			return new BrownianMotionMomentMatching(new BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths, seed));
+		case ANTITHETIC_MOMENT_MATCHING:
+			return new BrownianMotionMomentMatching(new BrownianMotionAntithetic(new BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths / 2, seed)));
+		case SOBOL:
+			return new BrownianMotionSobol(timeDiscretization, numberOfFactors, numberOfPaths, seed);
+		default:
+			throw new IllegalArgumentException("Unknown method " + method + ".");
+		}
+	}
+
+	/**
+	 * Returns the values and the reported standard errors of the product for the given number of paths, one for each seed.
+	 *
+	 * @param product The product.
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfSeeds The number of seeds.
+	 * @param method The construction of the Brownian motion.
+	 * @return The array { values, errors }.
+	 * @throws CalculationException Thrown if the valuation fails.
+	 */
+	public static double[][] getValuesAndErrors(AbstractMonteCarloProduct product, int numberOfPaths, int numberOfSeeds, Method method) throws CalculationException {
+		TimeDiscretization timeDiscretization = LIBORMarketModelBenchmark.createTimeDiscretization(numberOfLIBORs);
+
+		double[] values = new double[numberOfSeeds];
+		double[] errors = new double[numberOfSeeds];
+		for(int seedIndex=0; seedIndex<numberOfSeeds; seedIndex++) {
+			int seed = 3141 + seedIndex;
+			BrownianMotionInterface brownianMotion = createBrownianMotion(method, timeDiscretization, numberOfPaths, seed);
+
+			LIBORModelMonteCarloSimulation simulation = new LIBORModelMonteCarloSimulation(
+					LIBORMarketModelBenchmark.createLIBORMarketModel(numberOfLIBORs, numberOfFactors),
+					new ProcessEulerScheme(brownianMotion));
+			Map<String, Object> valuesOfSeed = product.getValues(simulation);
+			values[seedIndex] = (Double)valuesOfSeed.get("value");
+			errors[seedIndex] = (Double)valuesOfSeed.get("error");
+		}
+		return new double[][] { values, errors };
+	}
+
+	private static double getStandardDeviation(double[] values) {
+		double sum = 0.0, sumOfSquares = 0.0;
+		for(double value : values) {
+			sum				+= value;
+			sumOfSquares	+= value * value;
+		}
+		double mean = sum / values.length;
+		return Math.sqrt(Math.max(sumOfSquares / values.length - mean * mean, 0.0) * values.length / (values.length - 1));
+	}
+
+	private static double getAverage(double[] values) {
+		double sum = 0.0;
+		for(double value : values) sum += value;
+		return sum / values.length;
+	}
+
+	public static void main(String[] args) throws CalculationException {
+		int numberOfSeeds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		PrintStream out = System.out;
+
+		// Swaption with exercise in 2 years into a swap with semi annual periods running to the end of the LIBOR periods
+		int numberOfPeriods = numberOfLIBORs - 4;
+		double[] fixingDates	= new double[numberOfPeriods];
+		double[] paymentDates	= new double[numberOfPeriods];
+		double[] periodLengths	= new double[numberOfPeriods];
+		double[] periodNotionals	= new double[numberOfPeriods];
+		double[] swaprates		= new double[numberOfPeriods];
+		boolean[] isPeriodStartDateExerciseDate = new boolean[numberOfPeriods];
+		for(int periodIndex=0; periodIndex<numberOfPeriods; periodIndex++) {
+			fixingDates[periodIndex]	= 2.0 + periodIndex * 0.5;
+			paymentDates[periodIndex]	= fixingDates[periodIndex] + 0.5;
+			periodLengths[periodIndex]	= 0.5;
+			periodNotionals[periodIndex]	= 1.0;
+			swaprates[periodIndex]		= swaprate;
+			isPeriodStartDateExerciseDate[periodIndex] = periodIndex < numberOfPeriods - 1;
+		}
+
+		AbstractMonteCarloProduct[]	products		= {
+				new Swaption(fixingDates[0], fixingDates, paymentDates, periodLengths, swaprates),
+				new BermudanSwaption(isPeriodStartDateExerciseDate, fixingDates, periodLengths, paymentDates, periodNotionals, swaprates)
+		};
+		String[]					productNames	= { "Swaption", "BermudanSwaption" };
+
+		out.println("Standard deviation of the value over " + numberOfSeeds + " seeds (LIBOR market model, " + numberOfLIBORs + " LIBORs, " + numberOfFactors + " factors).");
+		out.println(String.format("%-18s %8s %-28s %14s %12s %16s %12s", "product", "paths", "method", "value", "error", "reported error", "path factor"));
+		for(int productIndex=0; productIndex<products.length; productIndex++) {
+			for(int numberOfPaths : new int[] { 1024, 4096, 16384 }) {
+				double errorMersenneTwister = Double.NaN;
+				for(Method method : Method.values()) {
+					double[][] valuesAndErrors = getValuesAndErrors(products[productIndex], numberOfPaths, numberOfSeeds, method);
+
+					double error = getStandardDeviation(valuesAndErrors[0]);
+					if(method == Method.MERSENNE_TWISTER) errorMersenneTwister = error;
+					out.println(String.format("%-18s %8d %-28s %14.8f %12.3e %16.3e %12.1f", productNames[productIndex], numberOfPaths, method,
+							getAverage(valuesAndErrors[0]), error, getAverage(valuesAndErrors[1]), (errorMersenneTwister / error) * (errorMersenneTwister / error)));
+				}
+			}
+		}
+	}
+}
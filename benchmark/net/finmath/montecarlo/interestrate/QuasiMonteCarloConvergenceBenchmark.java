@@ -0,0 +1,128 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.interestrate;
+
+import java.io.PrintStream;
+
+import net.finmath.exception.CalculationException;
+import net.finmath.montecarlo.AbstractMonteCarloProduct;
+import net.finmath.montecarlo.BrownianMotion;
+import net.finmath.montecarlo.BrownianMotionInterface;
+import net.finmath.montecarlo.BrownianMotionSobol;
+import net.finmath.montecarlo.interestrate.products.BermudanSwaption;
+import net.finmath.montecarlo.interestrate.products.Swaption;
+import net.finmath.montecarlo.process.ProcessEulerScheme;
+import net.finmath.time.TimeDiscretization;
+
+/**
+ * Compares the Monte-Carlo error of a swaption and a Bermudan swaption in a LIBOR market model,
+ * simulated with the <code>MersenneTwister64</code> based <code>BrownianMotion</code> and with the Sobol sequence based
+ * <code>BrownianMotionSobol</code> (Brownian bridge construction, randomized by digital shifts).
+ *
+ * For each number of paths the products are valued with a number of independent seeds. The error is the standard deviation
+ * of the values over the seeds (both estimators are unbiased, up to the regression bias of the Bermudan).
+ * The number of paths are powers of two, as required for the Sobol sequence.
+ *
+ * Usage: <code>java net.finmath.montecarlo.interestrate.QuasiMonteCarloConvergenceBenchmark [numberOfSeeds]</code>
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class QuasiMonteCarloConvergenceBenchmark {
+
+	private static final int	numberOfLIBORs		= 20;
+	private static final int	numberOfFactors		= 3;
+	private static final double	swaprate			= 0.035;
+
+	private QuasiMonteCarloConvergenceBenchmark() {
+	}
+
+	/**
+	 * Returns the values of the product for the given number of paths, one for each seed.
+	 *
+	 * @param product The product.
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfSeeds The number of seeds.
+	 * @param isSobol If true, <code>BrownianMotionSobol</code> is used, otherwise <code>BrownianMotion</code>.
+	 * @return The values.
+	 * @throws CalculationException Thrown if the valuation fails.
+	 */
+	public static double[] getValues(AbstractMonteCarloProduct product, int numberOfPaths, int numberOfSeeds, boolean isSobol) throws CalculationException {
+		TimeDiscretization timeDiscretization = LIBORMarketModelBenchmark.createTimeDiscretization(numberOfLIBORs);
+
+		double[] values = new double[numberOfSeeds];
+		for(int seedIndex=0; seedIndex<numberOfSeeds; seedIndex++) {
+			int seed = 3141 + seedIndex;
+			BrownianMotionInterface brownianMotion = isSobol ?
+					new BrownianMotionSobol(timeDiscretization, numberOfFactors, numberOfPaths, seed)
+					: new BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths, seed);
+
+			LIBORModelMonteCarloSimulation simulation = new LIBORModelMonteCarloSimulation(
+					LIBORMarketModelBenchmark.createLIBORMarketModel(numberOfLIBORs, numberOfFactors),
+					new ProcessEulerScheme(brownianMotion));
+			values[seedIndex] = product.getValue(simulation);
+		}
+		return values;
+	}
+
+	private static double getStandardDeviation(double[] values) {
+		double sum = 0.0, sumOfSquares = 0.0;
+		for(double value : values) {
+			sum				+= value;
+			sumOfSquares	+= value * value;
+		}
+		double mean = sum / values.length;
+		return Math.sqrt(Math.max(sumOfSquares / values.length - mean * mean, 0.0) * values.length / (values.length - 1));
+	}
+
+	private static double getAverage(double[] values) {
+		double sum = 0.0;
+		for(double value : values) sum += value;
+		return sum / values.length;
+	}
+
+	public static void main(String[] args) throws CalculationException {
+		int numberOfSeeds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		PrintStream out = System.out;
+
+		// Swaption with exercise in 2 years into a swap with semi annual periods running to the end of the LIBOR periods
+		int numberOfPeriods = numberOfLIBORs - 4;
+		double[] fixingDates	= new double[numberOfPeriods];
+		double[] paymentDates	= new double[numberOfPeriods];
+		double[] periodLengths	= new double[numberOfPeriods];
+		double[] periodNotionals	= new double[numberOfPeriods];
+		double[] swaprates		= new double[numberOfPeriods];
+		boolean[] isPeriodStartDateExerciseDate = new boolean[numberOfPeriods];
+		for(int periodIndex=0; periodIndex<numberOfPeriods; periodIndex++) {
+			fixingDates[periodIndex]	= 2.0 + periodIndex * 0.5;
+			paymentDates[periodIndex]	= fixingDates[periodIndex] + 0.5;
+			periodLengths[periodIndex]	= 0.5;
+			periodNotionals[periodIndex]	= 1.0;
+			swaprates[periodIndex]		= swaprate;
+			isPeriodStartDateExerciseDate[periodIndex] = periodIndex < numberOfPeriods - 1;
+		}
+
+		AbstractMonteCarloProduct[]	products		= {
+				new Swaption(fixingDates[0], fixingDates, paymentDates, periodLengths, swaprates),
+				new BermudanSwaption(isPeriodStartDateExerciseDate, fixingDates, periodLengths, paymentDates, periodNotionals, swaprates)
+		};
+		String[]					productNames	= { "Swaption", "BermudanSwaption" };
+
+		out.println("Standard deviation of the value over " + numberOfSeeds + " seeds (LIBOR market model, " + numberOfLIBORs + " LIBORs, " + numberOfFactors + " factors).");
+		out.println(String.format("%-18s %10s %14s %14s %14s %14s %8s", "product", "paths", "value (MT)", "error (MT)", "value (Sobol)", "error (Sobol)", "ratio"));
+		for(int productIndex=0; productIndex<products.length; productIndex++) {
+			for(int numberOfPaths : new int[] { 1024, 4096, 16384 }) {
+				double[] valuesMersenneTwister	= getValues(products[productIndex], numberOfPaths, numberOfSeeds, false);
+				double[] valuesSobol			= getValues(products[productIndex], numberOfPaths, numberOfSeeds, true);
+
+				double errorMersenneTwister	= getStandardDeviation(valuesMersenneTwister);
+				double errorSobol			= getStandardDeviation(valuesSobol);
+				out.println(String.format("%-18s %10d %14.8f %14.3e %14.8f %14.3e %8.1f", productNames[productIndex], numberOfPaths,
+						getAverage(valuesMersenneTwister), errorMersenneTwister, getAverage(valuesSobol), errorSobol, errorMersenneTwister / errorSobol));
+			}
+		}
+	}
+}
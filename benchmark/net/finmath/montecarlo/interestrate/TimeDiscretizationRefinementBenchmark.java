@@ -0,0 +1,267 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.interestrate;
+
+import java.io.PrintStream;
+
+import net.finmath.exception.CalculationException;
+import net.finmath.marketdata.model.curves.ForwardCurve;
+import net.finmath.montecarlo.BrownianMotion;
+import net.finmath.montecarlo.BrownianMotionInterface;
+import net.finmath.montecarlo.RandomVariable;
+import net.finmath.montecarlo.interestrate.modelplugins.AbstractLIBORCovarianceModel;
+import net.finmath.montecarlo.interestrate.modelplugins.LIBORCorrelationModelExponentialDecay;
+import net.finmath.montecarlo.interestrate.modelplugins.LIBORCovarianceModelFromVolatilityAndCorrelation;
+import net.finmath.montecarlo.interestrate.modelplugins.LIBORVolatilityModelFromGivenMatrix;
+import net.finmath.montecarlo.interestrate.products.AbstractLIBORMonteCarloProduct;
+import net.finmath.montecarlo.interestrate.products.BermudanSwaption;
+import net.finmath.montecarlo.interestrate.products.Swaption;
+import net.finmath.montecarlo.process.AbstractProcess;
+import net.finmath.montecarlo.process.EulerSchemeStepErrorEstimator;
+import net.finmath.montecarlo.process.ProcessEulerScheme;
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretization;
+import net.finmath.time.TimeDiscretizationBuilder;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * Compares the number of time steps and the prices of a LIBOR market model simulated on uniform time discretizations
+ * and on time discretizations refined by <code>TimeDiscretizationBuilder</code> using the <code>EulerSchemeStepErrorEstimator</code>.
+ *
+ * The uniform time discretizations have a time step of 0.5 down to 1/32, the refined time discretizations start from the LIBOR tenor (0.5)
+ * and bisect the time steps whose error estimate exceeds a tolerance (down to a minimum time step of 1/64). The error estimate is
+ * calculated from a pilot simulation with a small number of paths on a time discretization with a time step of 1/16.
+ *
+ * The prices are those of a Bermudan swaption exercisable at every period start and of a European swaption on the same swap, both exercisable in half a year.
+ * The error is the difference to the price on a fine time discretization (time step 1/64). All simulations are driven by the same Brownian paths:
+ * the Brownian increments of the coarser time discretizations are sums of the increments of the fine time discretization,
+ * such that the error is the discretization error (and not the Monte-Carlo error).
+ *
+ * The comparison is performed for two models:
+ * <ul>
+ * 	<li>the model of {@link LIBORMarketModelBenchmark}, where the volatility depends on the time to maturity only.
+ * 		The error estimate is then (almost) the same for all time steps and the refinement gives (almost) a uniform time discretization,</li>
+ * 	<li>a model with a volatility decaying in calendar time, <i>&sigma;(t) = 0.1 + 0.4 exp(-4 t)</i>.
+ * 		The refinement concentrates the time steps at the start, where the volatility changes fast.</li>
+ * </ul>
+ *
+ * Usage: <code>java net.finmath.montecarlo.interestrate.TimeDiscretizationRefinementBenchmark [numberOfPaths]</code>
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class TimeDiscretizationRefinementBenchmark {
+
+	private static final int		numberOfLIBORs			= 20;
+	private static final int		numberOfFactors			= 3;
+	private static final double		liborPeriodLength		= 0.5;
+	private static final int		seed					= 3141;
+
+	private static final int		numberOfFineTimeStepsPerYear	= 64;
+	private static final double[]	uniformTimeSteps				= { 0.5, 0.25, 0.125, 1.0 / 16.0, 1.0 / 32.0 };
+	private static final double[]	tolerances						= { 5E-2, 2E-2, 1E-2, 5E-3, 2E-3, 1E-3 };
+
+	// Pilot simulation of the error estimate
+	private static final int		numberOfPilotPaths				= 200;
+	private static final int		numberOfPilotTimeStepsPerYear	= 16;
+
+	private TimeDiscretizationRefinementBenchmark() {
+	}
+
+	/**
+	 * A Brownian motion on a time discretization which is a subset of the time discretization of a given Brownian motion,
+	 * using the sums of the increments of the given Brownian motion. The increments are calculated in the constructor.
+	 */
+	private static class BrownianMotionOnSubDiscretization implements BrownianMotionInterface {
+
+		private final BrownianMotionInterface		brownianMotion;
+		private final TimeDiscretizationInterface	timeDiscretization;
+		private final RandomVariableInterface[][]	brownianIncrements;
+
+		BrownianMotionOnSubDiscretization(BrownianMotionInterface brownianMotion, TimeDiscretizationInterface timeDiscretization) {
+			this.brownianMotion		= brownianMotion;
+			this.timeDiscretization	= timeDiscretization;
+			this.brownianIncrements	= new RandomVariableInterface[timeDiscretization.getNumberOfTimeSteps()][brownianMotion.getNumberOfFactors()];
+
+			TimeDiscretizationInterface fineTimeDiscretization = brownianMotion.getTimeDiscretization();
+			for(int timeIndex=0; timeIndex<timeDiscretization.getNumberOfTimeSteps(); timeIndex++) {
+				int fineTimeIndexStart	= fineTimeDiscretization.getTimeIndex(timeDiscretization.getTime(timeIndex));
+				int fineTimeIndexEnd	= fineTimeDiscretization.getTimeIndex(timeDiscretization.getTime(timeIndex+1));
+				if(fineTimeIndexStart < 0 || fineTimeIndexEnd < 0) throw new IllegalArgumentException("The time discretization is not a subset of the time discretization of the Brownian motion.");
+
+				for(int factor=0; factor<brownianMotion.getNumberOfFactors(); factor++) {
+					RandomVariableInterface brownianIncrement = new RandomVariable(0.0);
+					for(int fineTimeIndex=fineTimeIndexStart; fineTimeIndex<fineTimeIndexEnd; fineTimeIndex++) {
+						brownianIncrement = brownianIncrement.add(brownianMotion.getBrownianIncrement(fineTimeIndex, factor));
+					}
+					brownianIncrements[timeIndex][factor] = brownianIncrement;
+				}
+			}
+		}
+
+		@Override
+		public RandomVariableInterface getBrownianIncrement(int timeIndex, int factor) {
+			return brownianIncrements[timeIndex][factor];
+		}
+
+		@Override
+		public TimeDiscretizationInterface getTimeDiscretization() {
+			return timeDiscretization;
+		}
+
+		@Override
+		public int getNumberOfFactors() {
+			return brownianMotion.getNumberOfFactors();
+		}
+
+		@Override
+		public int getNumberOfPaths() {
+			return brownianMotion.getNumberOfPaths();
+		}
+
+		@Override
+		public BrownianMotionInterface getCloneWithModifiedSeed(int seed) {
+			return new BrownianMotionOnSubDiscretization(brownianMotion.getCloneWithModifiedSeed(seed), timeDiscretization);
+		}
+	}
+
+	/**
+	 * The creation of a model for a given simulation time discretization.
+	 */
+	private interface ModelFactory {
+		LIBORMarketModel createLIBORMarketModel(TimeDiscretization timeDiscretization);
+	}
+
+	/**
+	 * Create a LIBOR market model with a volatility decaying in calendar time, <i>&sigma;(t) = 0.1 + 0.4 exp(-4 t)</i>, for all LIBORs.
+	 *
+	 * @param timeDiscretization The simulation time discretization.
+	 * @return The model.
+	 */
+	private static LIBORMarketModel createLIBORMarketModelWithDecayingVolatility(TimeDiscretization timeDiscretization) {
+		TimeDiscretization liborPeriodDiscretization = new TimeDiscretization(0.0, numberOfLIBORs, liborPeriodLength);
+
+		ForwardCurve forwardCurve = ForwardCurve.createForwardCurveFromForwards("forwardCurve",
+				new double[] { 0.5, 1.0, 2.0, 5.0, 10.0, 20.0 },
+				new double[] { 0.02, 0.025, 0.03, 0.035, 0.04, 0.04 },
+				liborPeriodLength);
+
+		double[][] volatility = new double[timeDiscretization.getNumberOfTimes()][numberOfLIBORs];
+		for(int timeIndex=0; timeIndex<timeDiscretization.getNumberOfTimes(); timeIndex++) {
+			for(int liborIndex=0; liborIndex<numberOfLIBORs; liborIndex++) {
+				volatility[timeIndex][liborIndex] = 0.1 + 0.4 * Math.exp(-4.0 * timeDiscretization.getTime(timeIndex));
+			}
+		}
+
+		AbstractLIBORCovarianceModel covarianceModel = new LIBORCovarianceModelFromVolatilityAndCorrelation(timeDiscretization, liborPeriodDiscretization,
+				new LIBORVolatilityModelFromGivenMatrix(timeDiscretization, liborPeriodDiscretization, volatility),
+				new LIBORCorrelationModelExponentialDecay(timeDiscretization, liborPeriodDiscretization, numberOfFactors, 0.1, false));
+
+		return new LIBORMarketModel(liborPeriodDiscretization, forwardCurve, covarianceModel);
+	}
+
+	/**
+	 * Calculate the prices of the products using a simulation on the time discretization of the given Brownian motion.
+	 */
+	private static double[] getPrices(ModelFactory modelFactory, BrownianMotionInterface brownianMotion, AbstractLIBORMonteCarloProduct[] products) throws CalculationException {
+		TimeDiscretization timeDiscretization = new TimeDiscretization(brownianMotion.getTimeDiscretization().getAsDoubleArray());
+		LIBORModelMonteCarloSimulation simulation = new LIBORModelMonteCarloSimulation(modelFactory.createLIBORMarketModel(timeDiscretization), new ProcessEulerScheme(brownianMotion));
+
+		double[] prices = new double[products.length];
+		for(int productIndex=0; productIndex<products.length; productIndex++) prices[productIndex] = products[productIndex].getValue(simulation);
+		return prices;
+	}
+
+	/**
+	 * Print the number of time steps, the prices and their errors of a time discretization.
+	 */
+	private static void printPrices(PrintStream out, String modelName, String timeDiscretizationName, ModelFactory modelFactory, BrownianMotionInterface fineBrownianMotion, TimeDiscretizationInterface timeDiscretization,
+			AbstractLIBORMonteCarloProduct[] products, double[] referencePrices) throws CalculationException {
+		BrownianMotionInterface brownianMotion = new BrownianMotionOnSubDiscretization(fineBrownianMotion, timeDiscretization);
+
+		long wallTimeStart = System.nanoTime();
+		double[] prices = getPrices(modelFactory, brownianMotion, products);
+		long wallTime = System.nanoTime() - wallTimeStart;
+
+		out.println(String.format("%-22s %-20s %8d %12.6f %12.4e %12.6f %12.4e %10.4f", modelName, timeDiscretizationName, timeDiscretization.getNumberOfTimeSteps(),
+				prices[0], prices[0] - referencePrices[0], prices[1], prices[1] - referencePrices[1], wallTime / 1E9));
+	}
+
+	/**
+	 * Print the comparison of the uniform and the refined time discretizations for a model.
+	 */
+	private static void printComparison(PrintStream out, String modelName, ModelFactory modelFactory, int numberOfPaths, AbstractLIBORMonteCarloProduct[] products) throws CalculationException {
+		double lastTime = numberOfLIBORs * liborPeriodLength;
+		TimeDiscretization liborPeriodDiscretization = new TimeDiscretization(0.0, numberOfLIBORs, liborPeriodLength);
+
+		// Error estimate from a pilot simulation
+		TimeDiscretization pilotTimeDiscretization = new TimeDiscretization(0.0, (int)Math.round(lastTime * numberOfPilotTimeStepsPerYear), 1.0 / numberOfPilotTimeStepsPerYear);
+		LIBORMarketModel pilotModel = modelFactory.createLIBORMarketModel(pilotTimeDiscretization);
+		ProcessEulerScheme pilotProcess = new ProcessEulerScheme(new BrownianMotion(pilotTimeDiscretization, numberOfFactors, numberOfPilotPaths, seed + 1));
+		new LIBORModelMonteCarloSimulation(pilotModel, pilotProcess);
+		EulerSchemeStepErrorEstimator stepErrorEstimator = new EulerSchemeStepErrorEstimator((AbstractProcess)pilotProcess);
+
+		// Reference prices on the fine time discretization
+		TimeDiscretization fineTimeDiscretization = new TimeDiscretization(0.0, (int)Math.round(lastTime * numberOfFineTimeStepsPerYear), 1.0 / numberOfFineTimeStepsPerYear);
+		BrownianMotionInterface fineBrownianMotion = new BrownianMotion(fineTimeDiscretization, numberOfFactors, numberOfPaths, seed);
+		double[] referencePrices = getPrices(modelFactory, fineBrownianMotion, products);
+		printPrices(out, modelName, "reference", modelFactory, fineBrownianMotion, fineTimeDiscretization, products, referencePrices);
+
+		for(double timeStep : uniformTimeSteps) {
+			TimeDiscretization timeDiscretization = new TimeDiscretizationBuilder(0.0, lastTime, timeStep).addTimes(liborPeriodDiscretization).build();
+			printPrices(out, modelName, String.format("uniform %.4f", timeStep), modelFactory, fineBrownianMotion, timeDiscretization, products, referencePrices);
+		}
+
+		for(double tolerance : tolerances) {
+			TimeDiscretization timeDiscretization = new TimeDiscretizationBuilder(0.0, lastTime, liborPeriodLength).addTimes(liborPeriodDiscretization)
+					.setMinimumTimeStep(1.0 / numberOfFineTimeStepsPerYear).setRefinement(stepErrorEstimator, tolerance).build();
+			printPrices(out, modelName, String.format("refined %.0e", tolerance), modelFactory, fineBrownianMotion, timeDiscretization, products, referencePrices);
+		}
+	}
+
+	public static void main(String[] args) throws CalculationException {
+		final int numberOfPaths = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		PrintStream out = System.out;
+
+		// A Bermudan swaption exercisable at every period start from 0.5 to the last but one LIBOR period and the European swaption on the same swap
+		int numberOfPeriods = numberOfLIBORs - 2;
+		boolean[]	isPeriodStartDateExerciseDate	= new boolean[numberOfPeriods];
+		double[]	fixingDates						= new double[numberOfPeriods];
+		double[]	periodLengths					= new double[numberOfPeriods];
+		double[]	paymentDates					= new double[numberOfPeriods];
+		double[]	periodNotionals					= new double[numberOfPeriods];
+		double[]	swaprates						= new double[numberOfPeriods];
+		for(int periodIndex=0; periodIndex<numberOfPeriods; periodIndex++) {
+			isPeriodStartDateExerciseDate[periodIndex]	= true;
+			fixingDates[periodIndex]					= liborPeriodLength + periodIndex * liborPeriodLength;
+			periodLengths[periodIndex]					= liborPeriodLength;
+			paymentDates[periodIndex]					= fixingDates[periodIndex] + liborPeriodLength;
+			periodNotionals[periodIndex]				= 1.0;
+			swaprates[periodIndex]						= 0.035;
+		}
+		AbstractLIBORMonteCarloProduct[] products = {
+				new BermudanSwaption(isPeriodStartDateExerciseDate, fixingDates, periodLengths, paymentDates, periodNotionals, swaprates),
+				new Swaption(fixingDates[0], fixingDates, paymentDates, periodLengths, swaprates)
+		};
+
+		out.println("Prices on uniform and refined time discretizations (" + numberOfPaths + " paths, error relative to the time step 1/" + numberOfFineTimeStepsPerYear + ").");
+		out.println(String.format("%-22s %-20s %8s %12s %12s %12s %12s %10s", "model", "time discretization", "steps", "bermudan", "error", "swaption", "error", "time [s]"));
+
+		printComparison(out, "LIBORMarketModel", new ModelFactory() {
+			@Override
+			public LIBORMarketModel createLIBORMarketModel(TimeDiscretization timeDiscretization) {
+				return LIBORMarketModelBenchmark.createLIBORMarketModel(numberOfLIBORs, numberOfFactors, timeDiscretization);
+			}
+		}, numberOfPaths, products);
+
+		printComparison(out, "DecayingVolatility", new ModelFactory() {
+			@Override
+			public LIBORMarketModel createLIBORMarketModel(TimeDiscretization timeDiscretization) {
+				return createLIBORMarketModelWithDecayingVolatility(timeDiscretization);
+			}
+		}, numberOfPaths, products);
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.process;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+
+import net.finmath.exception.CalculationException;
+import net.finmath.montecarlo.BrownianMotion;
+import net.finmath.montecarlo.BrownianMotionInterface;
+import net.finmath.montecarlo.RandomVariable;
+import net.finmath.montecarlo.assetderivativevaluation.MonteCarloBlackScholesModel;
+import net.finmath.montecarlo.interestrate.LIBORMarketModelBenchmark;
+import net.finmath.montecarlo.interestrate.LIBORModelMonteCarloSimulation;
+import net.finmath.montecarlo.model.AbstractModel;
+import net.finmath.montecarlo.process.ProcessEulerScheme.Scheme;
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretization;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * Compares the discretization error and the calculation time of the schemes of <code>ProcessEulerScheme</code>
+ * for different time steps, for the <code>MonteCarloBlackScholesModel</code>, a geometric Brownian motion simulated in its natural coordinates
+ * and the <code>LIBORMarketModel</code>.
+ *
+ * The Milstein scheme differs from the Euler scheme only for models with state dependent factor loadings. The Black-Scholes model and the
+ * LIBOR market model with the covariance models of the library simulate the logarithm with deterministic factor loadings,
+ * hence the Milstein scheme gives the same values as the Euler scheme. The geometric Brownian motion in natural coordinates,
+ * <i>dS = r S dt + &sigma; S dW</i>, has the state dependent factor loading <i>&sigma; S</i>: here the strong order of convergence
+ * improves from 0.5 (Euler) to 1 (Milstein).
+ *
+ * The error is the strong error at the final time, i.e., the average absolute difference of the simulated values to
+ * a reference solution driven by the same Brownian path: all simulations use the increments of a Brownian motion
+ * on a fine time discretization, summed up to the increments of the coarser time discretizations.
+ * For the Black-Scholes model and the geometric Brownian motion the reference solution is the exact solution, for the LIBOR market model it is
+ * the predictor corrector scheme on the fine time discretization. The error of the LIBOR market model is the average
+ * over the LIBORs which are not fixed at the final time.
+ *
+ * The time is the minimum over a number of repetitions of the wall clock time and of the CPU time of the JVM
+ * (all threads, if supported by the JVM) of the simulation. Schemes are compared by the time required to reach a given error.
+ *
+ * Usage: <code>java net.finmath.montecarlo.process.ProcessEulerSchemeConvergenceBenchmark [numberOfPaths]</code>
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class ProcessEulerSchemeConvergenceBenchmark {
+
+	private static final int	numberOfRepetitions		= 3;
+	private static final int	seed					= 3141;
+
+	// Black-Scholes model
+	private static final double	initialValue			= 100.0;
+	private static final double	riskFreeRate			= 0.05;
+	private static final double	volatility				= 0.3;
+	private static final double	maturity				= 5.0;
+
+	// LIBOR market model
+	private static final int	numberOfLIBORs			= 20;
+	private static final int	numberOfFactors			= 3;
+	private static final double	finalTime				= 5.0;
+
+	private static final int[]	numbersOfTimeStepsPerYear	= { 1, 2, 4, 8, 16 };
+	private static final int	numberOfFineTimeStepsPerYear	= 128;
+
+	private ProcessEulerSchemeConvergenceBenchmark() {
+	}
+
+	/**
+	 * A Brownian motion on a coarse time discretization, using the sums of the increments of a Brownian motion on a fine time discretization.
+	 * The increments are calculated in the constructor, such that they are not part of the timed simulation.
+	 */
+	private static class BrownianMotionCoarsened implements BrownianMotionInterface {
+
+		private final BrownianMotionInterface		brownianMotion;
+		private final int							numberOfFineTimeStepsPerTimeStep;
+
+		private final TimeDiscretizationInterface	timeDiscretization;
+		private final RandomVariableInterface[][]	brownianIncrements;
+		private final int							numberOfPaths;
+
+		BrownianMotionCoarsened(BrownianMotionInterface brownianMotion, int numberOfFineTimeStepsPerTimeStep) {
+			this.brownianMotion						= brownianMotion;
+			this.numberOfFineTimeStepsPerTimeStep	= numberOfFineTimeStepsPerTimeStep;
+
+			int numberOfTimeSteps = brownianMotion.getTimeDiscretization().getNumberOfTimeSteps() / numberOfFineTimeStepsPerTimeStep;
+
+			double[] times = new double[numberOfTimeSteps + 1];
+			for(int timeIndex=0; timeIndex<=numberOfTimeSteps; timeIndex++) times[timeIndex] = brownianMotion.getTimeDiscretization().getTime(timeIndex * numberOfFineTimeStepsPerTimeStep);
+
+			this.timeDiscretization	= new TimeDiscretization(times);
+			this.numberOfPaths		= brownianMotion.getNumberOfPaths();
+			this.brownianIncrements	= new RandomVariableInterface[numberOfTimeSteps][brownianMotion.getNumberOfFactors()];
+			for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+				for(int factor=0; factor<brownianMotion.getNumberOfFactors(); factor++) {
+					RandomVariableInterface brownianIncrement = new RandomVariable(0.0);
+					for(int fineTimeIndex=timeIndex*numberOfFineTimeStepsPerTimeStep; fineTimeIndex<(timeIndex+1)*numberOfFineTimeStepsPerTimeStep; fineTimeIndex++) {
+						brownianIncrement = brownianIncrement.add(brownianMotion.getBrownianIncrement(fineTimeIndex, factor));
+					}
+					brownianIncrements[timeIndex][factor] = brownianIncrement;
+				}
+			}
+		}
+
+		@Override
+		public RandomVariableInterface getBrownianIncrement(int timeIndex, int factor) {
+			return brownianIncrements[timeIndex][factor];
+		}
+
+		@Override
+		public TimeDiscretizationInterface getTimeDiscretization() {
+			return timeDiscretization;
+		}
+
+		@Override
+		public int getNumberOfFactors() {
+			return brownianIncrements[0].length;
+		}
+
+		@Override
+		public int getNumberOfPaths() {
+			return numberOfPaths;
+		}
+
+		@Override
+		public BrownianMotionInterface getCloneWithModifiedSeed(int seed) {
+			return new BrownianMotionCoarsened(brownianMotion.getCloneWithModifiedSeed(seed), numberOfFineTimeStepsPerTimeStep);
+		}
+	}
+
+	/**
+	 * The geometric Brownian motion <i>dS = r S dt + &sigma; S dW</i>, <i>S(0) = S<sub>0</sub></i>, simulated in its natural coordinates,
+	 * i.e., with the identity as state space transform. Its factor loading <i>&sigma; S</i> depends on the state.
+	 */
+	private static class GeometricBrownianMotionModel extends AbstractModel {
+
+		@Override
+		public int getNumberOfComponents() {
+			return 1;
+		}
+
+		@Override
+		public RandomVariableInterface[] getInitialState() {
+			return new RandomVariableInterface[] { new RandomVariable(initialValue) };
+		}
+
+		@Override
+		public RandomVariableInterface getNumeraire(double time) {
+			return new RandomVariable(Math.exp(riskFreeRate * time));
+		}
+
+		@Override
+		public RandomVariableInterface getDrift(int timeIndex, int componentIndex, RandomVariableInterface[] realizationAtTimeIndex, RandomVariableInterface[] realizationPredictor) {
+			return realizationAtTimeIndex[0].mult(riskFreeRate);
+		}
+
+		@Override
+		public RandomVariableInterface[] getFactorLoading(int timeIndex, int componentIndex, RandomVariableInterface[] realizationAtTimeIndex) {
+			return new RandomVariableInterface[] { realizationAtTimeIndex[0].mult(volatility) };
+		}
+
+		@Override
+		public RandomVariableInterface applyStateSpaceTransform(int componentIndex, RandomVariableInterface randomVariable) {
+			return randomVariable;
+		}
+	}
+
+	/**
+	 * The simulation of a model, returning the values at the final time.
+	 */
+	private interface Simulation {
+		RandomVariableInterface[] getFinalValues(BrownianMotionInterface brownianMotion, Scheme scheme) throws CalculationException;
+	}
+
+	/**
+	 * @return The CPU time of the JVM in nanoseconds or -1 if not supported.
+	 */
+	private static long getProcessCpuTime() {
+		OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+		if(!(operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean)) return -1;
+		return ((com.sun.management.OperatingSystemMXBean)operatingSystemMXBean).getProcessCpuTime();
+	}
+
+	/**
+	 * Print the error and the time of each scheme and number of time steps.
+	 *
+	 * @param out The stream to print to.
+	 * @param modelName The name of the model.
+	 * @param simulation The simulation.
+	 * @param fineBrownianMotion The Brownian motion on the fine time discretization.
+	 * @param referenceValues The reference values at the final time.
+	 * @throws CalculationException Thrown if the simulation fails.
+	 */
+	private static void printConvergence(PrintStream out, String modelName, Simulation simulation, BrownianMotionInterface fineBrownianMotion, RandomVariableInterface[] referenceValues) throws CalculationException {
+		for(Scheme scheme : Scheme.values()) {
+			for(int numberOfTimeStepsPerYear : numbersOfTimeStepsPerYear) {
+				BrownianMotionInterface brownianMotion = new BrownianMotionCoarsened(fineBrownianMotion, numberOfFineTimeStepsPerYear / numberOfTimeStepsPerYear);
+
+				RandomVariableInterface[] values = null;
+				long wallTime	= Long.MAX_VALUE;
+				long cpuTime	= Long.MAX_VALUE;
+				for(int repetition=0; repetition<numberOfRepetitions; repetition++) {
+					long wallTimeStart	= System.nanoTime();
+					long cpuTimeStart	= getProcessCpuTime();
+					values = simulation.getFinalValues(brownianMotion, scheme);
+					cpuTime		= Math.min(cpuTime, getProcessCpuTime() - cpuTimeStart);
+					wallTime	= Math.min(wallTime, System.nanoTime() - wallTimeStart);
+				}
+
+				double error = 0.0;
+				for(int componentIndex=0; componentIndex<values.length; componentIndex++) {
+					error += values[componentIndex].sub(referenceValues[componentIndex]).abs().getAverage() / values.length;
+				}
+
+				out.println(String.format("%-24s %-20s %8d %14.4e %12.4f %12.4f", modelName, scheme, brownianMotion.getTimeDiscretization().getNumberOfTimeSteps(),
+						error, wallTime / 1E9, cpuTime >= 0 ? cpuTime / 1E9 : Double.NaN));
+			}
+		}
+	}
+
+	public static void main(String[] args) throws CalculationException {
+		final int numberOfPaths = args.length > 0 ? Integer.parseInt(args[0]) : 8192;
+		PrintStream out = System.out;
+
+		out.println("Strong error at the final time and calculation time of the schemes of ProcessEulerScheme (" + numberOfPaths + " paths).");
+		out.println(String.format("%-24s %-20s %8s %14s %12s %12s", "model", "scheme", "steps", "error", "time [s]", "cpu [s]"));
+
+		/*
+		 * Black-Scholes model: the reference is the exact solution
+		 */
+		BrownianMotion brownianMotionBlackScholes = new BrownianMotion(new TimeDiscretization(0.0, (int)(maturity * numberOfFineTimeStepsPerYear), 1.0 / numberOfFineTimeStepsPerYear), 1, numberOfPaths, seed);
+		RandomVariableInterface brownianMotionAtMaturity = new RandomVariable(0.0);
+		for(int timeIndex=0; timeIndex<brownianMotionBlackScholes.getTimeDiscretization().getNumberOfTimeSteps(); timeIndex++) {
+			brownianMotionAtMaturity = brownianMotionAtMaturity.add(brownianMotionBlackScholes.getBrownianIncrement(timeIndex, 0));
+		}
+		RandomVariableInterface valueAtMaturity = brownianMotionAtMaturity.mult(volatility).add((riskFreeRate - 0.5 * volatility * volatility) * maturity).exp().mult(initialValue);
+
+		printConvergence(out, "BlackScholesModel", new Simulation() {
+			@Override
+			public RandomVariableInterface[] getFinalValues(BrownianMotionInterface brownianMotion, Scheme scheme) throws CalculationException {
+				MonteCarloBlackScholesModel model = new MonteCarloBlackScholesModel(initialValue, riskFreeRate, volatility, new ProcessEulerScheme(brownianMotion, scheme));
+				return new RandomVariableInterface[] { model.getAssetValue(model.getTimeDiscretization().getNumberOfTimeSteps(), 0) };
+			}
+		}, brownianMotionBlackScholes, new RandomVariableInterface[] { valueAtMaturity });
+
+		/*
+		 * Geometric Brownian motion in natural coordinates (state dependent factor loading): the reference is the exact solution
+		 */
+		printConvergence(out, "GeometricBrownianMotion", new Simulation() {
+			@Override
+			public RandomVariableInterface[] getFinalValues(BrownianMotionInterface brownianMotion, Scheme scheme) throws CalculationException {
+				GeometricBrownianMotionModel model = new GeometricBrownianMotionModel();
+				ProcessEulerScheme process = new ProcessEulerScheme(brownianMotion, scheme);
+				model.setProcess(process);
+				process.setModel(model);
+				return new RandomVariableInterface[] { process.getProcessValue(process.getTimeDiscretization().getNumberOfTimeSteps(), 0) };
+			}
+		}, brownianMotionBlackScholes, new RandomVariableInterface[] { valueAtMaturity });
+
+		/*
+		 * LIBOR market model: the reference is the predictor corrector scheme on the fine time discretization
+		 */
+		final int firstLIBORIndex = (int)Math.round(finalTime / 0.5);
+		Simulation simulationLIBORMarketModel = new Simulation() {
+			@Override
+			public RandomVariableInterface[] getFinalValues(BrownianMotionInterface brownianMotion, Scheme scheme) throws CalculationException {
+				TimeDiscretization timeDiscretization = new TimeDiscretization(brownianMotion.getTimeDiscretization().getAsDoubleArray());
+				LIBORModelMonteCarloSimulation simulation = new LIBORModelMonteCarloSimulation(
+						LIBORMarketModelBenchmark.createLIBORMarketModel(numberOfLIBORs, numberOfFactors, timeDiscretization),
+						new ProcessEulerScheme(brownianMotion, scheme));
+
+				int timeIndex = timeDiscretization.getNumberOfTimeSteps();
+				RandomVariableInterface[] values = new RandomVariableInterface[numberOfLIBORs - firstLIBORIndex];
+				for(int liborIndex=firstLIBORIndex; liborIndex<numberOfLIBORs; liborIndex++) values[liborIndex - firstLIBORIndex] = simulation.getLIBOR(timeIndex, liborIndex);
+				return values;
+			}
+		};
+
+		BrownianMotion brownianMotionLIBORMarketModel = new BrownianMotion(new TimeDiscretization(0.0, (int)(finalTime * numberOfFineTimeStepsPerYear), 1.0 / numberOfFineTimeStepsPerYear), numberOfFactors, numberOfPaths, seed);
+		RandomVariableInterface[] referenceValues = simulationLIBORMarketModel.getFinalValues(brownianMotionLIBORMarketModel, Scheme.PREDICTOR_CORRECTOR);
+
+		printConvergence(out, "LIBORMarketModel", simulationLIBORMarketModel, brownianMotionLIBORMarketModel, referenceValues);
+	}
+}
@@ -10,6 +10,7 @@ import java.util.Map;
 
 import net.finmath.exception.CalculationException;
 import net.finmath.stochastic.RandomVariableInterface;
+import cern.jet.random.engine.MersenneTwister64;
 
 /**
  * Base class for product needing an MonteCarloSimulationInterface
@@ -80,6 +81,65 @@ public abstract class AbstractMonteCarloProduct {
         return results;
     }
 
+    /**
+     * This method returns the value of the product under the specified model and other information in a key-value map,
+     * using a streaming valuation in blocks of paths.
+     * 
+     * The given model defines the block, i.e., its number of paths is the number of paths per block. For each block a clone of
+     * the model with a different seed is created (see {@link MonteCarloSimulationInterface#getCloneWithModifiedData(Map)}
+     * using the key <code>seed</code>), the paths of this block are generated and the product is valued. Only the mean
+     * of the path values of each block is kept, such that the memory requirement does not depend on the number of blocks.
+     * The value is the mean of the block means. The error is the standard error of the block means, i.e., their sample
+     * standard deviation divided by the square root of the number of blocks. Since the block means are independent, this
+     * error remains valid if the paths within a block are correlated (e.g., by estimators across paths or by quasi random numbers).
+     * For a single block, the error is the standard error of its path values.
+     * 
+     * The method is suitable for products whose value random variable can be calculated path by path (e.g., European-style products).
+     * For products using estimators across paths (e.g., regression for a conditional expectation), these estimators are calculated per block.
+     * 
+     * @param model A model used to evaluate the product. It has to support the modification of the key <code>seed</code>.
+     * @param numberOfBlocks The number of blocks.
+     * @param seed The seed used to generate the seeds of the blocks.
+     * @return The values of the product (keys <code>value</code>, <code>error</code> and <code>numberOfPaths</code>).
+     * @throws net.finmath.exception.CalculationException
+     */
+    public Map<String, Object> getValues(MonteCarloSimulationInterface model, int numberOfBlocks, int seed) throws CalculationException
+    {
+    	MersenneTwister64 seedGenerator = new MersenneTwister64(seed);
+
+    	double	meanOfBlockMeans				= 0.0;
+    	double	sumOfSquaredDeviationsOfBlockMeans	= 0.0;
+    	double	errorOfBlock					= 0.0;
+    	long	numberOfPaths					= 0;
+    	for(int blockIndex=0; blockIndex<numberOfBlocks; blockIndex++) {
+    		Map<String, Object> dataModified = new HashMap<String, Object>();
+    		dataModified.put("seed", seedGenerator.nextInt());
+    		MonteCarloSimulationInterface modelForBlock = model.getCloneWithModifiedData(dataModified);
+
+    		RandomVariableInterface values = getValue(0.0, modelForBlock);
+    		if(values == null) return null;
+
+    		// Update mean and sum of squared deviations of the block means (Welford's algorithm)
+    		double blockMean	= values.getAverage();
+    		double deviation	= blockMean - meanOfBlockMeans;
+    		meanOfBlockMeans					+= deviation / (blockIndex+1);
+    		sumOfSquaredDeviationsOfBlockMeans	+= deviation * (blockMean - meanOfBlockMeans);
+
+    		if(numberOfBlocks == 1) errorOfBlock = values.getStandardError();
+    		numberOfPaths += modelForBlock.getNumberOfPaths();
+    	}
+
+    	double value	= meanOfBlockMeans;
+    	double error	= numberOfBlocks > 1 ? Math.sqrt(sumOfSquaredDeviationsOfBlockMeans / (numberOfBlocks-1) / numberOfBlocks) : errorOfBlock;
+
+        Map<String, Object> results = new HashMap<String, Object>();
+        results.put("value", value);
+        results.put("error", error);
+        results.put("numberOfPaths", numberOfPaths);
+
+        return results;
+    }
+
 	/**
 	 * This method returns the value under shifted market data (or model parameters).
 	 * In its default implementation it does bump (creating a new model) and revalue.
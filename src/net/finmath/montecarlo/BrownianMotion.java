@@ -6,7 +6,11 @@
 package net.finmath.montecarlo;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutionException;
 
+import net.finmath.functions.NormalDistribution;
+import net.finmath.randomnumbers.SplitMix64;
+import net.finmath.randomnumbers.ZigguratNormalGenerator;
 import net.finmath.stochastic.RandomVariableInterface;
 import net.finmath.time.TimeDiscretizationInterface;
 import cern.jet.random.engine.MersenneTwister64;
@@ -27,21 +31,50 @@ import cern.jet.random.engine.MersenneTwister64;
  * 
  * The class is immutable and thread safe. It uses lazy initialization.
  * 
+ * The random numbers are generated by one of the generators of {@link RandomNumberGenerator}:
+ * a single sequential Mersenne Twister (the default) or a counter based generator, where each path
+ * uses its own substream. The latter allows to generate blocks of paths in parallel. Its result does
+ * not depend on the number of threads (or the size of the blocks) and equals the result of the sequential generation.
+ * The normal random numbers are obtained by the inversion of the distribution function (applied to all increments of a path at once)
+ * or, for the counter based generator, optionally by the Ziggurat method.
+ * 
  * @author Christian Fries
  * @version 1.6
  */
 public class BrownianMotion implements BrownianMotionInterface, Serializable {
 
+	/**
+	 * The random number generator used to generate the increments.
+	 */
+	public enum RandomNumberGenerator {
+		/** A single <code>MersenneTwister64</code>, generating all paths sequentially. */
+		MERSENNE_TWISTER,
+		/** The counter based <code>SplitMix64</code> generator, generating blocks of paths in parallel. */
+		SPLITMIX64_PARALLEL,
+		/** The counter based <code>SplitMix64</code> generator, generating blocks of paths in parallel, with normal random numbers from the Ziggurat method (instead of the inversion of the distribution function). */
+		SPLITMIX64_ZIGGURAT_PARALLEL
+	}
+
 	/**
 	 * 
 	 */
 	private static final long serialVersionUID = -5430067621669213475L;
 
+	/**
+	 * The version of the algorithms generating the increments from the seed (random number generators and normal transformations).
+	 * It has to be increased whenever a change of these algorithms changes the generated increments, such that persisted increments
+	 * (see {@link BrownianMotionFileCache}) are invalidated.
+	 */
+	public static final int		generatorAlgorithmVersion	= 1;
+
+	private static final int	pathBlockSize		= 1024;		// Unit of work of the parallel generation
+
 	private final TimeDiscretizationInterface						timeDiscretization;
 
 	private final int			numberOfFactors;
 	private final int			numberOfPaths;
 	private final int			seed;
+	private final RandomNumberGenerator	randomNumberGenerator;
 
 	private transient RandomVariableInterface[][]	brownianIncrements;	
 
@@ -52,24 +85,55 @@ public class BrownianMotion implements BrownianMotionInterface, Serializable {
 	 * @param numberOfFactors Number of factors.
 	 * @param numberOfPaths Number of paths to simulate.
 	 * @param seed The seed of the random number generator.
+	 * @param randomNumberGenerator The random number generator used to generate the increments.
 	 */
 	public BrownianMotion(
 			TimeDiscretizationInterface timeDiscretization,
 			int numberOfFactors,
 			int numberOfPaths,
-			int seed) {
+			int seed,
+			RandomNumberGenerator randomNumberGenerator) {
 		super();
 		this.timeDiscretization = timeDiscretization;
 		this.numberOfFactors	= numberOfFactors;
 		this.numberOfPaths		= numberOfPaths;
 		this.seed				= seed;
+		this.randomNumberGenerator	= randomNumberGenerator;
 
 		this.brownianIncrements	= null; 	// Lazy initialization
 	}
 
+	/**
+	 * Construct a Brownian motion using a <code>MersenneTwister64</code>.
+	 * 
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate.
+	 * @param seed The seed of the random number generator.
+	 */
+	public BrownianMotion(
+			TimeDiscretizationInterface timeDiscretization,
+			int numberOfFactors,
+			int numberOfPaths,
+			int seed) {
+		this(timeDiscretization, numberOfFactors, numberOfPaths, seed, RandomNumberGenerator.MERSENNE_TWISTER);
+	}
+
+	/**
+	 * Create a Brownian motion with the same specification and a different seed.
+	 * If a Brownian motion with this specification is registered in the {@link BrownianMotionRegistry}, the registered
+	 * instance is returned (sharing its increments).
+	 * 
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getCloneWithModifiedSeed(int)
+	 */
 	@Override
     public BrownianMotionInterface getCloneWithModifiedSeed(int seed) {
-		return new BrownianMotion(getTimeDiscretization(), getNumberOfFactors(), getNumberOfPaths(), seed);
+		RandomNumberGenerator randomNumberGenerator = this.randomNumberGenerator != null ? this.randomNumberGenerator : RandomNumberGenerator.MERSENNE_TWISTER;
+
+		BrownianMotion registeredBrownianMotion = BrownianMotionRegistry.get(getTimeDiscretization(), getNumberOfFactors(), getNumberOfPaths(), seed, randomNumberGenerator);
+		if(registeredBrownianMotion != null) return registeredBrownianMotion;
+
+		return new BrownianMotion(getTimeDiscretization(), getNumberOfFactors(), getNumberOfPaths(), seed, randomNumberGenerator);
 	}
 
 	/* (non-Javadoc)
@@ -95,18 +159,34 @@ public class BrownianMotion implements BrownianMotionInterface, Serializable {
 	private void doGenerateBrownianMotion() {
 		if(brownianIncrements != null) return;	// Nothing to do
 
-		// Create random number sequence generator (we use MersenneTwister64 from colt)
-		MersenneTwister64		mersenneTwister		= new MersenneTwister64(seed);
-
 		// Allocate memory
-		double[][][] brownianIncrementsArray = new double[timeDiscretization.getNumberOfTimeSteps()][numberOfFactors][numberOfPaths];
+		final double[][][] brownianIncrementsArray = new double[timeDiscretization.getNumberOfTimeSteps()][numberOfFactors][numberOfPaths];
 
 		// Pre-calculate square roots of deltaT
-		double[] sqrtOfTimeStep = new double[timeDiscretization.getNumberOfTimeSteps()];
+		final double[] sqrtOfTimeStep = new double[timeDiscretization.getNumberOfTimeSteps()];
 		for(int timeIndex=0; timeIndex<sqrtOfTimeStep.length; timeIndex++) {
 			sqrtOfTimeStep[timeIndex] = Math.sqrt(timeDiscretization.getTimeStep(timeIndex));
 		}   
 
+		// Note: randomNumberGenerator is null for instances serialized by an older version, which used the MersenneTwister64.
+		if(randomNumberGenerator == null || randomNumberGenerator == RandomNumberGenerator.MERSENNE_TWISTER)	doGenerateBrownianIncrementsMersenneTwister(brownianIncrementsArray, sqrtOfTimeStep);
+		else																								doGenerateBrownianIncrementsSplitMix64(brownianIncrementsArray, sqrtOfTimeStep);
+
+		// Allocate memory for RandomVariable wrapper objects.
+		brownianIncrements = new RandomVariable[timeDiscretization.getNumberOfTimeSteps()][numberOfFactors];
+
+		// Wrap the values in RandomVariable objects
+		for(int timeIndex=0; timeIndex<timeDiscretization.getNumberOfTimeSteps(); timeIndex++) {
+			for(int factor=0; factor<numberOfFactors; factor++) {
+				brownianIncrements[timeIndex][factor] = new RandomVariable(timeDiscretization.getTime(timeIndex+1), brownianIncrementsArray[timeIndex][factor]);			
+			}
+		}
+	}
+
+	private void doGenerateBrownianIncrementsMersenneTwister(double[][][] brownianIncrementsArray, double[] sqrtOfTimeStep) {
+		// Create random number sequence generator (we use MersenneTwister64 from colt)
+		MersenneTwister64		mersenneTwister		= new MersenneTwister64(seed);
+
 		/*
 		 * Generate normal distributed independent increments.
 		 * 
@@ -114,24 +194,65 @@ public class BrownianMotion implements BrownianMotionInterface, Serializable {
 		 * MersenneTwister is known to generate "independent" increments in 623 dimensions.
 		 * Since we want to generate independent streams (paths), the loop over path is the outer loop.
 		 */
+		double[] uniforms	= new double[sqrtOfTimeStep.length * numberOfFactors];
+		double[] normals	= new double[uniforms.length];
 		for(int path=0; path<numberOfPaths; path++) {
-			for(int timeIndex=0; timeIndex<timeDiscretization.getNumberOfTimeSteps(); timeIndex++) {
-				double sqrtDeltaT = sqrtOfTimeStep[timeIndex];
-				// Generate uncorrelated Brownian increment
-				for(int factor=0; factor<numberOfFactors; factor++) {
-					double uniformIncement = mersenneTwister.nextDouble();
-					brownianIncrementsArray[timeIndex][factor][path] = net.finmath.functions.NormalDistribution.inverseCumulativeDistribution(uniformIncement) * sqrtDeltaT;
-				}				
-			}
+			for(int i=0; i<uniforms.length; i++) uniforms[i] = mersenneTwister.nextDouble();
+			NormalDistribution.inverseCumulativeDistribution(uniforms, normals);
+			setBrownianIncrementsOfPath(brownianIncrementsArray, path, normals, sqrtOfTimeStep);
 		}
+	}
 
-		// Allocate memory for RandomVariable wrapper objects.
-		brownianIncrements = new RandomVariable[timeDiscretization.getNumberOfTimeSteps()][numberOfFactors];
+	private void doGenerateBrownianIncrementsSplitMix64(final double[][][] brownianIncrementsArray, final double[] sqrtOfTimeStep) {
+		final SplitMix64 generator = new SplitMix64(seed);
 
-		// Wrap the values in RandomVariable objects
-		for(int timeIndex=0; timeIndex<timeDiscretization.getNumberOfTimeSteps(); timeIndex++) {
+		/*
+		 * Each path uses its own range of the sequence (see doGenerateBrownianIncrementsSplitMix64 for a block of paths).
+		 * Blocks of paths are independent units of work.
+		 */
+		final int numberOfPathBlocks	= (numberOfPaths + pathBlockSize - 1) / pathBlockSize;
+
+		try {
+			ParallelExecution.invokeAll(null, numberOfPathBlocks, new ParallelExecution.Task() {
+				@Override
+				public void run(int pathBlock) {
+					doGenerateBrownianIncrementsSplitMix64(generator, pathBlock, brownianIncrementsArray, sqrtOfTimeStep);
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Generation of Brownian increments interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Generation of Brownian increments failed.", e.getCause());
+		}
+	}
+
+	private void doGenerateBrownianIncrementsSplitMix64(SplitMix64 generator, int pathBlock, double[][][] brownianIncrementsArray, double[] sqrtOfTimeStep) {
+		double[] uniforms	= new double[sqrtOfTimeStep.length * numberOfFactors];
+		double[] normals	= new double[uniforms.length];
+
+		for(int path=pathBlock*pathBlockSize; path<Math.min((pathBlock+1)*pathBlockSize, numberOfPaths); path++) {
+			if(randomNumberGenerator == RandomNumberGenerator.SPLITMIX64_ZIGGURAT_PARALLEL) {
+				// The path with index p uses the elements starting at p * 2^32 (the number of elements consumed by the Ziggurat method is random).
+				(new ZigguratNormalGenerator(generator, (long)path << 32)).nextDoubles(normals);
+			}
+			else {
+				// The path with index p uses the elements p * dimension, ..., (p+1) * dimension - 1 of the sequence.
+				generator.getDoubles((long)path * uniforms.length, uniforms);
+				NormalDistribution.inverseCumulativeDistribution(uniforms, normals);
+			}
+			setBrownianIncrementsOfPath(brownianIncrementsArray, path, normals, sqrtOfTimeStep);
+		}
+	}
+
+	/**
+	 * Store the increments of a path, given the standard normal random numbers of the path in the order (time, factor).
+	 */
+	private void setBrownianIncrementsOfPath(double[][][] brownianIncrementsArray, int path, double[] normals, double[] sqrtOfTimeStep) {
+		for(int timeIndex=0; timeIndex<sqrtOfTimeStep.length; timeIndex++) {
+			double sqrtDeltaT = sqrtOfTimeStep[timeIndex];
 			for(int factor=0; factor<numberOfFactors; factor++) {
-				brownianIncrements[timeIndex][factor] = new RandomVariable(timeDiscretization.getTime(timeIndex+1), brownianIncrementsArray[timeIndex][factor]);			
+				brownianIncrementsArray[timeIndex][factor][path] = normals[timeIndex * numberOfFactors + factor] * sqrtDeltaT;
 			}
 		}
 	}
@@ -166,4 +287,11 @@ public class BrownianMotion implements BrownianMotionInterface, Serializable {
 	public int getSeed() {
 		return seed;
 	}
+
+	/**
+	 * @return Returns the random number generator used to generate the increments.
+	 */
+	public RandomNumberGenerator getRandomNumberGenerator() {
+		return randomNumberGenerator;
+	}
 }
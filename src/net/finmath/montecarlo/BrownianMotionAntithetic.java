@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * Provides a Brownian motion with antithetic paths from a given Brownian motion:
+ * the first <i>n</i> paths are the paths of the given Brownian motion <i>W</i>, the paths <i>n</i> to <i>2n-1</i> are the
+ * mirrored paths <i>-W</i>, i.e., path <i>i + n</i> is the antithetic path of path <i>i</i>. The number of paths is <i>2n</i>.
+ *
+ * Note: the paths of this Brownian motion are not independent. The standard error of a Monte-Carlo estimate
+ * (e.g. <code>RandomVariableInterface.getStandardError()</code> as reported by <code>AbstractMonteCarloProduct.getValues</code>)
+ * assumes independent paths and does not show the variance reduction. The error of an estimate is given by the standard error of the
+ * <i>n</i> averages of the pairs of antithetic paths (or by the standard deviation of estimates for different seeds).
+ *
+ * The class is thread safe. It uses lazy initialization, the increments are calculated on first request and cached.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BrownianMotionAntithetic implements BrownianMotionInterface {
+
+	private final BrownianMotionInterface	brownianMotion;
+
+	private RandomVariableInterface[][]		brownianIncrements;
+
+	/**
+	 * Create a Brownian motion with antithetic paths from a given Brownian motion.
+	 *
+	 * @param brownianMotion The Brownian motion providing the first half of the paths.
+	 */
+	public BrownianMotionAntithetic(BrownianMotionInterface brownianMotion) {
+		super();
+		this.brownianMotion		= brownianMotion;
+
+		this.brownianIncrements	= null; 	// Lazy initialization
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getBrownianIncrement(int, int)
+	 */
+	@Override
+	public RandomVariableInterface getBrownianIncrement(int timeIndex, int factor) {
+		// Thread safe lazy initialization
+		synchronized(this) {
+			if(brownianIncrements == null) brownianIncrements = new RandomVariableInterface[getTimeDiscretization().getNumberOfTimeSteps()][getNumberOfFactors()];
+			if(brownianIncrements[timeIndex][factor] == null) {
+				RandomVariableInterface brownianIncrement = brownianMotion.getBrownianIncrement(timeIndex, factor);
+
+				int numberOfPaths = brownianMotion.getNumberOfPaths();
+				double[] realizations			= brownianIncrement.getRealizations(numberOfPaths);
+				double[] antitheticRealizations	= new double[2 * numberOfPaths];
+				for(int path=0; path<numberOfPaths; path++) {
+					antitheticRealizations[path]				= realizations[path];
+					antitheticRealizations[path+numberOfPaths]	= -realizations[path];
+				}
+
+				brownianIncrements[timeIndex][factor] = new RandomVariable(brownianIncrement.getFiltrationTime(), antitheticRealizations);
+			}
+		}
+
+		return brownianIncrements[timeIndex][factor];
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getTimeDiscretization()
+	 */
+	@Override
+	public TimeDiscretizationInterface getTimeDiscretization() {
+		return brownianMotion.getTimeDiscretization();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfFactors()
+	 */
+	@Override
+	public int getNumberOfFactors() {
+		return brownianMotion.getNumberOfFactors();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfPaths()
+	 */
+	@Override
+	public int getNumberOfPaths() {
+		return 2 * brownianMotion.getNumberOfPaths();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getCloneWithModifiedSeed(int)
+	 */
+	@Override
+	public BrownianMotionInterface getCloneWithModifiedSeed(int seed) {
+		return new BrownianMotionAntithetic(brownianMotion.getCloneWithModifiedSeed(seed));
+	}
+
+	/**
+	 * @return The Brownian motion providing the first half of the paths.
+	 */
+	public BrownianMotionInterface getBrownianMotion() {
+		return brownianMotion;
+	}
+}
@@ -0,0 +1,326 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * A Brownian motion with an on-disk cache of its increments: the increments of a
+ * <code>BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths, seed, randomNumberGenerator)</code>
+ * are generated once and stored in a file in the given cache directory. Later instances with the same specification
+ * (in the same or in another JVM) read the increments from the file instead of generating them.
+ *
+ * The file name consists of the name of the random number generator, the version of the generator algorithms
+ * ({@link BrownianMotion#generatorAlgorithmVersion}) and a hash of the remaining specification (the times of the time discretization,
+ * the number of factors, the number of paths and the seed). Hence, the cache does not depend on the order of the constants of
+ * {@link BrownianMotion.RandomNumberGenerator} and a change of the generator algorithms does not reuse outdated files.
+ * The file header contains the complete specification, which is compared on reading, such that a hash collision,
+ * a file of a different version or a corrupted file results in a regeneration (overwriting the file).
+ *
+ * The file is read through memory mapping, time slice by time slice, into the heap (the increments are used repeatedly
+ * by a simulation, where arrays on the heap are faster than views on the mapped file). A new file is written to a temporary file
+ * which is then renamed, such that concurrent processes never read a partially written file. If the file cannot be written,
+ * the generated increments are used without caching.
+ *
+ * The file layout is (all values in native byte order):
+ * <ul>
+ * 	<li>a header of 8 ints: magic number, version, number of times, number of factors, number of paths, seed, hash code of the name of the random number generator, version of the generator algorithms,</li>
+ * 	<li>the times of the time discretization (<code>double[numberOfTimes]</code>),</li>
+ * 	<li>the increments, <code>numberOfPaths</code> doubles for each time index and each factor.</li>
+ * </ul>
+ *
+ * The class is immutable and thread safe. It uses lazy initialization.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BrownianMotionFileCache implements BrownianMotionInterface {
+
+	private static final int	magicNumber		= 0x464D424D;
+	private static final int	version			= 2;
+
+	private static final int	headerSize		= 8 * 4;
+
+	private final File									cacheDirectory;
+	private final TimeDiscretizationInterface			timeDiscretization;
+	private final int									numberOfFactors;
+	private final int									numberOfPaths;
+	private final int									seed;
+	private final BrownianMotion.RandomNumberGenerator	randomNumberGenerator;
+
+	private RandomVariableInterface[][]	brownianIncrements;
+
+	/**
+	 * Construct a Brownian motion with an on-disk cache of its increments.
+	 *
+	 * @param cacheDirectory The directory of the cache files (has to exist).
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate.
+	 * @param seed The seed of the random number generator.
+	 * @param randomNumberGenerator The random number generator used to generate the increments.
+	 */
+	public BrownianMotionFileCache(
+			File cacheDirectory,
+			TimeDiscretizationInterface timeDiscretization,
+			int numberOfFactors,
+			int numberOfPaths,
+			int seed,
+			BrownianMotion.RandomNumberGenerator randomNumberGenerator) {
+		super();
+		this.cacheDirectory			= cacheDirectory;
+		this.timeDiscretization		= timeDiscretization;
+		this.numberOfFactors		= numberOfFactors;
+		this.numberOfPaths			= numberOfPaths;
+		this.seed					= seed;
+		this.randomNumberGenerator	= randomNumberGenerator;
+
+		this.brownianIncrements		= null; 	// Lazy initialization
+	}
+
+	/**
+	 * Construct a Brownian motion with an on-disk cache of its increments, using a <code>MersenneTwister64</code>.
+	 *
+	 * @param cacheDirectory The directory of the cache files (has to exist).
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate.
+	 * @param seed The seed of the random number generator.
+	 */
+	public BrownianMotionFileCache(
+			File cacheDirectory,
+			TimeDiscretizationInterface timeDiscretization,
+			int numberOfFactors,
+			int numberOfPaths,
+			int seed) {
+		this(cacheDirectory, timeDiscretization, numberOfFactors, numberOfPaths, seed, BrownianMotion.RandomNumberGenerator.MERSENNE_TWISTER);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getCloneWithModifiedSeed(int)
+	 */
+	@Override
+	public BrownianMotionInterface getCloneWithModifiedSeed(int seed) {
+		return new BrownianMotionFileCache(cacheDirectory, getTimeDiscretization(), getNumberOfFactors(), getNumberOfPaths(), seed, randomNumberGenerator);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getBrownianIncrement(int, int)
+	 */
+	@Override
+	public RandomVariableInterface getBrownianIncrement(int timeIndex, int factor) {
+		// Thread safe lazy initialization
+		synchronized(this) {
+			if(brownianIncrements == null) doGenerateBrownianMotion();
+		}
+
+		/*
+		 *  For performance reasons we return directly the stored data (no defensive copy).
+		 *  We return an immutable object to ensure that the receiver does not alter the data.
+		 */
+		return brownianIncrements[timeIndex][factor];
+	}
+
+	/**
+	 * Lazy initialization of brownianIncrement: read the cache file or generate the increments and write the cache file.
+	 * Synchronized to ensure thread safety of lazy init.
+	 */
+	private void doGenerateBrownianMotion() {
+		if(brownianIncrements != null) return;	// Nothing to do
+
+		File file = getCacheFile();
+		if(file.exists()) {
+			try {
+				brownianIncrements = readCacheFile(file);
+				if(brownianIncrements != null) return;
+			} catch (IOException e) {
+				// The file is not readable (e.g. truncated), it will be regenerated.
+			}
+		}
+
+		BrownianMotion brownianMotion = new BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths, seed, randomNumberGenerator);
+		RandomVariableInterface[][] brownianIncrements = new RandomVariableInterface[timeDiscretization.getNumberOfTimeSteps()][numberOfFactors];
+		for(int timeIndex=0; timeIndex<brownianIncrements.length; timeIndex++) {
+			for(int factor=0; factor<numberOfFactors; factor++) {
+				brownianIncrements[timeIndex][factor] = brownianMotion.getBrownianIncrement(timeIndex, factor);
+			}
+		}
+
+		try {
+			writeCacheFile(file, brownianIncrements);
+		} catch (IOException e) {
+			// The cache is an optimization only: the generated increments are used without caching.
+		}
+
+		this.brownianIncrements = brownianIncrements;
+	}
+
+	/**
+	 * Returns the cache file for the specification of this Brownian motion.
+	 *
+	 * @return The cache file (which may not exist).
+	 */
+	public File getCacheFile() {
+		// 64 bit FNV-1a hash of the specification
+		long hash = 0xcbf29ce484222325L;
+		for(int timeIndex=0; timeIndex<timeDiscretization.getNumberOfTimes(); timeIndex++) {
+			hash = (hash ^ Double.doubleToLongBits(timeDiscretization.getTime(timeIndex))) * 0x100000001b3L;
+		}
+		hash = (hash ^ numberOfFactors) * 0x100000001b3L;
+		hash = (hash ^ numberOfPaths) * 0x100000001b3L;
+		hash = (hash ^ seed) * 0x100000001b3L;
+
+		return new File(cacheDirectory, "brownianmotion-" + randomNumberGenerator.name().toLowerCase() + "-v" + BrownianMotion.generatorAlgorithmVersion + "-" + String.format("%016x", hash) + ".bin");
+	}
+
+	private RandomVariableInterface[][] readCacheFile(File file) throws IOException {
+		int numberOfTimes		= timeDiscretization.getNumberOfTimes();
+		int numberOfTimeSteps	= timeDiscretization.getNumberOfTimeSteps();
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			if(channel.size() != getFileSize()) return null;
+
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, getDataOffset()).order(ByteOrder.nativeOrder());
+			if(header.getInt() != magicNumber || header.getInt() != version
+					|| header.getInt() != numberOfTimes || header.getInt() != numberOfFactors || header.getInt() != numberOfPaths
+					|| header.getInt() != seed || header.getInt() != randomNumberGenerator.name().hashCode()
+					|| header.getInt() != BrownianMotion.generatorAlgorithmVersion) return null;
+			for(int timeIndex=0; timeIndex<numberOfTimes; timeIndex++) {
+				if(Double.doubleToLongBits(header.getDouble()) != Double.doubleToLongBits(timeDiscretization.getTime(timeIndex))) return null;
+			}
+
+			RandomVariableInterface[][] brownianIncrements = new RandomVariableInterface[numberOfTimeSteps][numberOfFactors];
+			for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+				DoubleBuffer timeSlice = channel.map(FileChannel.MapMode.READ_ONLY, getDataOffset() + timeIndex * getTimeSliceSize(), getTimeSliceSize())
+						.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+				for(int factor=0; factor<numberOfFactors; factor++) {
+					double[] realizations = new double[numberOfPaths];
+					timeSlice.get(realizations);
+					brownianIncrements[timeIndex][factor] = new RandomVariable(timeDiscretization.getTime(timeIndex+1), realizations);
+				}
+			}
+			return brownianIncrements;
+		}
+		finally {
+			randomAccessFile.close();
+		}
+	}
+
+	private void writeCacheFile(File file, RandomVariableInterface[][] brownianIncrements) throws IOException {
+		int numberOfTimes		= timeDiscretization.getNumberOfTimes();
+		int numberOfTimeSteps	= timeDiscretization.getNumberOfTimeSteps();
+
+		File temporaryFile = File.createTempFile("brownianmotion-", ".tmp", cacheDirectory);
+		try {
+			RandomAccessFile randomAccessFile = new RandomAccessFile(temporaryFile, "rw");
+			try {
+				FileChannel channel = randomAccessFile.getChannel();
+
+				ByteBuffer header = ByteBuffer.allocate((int)getDataOffset()).order(ByteOrder.nativeOrder());
+				header.putInt(magicNumber);
+				header.putInt(version);
+				header.putInt(numberOfTimes);
+				header.putInt(numberOfFactors);
+				header.putInt(numberOfPaths);
+				header.putInt(seed);
+				header.putInt(randomNumberGenerator.name().hashCode());
+				header.putInt(BrownianMotion.generatorAlgorithmVersion);
+				for(int timeIndex=0; timeIndex<numberOfTimes; timeIndex++) header.putDouble(timeDiscretization.getTime(timeIndex));
+				header.flip();
+				while(header.hasRemaining()) channel.write(header);
+
+				ByteBuffer timeSlice = ByteBuffer.allocate((int)getTimeSliceSize()).order(ByteOrder.nativeOrder());
+				for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+					timeSlice.clear();
+					DoubleBuffer timeSliceValues = timeSlice.asDoubleBuffer();
+					for(int factor=0; factor<numberOfFactors; factor++) timeSliceValues.put(brownianIncrements[timeIndex][factor].getRealizations(numberOfPaths));
+					while(timeSlice.hasRemaining()) channel.write(timeSlice);
+				}
+				channel.force(false);
+			}
+			finally {
+				randomAccessFile.close();
+			}
+
+			if(!temporaryFile.renameTo(file)) {
+				// Some platforms do not replace an existing file
+				file.delete();
+				if(!temporaryFile.renameTo(file)) throw new IOException("Unable to rename " + temporaryFile + " to " + file + ".");
+			}
+		}
+		finally {
+			temporaryFile.delete();
+		}
+	}
+
+	private long getDataOffset() {
+		return headerSize + timeDiscretization.getNumberOfTimes() * 8L;
+	}
+
+	private long getTimeSliceSize() {
+		return (long)numberOfFactors * numberOfPaths * 8L;
+	}
+
+	private long getFileSize() {
+		return getDataOffset() + timeDiscretization.getNumberOfTimeSteps() * getTimeSliceSize();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getTimeDiscretization()
+	 */
+	@Override
+	public TimeDiscretizationInterface getTimeDiscretization() {
+		return timeDiscretization;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfFactors()
+	 */
+	@Override
+	public int getNumberOfFactors() {
+		return numberOfFactors;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfPaths()
+	 */
+	@Override
+	public int getNumberOfPaths() {
+		return numberOfPaths;
+	}
+
+	/**
+	 * @return Returns the seed.
+	 */
+	public int getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return Returns the random number generator used to generate the increments.
+	 */
+	public BrownianMotion.RandomNumberGenerator getRandomNumberGenerator() {
+		return randomNumberGenerator;
+	}
+
+	/**
+	 * @return Returns the directory of the cache files.
+	 */
+	public File getCacheDirectory() {
+		return cacheDirectory;
+	}
+}
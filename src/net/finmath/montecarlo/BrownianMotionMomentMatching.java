@@ -0,0 +1,106 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * Provides a Brownian motion with matched moments from a given Brownian motion: each increment
+ * <i>&Delta;W(t<sub>i</sub>)</i> of each factor is re-centered and re-scaled, such that its sample mean is exactly 0 and its sample variance
+ * (the average of the squares) is exactly <i>&Delta;t<sub>i</sub> = t<sub>i+1</sub> - t<sub>i</sub></i>, i.e., the increment is
+ * <i>(&Delta;U(t<sub>i</sub>) - m) &middot; sqrt(&Delta;t<sub>i</sub> / v)</i>, where <i>m</i> and <i>v</i> are the sample mean and sample variance of the
+ * increment <i>&Delta;U(t<sub>i</sub>)</i> of the given Brownian motion.
+ *
+ * Note: the moment matching introduces a (small) dependence between the paths and a bias of order <i>1/n</i> for non linear functionals.
+ * The standard error of a Monte-Carlo estimate (which assumes independent paths) is only an approximation of the error, the error may be estimated
+ * from the standard deviation of estimates for different seeds.
+ *
+ * The class is thread safe. It uses lazy initialization, the increments are calculated on first request and cached.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BrownianMotionMomentMatching implements BrownianMotionInterface {
+
+	private final BrownianMotionInterface	brownianMotion;
+
+	private RandomVariableInterface[][]		brownianIncrements;
+
+	/**
+	 * Create a Brownian motion with matched moments from a given Brownian motion.
+	 *
+	 * @param brownianMotion The Brownian motion providing the increments <i>&Delta;U</i> which are re-centered and re-scaled.
+	 */
+	public BrownianMotionMomentMatching(BrownianMotionInterface brownianMotion) {
+		super();
+		this.brownianMotion		= brownianMotion;
+
+		this.brownianIncrements	= null; 	// Lazy initialization
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getBrownianIncrement(int, int)
+	 */
+	@Override
+	public RandomVariableInterface getBrownianIncrement(int timeIndex, int factor) {
+		// Thread safe lazy initialization
+		synchronized(this) {
+			if(brownianIncrements == null) brownianIncrements = new RandomVariableInterface[getTimeDiscretization().getNumberOfTimeSteps()][getNumberOfFactors()];
+			if(brownianIncrements[timeIndex][factor] == null) {
+				RandomVariableInterface brownianIncrement = brownianMotion.getBrownianIncrement(timeIndex, factor);
+
+				double mean		= brownianIncrement.getAverage();
+				double variance	= brownianIncrement.getVariance();
+				double timeStep	= getTimeDiscretization().getTimeStep(timeIndex);
+
+				RandomVariableInterface centeredBrownianIncrement = brownianIncrement.sub(mean);
+				brownianIncrements[timeIndex][factor] = variance > 0 ? centeredBrownianIncrement.mult(Math.sqrt(timeStep / variance)) : centeredBrownianIncrement;
+			}
+		}
+
+		return brownianIncrements[timeIndex][factor];
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getTimeDiscretization()
+	 */
+	@Override
+	public TimeDiscretizationInterface getTimeDiscretization() {
+		return brownianMotion.getTimeDiscretization();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfFactors()
+	 */
+	@Override
+	public int getNumberOfFactors() {
+		return brownianMotion.getNumberOfFactors();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfPaths()
+	 */
+	@Override
+	public int getNumberOfPaths() {
+		return brownianMotion.getNumberOfPaths();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getCloneWithModifiedSeed(int)
+	 */
+	@Override
+	public BrownianMotionInterface getCloneWithModifiedSeed(int seed) {
+		return new BrownianMotionMomentMatching(brownianMotion.getCloneWithModifiedSeed(seed));
+	}
+
+	/**
+	 * @return The Brownian motion providing the increments which are re-centered and re-scaled.
+	 */
+	public BrownianMotionInterface getBrownianMotion() {
+		return brownianMotion;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * A process wide registry of <code>BrownianMotion</code> objects, keyed by their specification
+ * (the times of the time discretization, the number of factors, the number of paths, the seed and the random number generator).
+ *
+ * Since <code>BrownianMotion</code> is immutable, the same instance (and its generated increments) may be shared by all
+ * users of the same specification, e.g., by a calibration, the subsequent pricing and the calculation of sensitivities.
+ *
+ * The registry uses reference counting: {@link #acquire(TimeDiscretizationInterface, int, int, int, BrownianMotion.RandomNumberGenerator)}
+ * returns the registered instance (creating and registering it if required) and increments its reference count,
+ * {@link #release(BrownianMotionInterface)} decrements the reference count and removes the instance from the registry if the count drops to zero.
+ * A removed instance remains valid for its holders (it is reclaimed by the garbage collector once it is no longer referenced).
+ *
+ * While an instance is registered, {@link BrownianMotion#getCloneWithModifiedSeed(int)} returns the registered instance
+ * for the same specification, such that the clones created for different seeds share the increments as well.
+ *
+ * The class is thread safe.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BrownianMotionRegistry {
+
+	private static final Map<Specification, Entry> entries = new HashMap<Specification, Entry>();
+
+	/**
+	 * The specification of a <code>BrownianMotion</code>, used as key of the registry.
+	 */
+	private static class Specification {
+		private final double[]	times;
+		private final int		numberOfFactors;
+		private final int		numberOfPaths;
+		private final int		seed;
+		private final BrownianMotion.RandomNumberGenerator	randomNumberGenerator;
+
+		Specification(TimeDiscretizationInterface timeDiscretization, int numberOfFactors, int numberOfPaths, int seed, BrownianMotion.RandomNumberGenerator randomNumberGenerator) {
+			this.times = new double[timeDiscretization.getNumberOfTimes()];
+			for(int timeIndex=0; timeIndex<times.length; timeIndex++) times[timeIndex] = timeDiscretization.getTime(timeIndex);
+			this.numberOfFactors		= numberOfFactors;
+			this.numberOfPaths			= numberOfPaths;
+			this.seed					= seed;
+			// Note: randomNumberGenerator is null for instances serialized by an older version, which used the MersenneTwister64.
+			this.randomNumberGenerator	= randomNumberGenerator != null ? randomNumberGenerator : BrownianMotion.RandomNumberGenerator.MERSENNE_TWISTER;
+		}
+
+		Specification(BrownianMotion brownianMotion) {
+			this(brownianMotion.getTimeDiscretization(), brownianMotion.getNumberOfFactors(), brownianMotion.getNumberOfPaths(), brownianMotion.getSeed(), brownianMotion.getRandomNumberGenerator());
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if(!(object instanceof Specification)) return false;
+			Specification specification = (Specification)object;
+			return numberOfFactors == specification.numberOfFactors && numberOfPaths == specification.numberOfPaths && seed == specification.seed
+					&& randomNumberGenerator == specification.randomNumberGenerator && Arrays.equals(times, specification.times);
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = Arrays.hashCode(times);
+			hashCode = 31 * hashCode + numberOfFactors;
+			hashCode = 31 * hashCode + numberOfPaths;
+			hashCode = 31 * hashCode + seed;
+			hashCode = 31 * hashCode + randomNumberGenerator.hashCode();
+			return hashCode;
+		}
+	}
+
+	private static class Entry {
+		private final BrownianMotion	brownianMotion;
+		private int						referenceCount;
+
+		Entry(BrownianMotion brownianMotion) {
+			this.brownianMotion	= brownianMotion;
+			this.referenceCount	= 0;
+		}
+	}
+
+	private BrownianMotionRegistry() {
+	}
+
+	/**
+	 * Returns the registered Brownian motion with the given specification, creating and registering it if required,
+	 * and increments its reference count. Each call has to be matched by a call of {@link #release(BrownianMotionInterface)}.
+	 *
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate.
+	 * @param seed The seed of the random number generator.
+	 * @param randomNumberGenerator The random number generator used to generate the increments.
+	 * @return The Brownian motion.
+	 */
+	public static synchronized BrownianMotion acquire(TimeDiscretizationInterface timeDiscretization, int numberOfFactors, int numberOfPaths, int seed, BrownianMotion.RandomNumberGenerator randomNumberGenerator) {
+		Specification specification = new Specification(timeDiscretization, numberOfFactors, numberOfPaths, seed, randomNumberGenerator);
+		Entry entry = entries.get(specification);
+		if(entry == null) {
+			entry = new Entry(new BrownianMotion(timeDiscretization, numberOfFactors, numberOfPaths, seed, specification.randomNumberGenerator));
+			entries.put(specification, entry);
+		}
+		entry.referenceCount++;
+		return entry.brownianMotion;
+	}
+
+	/**
+	 * Returns the registered Brownian motion with the given specification, using a <code>MersenneTwister64</code>,
+	 * creating and registering it if required, and increments its reference count.
+	 *
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate.
+	 * @param seed The seed of the random number generator.
+	 * @return The Brownian motion.
+	 */
+	public static BrownianMotion acquire(TimeDiscretizationInterface timeDiscretization, int numberOfFactors, int numberOfPaths, int seed) {
+		return acquire(timeDiscretization, numberOfFactors, numberOfPaths, seed, BrownianMotion.RandomNumberGenerator.MERSENNE_TWISTER);
+	}
+
+	/**
+	 * Decrements the reference count of a Brownian motion obtained from {@link #acquire(TimeDiscretizationInterface, int, int, int, BrownianMotion.RandomNumberGenerator)}
+	 * and removes it from the registry if the count drops to zero. Objects which are not registered are ignored.
+	 *
+	 * @param brownianMotion The Brownian motion.
+	 */
+	public static synchronized void release(BrownianMotionInterface brownianMotion) {
+		if(!(brownianMotion instanceof BrownianMotion)) return;
+
+		Specification specification = new Specification((BrownianMotion)brownianMotion);
+		Entry entry = entries.get(specification);
+		if(entry == null || entry.brownianMotion != brownianMotion) return;
+
+		entry.referenceCount--;
+		if(entry.referenceCount <= 0) entries.remove(specification);
+	}
+
+	/**
+	 * Returns the registered Brownian motion with the given specification (without changing its reference count).
+	 *
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate.
+	 * @param seed The seed of the random number generator.
+	 * @param randomNumberGenerator The random number generator used to generate the increments.
+	 * @return The registered Brownian motion or null if there is no registered Brownian motion with this specification.
+	 */
+	public static synchronized BrownianMotion get(TimeDiscretizationInterface timeDiscretization, int numberOfFactors, int numberOfPaths, int seed, BrownianMotion.RandomNumberGenerator randomNumberGenerator) {
+		if(entries.isEmpty()) return null;
+
+		Entry entry = entries.get(new Specification(timeDiscretization, numberOfFactors, numberOfPaths, seed, randomNumberGenerator));
+		return entry != null ? entry.brownianMotion : null;
+	}
+
+	/**
+	 * @return The number of registered Brownian motions.
+	 */
+	public static synchronized int size() {
+		return entries.size();
+	}
+}
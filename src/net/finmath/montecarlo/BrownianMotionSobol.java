@@ -0,0 +1,269 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.io.Serializable;
+import java.util.LinkedList;
+
+import net.finmath.functions.NormalDistribution;
+import net.finmath.randomnumbers.SobolSequence;
+import net.finmath.randomnumbers.SplitMix64;
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * Implementation of a time-discrete n-dimensional Brownian motion
+ * <i>W = (W<sub>1</sub>,...,W<sub>n</sub>)</i> where <i>W<sub>i</sub></i> is
+ * a Brownian motion and <i>W<sub>i</sub></i>, <i>W<sub>j</sub></i> are
+ * independent for <i>i</i> not equal <i>j</i>, generated from a Sobol sequence (quasi Monte-Carlo).
+ *
+ * The path i uses the i-th point of a Sobol sequence of dimension
+ * <i>numberOfTimeSteps &times; numberOfFactors</i>. The paths are constructed by a Brownian bridge:
+ * the first coordinates (which have the best uniformity) determine <i>W(T)</i> at the last time <i>T</i> of the time discretization,
+ * the following coordinates determine the mid points of the intervals, bisecting the time discretization level by level.
+ * The coordinate <i>k &middot; numberOfFactors + j</i> is used for the k-th point of the bridge of factor j.
+ * Hence the large scale movements of the paths are determined by the first coordinates.
+ * If <i>numberOfTimeSteps &times; numberOfFactors</i> exceeds the maximum dimension of the Sobol sequence
+ * (see {@link net.finmath.randomnumbers.SobolSequence#getMaximumDimension()}), the remaining coordinates, which determine only
+ * the finest levels of the bridges, are padded with pseudo random numbers (<code>SplitMix64</code>).
+ *
+ * Since the error of a quasi Monte-Carlo integration is bounded only for a number of paths being
+ * a power of two, the number of paths should be a power of two. If the Brownian motion is constructed with a seed,
+ * the Sobol sequence is randomized by a digital shift, such that different seeds (see {@link #getCloneWithModifiedSeed(int)})
+ * give independent estimates of the same integral (randomized quasi Monte-Carlo).
+ *
+ * The class is immutable and thread safe. It uses lazy initialization.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BrownianMotionSobol implements BrownianMotionInterface, Serializable {
+
+	private static final long serialVersionUID = 2731683917346120837L;
+
+	private static final int	pathBlockSize		= 1024;		// Number of Sobol points generated at once
+
+	private final TimeDiscretizationInterface	timeDiscretization;
+
+	private final int			numberOfFactors;
+	private final int			numberOfPaths;
+	private final int			seed;
+	private final boolean		isRandomized;
+
+	private transient RandomVariableInterface[][]	brownianIncrements;
+
+	/**
+	 * Construct a Brownian motion from a Sobol sequence randomized by a digital shift.
+	 *
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate (should be a power of two).
+	 * @param seed The seed of the random digital shift.
+	 */
+	public BrownianMotionSobol(
+			TimeDiscretizationInterface timeDiscretization,
+			int numberOfFactors,
+			int numberOfPaths,
+			int seed) {
+		this(timeDiscretization, numberOfFactors, numberOfPaths, seed, true);
+	}
+
+	/**
+	 * Construct a Brownian motion from a (non randomized) Sobol sequence.
+	 *
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate (should be a power of two).
+	 */
+	public BrownianMotionSobol(
+			TimeDiscretizationInterface timeDiscretization,
+			int numberOfFactors,
+			int numberOfPaths) {
+		this(timeDiscretization, numberOfFactors, numberOfPaths, 0, false);
+	}
+
+	private BrownianMotionSobol(
+			TimeDiscretizationInterface timeDiscretization,
+			int numberOfFactors,
+			int numberOfPaths,
+			int seed,
+			boolean isRandomized) {
+		super();
+		this.timeDiscretization = timeDiscretization;
+		this.numberOfFactors	= numberOfFactors;
+		this.numberOfPaths		= numberOfPaths;
+		this.seed				= seed;
+		this.isRandomized		= isRandomized;
+
+		this.brownianIncrements	= null; 	// Lazy initialization
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getCloneWithModifiedSeed(int)
+	 */
+	@Override
+	public BrownianMotionInterface getCloneWithModifiedSeed(int seed) {
+		return new BrownianMotionSobol(getTimeDiscretization(), getNumberOfFactors(), getNumberOfPaths(), seed, true);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getBrownianIncrement(int, int)
+	 */
+	@Override
+	public RandomVariableInterface getBrownianIncrement(int timeIndex, int factor) {
+		// Thread safe lazy initialization
+		synchronized(this) {
+			if(brownianIncrements == null) doGenerateBrownianMotion();
+		}
+
+		/*
+		 *  For performance reasons we return directly the stored data (no defensive copy).
+		 *  We return an immutable object to ensure that the receiver does not alter the data.
+		 */
+		return brownianIncrements[timeIndex][factor];
+	}
+
+	/**
+	 * Lazy initialization of brownianIncrement. Synchronized to ensure thread safety of lazy init.
+	 */
+	private void doGenerateBrownianMotion() {
+		if(brownianIncrements != null) return;	// Nothing to do
+
+		int numberOfTimeSteps = timeDiscretization.getNumberOfTimeSteps();
+
+		/*
+		 * The Brownian bridge: the k-th point of the bridge is W(t_{bridgeIndex[k]}), constructed from the points
+		 * W(t_{leftIndex[k]}) and W(t_{rightIndex[k]}) (already constructed), a normal increment with
+		 * standard deviation bridgeStandardDeviation[k] and the weights of the linear interpolation.
+		 * The first point is W(T) (its left point is W(t_0) = 0, its right weight is 0).
+		 */
+		int[]		bridgeIndex				= new int[numberOfTimeSteps];
+		int[]		leftIndex				= new int[numberOfTimeSteps];
+		int[]		rightIndex				= new int[numberOfTimeSteps];
+		double[]	leftWeight				= new double[numberOfTimeSteps];
+		double[]	rightWeight				= new double[numberOfTimeSteps];
+		double[]	bridgeStandardDeviation	= new double[numberOfTimeSteps];
+
+		bridgeIndex[0]				= numberOfTimeSteps;
+		leftIndex[0]				= 0;
+		rightIndex[0]				= 0;
+		leftWeight[0]				= 1.0;
+		rightWeight[0]				= 0.0;
+		bridgeStandardDeviation[0]	= Math.sqrt(timeDiscretization.getTime(numberOfTimeSteps) - timeDiscretization.getTime(0));
+
+		// Bisect the intervals level by level (breadth first)
+		LinkedList<int[]> intervals = new LinkedList<int[]>();
+		intervals.add(new int[] { 0, numberOfTimeSteps });
+		int bridgePoint = 1;
+		while(!intervals.isEmpty()) {
+			int[] interval = intervals.removeFirst();
+			int left	= interval[0];
+			int right	= interval[1];
+			if(right - left < 2) continue;
+
+			int middle = (left + right) / 2;
+			double timeLeft		= timeDiscretization.getTime(left);
+			double timeMiddle	= timeDiscretization.getTime(middle);
+			double timeRight	= timeDiscretization.getTime(right);
+
+			bridgeIndex[bridgePoint]				= middle;
+			leftIndex[bridgePoint]					= left;
+			rightIndex[bridgePoint]					= right;
+			leftWeight[bridgePoint]					= (timeRight - timeMiddle) / (timeRight - timeLeft);
+			rightWeight[bridgePoint]				= (timeMiddle - timeLeft) / (timeRight - timeLeft);
+			bridgeStandardDeviation[bridgePoint]	= Math.sqrt((timeMiddle - timeLeft) * (timeRight - timeMiddle) / (timeRight - timeLeft));
+			bridgePoint++;
+
+			intervals.add(new int[] { left, middle });
+			intervals.add(new int[] { middle, right });
+		}
+
+		int dimension		= numberOfTimeSteps * numberOfFactors;
+		int sobolDimension	= Math.min(dimension, SobolSequence.getMaximumDimension());
+		SobolSequence sobolSequence = isRandomized ?
+				new SobolSequence(sobolDimension, seed) : new SobolSequence(sobolDimension);
+
+		// The coordinates beyond the dimension of the Sobol sequence are pseudo random (the key differs from the keys of the digital shifts)
+		SplitMix64 padding = new SplitMix64(seed + (1L << 32));
+
+		// Allocate memory
+		double[][][] brownianIncrementsArray = new double[numberOfTimeSteps][numberOfFactors][numberOfPaths];
+
+		double[][]	points			= new double[Math.min(pathBlockSize, numberOfPaths)][dimension];
+		double[]	normals			= new double[dimension];
+		double[]	brownianMotion	= new double[numberOfTimeSteps+1];
+		for(int firstPath=0; firstPath<numberOfPaths; firstPath+=points.length) {
+			if(numberOfPaths - firstPath < points.length) points = new double[numberOfPaths - firstPath][dimension];
+			sobolSequence.getPoints(firstPath, points);
+
+			for(int pathInBlock=0; pathInBlock<points.length; pathInBlock++) {
+				int path = firstPath + pathInBlock;
+				for(int i=sobolDimension; i<dimension; i++) points[pathInBlock][i] = padding.getDouble((long)path * dimension + i);
+				NormalDistribution.inverseCumulativeDistribution(points[pathInBlock], normals);
+				for(int factor=0; factor<numberOfFactors; factor++) {
+					// Construct the path of the factor by the Brownian bridge
+					brownianMotion[0] = 0.0;
+					for(int k=0; k<numberOfTimeSteps; k++) {
+						double normal = normals[k * numberOfFactors + factor];
+						brownianMotion[bridgeIndex[k]] = leftWeight[k] * brownianMotion[leftIndex[k]] + rightWeight[k] * brownianMotion[rightIndex[k]] + bridgeStandardDeviation[k] * normal;
+					}
+
+					for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+						brownianIncrementsArray[timeIndex][factor][path] = brownianMotion[timeIndex+1] - brownianMotion[timeIndex];
+					}
+				}
+			}
+		}
+
+		// Allocate memory for RandomVariable wrapper objects.
+		brownianIncrements = new RandomVariable[numberOfTimeSteps][numberOfFactors];
+
+		// Wrap the values in RandomVariable objects
+		for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+			for(int factor=0; factor<numberOfFactors; factor++) {
+				brownianIncrements[timeIndex][factor] = new RandomVariable(timeDiscretization.getTime(timeIndex+1), brownianIncrementsArray[timeIndex][factor]);
+			}
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getTimeDiscretization()
+	 */
+	@Override
+	public TimeDiscretizationInterface getTimeDiscretization() {
+		return timeDiscretization;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfFactors()
+	 */
+	@Override
+	public int getNumberOfFactors() {
+		return numberOfFactors;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfPaths()
+	 */
+	@Override
+	public int getNumberOfPaths() {
+		return numberOfPaths;
+	}
+
+	/**
+	 * @return Returns the seed of the digital shift.
+	 */
+	public int getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return True, if the Sobol sequence is randomized by a digital shift.
+	 */
+	public boolean isRandomized() {
+		return isRandomized;
+	}
+}
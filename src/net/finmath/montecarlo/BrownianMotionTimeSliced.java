@@ -0,0 +1,223 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.io.Serializable;
+import java.util.concurrent.ExecutionException;
+
+import net.finmath.functions.NormalDistribution;
+import net.finmath.randomnumbers.SplitMix64;
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * Implementation of a time-discrete n-dimensional Brownian motion
+ * <i>W = (W<sub>1</sub>,...,W<sub>n</sub>)</i> where <i>W<sub>i</sub></i> is
+ * a Brownian motion and <i>W<sub>i</sub></i>, <i>W<sub>j</sub></i> are
+ * independent for <i>i</i> not equal <i>j</i>, which generates the increments time slice by time slice.
+ *
+ * The increments of a time step (all factors and paths) are generated when one of them is requested for the first time.
+ * The random numbers are taken from the counter based generator <code>SplitMix64</code>, where the increment of path <i>p</i>,
+ * time index <i>i</i> and factor <i>j</i> uses the element <i>(p &middot; numberOfTimeSteps + i) &middot; numberOfFactors + j</i>
+ * of the sequence. Hence each time slice can be generated independently of the others and the increments are identical to those of
+ * <code>BrownianMotion</code> using <code>RandomNumberGenerator.SPLITMIX64_PARALLEL</code> (with the same seed).
+ *
+ * If the time slices are discarded after use, the Brownian motion keeps only the slice of the time step requested last:
+ * a request for time index <i>i</i> discards the slices of all time indices less than <i>i</i>. This is suitable for a
+ * simulation consuming the increments forward in time (like <code>ProcessEulerScheme</code>), where the memory requirement then
+ * is <i>O(numberOfFactors &times; numberOfPaths)</i> instead of <i>O(numberOfTimeSteps &times; numberOfFactors &times; numberOfPaths)</i>.
+ * A discarded slice is regenerated (with identical values) if it is requested again.
+ *
+ * The class is thread safe. It uses lazy initialization.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class BrownianMotionTimeSliced implements BrownianMotionInterface, Serializable {
+
+	private static final long serialVersionUID = -7126428453312187352L;
+
+	private static final int	pathBlockSize		= 1024;		// Unit of work of the parallel generation
+
+	private final TimeDiscretizationInterface	timeDiscretization;
+
+	private final int			numberOfFactors;
+	private final int			numberOfPaths;
+	private final int			seed;
+	private final boolean		isDiscardSlicesAfterUse;
+
+	private transient RandomVariableInterface[][]	brownianIncrements;
+
+	/**
+	 * Construct a Brownian motion generating the increments time slice by time slice.
+	 *
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate.
+	 * @param seed The seed of the random number generator.
+	 * @param isDiscardSlicesAfterUse If true, a request of a time index discards the slices of all previous time indices.
+	 */
+	public BrownianMotionTimeSliced(
+			TimeDiscretizationInterface timeDiscretization,
+			int numberOfFactors,
+			int numberOfPaths,
+			int seed,
+			boolean isDiscardSlicesAfterUse) {
+		super();
+		this.timeDiscretization = timeDiscretization;
+		this.numberOfFactors	= numberOfFactors;
+		this.numberOfPaths		= numberOfPaths;
+		this.seed				= seed;
+		this.isDiscardSlicesAfterUse	= isDiscardSlicesAfterUse;
+
+		this.brownianIncrements	= null; 	// Lazy initialization
+	}
+
+	/**
+	 * Construct a Brownian motion generating the increments time slice by time slice, discarding the slices after use.
+	 *
+	 * @param timeDiscretization The time discretization used for the Brownian increments.
+	 * @param numberOfFactors Number of factors.
+	 * @param numberOfPaths Number of paths to simulate.
+	 * @param seed The seed of the random number generator.
+	 */
+	public BrownianMotionTimeSliced(
+			TimeDiscretizationInterface timeDiscretization,
+			int numberOfFactors,
+			int numberOfPaths,
+			int seed) {
+		this(timeDiscretization, numberOfFactors, numberOfPaths, seed, true);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getCloneWithModifiedSeed(int)
+	 */
+	@Override
+	public BrownianMotionInterface getCloneWithModifiedSeed(int seed) {
+		return new BrownianMotionTimeSliced(getTimeDiscretization(), getNumberOfFactors(), getNumberOfPaths(), seed, isDiscardSlicesAfterUse);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getBrownianIncrement(int, int)
+	 */
+	@Override
+	public RandomVariableInterface getBrownianIncrement(int timeIndex, int factor) {
+		RandomVariableInterface[] brownianIncrementsOfTimeSlice;
+
+		// Thread safe lazy initialization
+		synchronized(this) {
+			if(brownianIncrements == null) brownianIncrements = new RandomVariableInterface[timeDiscretization.getNumberOfTimeSteps()][];
+
+			if(isDiscardSlicesAfterUse) {
+				for(int previousTimeIndex=0; previousTimeIndex<timeIndex; previousTimeIndex++) {
+					brownianIncrements[previousTimeIndex] = null;
+				}
+			}
+			if(brownianIncrements[timeIndex] == null) brownianIncrements[timeIndex] = doGenerateTimeSlice(timeIndex);
+
+			brownianIncrementsOfTimeSlice = brownianIncrements[timeIndex];
+		}
+
+		/*
+		 *  For performance reasons we return directly the stored data (no defensive copy).
+		 *  We return an immutable object to ensure that the receiver does not alter the data.
+		 */
+		return brownianIncrementsOfTimeSlice[factor];
+	}
+
+	/**
+	 * Generate the increments of a time slice. The blocks of paths are generated in parallel.
+	 */
+	private RandomVariableInterface[] doGenerateTimeSlice(final int timeIndex) {
+		final SplitMix64	generator					= new SplitMix64(seed);
+		final double		sqrtOfTimeStep				= Math.sqrt(timeDiscretization.getTimeStep(timeIndex));
+		final double[][]	brownianIncrementsArray		= new double[numberOfFactors][numberOfPaths];
+
+		final int numberOfPathBlocks	= (numberOfPaths + pathBlockSize - 1) / pathBlockSize;
+
+		try {
+			ParallelExecution.invokeAll(null, numberOfPathBlocks, new ParallelExecution.Task() {
+				@Override
+				public void run(int pathBlock) {
+					doGenerateTimeSlice(generator, timeIndex, pathBlock, brownianIncrementsArray, sqrtOfTimeStep);
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Generation of Brownian increments interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Generation of Brownian increments failed.", e.getCause());
+		}
+
+		// Wrap the values in RandomVariable objects
+		RandomVariableInterface[] brownianIncrementsOfTimeSlice = new RandomVariableInterface[numberOfFactors];
+		for(int factor=0; factor<numberOfFactors; factor++) {
+			brownianIncrementsOfTimeSlice[factor] = new RandomVariable(timeDiscretization.getTime(timeIndex+1), brownianIncrementsArray[factor]);
+		}
+		return brownianIncrementsOfTimeSlice;
+	}
+
+	private void doGenerateTimeSlice(SplitMix64 generator, int timeIndex, int pathBlock, double[][] brownianIncrementsArray, double sqrtOfTimeStep) {
+		int firstPath	= pathBlock * pathBlockSize;
+		int lastPath	= Math.min(firstPath + pathBlockSize, numberOfPaths);
+
+		// The factors of a path are consecutive elements of the sequence
+		double[] uniforms	= new double[(lastPath - firstPath) * numberOfFactors];
+		double[] normals	= new double[uniforms.length];
+		long dimension = (long)timeDiscretization.getNumberOfTimeSteps() * numberOfFactors;
+		for(int path=firstPath; path<lastPath; path++) {
+			long firstIndex = path * dimension + (long)timeIndex * numberOfFactors;
+			for(int factor=0; factor<numberOfFactors; factor++) {
+				uniforms[(path - firstPath) * numberOfFactors + factor] = generator.getDouble(firstIndex + factor);
+			}
+		}
+		NormalDistribution.inverseCumulativeDistribution(uniforms, normals);
+
+		for(int path=firstPath; path<lastPath; path++) {
+			for(int factor=0; factor<numberOfFactors; factor++) {
+				brownianIncrementsArray[factor][path] = normals[(path - firstPath) * numberOfFactors + factor] * sqrtOfTimeStep;
+			}
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getTimeDiscretization()
+	 */
+	@Override
+	public TimeDiscretizationInterface getTimeDiscretization() {
+		return timeDiscretization;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfFactors()
+	 */
+	@Override
+	public int getNumberOfFactors() {
+		return numberOfFactors;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.BrownianMotionInterface#getNumberOfPaths()
+	 */
+	@Override
+	public int getNumberOfPaths() {
+		return numberOfPaths;
+	}
+
+	/**
+	 * @return Returns the seed.
+	 */
+	public int getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return True, if a request of a time index discards the slices of all previous time indices.
+	 */
+	public boolean isDiscardSlicesAfterUse() {
+		return isDiscardSlicesAfterUse;
+	}
+}
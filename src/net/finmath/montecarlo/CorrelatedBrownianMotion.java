@@ -6,45 +6,55 @@
 
 package net.finmath.montecarlo;
 
+import java.util.concurrent.ExecutionException;
+
 import net.finmath.stochastic.RandomVariableInterface;
 import net.finmath.time.TimeDiscretizationInterface;
 
 /**
  * Provides a correlated Brownian motion from given (independent) increments
  * and a given matrix of factor loadings.
- * 
+ *
  * The i-th factor of this BrownianMotion is <i>dW<sub>i</sub></i> where
  * <i>dW<sub>i</sub> = f<sub>i,1</sub> dU<sub>1</sub> + ... + f<sub>i,m</sub> dU<sub>m</sub></i>
  * for <i>i = 1, ..., n</i>.
- * 
+ *
  * Here <i>f<sub>i,j</sub></i> are the factor loadings, an <i>n &times; m</i>-matrix.
- * 
+ *
  * If <i>dU<sub>j</sub></i> are independent, then <i>dW<sub>i</sub> dW<sub>k</sub> = &rho;<sub>i,k</sub> dt</i>
  * where <i>&rho;<sub>i,k</sub> = f<sub>i</sub> &cdot; f<sub>j</sub></i>.
- * 
+ *
  * Note: It is possible to create this class with a Brownian motion <i>U</i> which is
  * already correlated. The factors loadings will be applied accordingly.
- * 
+ *
+ * The correlated increments of all time steps are calculated on the first request (lazy initialization) and cached.
+ * For each time step the increments are the matrix product of the factor loadings and the (factors &times; paths)-matrix of
+ * the increments <i>dU</i>, calculated in blocks of paths. The time steps are calculated in parallel.
+ *
  * @author Christian Fries
  */
 public class CorrelatedBrownianMotion implements BrownianMotionInterface {
 
+	private static final int	pathBlockSize		= 1024;		// Number of paths of a block of the matrix product
+
 	private BrownianMotionInterface	uncollelatedFactors;
 	private double[][]				factorLoadings;
 
+	private RandomVariableInterface[][]	brownianIncrements;
+
 	/**
 	 * Create a correlated Brownian motion from given independent increments
 	 * and a given matrix of factor loadings.
-	 * 
+	 *
 	 * The i-th factor of this BrownianMotion is <i>dW<sub>i</sub></i> where
 	 * <i>dW<sub>i</sub> = f<sub>i,1</sub> dU<sub>1</sub> + ... + f<sub>i,m</sub> dU<sub>m</sub></i>
 	 * for <i>i = 1, ..., n</i>.
-	 * 
+	 *
 	 * Here <i>f<sub>i,j</sub></i> are the factor loadings, an <i>n &times; m</i>-matrix.
-	 * 
+	 *
 	 * If <i>dU<sub>j</sub></i> are independent, then <i>dW<sub>i</sub> dW<sub>k</sub> = &rho;<sub>i,k</sub> dt</i>
 	 * where <i>&rho;<sub>i,k</sub> = f<sub>i</sub> &cdot; f<sub>j</sub></i>.
-	 * 
+	 *
 	 * @param uncollelatedFactors The Brownian motion providing the (uncorrelated) factors <i>dU<sub>j</sub></i>.
 	 * @param factorLoadings The factor loadings <i>f<sub>i,j</sub></i>.
 	 */
@@ -53,6 +63,8 @@ public class CorrelatedBrownianMotion implements BrownianMotionInterface {
 		super();
 		this.uncollelatedFactors	= uncollelatedFactors;
 		this.factorLoadings			= factorLoadings;
+
+		this.brownianIncrements		= null;		// Lazy initialization
 	}
 
 	/* (non-Javadoc)
@@ -60,14 +72,108 @@ public class CorrelatedBrownianMotion implements BrownianMotionInterface {
 	 */
 	@Override
 	public RandomVariableInterface getBrownianIncrement(int timeIndex, int factor) {
-		RandomVariableInterface brownianIncrement = new RandomVariable(0.0);
-		for(int factorIndex=0; factorIndex<factorLoadings[factor].length; factorIndex++) {
-			if(factorLoadings[factor][factorIndex] != 0) {
-				RandomVariableInterface independentFactor = uncollelatedFactors.getBrownianIncrement(timeIndex, factorIndex);
-				brownianIncrement = brownianIncrement.addProduct(independentFactor, factorLoadings[factor][factorIndex]);
+		// Thread safe lazy initialization
+		synchronized(this) {
+			if(brownianIncrements == null) doGenerateBrownianMotion();
+		}
+
+		/*
+		 *  For performance reasons we return directly the stored data (no defensive copy).
+		 *  We return an immutable object to ensure that the receiver does not alter the data.
+		 */
+		return brownianIncrements[timeIndex][factor];
+	}
+
+	/**
+	 * Lazy initialization of brownianIncrement. Synchronized to ensure thread safety of lazy init.
+	 */
+	private void doGenerateBrownianMotion() {
+		if(brownianIncrements != null) return;	// Nothing to do
+
+		final int numberOfTimeSteps			= getTimeDiscretization().getNumberOfTimeSteps();
+		final int numberOfFactors			= getNumberOfFactors();
+		final int numberOfPaths				= getNumberOfPaths();
+
+		/*
+		 * Fetch the uncorrelated increments in the calling thread (their lazy initialization may use
+		 * its own parallelization), such that the tasks below only perform the matrix products.
+		 */
+		final double[][][]	uncorrelatedIncrements	= new double[numberOfTimeSteps][][];
+		final double[]		filtrationTimes			= new double[numberOfTimeSteps];
+		for(int timeIndex=0; timeIndex<numberOfTimeSteps; timeIndex++) {
+			uncorrelatedIncrements[timeIndex]	= new double[uncollelatedFactors.getNumberOfFactors()][];
+			filtrationTimes[timeIndex]			= 0.0;
+			for(int factorIndex=0; factorIndex<uncorrelatedIncrements[timeIndex].length; factorIndex++) {
+				if(!isFactorUsed(factorIndex)) continue;
+				RandomVariableInterface uncorrelatedIncrement = uncollelatedFactors.getBrownianIncrement(timeIndex, factorIndex);
+				uncorrelatedIncrements[timeIndex][factorIndex]	= uncorrelatedIncrement.getRealizations(numberOfPaths);
+				filtrationTimes[timeIndex]						= Math.max(filtrationTimes[timeIndex], uncorrelatedIncrement.getFiltrationTime());
 			}
 		}
-		return brownianIncrement;
+
+		final RandomVariableInterface[][] brownianIncrements = new RandomVariableInterface[numberOfTimeSteps][numberOfFactors];
+
+		try {
+			ParallelExecution.invokeAll(null, numberOfTimeSteps, new ParallelExecution.Task() {
+				@Override
+				public void run(int timeIndex) {
+					brownianIncrements[timeIndex] = getCorrelatedIncrements(uncorrelatedIncrements[timeIndex], filtrationTimes[timeIndex], numberOfPaths);
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Calculation of correlated Brownian increments interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Calculation of correlated Brownian increments failed.", e.getCause());
+		}
+
+		this.brownianIncrements = brownianIncrements;
+	}
+
+	/**
+	 * Calculates the correlated increments of a time step, i.e., the product of the factor loadings and the increments <i>dU</i>,
+	 * in blocks of paths, such that the block of the increments <i>dU</i> stays in the cache.
+	 * The sum over the factors <i>j</i> is performed in the order of <i>j</i>, zero loadings are skipped.
+	 */
+	private RandomVariableInterface[] getCorrelatedIncrements(double[][] uncorrelatedIncrements, double filtrationTime, int numberOfPaths) {
+		double[][] correlatedIncrements = new double[factorLoadings.length][];
+		for(int factor=0; factor<factorLoadings.length; factor++) {
+			for(int factorIndex=0; factorIndex<factorLoadings[factor].length; factorIndex++) {
+				if(factorLoadings[factor][factorIndex] != 0) {
+					correlatedIncrements[factor] = new double[numberOfPaths];
+					break;
+				}
+			}
+		}
+
+		for(int firstPath=0; firstPath<numberOfPaths; firstPath+=pathBlockSize) {
+			int lastPath = Math.min(firstPath + pathBlockSize, numberOfPaths);
+			for(int factor=0; factor<factorLoadings.length; factor++) {
+				double[] correlatedIncrement = correlatedIncrements[factor];
+				if(correlatedIncrement == null) continue;
+				for(int factorIndex=0; factorIndex<factorLoadings[factor].length; factorIndex++) {
+					double factorLoading = factorLoadings[factor][factorIndex];
+					if(factorLoading == 0) continue;
+					double[] uncorrelatedIncrement = uncorrelatedIncrements[factorIndex];
+					for(int path=firstPath; path<lastPath; path++) {
+						correlatedIncrement[path] += uncorrelatedIncrement[path] * factorLoading;
+					}
+				}
+			}
+		}
+
+		RandomVariableInterface[] brownianIncrements = new RandomVariableInterface[factorLoadings.length];
+		for(int factor=0; factor<factorLoadings.length; factor++) {
+			brownianIncrements[factor] = correlatedIncrements[factor] != null ? new RandomVariable(filtrationTime, correlatedIncrements[factor]) : new RandomVariable(0.0);
+		}
+		return brownianIncrements;
+	}
+
+	private boolean isFactorUsed(int factorIndex) {
+		for(double[] factorLoading : factorLoadings) {
+			if(factorIndex < factorLoading.length && factorLoading[factorIndex] != 0) return true;
+		}
+		return false;
 	}
 
 	/* (non-Javadoc)
@@ -91,7 +197,7 @@ public class CorrelatedBrownianMotion implements BrownianMotionInterface {
 	 */
 	@Override
 	public int getNumberOfPaths() {
-		return uncollelatedFactors.getNumberOfFactors();
+		return uncollelatedFactors.getNumberOfPaths();
 	}
 
 	/* (non-Javadoc)
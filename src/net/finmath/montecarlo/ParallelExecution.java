@@ -0,0 +1,144 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The shared executor and the execution of parallel tasks used by the multi-threadded parts of the Monte-Carlo simulation,
+ * i.e., the generation of the Brownian increments (<code>BrownianMotion</code>, <code>BrownianMotionTimeSliced</code>,
+ * <code>CorrelatedBrownianMotion</code>), the parallel reductions of <code>RandomVariable</code> and
+ * the evolution of a process (<code>ProcessEulerScheme</code>, <code>ProcessEulerSchemePathParallel</code>).
+ *
+ * All of them use a single executor, such that the number of threads does not multiply with the number of classes.
+ * By default this is a lazily created fixed pool of daemon threads (one per available processor).
+ * It may be replaced by an application provided executor via {@link #setExecutorService(ExecutorService)}.
+ * The processes additionally accept an executor in their constructor.
+ *
+ * Tasks are executed by {@link #invokeAll(ExecutorService, int, Task)}, where the calling thread takes part in the calculation.
+ * Hence nested parallel calculations (e.g., the lazy generation of Brownian increments within the evolution of a process)
+ * do not block if all threads of the executor are busy.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public final class ParallelExecution {
+
+	private static volatile ExecutorService executorService;
+
+	private ParallelExecution() {
+	}
+
+	/**
+	 * A unit of work of a parallel calculation.
+	 */
+	public interface Task {
+		/**
+		 * Run the task with the given index.
+		 *
+		 * @param taskIndex The index of the task.
+		 * @throws Exception Thrown if the task failed.
+		 */
+		void run(int taskIndex) throws Exception;
+	}
+
+	/**
+	 * Returns the shared executor. If no executor has been set, a fixed pool of daemon threads
+	 * (one per available processor) is created on the first call.
+	 *
+	 * @return The shared executor.
+	 */
+	public static ExecutorService getExecutorService() {
+		// Thread safe lazy initialization
+		if(executorService == null) {
+			synchronized(ParallelExecution.class) {
+				if(executorService == null) {
+					executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "ParallelExecution");
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+				}
+			}
+		}
+		return executorService;
+	}
+
+	/**
+	 * Sets the shared executor. The executor is not shut down by this library, the executor previously used is not shut down either.
+	 *
+	 * @param executorService The executor to be used by all parallel calculations which are not given an executor. If null, the default executor is created on the next use.
+	 */
+	public static synchronized void setExecutorService(ExecutorService executorService) {
+		ParallelExecution.executorService = executorService;
+	}
+
+	/**
+	 * Runs the tasks with index 0, ..., numberOfTasks-1 and waits for their completion.
+	 *
+	 * The tasks are distributed over the calling thread and (up to the number of available processors minus one)
+	 * workers submitted to the executor. Each of them fetches the next task index until all tasks are taken.
+	 * The calling thread only waits for tasks which are running, hence this method does not block if the
+	 * executor is busy or if it is called from a task running on the same executor.
+	 *
+	 * @param executor The executor. If null, the shared executor is used.
+	 * @param numberOfTasks The number of tasks.
+	 * @param task The task.
+	 * @throws InterruptedException Thrown if the calling thread has been interrupted.
+	 * @throws ExecutionException Thrown if one of the tasks failed, its cause being the exception thrown by the task.
+	 */
+	public static void invokeAll(ExecutorService executor, final int numberOfTasks, final Task task) throws InterruptedException, ExecutionException {
+		final AtomicInteger					nextTaskIndex	= new AtomicInteger(0);
+		final CountDownLatch				completedTasks	= new CountDownLatch(numberOfTasks);
+		final AtomicReference<Throwable>	failure			= new AtomicReference<Throwable>();
+
+		Runnable worker = new Runnable() {
+			@Override
+			public void run() {
+				for(int taskIndex = nextTaskIndex.getAndIncrement(); taskIndex < numberOfTasks; taskIndex = nextTaskIndex.getAndIncrement()) {
+					try {
+						// Skip the remaining tasks once a task failed
+						if(failure.get() == null) task.run(taskIndex);
+					}
+					catch(Throwable e) {
+						failure.compareAndSet(null, e);
+					}
+					finally {
+						completedTasks.countDown();
+					}
+				}
+			}
+		};
+
+		int numberOfWorkers = Math.min(Runtime.getRuntime().availableProcessors(), numberOfTasks) - 1;
+		if(numberOfWorkers > 0) {
+			if(executor == null) executor = getExecutorService();
+			try {
+				for(int workerIndex = 0; workerIndex < numberOfWorkers; workerIndex++) executor.execute(worker);
+			}
+			catch(RejectedExecutionException e) {
+				// The remaining tasks are performed by the calling thread
+			}
+		}
+		worker.run();
+
+		completedTasks.await();
+
+		Throwable cause = failure.get();
+		if(cause instanceof Error)	throw (Error)cause;
+		if(cause != null)			throw new ExecutionException(cause);
+	}
+}
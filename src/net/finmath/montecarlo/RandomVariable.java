@@ -59,9 +59,12 @@ public class RandomVariable implements RandomVariableInterface {
     }
 
     /**
-     * Create a non stochastic random variable, i.e. a constant.
+     * Create a stochastic random variable having the same value on all paths.
+     * Note that this allocates and fills a vector of size <code>numberOfPath</code>. To represent
+     * a constant, prefer {@link #RandomVariable(double, double)}, which is handled by specialized (scalar) operators.
      *
      * @param time the filtration time, set to 0.0 if not used.
+     * @param numberOfPath The number of paths.
      * @param value the value, a constant.
      */
     public RandomVariable(double time, int numberOfPath, double value) {
@@ -143,6 +146,7 @@ public class RandomVariable implements RandomVariableInterface {
      */
     public double getMin() {
         if(isDeterministic()) return valueIfNonStochastic;
+        if(RandomVariableParallelReduction.isUseParallelReduction && realizations.length != 0) return RandomVariableParallelReduction.getMin(realizations);
         double min = Double.MAX_VALUE;
         if(realizations.length != 0) min = realizations[0];     /// @see getMax()
         for(int i=0; i<realizations.length; i++) min = Math.min(realizations[i],min);
@@ -155,6 +159,7 @@ public class RandomVariable implements RandomVariableInterface {
     @Override
     public double getMax() {
         if(isDeterministic()) return valueIfNonStochastic;
+        if(RandomVariableParallelReduction.isUseParallelReduction && realizations.length != 0) return RandomVariableParallelReduction.getMax(realizations);
         double max = Double.MIN_VALUE;
         if(realizations.length != 0) max = realizations[0];     /// @bug Workaround. There seems to be a bug in Java 1.4 with Math.max(Double.MIN_VALUE,0.0)
         for(int i=0; i<realizations.length; i++) max = Math.max(realizations[i],max);
@@ -168,6 +173,8 @@ public class RandomVariable implements RandomVariableInterface {
         if(isDeterministic())	return valueIfNonStochastic;
         if(size() == 0)			return Double.NaN;
 
+        if(RandomVariableParallelReduction.isUseParallelReduction) return RandomVariableParallelReduction.getSum(realizations, null, 1.0);
+
         double sum = 0.0;
         for(int i=0; i<realizations.length; i++) sum += realizations[i];
         return sum;
@@ -180,6 +187,8 @@ public class RandomVariable implements RandomVariableInterface {
         if(isDeterministic())	return valueIfNonStochastic;
         if(size() == 0)			return Double.NaN;
 
+        if(RandomVariableParallelReduction.isUseParallelReduction) return RandomVariableParallelReduction.getSum(realizations, null, 1.0)/realizations.length;
+
         double sum = 0.0;
         for(int i=0; i<realizations.length; i++) sum += realizations[i];
         return sum/realizations.length;
@@ -193,8 +202,20 @@ public class RandomVariable implements RandomVariableInterface {
         if(isDeterministic())	return valueIfNonStochastic;
         if(size() == 0)			return Double.NaN;
 
+        if(RandomVariableParallelReduction.isUseParallelReduction) {
+            if(probabilities.isDeterministic())	return RandomVariableParallelReduction.getSum(realizations, null, probabilities.get(0));
+            else								return RandomVariableParallelReduction.getSum(realizations, probabilities.getRealizations(realizations.length), 0.0);
+        }
+
         double average = 0.0;
-        for(int i=0; i<realizations.length; i++) average += realizations[i] * probabilities.get(i);
+        if(probabilities.isDeterministic()) {
+            double probability = probabilities.get(0);
+            for(int i=0; i<realizations.length; i++) average += realizations[i] * probability;
+        }
+        else {
+            double[] probabilityRealizations = probabilities.getRealizations(realizations.length);
+            for(int i=0; i<realizations.length; i++) average += realizations[i] * probabilityRealizations[i];
+        }
         return average;
     }
 
@@ -206,6 +227,12 @@ public class RandomVariable implements RandomVariableInterface {
         if(isDeterministic())	return 0.0;
         if(size() == 0)			return Double.NaN;
 
+        if(RandomVariableParallelReduction.isUseParallelReduction) {
+            // Two-pass variance (avoiding the cancellation of E(X^2) - E(X)^2)
+            double mean = RandomVariableParallelReduction.getSum(realizations, null, 1.0) / realizations.length;
+            return RandomVariableParallelReduction.getSumOfSquaredDeviations(realizations, null, 1.0, mean) / realizations.length;
+        }
+
         double sum			= 0.0;
         double sumOfSquared = 0.0;
         for(double realization : realizations) {
@@ -222,11 +249,29 @@ public class RandomVariable implements RandomVariableInterface {
         if(isDeterministic())	return 0.0;
         if(size() == 0)			return Double.NaN;
 
+        if(RandomVariableParallelReduction.isUseParallelReduction) {
+            // Two-pass variance (avoiding the cancellation of E(X^2) - E(X)^2)
+            double[]	probabilityRealizations	= probabilities.isDeterministic() ? null : probabilities.getRealizations(realizations.length);
+            double		probability				= probabilities.isDeterministic() ? probabilities.get(0) : 0.0;
+            double		mean					= RandomVariableParallelReduction.getSum(realizations, probabilityRealizations, probability);
+            return RandomVariableParallelReduction.getSumOfSquaredDeviations(realizations, probabilityRealizations, probability, mean);
+        }
+
         double mean			= 0.0;
         double secondMoment = 0.0;
-        for(int i=0; i<realizations.length; i++) {
-            mean			+= realizations[i] * probabilities.get(i);
-            secondMoment	+= realizations[i] * realizations[i] * probabilities.get(i);
+        if(probabilities.isDeterministic()) {
+            double probability = probabilities.get(0);
+            for(int i=0; i<realizations.length; i++) {
+                mean			+= realizations[i] * probability;
+                secondMoment	+= realizations[i] * realizations[i] * probability;
+            }
+        }
+        else {
+            double[] probabilityRealizations = probabilities.getRealizations(realizations.length);
+            for(int i=0; i<realizations.length; i++) {
+                mean			+= realizations[i] * probabilityRealizations[i];
+                secondMoment	+= realizations[i] * realizations[i] * probabilityRealizations[i];
+            }
         }
         return secondMoment - mean*mean;
     }
@@ -283,12 +328,39 @@ public class RandomVariable implements RandomVariableInterface {
         if(isDeterministic())	return valueIfNonStochastic;
         if(size() == 0)			return Double.NaN;
 
-        double[] realizationsSorted = realizations.clone();
-        java.util.Arrays.sort(realizationsSorted);
+        return getRealizationsSorted()[getIndexOfQuantileValue(quantile)];
+    }
 
-        int indexOfQuantileValue = Math.min(Math.max((int)Math.round((size()+1) * (1-quantile) - 1), 0), size()-1);
+    /* (non-Javadoc)
+     * @see net.finmath.stochastic.RandomVariableInterface#getQuantiles(double[])
+     */
+    @Override
+    public double[] getQuantiles(double[] quantiles) {
+        double[] quantileValues = new double[quantiles.length];
+        if(isDeterministic())	{ java.util.Arrays.fill(quantileValues, valueIfNonStochastic); return quantileValues; }
+        if(size() == 0)			{ java.util.Arrays.fill(quantileValues, Double.NaN); return quantileValues; }
+
+        double[] realizationsSorted = getRealizationsSorted();
+        for(int i=0; i<quantiles.length; i++) quantileValues[i] = realizationsSorted[getIndexOfQuantileValue(quantiles[i])];
+
+        return quantileValues;
+    }
+
+    private int getIndexOfQuantileValue(double quantile) {
+        return Math.min(Math.max((int)Math.round((size()+1) * (1-quantile) - 1), 0), size()-1);
+    }
 
-        return realizationsSorted[indexOfQuantileValue];
+    /**
+     * Returns a sorted copy of the realizations (in ascending order). The copy is not cached, since the realizations
+     * may be modified through {@link #getRealizations(int)}. To obtain several quantiles with a single sort use
+     * {@link #getQuantiles(double[])}.
+     *
+     * @return A sorted copy of the realizations.
+     */
+    private double[] getRealizationsSorted() {
+        double[] realizationsSorted = realizations.clone();
+        java.util.Arrays.sort(realizationsSorted);
+        return realizationsSorted;
     }
 
     /* (non-Javadoc)
@@ -310,8 +382,7 @@ public class RandomVariable implements RandomVariableInterface {
         if(size() == 0)			return Double.NaN;
         if(quantileStart > quantileEnd) return getQuantileExpectation(quantileEnd, quantileStart);
 
-        double[] realizationsSorted = realizations.clone();
-        java.util.Arrays.sort(realizationsSorted);
+        double[] realizationsSorted = getRealizationsSorted();
 
         int indexOfQuantileValueStart	= Math.min(Math.max((int)Math.round((size()+1) * quantileStart - 1), 0), size()-1);
         int indexOfQuantileValueEnd		= Math.min(Math.max((int)Math.round((size()+1) * quantileEnd - 1), 0), size()-1);
@@ -350,31 +421,31 @@ public class RandomVariable implements RandomVariableInterface {
         }
         else {
 			/*
-			 * If the random variable is deterministic we will return an array
+			 * If the random variable is stochastic we will return an array
 			 * representing a density, where the sum of the entries is one.
 			 * There is one exception:
 			 * If the size of the random variable is 0, all entries will be zero.
+			 *
+			 * The realizations are bucketed in a single pass (binary search on the
+			 * increasing interval points), that is, without sorting the realizations.
 			 */
-            double[] realizationsSorted = realizations.clone();
-            java.util.Arrays.sort(realizationsSorted);
-
-            int sampleIndex=0;
-            for (int intervalIndex=0; intervalIndex<intervalPoints.length; intervalIndex++)
-            {
-                int sampleCount = 0;
-                while (sampleIndex < realizationsSorted.length &&
-                        realizationsSorted[sampleIndex] <= intervalPoints[intervalIndex])
-                {
-                    sampleIndex++;
-                    sampleCount++;
+            int[] sampleCounts = new int[intervalPoints.length+1];
+            for(double realization : realizations) {
+                // Find the first interval point with realization <= intervalPoint (NaN falls into the last interval)
+                int lower = 0;
+                int upper = intervalPoints.length;
+                while(lower < upper) {
+                    int middle = (lower + upper) >>> 1;
+                    if(realization <= intervalPoints[middle])	upper = middle;
+                    else										lower = middle+1;
                 }
-                histogramValues[intervalIndex] = sampleCount;
+                sampleCounts[lower]++;
             }
-            histogramValues[intervalPoints.length] = realizationsSorted.length-sampleIndex;
+            for(int i=0; i<histogramValues.length; i++) histogramValues[i] = sampleCounts[i];
 
             // Normalize histogramValues
-            if(realizationsSorted.length > 0) {
-                for(int i=0; i<histogramValues.length; i++) histogramValues[i] /= realizationsSorted.length;
+            if(realizations.length > 0) {
+                for(int i=0; i<histogramValues.length; i++) histogramValues[i] /= realizations.length;
             }
         }
 
@@ -668,10 +739,22 @@ public class RandomVariable implements RandomVariableInterface {
             double newValueIfNonStochastic = valueIfNonStochastic + randomVariable.get(0);
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
-        else if(isDeterministic()) return (randomVariable.getMutableCopy()).add(this);
+        else if(isDeterministic()) {
+            double[] argumentRealizations = randomVariable.getRealizations(randomVariable.size());
+            double[] newRealizations = new double[argumentRealizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic + argumentRealizations[i];
+            return new RandomVariable(newTime, newRealizations);
+        }
+        else if(randomVariable.isDeterministic()) {
+            double argumentValue = randomVariable.get(0);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + argumentValue;
+            return new RandomVariable(newTime, newRealizations);
+        }
         else {
-            double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + randomVariable.get(i);
+            double[] argumentRealizations = randomVariable.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + argumentRealizations[i];
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -687,10 +770,22 @@ public class RandomVariable implements RandomVariableInterface {
             double newValueIfNonStochastic = valueIfNonStochastic - randomVariable.get(0);
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
-        else if(isDeterministic()) return ((RandomVariable)randomVariable).sub(this);
+        else if(isDeterministic()) {
+            double[] argumentRealizations = randomVariable.getRealizations(randomVariable.size());
+            double[] newRealizations = new double[argumentRealizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic - argumentRealizations[i];
+            return new RandomVariable(newTime, newRealizations);
+        }
+        else if(randomVariable.isDeterministic()) {
+            double argumentValue = randomVariable.get(0);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] - argumentValue;
+            return new RandomVariable(newTime, newRealizations);
+        }
         else {
-            double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] - randomVariable.get(i);
+            double[] argumentRealizations = randomVariable.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] - argumentRealizations[i];
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -706,10 +801,22 @@ public class RandomVariable implements RandomVariableInterface {
             double newValueIfNonStochastic = valueIfNonStochastic * randomVariable.get(0);
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
-        else if(isDeterministic()) return ((RandomVariable)randomVariable).mult(this);
+        else if(isDeterministic()) {
+            double[] argumentRealizations = randomVariable.getRealizations(randomVariable.size());
+            double[] newRealizations = new double[argumentRealizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic * argumentRealizations[i];
+            return new RandomVariable(newTime, newRealizations);
+        }
+        else if(randomVariable.isDeterministic()) {
+            double argumentValue = randomVariable.get(0);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] * argumentValue;
+            return new RandomVariable(newTime, newRealizations);
+        }
         else {
-            double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] * randomVariable.get(i);
+            double[] argumentRealizations = randomVariable.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] * argumentRealizations[i];
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -726,13 +833,21 @@ public class RandomVariable implements RandomVariableInterface {
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
         else if(isDeterministic()) {
-            double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic / randomVariable.get(i);
+            double[] argumentRealizations = randomVariable.getRealizations(randomVariable.size());
+            double[] newRealizations = new double[argumentRealizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic / argumentRealizations[i];
+            return new RandomVariable(newTime, newRealizations);
+        }
+        else if(randomVariable.isDeterministic()) {
+            double argumentValue = randomVariable.get(0);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] / argumentValue;
             return new RandomVariable(newTime, newRealizations);
         }
         else {
-            double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] / randomVariable.get(i);
+            double[] argumentRealizations = randomVariable.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] / argumentRealizations[i];
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -748,10 +863,22 @@ public class RandomVariable implements RandomVariableInterface {
             double newValueIfNonStochastic = FastMath.min(valueIfNonStochastic, randomVariable.get(0));
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
-        else if(isDeterministic()) return ((RandomVariable)randomVariable).cap(this);
+        else if(isDeterministic()) {
+            double[] argumentRealizations = randomVariable.getRealizations(randomVariable.size());
+            double[] newRealizations = new double[argumentRealizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = FastMath.min(valueIfNonStochastic, argumentRealizations[i]);
+            return new RandomVariable(newTime, newRealizations);
+        }
+        else if(randomVariable.isDeterministic()) {
+            double argumentValue = randomVariable.get(0);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = FastMath.min(realizations[i], argumentValue);
+            return new RandomVariable(newTime, newRealizations);
+        }
         else {
-            double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = FastMath.min(realizations[i], randomVariable.get(i));
+            double[] argumentRealizations = randomVariable.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = FastMath.min(realizations[i], argumentRealizations[i]);
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -767,10 +894,22 @@ public class RandomVariable implements RandomVariableInterface {
             double newValueIfNonStochastic = FastMath.max(valueIfNonStochastic, randomVariable.get(0));
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
-        else if(isDeterministic()) return ((RandomVariable)randomVariable).floor(this);
+        else if(isDeterministic()) {
+            double[] argumentRealizations = randomVariable.getRealizations(randomVariable.size());
+            double[] newRealizations = new double[argumentRealizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = FastMath.max(valueIfNonStochastic, argumentRealizations[i]);
+            return new RandomVariable(newTime, newRealizations);
+        }
+        else if(randomVariable.isDeterministic()) {
+            double argumentValue = randomVariable.get(0);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = FastMath.max(realizations[i], argumentValue);
+            return new RandomVariable(newTime, newRealizations);
+        }
         else {
-            double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = FastMath.max(realizations[i], randomVariable.get(i));
+            double[] argumentRealizations = randomVariable.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = FastMath.max(realizations[i], argumentRealizations[i]);
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -787,19 +926,19 @@ public class RandomVariable implements RandomVariableInterface {
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
         else if(isDeterministic() && !rate.isDeterministic()) {
-            double[] rateRealizations = rate.getRealizations();
+            double[] rateRealizations = rate.getRealizations(rate.size());
             double[] newRealizations = new double[Math.max(size(), rate.size())];
             for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic * (1 + rateRealizations[i] * periodLength);
             return new RandomVariable(newTime, newRealizations);
         }
         else if(!isDeterministic() && rate.isDeterministic()) {
-            double rateValue = rate.get(0);
+            double accrualFactor = 1 + rate.get(0) * periodLength;
             double[] newRealizations = new double[Math.max(size(), rate.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] * (1 + rateValue * periodLength);
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] * accrualFactor;
             return new RandomVariable(newTime, newRealizations);
         }
         else {
-            double[] rateRealizations = rate.getRealizations();
+            double[] rateRealizations = rate.getRealizations(realizations.length);
             double[] newRealizations = new double[Math.max(size(), rate.size())];
             for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] * (1 + rateRealizations[i] * periodLength);
             return new RandomVariable(newTime, newRealizations);
@@ -818,19 +957,19 @@ public class RandomVariable implements RandomVariableInterface {
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
         else if(isDeterministic() && !rate.isDeterministic()) {
-            double[] rateRealizations = rate.getRealizations();
+            double[] rateRealizations = rate.getRealizations(rate.size());
             double[] newRealizations = new double[Math.max(size(), rate.size())];
             for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic / (1.0 + rateRealizations[i] * periodLength);
             return new RandomVariable(newTime, newRealizations);
         }
         else if(!isDeterministic() && rate.isDeterministic()) {
-            double rateValue = rate.get(0);
+            double discountFactorDenominator = 1.0 + rate.get(0) * periodLength;
             double[] newRealizations = new double[Math.max(size(), rate.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] / (1.0 + rateValue * periodLength);
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] / discountFactorDenominator;
             return new RandomVariable(newTime, newRealizations);
         }
         else {
-            double[] rateRealizations = rate.getRealizations();
+            double[] rateRealizations = rate.getRealizations(realizations.length);
             double[] newRealizations = new double[Math.max(size(), rate.size())];
             for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] / (1.0 + rateRealizations[i] * periodLength);
             return new RandomVariable(newTime, newRealizations);
@@ -853,8 +992,26 @@ public class RandomVariable implements RandomVariableInterface {
         else {
             int numberOfPaths = Math.max(Math.max(trigger.size(), valueIfTriggerNonNegative.size()), valueIfTriggerNegative.size());
             double[] newRealizations = new double[numberOfPaths];
-            for(int i=0; i<newRealizations.length; i++) {
-                newRealizations[i] = trigger.get(i) >= 0.0 ? valueIfTriggerNonNegative.get(i) : valueIfTriggerNegative.get(i);
+            if(!trigger.isDeterministic() && !valueIfTriggerNonNegative.isDeterministic() && !valueIfTriggerNegative.isDeterministic()) {
+                double[] triggerRealizations					= trigger.getRealizations(numberOfPaths);
+                double[] valueIfTriggerNonNegativeRealizations	= valueIfTriggerNonNegative.getRealizations(numberOfPaths);
+                double[] valueIfTriggerNegativeRealizations		= valueIfTriggerNegative.getRealizations(numberOfPaths);
+                for(int i=0; i<newRealizations.length; i++) {
+                    newRealizations[i] = triggerRealizations[i] >= 0.0 ? valueIfTriggerNonNegativeRealizations[i] : valueIfTriggerNegativeRealizations[i];
+                }
+            }
+            else {
+                double[] triggerRealizations					= trigger.isDeterministic() ? null : trigger.getRealizations(numberOfPaths);
+                double[] valueIfTriggerNonNegativeRealizations	= valueIfTriggerNonNegative.isDeterministic() ? null : valueIfTriggerNonNegative.getRealizations(numberOfPaths);
+                double[] valueIfTriggerNegativeRealizations		= valueIfTriggerNegative.isDeterministic() ? null : valueIfTriggerNegative.getRealizations(numberOfPaths);
+                double triggerValue						= trigger.isDeterministic() ? trigger.get(0) : Double.NaN;
+                double valueIfTriggerNonNegativeValue	= valueIfTriggerNonNegative.isDeterministic() ? valueIfTriggerNonNegative.get(0) : Double.NaN;
+                double valueIfTriggerNegativeValue		= valueIfTriggerNegative.isDeterministic() ? valueIfTriggerNegative.get(0) : Double.NaN;
+                for(int i=0; i<newRealizations.length; i++) {
+                    newRealizations[i] = (triggerRealizations != null ? triggerRealizations[i] : triggerValue) >= 0.0 ?
+                            (valueIfTriggerNonNegativeRealizations != null ? valueIfTriggerNonNegativeRealizations[i] : valueIfTriggerNonNegativeValue) :
+                            (valueIfTriggerNegativeRealizations != null ? valueIfTriggerNegativeRealizations[i] : valueIfTriggerNegativeValue);
+                }
             }
             return new RandomVariable(newTime, newRealizations);
         }
@@ -906,19 +1063,19 @@ public class RandomVariable implements RandomVariableInterface {
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
         else if(isDeterministic() && !factor1.isDeterministic()) {
-            double[] factor1Realizations = factor1.getRealizations();
+            double[] factor1Realizations = factor1.getRealizations(factor1.size());
             double[] newRealizations = new double[Math.max(size(), factor1.size())];
             for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic + factor1Realizations[i] * factor2;
             return new RandomVariable(newTime, newRealizations);
         }
         else if(!isDeterministic() && factor1.isDeterministic()) {
-            double factor1Value = factor1.get(0);
+            double product = factor1.get(0) * factor2;
             double[] newRealizations = new double[Math.max(size(), factor1.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + factor1Value * factor2;
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + product;
             return new RandomVariable(newTime, newRealizations);
         }
         else {
-            double[] factor1Realizations = factor1.getRealizations();
+            double[] factor1Realizations = factor1.getRealizations(realizations.length);
             double[] newRealizations = new double[Math.max(size(), factor1.size())];
             for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + factor1Realizations[i] * factor2;
             return new RandomVariable(newTime, newRealizations);
@@ -937,22 +1094,47 @@ public class RandomVariable implements RandomVariableInterface {
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
         else if(isDeterministic() && !factor1.isDeterministic() && !factor2.isDeterministic()) {
-            double[] factor1Realizations = factor1.getRealizations();
-            double[] factor2Realizations = factor2.getRealizations();
+            double[] factor1Realizations = factor1.getRealizations(factor1.size());
+            double[] factor2Realizations = factor2.getRealizations(factor1.size());
             double[] newRealizations = new double[Math.max(size(), factor1.size())];
             for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = valueIfNonStochastic + factor1Realizations[i] * factor2Realizations[i];
             return new RandomVariable(newTime, newRealizations);
         }
         else if(!isDeterministic() && !factor1.isDeterministic() && !factor2.isDeterministic()) {
-            double[] factor1Realizations = factor1.getRealizations();
-            double[] factor2Realizations = factor2.getRealizations();
+            double[] factor1Realizations = factor1.getRealizations(realizations.length);
+            double[] factor2Realizations = factor2.getRealizations(realizations.length);
             double[] newRealizations = new double[Math.max(size(), factor1.size())];
             for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + factor1Realizations[i] * factor2Realizations[i];
             return new RandomVariable(newTime, newRealizations);
         }
+        else if(!isDeterministic() && !factor1.isDeterministic() && factor2.isDeterministic()) {
+            double[] factor1Realizations = factor1.getRealizations(realizations.length);
+            double factor2Value = factor2.get(0);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + factor1Realizations[i] * factor2Value;
+            return new RandomVariable(newTime, newRealizations);
+        }
+        else if(!isDeterministic() && factor1.isDeterministic() && !factor2.isDeterministic()) {
+            double factor1Value = factor1.get(0);
+            double[] factor2Realizations = factor2.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + factor1Value * factor2Realizations[i];
+            return new RandomVariable(newTime, newRealizations);
+        }
         else {
-            double[] newRealizations = new double[Math.max(Math.max(size(), factor1.size()), factor2.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = get(i) + factor1.get(i) * factor2.get(i);
+            int numberOfPaths = Math.max(Math.max(size(), factor1.size()), factor2.size());
+            double[] thisRealizations		= isDeterministic() ? null : realizations;
+            double[] factor1Realizations	= factor1.isDeterministic() ? null : factor1.getRealizations(numberOfPaths);
+            double[] factor2Realizations	= factor2.isDeterministic() ? null : factor2.getRealizations(numberOfPaths);
+            double thisValue	= valueIfNonStochastic;
+            double factor1Value	= factor1.isDeterministic() ? factor1.get(0) : Double.NaN;
+            double factor2Value	= factor2.isDeterministic() ? factor2.get(0) : Double.NaN;
+
+            double[] newRealizations = new double[numberOfPaths];
+            for(int i=0; i<newRealizations.length; i++) {
+                newRealizations[i] = (thisRealizations != null ? thisRealizations[i] : thisValue)
+                        + (factor1Realizations != null ? factor1Realizations[i] : factor1Value) * (factor2Realizations != null ? factor2Realizations[i] : factor2Value);
+            }
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -968,9 +1150,27 @@ public class RandomVariable implements RandomVariableInterface {
             double newValueIfNonStochastic = valueIfNonStochastic + (numerator.get(0) / denominator.get(0));
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
+        else if(!isDeterministic() && !numerator.isDeterministic() && !denominator.isDeterministic()) {
+            double[] numeratorRealizations		= numerator.getRealizations(realizations.length);
+            double[] denominatorRealizations	= denominator.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] + numeratorRealizations[i] / denominatorRealizations[i];
+            return new RandomVariable(newTime, newRealizations);
+        }
         else {
-            double[] newRealizations = new double[Math.max(Math.max(size(), numerator.size()), denominator.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = get(i) + numerator.get(i) / denominator.get(i);
+            int numberOfPaths = Math.max(Math.max(size(), numerator.size()), denominator.size());
+            double[] thisRealizations			= isDeterministic() ? null : realizations;
+            double[] numeratorRealizations		= numerator.isDeterministic() ? null : numerator.getRealizations(numberOfPaths);
+            double[] denominatorRealizations	= denominator.isDeterministic() ? null : denominator.getRealizations(numberOfPaths);
+            double thisValue		= valueIfNonStochastic;
+            double numeratorValue	= numerator.isDeterministic() ? numerator.get(0) : Double.NaN;
+            double denominatorValue	= denominator.isDeterministic() ? denominator.get(0) : Double.NaN;
+
+            double[] newRealizations = new double[numberOfPaths];
+            for(int i=0; i<newRealizations.length; i++) {
+                newRealizations[i] = (thisRealizations != null ? thisRealizations[i] : thisValue)
+                        + (numeratorRealizations != null ? numeratorRealizations[i] : numeratorValue) / (denominatorRealizations != null ? denominatorRealizations[i] : denominatorValue);
+            }
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -986,9 +1186,27 @@ public class RandomVariable implements RandomVariableInterface {
             double newValueIfNonStochastic = valueIfNonStochastic - (numerator.get(0) / denominator.get(0));
             return new RandomVariable(newTime, newValueIfNonStochastic);
         }
+        else if(!isDeterministic() && !numerator.isDeterministic() && !denominator.isDeterministic()) {
+            double[] numeratorRealizations		= numerator.getRealizations(realizations.length);
+            double[] denominatorRealizations	= denominator.getRealizations(realizations.length);
+            double[] newRealizations = new double[realizations.length];
+            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = realizations[i] - numeratorRealizations[i] / denominatorRealizations[i];
+            return new RandomVariable(newTime, newRealizations);
+        }
         else {
-            double[] newRealizations = new double[Math.max(Math.max(size(), numerator.size()), denominator.size())];
-            for(int i=0; i<newRealizations.length; i++) newRealizations[i]		 = get(i) - numerator.get(i) / denominator.get(i);
+            int numberOfPaths = Math.max(Math.max(size(), numerator.size()), denominator.size());
+            double[] thisRealizations			= isDeterministic() ? null : realizations;
+            double[] numeratorRealizations		= numerator.isDeterministic() ? null : numerator.getRealizations(numberOfPaths);
+            double[] denominatorRealizations	= denominator.isDeterministic() ? null : denominator.getRealizations(numberOfPaths);
+            double thisValue		= valueIfNonStochastic;
+            double numeratorValue	= numerator.isDeterministic() ? numerator.get(0) : Double.NaN;
+            double denominatorValue	= denominator.isDeterministic() ? denominator.get(0) : Double.NaN;
+
+            double[] newRealizations = new double[numberOfPaths];
+            for(int i=0; i<newRealizations.length; i++) {
+                newRealizations[i] = (thisRealizations != null ? thisRealizations[i] : thisValue)
+                        - (numeratorRealizations != null ? numeratorRealizations[i] : numeratorValue) / (denominatorRealizations != null ? denominatorRealizations[i] : denominatorValue);
+            }
             return new RandomVariable(newTime, newRealizations);
         }
     }
@@ -0,0 +1,755 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import net.finmath.stochastic.RandomVariableAccumulatorInterface;
+import net.finmath.stochastic.RandomVariableInterface;
+
+/**
+ * A mutable random variable which accumulates other random variables into a reused buffer.
+ *
+ * All methods of <code>RandomVariableInterface</code> keep their immutable semantic, i.e., they leave this object unchanged
+ * and return a new <code>RandomVariable</code>. In addition the class offers a small set of <i>in-place</i> operators
+ * (<code>set</code>, <code>addInPlace</code>, <code>addProductInPlace</code>, <code>multInPlace</code>,
+ * <code>accrueInPlace</code>, <code>discountInPlace</code>), which write their result into the buffer of this object
+ * and return a self reference. Once the buffer has been allocated (on the first operation with a stochastic argument),
+ * subsequent in-place operations do not allocate memory.
+ *
+ * The methods <code>accumulate</code> add a random variable and, in addition, record it for its accumulation time
+ * (e.g., the payment time of a cash flow), such that {@link #get(double, double)} returns the sum of the
+ * random variables accumulated in a time interval. The recorded values are transformed by <code>multInPlace</code>,
+ * <code>accrueInPlace</code> and <code>discountInPlace</code> and discarded by <code>set</code>. Values added by the other
+ * in-place operators are not attributed to a time, i.e., they are only part of {@link #get()}.
+ *
+ * Some in-place operators are also available for a range of paths only. They allow several threads
+ * to update disjoint blocks of paths of the same object. Their operands are given as arrays of realizations
+ * (or as constants), such that the realizations of an operand are obtained once (see {@link RandomVariableInterface#getRealizations(int)})
+ * and not once for each range of paths.
+ *
+ * The class is intended as a local work area, e.g., for the state of an Euler scheme or for the summation of drift terms.
+ * Use {@link #get()} to obtain an immutable snapshot of the current value.
+ *
+ * The class is not thread safe.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class RandomVariableAccumulator implements RandomVariableAccumulatorInterface {
+
+	private double		time;					// Time (filtration)
+
+	// Data model for the stochastic case (otherwise null)
+	private double[]	realizations;
+
+	// Data model for the non-stochastic case (if realizations==null)
+	private double		valueIfNonStochastic;
+
+	// Allocated storage, kept while the accumulator is (temporarily) deterministic
+	private double[]	buffer;
+
+	// The values added by accumulate for each accumulation time (null if there are none)
+	private TreeMap<Double, RandomVariableAccumulator>	accumulatedValuesOfTime;
+
+	/**
+	 * Create an accumulator with a given constant initial value.
+	 *
+	 * @param time The filtration time, set to 0.0 if not used.
+	 * @param value The initial value, a constant.
+	 */
+	public RandomVariableAccumulator(double time, double value) {
+		super();
+		this.time					= time;
+		this.realizations			= null;
+		this.valueIfNonStochastic	= value;
+	}
+
+	/**
+	 * Create an accumulator with a given initial value. The values of the given random variable are copied.
+	 *
+	 * @param randomVariable The initial value.
+	 */
+	public RandomVariableAccumulator(RandomVariableInterface randomVariable) {
+		this(randomVariable.getFiltrationTime(), 0.0);
+		set(randomVariable);
+	}
+
+	/*
+	 * In-place operators
+	 */
+
+	/**
+	 * Applies x &rarr; value to this random variable, i.e., sets it to a constant.
+	 * The allocated storage is retained for later use, the recorded accumulations are discarded.
+	 *
+	 * @param value The new value.
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator set(double value) {
+		realizations			= null;
+		valueIfNonStochastic	= value;
+		accumulatedValuesOfTime	= null;
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; randomVariable to this random variable. The realizations are copied, the recorded accumulations are discarded.
+	 *
+	 * @param randomVariable The new value.
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator set(RandomVariableInterface randomVariable) {
+		time = randomVariable.getFiltrationTime();
+		if(randomVariable.isDeterministic()) return set(randomVariable.get(0));
+
+		if(randomVariable == this) {
+			accumulatedValuesOfTime	= null;
+			return this;
+		}
+
+		double[] values = getValues(randomVariable);
+		allocate(values.length);
+		System.arraycopy(values, 0, realizations, 0, values.length);
+		accumulatedValuesOfTime	= null;
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x + randomVariable to this random variable. The value added is not recorded, see {@link #accumulate(double, RandomVariableInterface)}.
+	 *
+	 * @param randomVariable The random variable to add.
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator addInPlace(RandomVariableInterface randomVariable) {
+		time = Math.max(time, randomVariable.getFiltrationTime());
+
+		if(randomVariable.isDeterministic()) {
+			double value = randomVariable.get(0);
+			if(isDeterministic())	valueIfNonStochastic += value;
+			else					for(int i=0; i<realizations.length; i++) realizations[i] += value;
+		}
+		else {
+			double[] values = getValues(randomVariable);
+			expand(values.length);
+			for(int i=0; i<realizations.length; i++) realizations[i] += values[i];
+		}
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableAccumulatorInterface#accumulate(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public void accumulate(RandomVariableInterface randomVariable) {
+		accumulate(randomVariable.getFiltrationTime(), randomVariable);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableAccumulatorInterface#accumulate(double, net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public void accumulate(double time, RandomVariableInterface randomVariable) {
+		this.time = Math.max(this.time, time);
+		addInPlace(randomVariable);
+
+		// Record the value for its accumulation time
+		if(accumulatedValuesOfTime == null) accumulatedValuesOfTime = new TreeMap<Double, RandomVariableAccumulator>();
+		RandomVariableAccumulator accumulatedValue = accumulatedValuesOfTime.get(time);
+		if(accumulatedValue == null) {
+			accumulatedValue = new RandomVariableAccumulator(time, 0.0);
+			accumulatedValuesOfTime.put(time, accumulatedValue);
+		}
+		accumulatedValue.addInPlace(randomVariable);
+	}
+
+	/**
+	 * Applies x &rarr; x + factor1 * factor2 to this random variable.
+	 *
+	 * @param factor1 The first factor.
+	 * @param factor2 The second factor.
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator addProductInPlace(RandomVariableInterface factor1, double factor2) {
+		time = Math.max(time, factor1.getFiltrationTime());
+
+		if(factor1.isDeterministic()) {
+			double value = factor1.get(0) * factor2;
+			if(isDeterministic())	valueIfNonStochastic += value;
+			else					for(int i=0; i<realizations.length; i++) realizations[i] += value;
+		}
+		else {
+			double[] factor1Realizations = getValues(factor1);
+			expand(factor1Realizations.length);
+			for(int i=0; i<realizations.length; i++) realizations[i] += factor1Realizations[i] * factor2;
+		}
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x + factor1 * factor2 to this random variable.
+	 *
+	 * @param factor1 The first factor.
+	 * @param factor2 The second factor.
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator addProductInPlace(RandomVariableInterface factor1, RandomVariableInterface factor2) {
+		if(factor2.isDeterministic()) {
+			time = Math.max(time, factor2.getFiltrationTime());
+			return addProductInPlace(factor1, factor2.get(0));
+		}
+		if(factor1.isDeterministic()) {
+			time = Math.max(time, factor1.getFiltrationTime());
+			return addProductInPlace(factor2, factor1.get(0));
+		}
+
+		time = Math.max(Math.max(time, factor1.getFiltrationTime()), factor2.getFiltrationTime());
+
+		double[] factor1Realizations = getValues(factor1);
+		double[] factor2Realizations = getValues(factor2);
+		expand(factor1Realizations.length);
+		for(int i=0; i<realizations.length; i++) realizations[i] += factor1Realizations[i] * factor2Realizations[i];
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x * value to this random variable.
+	 *
+	 * @param value The factor.
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator multInPlace(double value) {
+		if(isDeterministic())	valueIfNonStochastic *= value;
+		else					for(int i=0; i<realizations.length; i++) realizations[i] *= value;
+
+		if(accumulatedValuesOfTime != null) for(RandomVariableAccumulator accumulatedValue : accumulatedValuesOfTime.values()) accumulatedValue.multInPlace(value);
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x * (1.0 + rate * periodLength) to this random variable.
+	 *
+	 * @param rate The accruing rate
+	 * @param periodLength The period length
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator accrueInPlace(RandomVariableInterface rate, double periodLength) {
+		time = Math.max(time, rate.getFiltrationTime());
+
+		if(rate.isDeterministic()) return multInPlace(1.0 + rate.get(0) * periodLength);
+
+		double[] rateRealizations = getValues(rate);
+		expand(rateRealizations.length);
+		for(int i=0; i<realizations.length; i++) realizations[i] *= (1.0 + rateRealizations[i] * periodLength);
+
+		if(accumulatedValuesOfTime != null) for(RandomVariableAccumulator accumulatedValue : accumulatedValuesOfTime.values()) accumulatedValue.accrueInPlace(rate, periodLength);
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x / (1.0 + rate * periodLength) to this random variable.
+	 *
+	 * @param rate The discounting rate
+	 * @param periodLength The period length
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator discountInPlace(RandomVariableInterface rate, double periodLength) {
+		time = Math.max(time, rate.getFiltrationTime());
+
+		if(rate.isDeterministic()) {
+			double discountFactor = 1.0 / (1.0 + rate.get(0) * periodLength);
+			return multInPlace(discountFactor);
+		}
+
+		double[] rateRealizations = getValues(rate);
+		expand(rateRealizations.length);
+		for(int i=0; i<realizations.length; i++) realizations[i] /= (1.0 + rateRealizations[i] * periodLength);
+
+		if(accumulatedValuesOfTime != null) for(RandomVariableAccumulator accumulatedValue : accumulatedValuesOfTime.values()) accumulatedValue.discountInPlace(rate, periodLength);
+		return this;
+	}
+
+	/**
+	 * Switches this random variable to the stochastic representation using the given number of paths (if not already done)
+	 * and sets its filtration time to the maximum of its current filtration time and the given time.
+	 *
+	 * This is the preparation for the path range operations below. These require the stochastic representation and
+	 * do not change the filtration time. They only write to the given range of paths, such that
+	 * different threads may apply them concurrently to disjoint ranges of paths.
+	 *
+	 * @param time The filtration time of the values to be added.
+	 * @param numberOfPaths The number of paths.
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator expand(double time, int numberOfPaths) {
+		this.time = Math.max(this.time, time);
+		expand(numberOfPaths);
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; value to the paths <code>fromPath</code>, ..., <code>toPath-1</code> of this random variable.
+	 *
+	 * @param value The new value.
+	 * @param fromPath The first path (inclusive).
+	 * @param toPath The last path (exclusive).
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator set(double value, int fromPath, int toPath) {
+		checkPathRange(fromPath, toPath);
+		java.util.Arrays.fill(realizations, fromPath, toPath, value);
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x + value to the paths <code>fromPath</code>, ..., <code>toPath-1</code> of this random variable.
+	 *
+	 * @param value The value to add.
+	 * @param fromPath The first path (inclusive).
+	 * @param toPath The last path (exclusive).
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator addInPlace(double value, int fromPath, int toPath) {
+		checkPathRange(fromPath, toPath);
+		for(int i=fromPath; i<toPath; i++) realizations[i] += value;
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x + values to the paths <code>fromPath</code>, ..., <code>toPath-1</code> of this random variable.
+	 *
+	 * @param values The realizations to add (indexed by path).
+	 * @param fromPath The first path (inclusive).
+	 * @param toPath The last path (exclusive).
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator addInPlace(double[] values, int fromPath, int toPath) {
+		checkPathRange(fromPath, toPath);
+		for(int i=fromPath; i<toPath; i++) realizations[i] += values[i];
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x + accumulator to the paths <code>fromPath</code>, ..., <code>toPath-1</code> of this random variable,
+	 * reading the given accumulator without a copy.
+	 *
+	 * @param accumulator The accumulator to add.
+	 * @param fromPath The first path (inclusive).
+	 * @param toPath The last path (exclusive).
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator addInPlace(RandomVariableAccumulator accumulator, int fromPath, int toPath) {
+		if(accumulator.isDeterministic())	return addInPlace(accumulator.valueIfNonStochastic, fromPath, toPath);
+		else								return addInPlace(accumulator.realizations, fromPath, toPath);
+	}
+
+	/**
+	 * Applies x &rarr; x + factor1 * factor2 to the paths <code>fromPath</code>, ..., <code>toPath-1</code> of this random variable.
+	 *
+	 * @param factor1 The realizations of the first factor (indexed by path).
+	 * @param factor2 The second factor.
+	 * @param fromPath The first path (inclusive).
+	 * @param toPath The last path (exclusive).
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator addProductInPlace(double[] factor1, double factor2, int fromPath, int toPath) {
+		checkPathRange(fromPath, toPath);
+		for(int i=fromPath; i<toPath; i++) realizations[i] += factor1[i] * factor2;
+		return this;
+	}
+
+	/**
+	 * Applies x &rarr; x + factor1 * factor2 to the paths <code>fromPath</code>, ..., <code>toPath-1</code> of this random variable.
+	 *
+	 * @param factor1 The realizations of the first factor (indexed by path).
+	 * @param factor2 The realizations of the second factor (indexed by path).
+	 * @param fromPath The first path (inclusive).
+	 * @param toPath The last path (exclusive).
+	 * @return A self reference.
+	 */
+	public RandomVariableAccumulator addProductInPlace(double[] factor1, double[] factor2, int fromPath, int toPath) {
+		checkPathRange(fromPath, toPath);
+		for(int i=fromPath; i<toPath; i++) realizations[i] += factor1[i] * factor2[i];
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableAccumulatorInterface#get()
+	 */
+	@Override
+	public RandomVariableInterface get() {
+		if(isDeterministic())	return new RandomVariable(time, valueIfNonStochastic);
+		else					return new RandomVariable(time, realizations.clone());
+	}
+
+	/**
+	 * Returns the sum of the random variables recorded by <code>accumulate</code> with an accumulation time
+	 * in the interval [fromTime, toTime] (as transformed by the subsequent in-place operators).
+	 * The random variable returned is an immutable snapshot.
+	 *
+	 * @param fromTime The start of the time interval (inclusive).
+	 * @param toTime The end of the time interval (inclusive).
+	 * @return The sum of the random variables accumulated in the time interval.
+	 * @see net.finmath.stochastic.RandomVariableAccumulatorInterface#get(double, double)
+	 */
+	@Override
+	public RandomVariableInterface get(double fromTime, double toTime) {
+		RandomVariableAccumulator sum = new RandomVariableAccumulator(0.0, 0.0);
+		if(accumulatedValuesOfTime != null && fromTime <= toTime) {
+			for(RandomVariableAccumulator accumulatedValue : accumulatedValuesOfTime.subMap(fromTime, true, toTime, true).values()) sum.addInPlace(accumulatedValue);
+		}
+		return sum.get();
+	}
+
+	/**
+	 * Switch this accumulator to the stochastic representation (if not already done) using the given number of paths.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 */
+	private void expand(int numberOfPaths) {
+		if(!isDeterministic()) {
+			if(realizations.length != numberOfPaths) throw new RuntimeException("Inconsistent number of paths.");
+			return;
+		}
+
+		double value = valueIfNonStochastic;
+		allocate(numberOfPaths);
+		java.util.Arrays.fill(realizations, value);
+	}
+
+	private void checkPathRange(int fromPath, int toPath) {
+		if(isDeterministic()) throw new IllegalStateException("Path range operation on a deterministic random variable.");
+		if(fromPath < 0 || toPath > realizations.length || fromPath > toPath) throw new IndexOutOfBoundsException("Invalid path range " + fromPath + " to " + toPath + ".");
+	}
+
+	/**
+	 * Switch this accumulator to the stochastic representation, reusing the allocated storage if possible.
+	 * The content of the storage is undefined.
+	 *
+	 * @param numberOfPaths The number of paths.
+	 */
+	private void allocate(int numberOfPaths) {
+		if(buffer == null || buffer.length != numberOfPaths) buffer = new double[numberOfPaths];
+		realizations			= buffer;
+		valueIfNonStochastic	= Double.NaN;
+	}
+
+	/**
+	 * Returns the realizations of a stochastic random variable, avoiding a defensive copy where possible.
+	 * The array returned must not be modified.
+	 */
+	private static double[] getValues(RandomVariableInterface randomVariable) {
+		if(randomVariable instanceof RandomVariableAccumulator) return ((RandomVariableAccumulator)randomVariable).realizations;
+		else return randomVariable.getRealizations(randomVariable.size());
+	}
+
+	/**
+	 * Returns a <code>RandomVariable</code> sharing the storage of this object. Only used
+	 * as receiver of immutable operations, which do not retain their receiver.
+	 */
+	private RandomVariable getView() {
+		if(isDeterministic())	return new RandomVariable(time, valueIfNonStochastic);
+		else					return new RandomVariable(time, realizations);
+	}
+
+	/*
+	 * Implementation of RandomVariableInterface (immutable)
+	 */
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getMutableCopy()
+	 */
+	@Override
+	public RandomVariableAccumulator getMutableCopy() {
+		RandomVariableAccumulator copy = new RandomVariableAccumulator(this);
+		if(accumulatedValuesOfTime != null) {
+			copy.accumulatedValuesOfTime = new TreeMap<Double, RandomVariableAccumulator>();
+			for(Map.Entry<Double, RandomVariableAccumulator> accumulatedValue : accumulatedValuesOfTime.entrySet()) {
+				copy.accumulatedValuesOfTime.put(accumulatedValue.getKey(), accumulatedValue.getValue().getMutableCopy());
+			}
+		}
+		return copy;
+	}
+
+	@Override
+	public boolean equals(RandomVariableInterface randomVariable) {
+		return getView().equals(randomVariable);
+	}
+
+	@Override
+	public double getFiltrationTime() {
+		return time;
+	}
+
+	@Override
+	public double get(int pathOrState) {
+		if(isDeterministic())	return valueIfNonStochastic;
+		else					return realizations[pathOrState];
+	}
+
+	@Override
+	public int size() {
+		if(isDeterministic())	return 1;
+		else					return realizations.length;
+	}
+
+	@Override
+	public boolean isDeterministic() {
+		return realizations == null;
+	}
+
+	@Override
+	public double[] getRealizations() {
+		return getView().getRealizations();
+	}
+
+	@Override
+	public double[] getRealizations(int numberOfPaths) {
+		if(!isDeterministic() && realizations.length != numberOfPaths) throw new RuntimeException("Inconsistent number of paths.");
+
+		// Note: contrary to RandomVariable we have to return a copy, since the storage is mutable.
+		double[] values = new double[numberOfPaths];
+		if(isDeterministic())	java.util.Arrays.fill(values, valueIfNonStochastic);
+		else					System.arraycopy(realizations, 0, values, 0, numberOfPaths);
+		return values;
+	}
+
+	@Override
+	public double getMin() {
+		return getView().getMin();
+	}
+
+	@Override
+	public double getMax() {
+		return getView().getMax();
+	}
+
+	@Override
+	public double getAverage() {
+		return getView().getAverage();
+	}
+
+	@Override
+	public double getAverage(RandomVariableInterface probabilities) {
+		return getView().getAverage(probabilities);
+	}
+
+	@Override
+	public double getVariance() {
+		return getView().getVariance();
+	}
+
+	@Override
+	public double getVariance(RandomVariableInterface probabilities) {
+		return getView().getVariance(probabilities);
+	}
+
+	@Override
+	public double getStandardDeviation() {
+		return getView().getStandardDeviation();
+	}
+
+	@Override
+	public double getStandardDeviation(RandomVariableInterface probabilities) {
+		return getView().getStandardDeviation(probabilities);
+	}
+
+	@Override
+	public double getStandardError() {
+		return getView().getStandardError();
+	}
+
+	@Override
+	public double getStandardError(RandomVariableInterface probabilities) {
+		return getView().getStandardError(probabilities);
+	}
+
+	@Override
+	public double getQuantile(double quantile) {
+		return getView().getQuantile(quantile);
+	}
+
+	@Override
+	public double[] getQuantiles(double[] quantiles) {
+		return getView().getQuantiles(quantiles);
+	}
+
+	@Override
+	public double getQuantile(double quantile, RandomVariableInterface probabilities) {
+		return getView().getQuantile(quantile, probabilities);
+	}
+
+	@Override
+	public double getQuantileExpectation(double quantileStart, double quantileEnd) {
+		return getView().getQuantileExpectation(quantileStart, quantileEnd);
+	}
+
+	@Override
+	public double[] getHistogram(double[] intervalPoints) {
+		return getView().getHistogram(intervalPoints);
+	}
+
+	@Override
+	public double[][] getHistogram(int numberOfPoints, double standardDeviations) {
+		return getView().getHistogram(numberOfPoints, standardDeviations);
+	}
+
+	@Override
+	public RandomVariableInterface cap(double cap) {
+		return getView().cap(cap);
+	}
+
+	@Override
+	public RandomVariableInterface floor(double floor) {
+		return getView().floor(floor);
+	}
+
+	@Override
+	public RandomVariableInterface add(double value) {
+		return getView().add(value);
+	}
+
+	@Override
+	public RandomVariableInterface sub(double value) {
+		return getView().sub(value);
+	}
+
+	@Override
+	public RandomVariableInterface mult(double value) {
+		return getView().mult(value);
+	}
+
+	@Override
+	public RandomVariableInterface div(double value) {
+		return getView().div(value);
+	}
+
+	@Override
+	public RandomVariableInterface pow(double exponent) {
+		return getView().pow(exponent);
+	}
+
+	@Override
+	public RandomVariableInterface squared() {
+		return getView().squared();
+	}
+
+	@Override
+	public RandomVariableInterface sqrt() {
+		return getView().sqrt();
+	}
+
+	@Override
+	public RandomVariableInterface exp() {
+		return getView().exp();
+	}
+
+	@Override
+	public RandomVariableInterface log() {
+		return getView().log();
+	}
+
+	@Override
+	public RandomVariableInterface sin() {
+		return getView().sin();
+	}
+
+	@Override
+	public RandomVariableInterface cos() {
+		return getView().cos();
+	}
+
+	@Override
+	public RandomVariableInterface add(RandomVariableInterface randomVariable) {
+		return getView().add(randomVariable);
+	}
+
+	@Override
+	public RandomVariableInterface sub(RandomVariableInterface randomVariable) {
+		return getView().sub(randomVariable);
+	}
+
+	@Override
+	public RandomVariableInterface mult(RandomVariableInterface randomVariable) {
+		return getView().mult(randomVariable);
+	}
+
+	@Override
+	public RandomVariableInterface div(RandomVariableInterface randomVariable) {
+		return getView().div(randomVariable);
+	}
+
+	@Override
+	public RandomVariableInterface cap(RandomVariableInterface cap) {
+		return getView().cap(cap);
+	}
+
+	@Override
+	public RandomVariableInterface floor(RandomVariableInterface floor) {
+		return getView().floor(floor);
+	}
+
+	@Override
+	public RandomVariableInterface accrue(RandomVariableInterface rate, double periodLength) {
+		return getView().accrue(rate, periodLength);
+	}
+
+	@Override
+	public RandomVariableInterface discount(RandomVariableInterface rate, double periodLength) {
+		return getView().discount(rate, periodLength);
+	}
+
+	@Override
+	public RandomVariableInterface barrier(RandomVariableInterface trigger, RandomVariableInterface valueIfTriggerNonNegative, RandomVariableInterface valueIfTriggerNegative) {
+		return getView().barrier(trigger, valueIfTriggerNonNegative, valueIfTriggerNegative);
+	}
+
+	@Override
+	public RandomVariableInterface barrier(RandomVariableInterface trigger, RandomVariableInterface valueIfTriggerNonNegative, double valueIfTriggerNegative) {
+		return getView().barrier(trigger, valueIfTriggerNonNegative, valueIfTriggerNegative);
+	}
+
+	@Override
+	public RandomVariableInterface invert() {
+		return getView().invert();
+	}
+
+	@Override
+	public RandomVariableInterface abs() {
+		return getView().abs();
+	}
+
+	@Override
+	public RandomVariableInterface addProduct(RandomVariableInterface factor1, double factor2) {
+		return getView().addProduct(factor1, factor2);
+	}
+
+	@Override
+	public RandomVariableInterface addProduct(RandomVariableInterface factor1, RandomVariableInterface factor2) {
+		return getView().addProduct(factor1, factor2);
+	}
+
+	@Override
+	public RandomVariableInterface addRatio(RandomVariableInterface numerator, RandomVariableInterface denominator) {
+		return getView().addRatio(numerator, denominator);
+	}
+
+	@Override
+	public RandomVariableInterface subRatio(RandomVariableInterface numerator, RandomVariableInterface denominator) {
+		return getView().subRatio(numerator, denominator);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return super.toString()
+				+ "\n" + "time: " + time
+				+ "\n" + "realizations: " + java.util.Arrays.toString(realizations);
+	}
+}
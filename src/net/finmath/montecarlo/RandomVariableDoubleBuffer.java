@@ -0,0 +1,534 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.nio.DoubleBuffer;
+
+import net.finmath.stochastic.RandomVariableInterface;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * A random variable whose realizations are backed by a <code>java.nio.DoubleBuffer</code>, e.g., a view on a direct
+ * (off-heap) or memory mapped buffer.
+ *
+ * The object is a read-only view: the realizations are not copied when the object is created and are read from the
+ * buffer on each access. The results of arithmetic operations are new <code>RandomVariable</code> objects on the heap.
+ * The owner of the buffer has to ensure that the underlying data is not modified (and that a memory mapped file is
+ * not truncated) while the view is in use.
+ *
+ * Accesses performed exclusively through the interface
+ * <code>RandomVariableInterface</code> is thread safe (and does not mutate the class).
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class RandomVariableDoubleBuffer implements RandomVariableInterface {
+
+	private final double		time;	                // Time (filtration)
+
+	// Data model for the stochastic case
+	private final DoubleBuffer	realizations;           // Realizations (read only view)
+
+	/**
+	 * Create a random variable using the elements <code>0, ..., realisations.limit()-1</code> of the given buffer as realizations.
+	 * The buffer is not copied.
+	 *
+	 * @param time the filtration time, set to 0.0 if not used.
+	 * @param realisations the buffer of realizations.
+	 */
+	public RandomVariableDoubleBuffer(double time, DoubleBuffer realisations) {
+		super();
+		this.time = time;
+		this.realizations = realisations.asReadOnlyBuffer();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getMutableCopy()
+	 */
+	@Override
+	public RandomVariableDoubleBuffer getMutableCopy() {
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#equals(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public boolean equals(RandomVariableInterface randomVariable) {
+		if(this.time != randomVariable.getFiltrationTime()) return false;
+		if(randomVariable.isDeterministic()) return false;
+
+		for(int i=0; i<realizations.limit(); i++) if(realizations.get(i) != randomVariable.get(i)) return false;
+
+		return true;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getFiltrationTime()
+	 */
+	@Override
+	public double getFiltrationTime() {
+		return time;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#get(int)
+	 */
+	@Override
+	public double get(int pathOrState) {
+		return realizations.get(pathOrState);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#size()
+	 */
+	@Override
+	public int size() {
+		return realizations.limit();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#isDeterministic()
+	 */
+	@Override
+	public boolean isDeterministic() {
+		return false;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getRealizations()
+	 */
+	@Override
+	public double[] getRealizations() {
+		return getRealizations(realizations.limit());
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getRealizations(int)
+	 */
+	@Override
+	public double[] getRealizations(int numberOfPaths) {
+		if(realizations.limit() != numberOfPaths) throw new RuntimeException("Inconsistent number of paths.");
+
+		double[] values = new double[numberOfPaths];
+		realizations.duplicate().get(values);
+		return values;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getMin()
+	 */
+	@Override
+	public double getMin() {
+		double min = Double.MAX_VALUE;
+		for(int i=0; i<realizations.limit(); i++) min = Math.min(realizations.get(i),min);
+		return min;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getMax()
+	 */
+	@Override
+	public double getMax() {
+		double max = -Double.MAX_VALUE;
+		for(int i=0; i<realizations.limit(); i++) max = Math.max(realizations.get(i),max);
+		return max;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getAverage()
+	 */
+	@Override
+	public double getAverage() {
+		if(size() == 0)			return Double.NaN;
+
+		double sum = 0.0;
+		for(int i=0; i<realizations.limit(); i++) sum += realizations.get(i);
+		return sum/realizations.limit();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getAverage(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getAverage(RandomVariableInterface probabilities) {
+		if(size() == 0)			return Double.NaN;
+
+		double average = 0.0;
+		for(int i=0; i<realizations.limit(); i++) average += realizations.get(i) * probabilities.get(i);
+		return average;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getVariance()
+	 */
+	@Override
+	public double getVariance() {
+		if(size() == 0)			return Double.NaN;
+
+		double sum			= 0.0;
+		double sumOfSquared = 0.0;
+		for(int i=0; i<realizations.limit(); i++) {
+			double realization = realizations.get(i);
+			sum				+= realization;
+			sumOfSquared	+= realization * realization;
+		}
+		return sumOfSquared/realizations.limit() - sum/realizations.limit() * sum/realizations.limit();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getVariance(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getVariance(RandomVariableInterface probabilities) {
+		if(size() == 0)			return Double.NaN;
+
+		double mean			= 0.0;
+		double secondMoment = 0.0;
+		for(int i=0; i<realizations.limit(); i++) {
+			double realization = realizations.get(i);
+			mean			+= realization * probabilities.get(i);
+			secondMoment	+= realization * realization * probabilities.get(i);
+		}
+		return secondMoment - mean*mean;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getStandardDeviation()
+	 */
+	@Override
+	public double getStandardDeviation() {
+		if(size() == 0)			return Double.NaN;
+
+		return Math.sqrt(getVariance());
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getStandardDeviation(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getStandardDeviation(RandomVariableInterface probabilities) {
+		if(size() == 0)			return Double.NaN;
+
+		return Math.sqrt(getVariance(probabilities));
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getStandardError()
+	 */
+	@Override
+	public double getStandardError() {
+		if(size() == 0)			return Double.NaN;
+
+		return getStandardDeviation()/Math.sqrt(size());
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getStandardError(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getStandardError(RandomVariableInterface probabilities) {
+		if(size() == 0)			return Double.NaN;
+
+		return getStandardDeviation(probabilities)/Math.sqrt(size());
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getQuantile(double)
+	 */
+	@Override
+	public double getQuantile(double quantile) {
+		return getAsRandomVariable().getQuantile(quantile);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getQuantiles(double[])
+	 */
+	@Override
+	public double[] getQuantiles(double[] quantiles) {
+		return getAsRandomVariable().getQuantiles(quantiles);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getQuantile(double, net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getQuantile(double quantile, RandomVariableInterface probabilities) {
+		return getAsRandomVariable().getQuantile(quantile, probabilities);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getQuantileExpectation(double, double)
+	 */
+	@Override
+	public double getQuantileExpectation(double quantileStart, double quantileEnd) {
+		return getAsRandomVariable().getQuantileExpectation(quantileStart, quantileEnd);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getHistogram(double[])
+	 */
+	@Override
+	public double[] getHistogram(double[] intervalPoints) {
+		return getAsRandomVariable().getHistogram(intervalPoints);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getHistogram(int, double)
+	 */
+	@Override
+	public double[][] getHistogram(int numberOfPoints, double standardDeviations) {
+		return getAsRandomVariable().getHistogram(numberOfPoints, standardDeviations);
+	}
+
+	/**
+	 * Returns a copy of this random variable on the heap.
+	 *
+	 * @return A copy of this random variable on the heap.
+	 */
+	public RandomVariable getAsRandomVariable() {
+		return new RandomVariable(time, getRealizations());
+	}
+
+	/*
+	 * Arithmetic operations. The result is a new <code>RandomVariable</code>.
+	 */
+
+	@Override
+	public RandomVariableInterface cap(double cap) {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = Math.min(realizations.get(i),cap);
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface floor(double floor) {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = Math.max(realizations.get(i),floor);
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface add(double value) {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (realizations.get(i) + value);
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface sub(double value) {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (realizations.get(i) - value);
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface mult(double value) {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (realizations.get(i) * value);
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface div(double value) {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (realizations.get(i) / value);
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface pow(double exponent) {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = Math.pow(realizations.get(i),exponent);
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface squared() {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) {
+			double realization = realizations.get(i);
+			newRealizations[i] = (realization * realization);
+		}
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface sqrt() {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = Math.sqrt(realizations.get(i));
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface exp() {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = FastMath.exp(realizations.get(i));
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface log() {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = FastMath.log(realizations.get(i));
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface sin() {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = FastMath.sin(realizations.get(i));
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface cos() {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = FastMath.cos(realizations.get(i));
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface invert() {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (1.0/realizations.get(i));
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface abs() {
+		double[] newRealizations = new double[realizations.limit()];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = Math.abs(realizations.get(i));
+		return new RandomVariable(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface add(RandomVariableInterface randomVariable) {
+		double newTime = Math.max(time, randomVariable.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) + randomVariable.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface sub(RandomVariableInterface randomVariable) {
+		double newTime = Math.max(time, randomVariable.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) - randomVariable.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface mult(RandomVariableInterface randomVariable) {
+		double newTime = Math.max(time, randomVariable.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) * randomVariable.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface div(RandomVariableInterface randomVariable) {
+		double newTime = Math.max(time, randomVariable.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), randomVariable.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) / randomVariable.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface cap(RandomVariableInterface cap) {
+		double newTime = Math.max(time, cap.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), cap.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = FastMath.min(get(i), cap.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface floor(RandomVariableInterface floor) {
+		double newTime = Math.max(time, floor.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), floor.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = FastMath.max(get(i), floor.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface accrue(RandomVariableInterface rate, double periodLength) {
+		double newTime = Math.max(time, rate.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), rate.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) * (1.0 + rate.get(i) * periodLength));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface discount(RandomVariableInterface rate, double periodLength) {
+		double newTime = Math.max(time, rate.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), rate.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) / (1.0 + rate.get(i) * periodLength));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface barrier(RandomVariableInterface trigger, RandomVariableInterface valueIfTriggerNonNegative, RandomVariableInterface valueIfTriggerNegative) {
+		// Set time of this random variable to maximum of time with respect to which measurability is known.
+		double newTime = Math.max(time, trigger.getFiltrationTime());
+		newTime = Math.max(newTime, valueIfTriggerNonNegative.getFiltrationTime());
+		newTime = Math.max(newTime, valueIfTriggerNegative.getFiltrationTime());
+
+		int numberOfPaths = Math.max(Math.max(trigger.size(), valueIfTriggerNonNegative.size()), valueIfTriggerNegative.size());
+		double[] newRealizations = new double[numberOfPaths];
+		for(int i=0; i<newRealizations.length; i++) {
+			newRealizations[i] = (trigger.get(i) >= 0.0 ? valueIfTriggerNonNegative.get(i) : valueIfTriggerNegative.get(i));
+		}
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface barrier(RandomVariableInterface trigger, RandomVariableInterface valueIfTriggerNonNegative, double valueIfTriggerNegative) {
+		return this.barrier(trigger, valueIfTriggerNonNegative, new RandomVariable(valueIfTriggerNonNegative.getFiltrationTime(), valueIfTriggerNegative));
+	}
+
+	@Override
+	public RandomVariableInterface addProduct(RandomVariableInterface factor1, double factor2) {
+		double newTime = Math.max(time, factor1.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(size(), factor1.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) + factor1.get(i) * factor2);
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface addProduct(RandomVariableInterface factor1, RandomVariableInterface factor2) {
+		double newTime = Math.max(Math.max(time, factor1.getFiltrationTime()), factor2.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(Math.max(size(), factor1.size()), factor2.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) + factor1.get(i) * factor2.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface addRatio(RandomVariableInterface numerator, RandomVariableInterface denominator) {
+		double newTime = Math.max(Math.max(time, numerator.getFiltrationTime()), denominator.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(Math.max(size(), numerator.size()), denominator.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) + numerator.get(i) / denominator.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface subRatio(RandomVariableInterface numerator, RandomVariableInterface denominator) {
+		double newTime = Math.max(Math.max(time, numerator.getFiltrationTime()), denominator.getFiltrationTime());
+		double[] newRealizations = new double[Math.max(Math.max(size(), numerator.size()), denominator.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (get(i) - numerator.get(i) / denominator.get(i));
+		return new RandomVariable(newTime, newRealizations);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return super.toString()
+				+ "\n" + "time: " + time
+				+ "\n" + "realizations: " + realizations;
+	}
+}
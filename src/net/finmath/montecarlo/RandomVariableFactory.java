@@ -0,0 +1,130 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import net.finmath.stochastic.RandomVariableInterface;
+
+/**
+ * A factory creating the random variables used to store simulated values, e.g., the paths of a process.
+ *
+ * The factory allows to switch the storage between double precision (<code>RandomVariable</code>, the default) and
+ * single precision (<code>RandomVariableFloat</code>). Single precision storage halves the memory footprint
+ * and the memory bandwidth of the path storage at the cost of a relative rounding error of about 6E-8 on each stored value.
+ *
+ * In addition, the factory may request lazy evaluation of the operations performed on the simulated values
+ * (see {@link #createOperand(RandomVariableInterface)}), e.g., by the model functions (drift and factor loadings) called by
+ * <code>ProcessEulerScheme</code>. The operations of a model function are then evaluated in a single pass over the paths
+ * (see {@link RandomVariableLazyEvaluation}), giving identical results.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class RandomVariableFactory {
+
+	private final boolean isUseDoublePrecisionFloatingPointImplementation;
+	private final boolean isUseLazyEvaluation;
+
+	/**
+	 * Create a factory for double precision random variables (<code>RandomVariable</code>).
+	 */
+	public RandomVariableFactory() {
+		this(true);
+	}
+
+	/**
+	 * Create a factory for random variables.
+	 *
+	 * @param isUseDoublePrecisionFloatingPointImplementation If true, <code>RandomVariable</code> is used, otherwise <code>RandomVariableFloat</code>.
+	 */
+	public RandomVariableFactory(boolean isUseDoublePrecisionFloatingPointImplementation) {
+		this(isUseDoublePrecisionFloatingPointImplementation, false);
+	}
+
+	/**
+	 * Create a factory for random variables.
+	 *
+	 * @param isUseDoublePrecisionFloatingPointImplementation If true, <code>RandomVariable</code> is used, otherwise <code>RandomVariableFloat</code>.
+	 * @param isUseLazyEvaluation If true, {@link #createOperand(RandomVariableInterface)} returns a <code>RandomVariableLazyEvaluation</code>.
+	 */
+	public RandomVariableFactory(boolean isUseDoublePrecisionFloatingPointImplementation, boolean isUseLazyEvaluation) {
+		super();
+		this.isUseDoublePrecisionFloatingPointImplementation = isUseDoublePrecisionFloatingPointImplementation;
+		this.isUseLazyEvaluation = isUseLazyEvaluation;
+	}
+
+	/**
+	 * Create a non stochastic random variable, i.e. a constant.
+	 *
+	 * @param time The filtration time.
+	 * @param value The value.
+	 * @return The random variable.
+	 */
+	public RandomVariableInterface createRandomVariable(double time, double value) {
+		if(isUseDoublePrecisionFloatingPointImplementation)	return new RandomVariable(time, value);
+		else												return new RandomVariableFloat(time, value);
+	}
+
+	/**
+	 * Create a stochastic random variable. If the factory creates double precision random variables
+	 * the given array is not copied.
+	 *
+	 * @param time The filtration time.
+	 * @param values The realizations.
+	 * @return The random variable.
+	 */
+	public RandomVariableInterface createRandomVariable(double time, double[] values) {
+		if(isUseDoublePrecisionFloatingPointImplementation)	return new RandomVariable(time, values);
+		else												return new RandomVariableFloat(time, values);
+	}
+
+	/**
+	 * Returns the given random variable in the representation of this factory.
+	 * If the random variable is already a <code>RandomVariable</code> (or a <code>RandomVariableFloat</code>, respectively), it is returned as is.
+	 * Note that the given random variable is assumed to be immutable.
+	 *
+	 * @param randomVariable The random variable.
+	 * @return The random variable in the representation of this factory.
+	 */
+	public RandomVariableInterface createRandomVariable(RandomVariableInterface randomVariable) {
+		if(isUseDoublePrecisionFloatingPointImplementation) {
+			if(randomVariable instanceof RandomVariable) return randomVariable;
+			else if(randomVariable.isDeterministic()) return new RandomVariable(randomVariable.getFiltrationTime(), randomVariable.get(0));
+			else return new RandomVariable(randomVariable.getFiltrationTime(), randomVariable.getRealizations());
+		}
+		else {
+			if(randomVariable instanceof RandomVariableFloat) return randomVariable;
+			else return new RandomVariableFloat(randomVariable);
+		}
+	}
+
+	/**
+	 * Returns the given random variable to be used as an operand of a calculation.
+	 * If the factory uses lazy evaluation, the random variable is wrapped in a <code>RandomVariableLazyEvaluation</code>
+	 * (referencing its realizations), such that the operations applied to it are deferred and evaluated in a single pass.
+	 * Otherwise it is returned as is.
+	 *
+	 * @param randomVariable The random variable (may be null).
+	 * @return The random variable to be used as an operand (null if the given random variable is null).
+	 */
+	public RandomVariableInterface createOperand(RandomVariableInterface randomVariable) {
+		if(!isUseLazyEvaluation || randomVariable == null || randomVariable instanceof RandomVariableLazyEvaluation) return randomVariable;
+		else return new RandomVariableLazyEvaluation(randomVariable);
+	}
+
+	/**
+	 * @return True, if the factory creates double precision random variables.
+	 */
+	public boolean isUseDoublePrecisionFloatingPointImplementation() {
+		return isUseDoublePrecisionFloatingPointImplementation;
+	}
+
+	/**
+	 * @return True, if the factory requests lazy evaluation of the operations on its operands.
+	 */
+	public boolean isUseLazyEvaluation() {
+		return isUseLazyEvaluation;
+	}
+}
@@ -0,0 +1,663 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.util.Arrays;
+
+import net.finmath.stochastic.RandomVariableInterface;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * A random variable storing its realizations in single precision (<code>float</code>).
+ *
+ * The class is intended to reduce the memory footprint and the memory bandwidth of large path storages,
+ * e.g., the stored paths of a process. Only the storage is single precision: all arithmetic is performed in double precision
+ * on the widened values and the result is rounded to single precision when stored. All reductions
+ * (average, variance, etc.) are accumulated in double precision.
+ *
+ * A non-stochastic random variable is stored as double.
+ *
+ * Accesses performed exclusively through the interface
+ * <code>RandomVariableInterface</code> is thread safe (and does not mutate the class).
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class RandomVariableFloat implements RandomVariableInterface {
+
+	private final double	time;	                // Time (filtration)
+
+	// Data model for the stochastic case (otherwise null)
+	private final float[]	realizations;           // Realizations
+
+	// Data model for the non-stochastic case (if realizations==null)
+	private final double	valueIfNonStochastic;
+
+	/**
+	 * Create a non stochastic random variable, i.e. a constant.
+	 *
+	 * @param time the filtration time, set to 0.0 if not used.
+	 * @param value the value, a constant.
+	 */
+	public RandomVariableFloat(double time, double value) {
+		super();
+		this.time = time;
+		this.realizations = null;
+		this.valueIfNonStochastic = value;
+	}
+
+	/**
+	 * Create a stochastic random variable. The realizations are not copied.
+	 *
+	 * @param time the filtration time, set to 0.0 if not used.
+	 * @param realisations the vector of realizations.
+	 */
+	public RandomVariableFloat(double time, float[] realisations) {
+		super();
+		this.time = time;
+		this.realizations = realisations;
+		this.valueIfNonStochastic = Double.NaN;
+	}
+
+	/**
+	 * Create a stochastic random variable. The realizations are rounded to single precision.
+	 *
+	 * @param time the filtration time, set to 0.0 if not used.
+	 * @param realisations the vector of realizations.
+	 */
+	public RandomVariableFloat(double time, double[] realisations) {
+		this(time, getFloatArray(realisations));
+	}
+
+	/**
+	 * Create a single precision copy of a given random variable.
+	 *
+	 * @param randomVariable The random variable.
+	 */
+	public RandomVariableFloat(RandomVariableInterface randomVariable) {
+		super();
+		this.time = randomVariable.getFiltrationTime();
+		if(randomVariable.isDeterministic()) {
+			this.realizations = null;
+			this.valueIfNonStochastic = randomVariable.get(0);
+		}
+		else {
+			this.realizations = new float[randomVariable.size()];
+			for(int i=0; i<realizations.length; i++) realizations[i] = (float)randomVariable.get(i);
+			this.valueIfNonStochastic = Double.NaN;
+		}
+	}
+
+	private static float[] getFloatArray(double[] values) {
+		float[] floatValues = new float[values.length];
+		for(int i=0; i<values.length; i++) floatValues[i] = (float)values[i];
+		return floatValues;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getMutableCopy()
+	 */
+	@Override
+	public RandomVariableFloat getMutableCopy() {
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#equals(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public boolean equals(RandomVariableInterface randomVariable) {
+		if(this.time != randomVariable.getFiltrationTime()) return false;
+		if(this.isDeterministic() && randomVariable.isDeterministic()) {
+			return this.valueIfNonStochastic == randomVariable.get(0);
+		}
+
+		if(this.isDeterministic() != randomVariable.isDeterministic()) return false;
+
+		for(int i=0; i<realizations.length; i++) if(realizations[i] != randomVariable.get(i)) return false;
+
+		return true;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getFiltrationTime()
+	 */
+	@Override
+	public double getFiltrationTime() {
+		return time;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#get(int)
+	 */
+	@Override
+	public double get(int pathOrState) {
+		if(isDeterministic())	return valueIfNonStochastic;
+		else					return realizations[pathOrState];
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#size()
+	 */
+	@Override
+	public int size() {
+		if(isDeterministic())	return 1;
+		else					return realizations.length;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#isDeterministic()
+	 */
+	@Override
+	public boolean isDeterministic() {
+		return realizations == null;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getRealizations()
+	 */
+	@Override
+	public double[] getRealizations() {
+		if(isDeterministic())	return new double[] { valueIfNonStochastic };
+		else					return getRealizations(realizations.length);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getRealizations(int)
+	 */
+	@Override
+	public double[] getRealizations(int numberOfPaths) {
+		if(!isDeterministic() && realizations.length != numberOfPaths) throw new RuntimeException("Inconsistent number of paths.");
+
+		double[] values = new double[numberOfPaths];
+		for(int i=0; i<numberOfPaths; i++) values[i] = get(i);
+		return values;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getMin()
+	 */
+	@Override
+	public double getMin() {
+		if(isDeterministic())	return valueIfNonStochastic;
+		double min = Double.MAX_VALUE;
+		for(int i=0; i<realizations.length; i++) min = Math.min(realizations[i],min);
+		return min;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getMax()
+	 */
+	@Override
+	public double getMax() {
+		if(isDeterministic())	return valueIfNonStochastic;
+		double max = -Double.MAX_VALUE;
+		for(int i=0; i<realizations.length; i++) max = Math.max(realizations[i],max);
+		return max;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getAverage()
+	 */
+	@Override
+	public double getAverage() {
+		if(isDeterministic())	return valueIfNonStochastic;
+		if(size() == 0)			return Double.NaN;
+
+		double sum = 0.0;
+		for(int i=0; i<realizations.length; i++) sum += realizations[i];
+		return sum/realizations.length;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getAverage(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getAverage(RandomVariableInterface probabilities) {
+		if(isDeterministic())	return valueIfNonStochastic;
+		if(size() == 0)			return Double.NaN;
+
+		double average = 0.0;
+		for(int i=0; i<realizations.length; i++) average += realizations[i] * probabilities.get(i);
+		return average;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getVariance()
+	 */
+	@Override
+	public double getVariance() {
+		if(isDeterministic())	return 0.0;
+		if(size() == 0)			return Double.NaN;
+
+		double sum			= 0.0;
+		double sumOfSquared = 0.0;
+		for(int i=0; i<realizations.length; i++) {
+			double realization = realizations[i];
+			sum				+= realization;
+			sumOfSquared	+= realization * realization;
+		}
+		return sumOfSquared/realizations.length - sum/realizations.length * sum/realizations.length;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getVariance(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getVariance(RandomVariableInterface probabilities) {
+		if(isDeterministic())	return 0.0;
+		if(size() == 0)			return Double.NaN;
+
+		double mean			= 0.0;
+		double secondMoment = 0.0;
+		for(int i=0; i<realizations.length; i++) {
+			double realization = realizations[i];
+			mean			+= realization * probabilities.get(i);
+			secondMoment	+= realization * realization * probabilities.get(i);
+		}
+		return secondMoment - mean*mean;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getStandardDeviation()
+	 */
+	@Override
+	public double getStandardDeviation() {
+		if(isDeterministic())	return 0.0;
+		if(size() == 0)			return Double.NaN;
+
+		return Math.sqrt(getVariance());
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getStandardDeviation(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getStandardDeviation(RandomVariableInterface probabilities) {
+		if(isDeterministic())	return 0.0;
+		if(size() == 0)			return Double.NaN;
+
+		return Math.sqrt(getVariance(probabilities));
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getStandardError()
+	 */
+	@Override
+	public double getStandardError() {
+		if(isDeterministic())	return 0.0;
+		if(size() == 0)			return Double.NaN;
+
+		return getStandardDeviation()/Math.sqrt(size());
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getStandardError(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getStandardError(RandomVariableInterface probabilities) {
+		if(isDeterministic())	return 0.0;
+		if(size() == 0)			return Double.NaN;
+
+		return getStandardDeviation(probabilities)/Math.sqrt(size());
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getQuantile(double)
+	 */
+	@Override
+	public double getQuantile(double quantile) {
+		return getAsRandomVariable().getQuantile(quantile);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getQuantiles(double[])
+	 */
+	@Override
+	public double[] getQuantiles(double[] quantiles) {
+		return getAsRandomVariable().getQuantiles(quantiles);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getQuantile(double, net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public double getQuantile(double quantile, RandomVariableInterface probabilities) {
+		return getAsRandomVariable().getQuantile(quantile, probabilities);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getQuantileExpectation(double, double)
+	 */
+	@Override
+	public double getQuantileExpectation(double quantileStart, double quantileEnd) {
+		return getAsRandomVariable().getQuantileExpectation(quantileStart, quantileEnd);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getHistogram(double[])
+	 */
+	@Override
+	public double[] getHistogram(double[] intervalPoints) {
+		return getAsRandomVariable().getHistogram(intervalPoints);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getHistogram(int, double)
+	 */
+	@Override
+	public double[][] getHistogram(int numberOfPoints, double standardDeviations) {
+		return getAsRandomVariable().getHistogram(numberOfPoints, standardDeviations);
+	}
+
+	/**
+	 * Returns a double precision copy of this random variable.
+	 *
+	 * @return A double precision copy of this random variable.
+	 */
+	public RandomVariable getAsRandomVariable() {
+		if(isDeterministic())	return new RandomVariable(time, valueIfNonStochastic);
+		else					return new RandomVariable(time, getRealizations());
+	}
+
+	/*
+	 * Arithmetic operations. The operations are performed in double precision, the result is stored in single precision.
+	 */
+
+	@Override
+	public RandomVariableInterface cap(double cap) {
+		if(isDeterministic()) return new RandomVariableFloat(time, Math.min(valueIfNonStochastic,cap));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)Math.min(realizations[i],cap);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface floor(double floor) {
+		if(isDeterministic()) return new RandomVariableFloat(time, Math.max(valueIfNonStochastic,floor));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)Math.max(realizations[i],floor);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface add(double value) {
+		if(isDeterministic()) return new RandomVariableFloat(time, valueIfNonStochastic + value);
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(realizations[i] + value);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface sub(double value) {
+		if(isDeterministic()) return new RandomVariableFloat(time, valueIfNonStochastic - value);
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(realizations[i] - value);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface mult(double value) {
+		if(isDeterministic()) return new RandomVariableFloat(time, valueIfNonStochastic * value);
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(realizations[i] * value);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface div(double value) {
+		if(isDeterministic()) return new RandomVariableFloat(time, valueIfNonStochastic / value);
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(realizations[i] / value);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface pow(double exponent) {
+		if(isDeterministic()) return new RandomVariableFloat(time, Math.pow(valueIfNonStochastic,exponent));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)Math.pow(realizations[i],exponent);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface squared() {
+		if(isDeterministic()) return new RandomVariableFloat(time, valueIfNonStochastic * valueIfNonStochastic);
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) {
+			double realization = realizations[i];
+			newRealizations[i] = (float)(realization * realization);
+		}
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface sqrt() {
+		if(isDeterministic()) return new RandomVariableFloat(time, Math.sqrt(valueIfNonStochastic));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)Math.sqrt(realizations[i]);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface exp() {
+		if(isDeterministic()) return new RandomVariableFloat(time, FastMath.exp(valueIfNonStochastic));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)FastMath.exp(realizations[i]);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface log() {
+		if(isDeterministic()) return new RandomVariableFloat(time, FastMath.log(valueIfNonStochastic));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)FastMath.log(realizations[i]);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface sin() {
+		if(isDeterministic()) return new RandomVariableFloat(time, FastMath.sin(valueIfNonStochastic));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)FastMath.sin(realizations[i]);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface cos() {
+		if(isDeterministic()) return new RandomVariableFloat(time, FastMath.cos(valueIfNonStochastic));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)FastMath.cos(realizations[i]);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface invert() {
+		if(isDeterministic()) return new RandomVariableFloat(time, 1.0/valueIfNonStochastic);
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(1.0/realizations[i]);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface abs() {
+		if(isDeterministic()) return new RandomVariableFloat(time, Math.abs(valueIfNonStochastic));
+
+		float[] newRealizations = new float[realizations.length];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = Math.abs(realizations[i]);
+		return new RandomVariableFloat(time, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface add(RandomVariableInterface randomVariable) {
+		double newTime = Math.max(time, randomVariable.getFiltrationTime());
+		if(isDeterministic() && randomVariable.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic + randomVariable.get(0));
+
+		float[] newRealizations = new float[Math.max(size(), randomVariable.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) + randomVariable.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface sub(RandomVariableInterface randomVariable) {
+		double newTime = Math.max(time, randomVariable.getFiltrationTime());
+		if(isDeterministic() && randomVariable.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic - randomVariable.get(0));
+
+		float[] newRealizations = new float[Math.max(size(), randomVariable.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) - randomVariable.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface mult(RandomVariableInterface randomVariable) {
+		double newTime = Math.max(time, randomVariable.getFiltrationTime());
+		if(isDeterministic() && randomVariable.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic * randomVariable.get(0));
+
+		float[] newRealizations = new float[Math.max(size(), randomVariable.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) * randomVariable.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface div(RandomVariableInterface randomVariable) {
+		double newTime = Math.max(time, randomVariable.getFiltrationTime());
+		if(isDeterministic() && randomVariable.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic / randomVariable.get(0));
+
+		float[] newRealizations = new float[Math.max(size(), randomVariable.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) / randomVariable.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface cap(RandomVariableInterface cap) {
+		double newTime = Math.max(time, cap.getFiltrationTime());
+		if(isDeterministic() && cap.isDeterministic()) return new RandomVariableFloat(newTime, FastMath.min(valueIfNonStochastic, cap.get(0)));
+
+		float[] newRealizations = new float[Math.max(size(), cap.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)FastMath.min(get(i), cap.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface floor(RandomVariableInterface floor) {
+		double newTime = Math.max(time, floor.getFiltrationTime());
+		if(isDeterministic() && floor.isDeterministic()) return new RandomVariableFloat(newTime, FastMath.max(valueIfNonStochastic, floor.get(0)));
+
+		float[] newRealizations = new float[Math.max(size(), floor.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)FastMath.max(get(i), floor.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface accrue(RandomVariableInterface rate, double periodLength) {
+		double newTime = Math.max(time, rate.getFiltrationTime());
+		if(isDeterministic() && rate.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic * (1.0 + rate.get(0) * periodLength));
+
+		float[] newRealizations = new float[Math.max(size(), rate.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) * (1.0 + rate.get(i) * periodLength));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface discount(RandomVariableInterface rate, double periodLength) {
+		double newTime = Math.max(time, rate.getFiltrationTime());
+		if(isDeterministic() && rate.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic / (1.0 + rate.get(0) * periodLength));
+
+		float[] newRealizations = new float[Math.max(size(), rate.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) / (1.0 + rate.get(i) * periodLength));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface barrier(RandomVariableInterface trigger, RandomVariableInterface valueIfTriggerNonNegative, RandomVariableInterface valueIfTriggerNegative) {
+		// Set time of this random variable to maximum of time with respect to which measurability is known.
+		double newTime = Math.max(time, trigger.getFiltrationTime());
+		newTime = Math.max(newTime, valueIfTriggerNonNegative.getFiltrationTime());
+		newTime = Math.max(newTime, valueIfTriggerNegative.getFiltrationTime());
+
+		if(isDeterministic() && trigger.isDeterministic() && valueIfTriggerNonNegative.isDeterministic() && valueIfTriggerNegative.isDeterministic()) {
+			double newValueIfNonStochastic = trigger.get(0) >= 0 ? valueIfTriggerNonNegative.get(0) : valueIfTriggerNegative.get(0);
+			return new RandomVariableFloat(newTime, newValueIfNonStochastic);
+		}
+
+		int numberOfPaths = Math.max(Math.max(trigger.size(), valueIfTriggerNonNegative.size()), valueIfTriggerNegative.size());
+		float[] newRealizations = new float[numberOfPaths];
+		for(int i=0; i<newRealizations.length; i++) {
+			newRealizations[i] = (float)(trigger.get(i) >= 0.0 ? valueIfTriggerNonNegative.get(i) : valueIfTriggerNegative.get(i));
+		}
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface barrier(RandomVariableInterface trigger, RandomVariableInterface valueIfTriggerNonNegative, double valueIfTriggerNegative) {
+		return this.barrier(trigger, valueIfTriggerNonNegative, new RandomVariableFloat(valueIfTriggerNonNegative.getFiltrationTime(), valueIfTriggerNegative));
+	}
+
+	@Override
+	public RandomVariableInterface addProduct(RandomVariableInterface factor1, double factor2) {
+		double newTime = Math.max(time, factor1.getFiltrationTime());
+		if(isDeterministic() && factor1.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic + factor1.get(0) * factor2);
+
+		float[] newRealizations = new float[Math.max(size(), factor1.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) + factor1.get(i) * factor2);
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface addProduct(RandomVariableInterface factor1, RandomVariableInterface factor2) {
+		double newTime = Math.max(Math.max(time, factor1.getFiltrationTime()), factor2.getFiltrationTime());
+		if(isDeterministic() && factor1.isDeterministic() && factor2.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic + factor1.get(0) * factor2.get(0));
+
+		float[] newRealizations = new float[Math.max(Math.max(size(), factor1.size()), factor2.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) + factor1.get(i) * factor2.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface addRatio(RandomVariableInterface numerator, RandomVariableInterface denominator) {
+		double newTime = Math.max(Math.max(time, numerator.getFiltrationTime()), denominator.getFiltrationTime());
+		if(isDeterministic() && numerator.isDeterministic() && denominator.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic + numerator.get(0) / denominator.get(0));
+
+		float[] newRealizations = new float[Math.max(Math.max(size(), numerator.size()), denominator.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) + numerator.get(i) / denominator.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	@Override
+	public RandomVariableInterface subRatio(RandomVariableInterface numerator, RandomVariableInterface denominator) {
+		double newTime = Math.max(Math.max(time, numerator.getFiltrationTime()), denominator.getFiltrationTime());
+		if(isDeterministic() && numerator.isDeterministic() && denominator.isDeterministic()) return new RandomVariableFloat(newTime, valueIfNonStochastic - numerator.get(0) / denominator.get(0));
+
+		float[] newRealizations = new float[Math.max(Math.max(size(), numerator.size()), denominator.size())];
+		for(int i=0; i<newRealizations.length; i++) newRealizations[i] = (float)(get(i) - numerator.get(i) / denominator.get(i));
+		return new RandomVariableFloat(newTime, newRealizations);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return super.toString()
+				+ "\n" + "time: " + time
+				+ "\n" + "realizations: " + Arrays.toString(realizations);
+	}
+}
@@ -0,0 +1,662 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.finmath.stochastic.RandomVariableInterface;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * A random variable with deferred (lazy) evaluation of its arithmetic operations.
+ *
+ * Operations on this object do not calculate any realizations. Instead, they record the operation
+ * together with its operands and return a new <code>RandomVariableLazyEvaluation</code>, such that a chain like
+ * <code>libor.sub(swaprate).mult(periodLength).div(numeraire).mult(weights)</code> builds an expression graph.
+ * The graph is evaluated when its values are requested (e.g. by <code>get</code>, <code>getRealizations</code>
+ * or a reduction like <code>getAverage</code>). The evaluation is a single pass over the paths: the paths are
+ * processed in small blocks and all operations of the graph are applied to a block before moving to the next one,
+ * such that intermediate results stay in a small work area and are not allocated as vectors.
+ * A node which is the operand of several operations (e.g. <code>x</code> in <code>x.add(x)</code>) is evaluated once per block.
+ * The result of the evaluation is cached and the graph is released.
+ *
+ * Operations with deterministic operands only are calculated immediately. If a chain grows beyond a maximum
+ * depth, the intermediate result is evaluated to bound the size of the expression graph and of the work area.
+ *
+ * The element-wise arithmetic of each operation is identical to that of {@link RandomVariable}, i.e., both classes
+ * give identical results.
+ *
+ * Usage: wrap a random variable via {@link #RandomVariableLazyEvaluation(RandomVariableInterface)} and apply the
+ * operations on the wrapper.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class RandomVariableLazyEvaluation implements RandomVariableInterface {
+
+	private static final int	blockSize	= 1024;		// Number of paths evaluated at once
+	private static final int	maxDepth	= 32;		// Maximum depth of an unevaluated expression graph
+	private static final int	maxNumberOfOperands	= 4;	// Maximum number of operands of an operation (barrier)
+
+	private enum Operator {
+		CAP, FLOOR, ADD, SUB, MULT, DIV, POW, SQUARED, SQRT, EXP, LOG, SIN, COS, INVERT, ABS,
+		CAP_RV, FLOOR_RV, ADD_RV, SUB_RV, MULT_RV, DIV_RV, ACCRUE, DISCOUNT, BARRIER,
+		ADDPRODUCT, ADDPRODUCT_RV, ADDRATIO, SUBRATIO
+	}
+
+	private final double		time;					// Time (filtration)
+	private final int			numberOfPaths;			// Number of paths, 1 if deterministic
+	private final int			depth;					// Depth of the unevaluated expression graph
+
+	// Data model for the non-stochastic case
+	private final boolean		isDeterministic;
+	private final double		valueIfNonStochastic;
+
+	// Data model for the stochastic case: either an expression (operator, operands) or the evaluated realizations
+	private volatile Operator							operator;
+	private volatile RandomVariableLazyEvaluation[]		operands;
+	private final double								parameter;
+	private volatile double[]							realizations;
+
+	/**
+	 * Create a lazy evaluated random variable wrapping a given random variable.
+	 * If the given random variable is a <code>RandomVariable</code>, its realizations are referenced, not copied.
+	 *
+	 * @param randomVariable The random variable to wrap.
+	 */
+	public RandomVariableLazyEvaluation(RandomVariableInterface randomVariable) {
+		super();
+		this.time					= randomVariable.getFiltrationTime();
+		this.isDeterministic		= randomVariable.isDeterministic();
+		this.valueIfNonStochastic	= isDeterministic ? randomVariable.get(0) : Double.NaN;
+		this.numberOfPaths			= isDeterministic ? 1 : randomVariable.size();
+		this.realizations			= isDeterministic ? null : randomVariable.getRealizations(numberOfPaths);
+		this.operator				= null;
+		this.operands				= null;
+		this.parameter				= Double.NaN;
+		this.depth					= 0;
+	}
+
+	/**
+	 * Create a lazy evaluated random variable representing a constant.
+	 *
+	 * @param time The filtration time.
+	 * @param value The value.
+	 */
+	public RandomVariableLazyEvaluation(double time, double value) {
+		super();
+		this.time					= time;
+		this.isDeterministic		= true;
+		this.valueIfNonStochastic	= value;
+		this.numberOfPaths			= 1;
+		this.realizations			= null;
+		this.operator				= null;
+		this.operands				= null;
+		this.parameter				= Double.NaN;
+		this.depth					= 0;
+	}
+
+	/**
+	 * Create an (unevaluated) expression node.
+	 */
+	private RandomVariableLazyEvaluation(double time, Operator operator, RandomVariableLazyEvaluation[] operands, double parameter) {
+		super();
+		int numberOfPaths	= 1;
+		int depth			= 0;
+		for(RandomVariableLazyEvaluation operand : operands) {
+			if(operand.isDeterministic) continue;
+			if(numberOfPaths > 1 && operand.numberOfPaths != numberOfPaths) throw new IllegalArgumentException("Inconsistent number of paths.");
+			numberOfPaths	= operand.numberOfPaths;
+			if(operand.realizations == null) depth = Math.max(depth, operand.depth);
+		}
+
+		this.time					= time;
+		this.isDeterministic		= false;
+		this.valueIfNonStochastic	= Double.NaN;
+		this.numberOfPaths			= numberOfPaths;
+		this.realizations			= null;
+		this.operator				= operator;
+		this.operands				= operands;
+		this.parameter				= parameter;
+		this.depth					= depth+1;
+	}
+
+	/*
+	 * Construction of the expression graph
+	 */
+
+	private static RandomVariableLazyEvaluation getLazy(RandomVariableInterface randomVariable) {
+		if(randomVariable instanceof RandomVariableLazyEvaluation) return (RandomVariableLazyEvaluation)randomVariable;
+		else return new RandomVariableLazyEvaluation(randomVariable);
+	}
+
+	private RandomVariableInterface apply(Operator operator, double parameter) {
+		return apply(time, operator, new RandomVariableLazyEvaluation[] { this }, parameter);
+	}
+
+	private RandomVariableInterface apply(Operator operator, RandomVariableInterface argument, double parameter) {
+		RandomVariableLazyEvaluation[] operands = new RandomVariableLazyEvaluation[] { this, getLazy(argument) };
+		return apply(Math.max(time, argument.getFiltrationTime()), operator, operands, parameter);
+	}
+
+	private RandomVariableInterface apply(Operator operator, RandomVariableInterface argument1, RandomVariableInterface argument2) {
+		RandomVariableLazyEvaluation[] operands = new RandomVariableLazyEvaluation[] { this, getLazy(argument1), getLazy(argument2) };
+		double newTime = Math.max(Math.max(time, argument1.getFiltrationTime()), argument2.getFiltrationTime());
+		return apply(newTime, operator, operands, Double.NaN);
+	}
+
+	private static RandomVariableInterface apply(double time, Operator operator, RandomVariableLazyEvaluation[] operands, double parameter) {
+		RandomVariableLazyEvaluation result = new RandomVariableLazyEvaluation(time, operator, operands, parameter);
+
+		boolean isDeterministic = true;
+		for(RandomVariableLazyEvaluation operand : operands) isDeterministic &= operand.isDeterministic;
+
+		if(isDeterministic) {
+			// Operations on constants are calculated immediately
+			double[][] operandValues = new double[maxNumberOfOperands][];
+			for(int operandIndex=0; operandIndex<operands.length; operandIndex++) operandValues[operandIndex] = new double[] { operands[operandIndex].valueIfNonStochastic };
+			double[] value = new double[1];
+			evaluate(operator, parameter, operandValues, 1, value);
+			return new RandomVariableLazyEvaluation(time, value[0]);
+		}
+		else if(result.depth > maxDepth) {
+			// Bound the size of the graph by evaluating the intermediate result
+			result.getValues();
+		}
+
+		return result;
+	}
+
+	/*
+	 * Evaluation of the expression graph
+	 */
+
+	/**
+	 * A step of the evaluation of an expression graph: a node of the graph, which is either a leaf (a constant or
+	 * evaluated realizations) or an operation on the results of previous steps.
+	 */
+	private static class EvaluationStep {
+		private final Operator	operator;			// The operation (null for a leaf)
+		private final double	parameter;			// The parameter of the operation or the value of a constant leaf
+		private final int[]		operandSteps;		// The indices of the steps providing the operands (null for a leaf)
+		private final double[]	realizations;		// The realizations of an evaluated leaf (null otherwise)
+
+		EvaluationStep(Operator operator, double parameter, int[] operandSteps, double[] realizations) {
+			this.operator		= operator;
+			this.parameter		= parameter;
+			this.operandSteps	= operandSteps;
+			this.realizations	= realizations;
+		}
+	}
+
+	/**
+	 * Returns the realizations, evaluating the expression graph if required. The evaluation is performed only once.
+	 *
+	 * @return The realizations of this random variable (not a copy).
+	 */
+	private double[] getValues() {
+		double[] values = realizations;
+		if(values != null) return values;
+
+		synchronized(this) {
+			if(realizations == null) {
+				values = new double[numberOfPaths];
+
+				/*
+				 * Each node of the graph is a single evaluation step, even if it is the operand of several operations,
+				 * such that each node is evaluated once per block. The steps are ordered such that the operands
+				 * of a step precede the step, the last step is this node.
+				 */
+				List<EvaluationStep> evaluationSteps = new ArrayList<EvaluationStep>();
+				addEvaluationSteps(evaluationSteps, new IdentityHashMap<RandomVariableLazyEvaluation, Integer>());
+
+				// The work area holds the values of each step for the current block
+				int blockLength = Math.min(blockSize, numberOfPaths);
+				double[][] workArea = new double[evaluationSteps.size()][];
+				for(int stepIndex=0; stepIndex<evaluationSteps.size(); stepIndex++) {
+					EvaluationStep evaluationStep = evaluationSteps.get(stepIndex);
+					workArea[stepIndex] = new double[blockLength];
+					if(evaluationStep.operator == null && evaluationStep.realizations == null) Arrays.fill(workArea[stepIndex], evaluationStep.parameter);
+				}
+
+				double[][] operandValues = new double[maxNumberOfOperands][];
+				for(int offset=0; offset<numberOfPaths; offset += blockSize) {
+					int length = Math.min(blockSize, numberOfPaths-offset);
+					for(int stepIndex=0; stepIndex<evaluationSteps.size(); stepIndex++) {
+						EvaluationStep evaluationStep = evaluationSteps.get(stepIndex);
+						if(evaluationStep.realizations != null) {
+							System.arraycopy(evaluationStep.realizations, offset, workArea[stepIndex], 0, length);
+						}
+						else if(evaluationStep.operator != null) {
+							for(int operandIndex=0; operandIndex<evaluationStep.operandSteps.length; operandIndex++) operandValues[operandIndex] = workArea[evaluationStep.operandSteps[operandIndex]];
+							evaluate(evaluationStep.operator, evaluationStep.parameter, operandValues, length, workArea[stepIndex]);
+						}
+					}
+					System.arraycopy(workArea[evaluationSteps.size()-1], 0, values, offset, length);
+				}
+
+				// Release the graph
+				realizations	= values;
+				operands		= null;
+				operator		= null;
+			}
+		}
+
+		return realizations;
+	}
+
+	/**
+	 * Add the evaluation steps of the expression graph of this node to the given list, unless already present.
+	 *
+	 * @param evaluationSteps The list of evaluation steps.
+	 * @param stepIndexOfNode The index of the evaluation step of each node added to the list.
+	 * @return The index of the evaluation step of this node.
+	 */
+	private int addEvaluationSteps(List<EvaluationStep> evaluationSteps, Map<RandomVariableLazyEvaluation, Integer> stepIndexOfNode) {
+		Integer stepIndex = stepIndexOfNode.get(this);
+		if(stepIndex != null) return stepIndex;
+
+		EvaluationStep evaluationStep;
+		if(isDeterministic) {
+			evaluationStep = new EvaluationStep(null, valueIfNonStochastic, null, null);
+		}
+		else {
+			// Note: the operands are read before the realizations, since getValues() releases them after setting the realizations.
+			RandomVariableLazyEvaluation[]	operands	= this.operands;
+			Operator						operator	= this.operator;
+			double[]						values		= this.realizations;
+			if(values != null) {
+				evaluationStep = new EvaluationStep(null, Double.NaN, null, values);
+			}
+			else {
+				int[] operandSteps = new int[operands.length];
+				for(int operandIndex=0; operandIndex<operands.length; operandIndex++) {
+					operandSteps[operandIndex] = operands[operandIndex].addEvaluationSteps(evaluationSteps, stepIndexOfNode);
+				}
+				evaluationStep = new EvaluationStep(operator, parameter, operandSteps, null);
+			}
+		}
+
+		evaluationSteps.add(evaluationStep);
+		stepIndexOfNode.put(this, evaluationSteps.size()-1);
+		return evaluationSteps.size()-1;
+	}
+
+	/**
+	 * Apply an operation to the values <code>operandValues[.][0], ..., operandValues[.][length-1]</code> of its operands.
+	 *
+	 * @param operator The operation.
+	 * @param p The parameter of the operation.
+	 * @param operandValues The values of the operands.
+	 * @param length Number of values.
+	 * @param result Array receiving the values.
+	 */
+	private static void evaluate(Operator operator, double p, double[][] operandValues, int length, double[] result) {
+		double[] x = operandValues[0];
+		double[] y = operandValues[1];
+		double[] z = operandValues[2];
+
+		switch(operator) {
+		case CAP:			for(int i=0; i<length; i++) result[i] = Math.min(x[i], p);					break;
+		case FLOOR:			for(int i=0; i<length; i++) result[i] = Math.max(x[i], p);					break;
+		case ADD:			for(int i=0; i<length; i++) result[i] = x[i] + p;							break;
+		case SUB:			for(int i=0; i<length; i++) result[i] = x[i] - p;							break;
+		case MULT:			for(int i=0; i<length; i++) result[i] = x[i] * p;							break;
+		case DIV:			for(int i=0; i<length; i++) result[i] = x[i] / p;							break;
+		case POW:			for(int i=0; i<length; i++) result[i] = Math.pow(x[i], p);					break;
+		case SQUARED:		for(int i=0; i<length; i++) result[i] = x[i] * x[i];						break;
+		case SQRT:			for(int i=0; i<length; i++) result[i] = Math.sqrt(x[i]);					break;
+		case EXP:			for(int i=0; i<length; i++) result[i] = FastMath.exp(x[i]);					break;
+		case LOG:			for(int i=0; i<length; i++) result[i] = FastMath.log(x[i]);					break;
+		case SIN:			for(int i=0; i<length; i++) result[i] = FastMath.sin(x[i]);					break;
+		case COS:			for(int i=0; i<length; i++) result[i] = FastMath.cos(x[i]);					break;
+		case INVERT:		for(int i=0; i<length; i++) result[i] = 1.0 / x[i];							break;
+		case ABS:			for(int i=0; i<length; i++) result[i] = Math.abs(x[i]);						break;
+		case CAP_RV:		for(int i=0; i<length; i++) result[i] = FastMath.min(x[i], y[i]);			break;
+		case FLOOR_RV:		for(int i=0; i<length; i++) result[i] = FastMath.max(x[i], y[i]);			break;
+		case ADD_RV:		for(int i=0; i<length; i++) result[i] = x[i] + y[i];						break;
+		case SUB_RV:		for(int i=0; i<length; i++) result[i] = x[i] - y[i];						break;
+		case MULT_RV:		for(int i=0; i<length; i++) result[i] = x[i] * y[i];						break;
+		case DIV_RV:		for(int i=0; i<length; i++) result[i] = x[i] / y[i];						break;
+		case ACCRUE:		for(int i=0; i<length; i++) result[i] = x[i] * (1.0 + y[i] * p);			break;
+		case DISCOUNT:		for(int i=0; i<length; i++) result[i] = x[i] / (1.0 + y[i] * p);			break;
+		case ADDPRODUCT:	for(int i=0; i<length; i++) result[i] = x[i] + y[i] * p;					break;
+		case ADDPRODUCT_RV:	for(int i=0; i<length; i++) result[i] = x[i] + y[i] * z[i];					break;
+		case ADDRATIO:		for(int i=0; i<length; i++) result[i] = x[i] + y[i] / z[i];					break;
+		case SUBRATIO:		for(int i=0; i<length; i++) result[i] = x[i] - y[i] / z[i];					break;
+		case BARRIER:
+			// Operands are (this, trigger, valueIfTriggerNonNegative, valueIfTriggerNegative). The values of this are not used.
+			double[] w = operandValues[3];
+			for(int i=0; i<length; i++) result[i] = y[i] >= 0.0 ? z[i] : w[i];
+			break;
+		default:
+			throw new RuntimeException("Method not implemented.");
+		}
+	}
+
+	/**
+	 * Returns a <code>RandomVariable</code> referencing the (evaluated) realizations of this object.
+	 */
+	private RandomVariable getView() {
+		if(isDeterministic)	return new RandomVariable(time, valueIfNonStochastic);
+		else				return new RandomVariable(time, getValues());
+	}
+
+	/*
+	 * Implementation of RandomVariableInterface
+	 */
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getMutableCopy()
+	 */
+	@Override
+	public RandomVariableInterface getMutableCopy() {
+		if(isDeterministic)	return new RandomVariableLazyEvaluation(time, valueIfNonStochastic);
+		else				return new RandomVariableLazyEvaluation(new RandomVariable(time, getValues().clone()));
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#equals(net.finmath.stochastic.RandomVariableInterface)
+	 */
+	@Override
+	public boolean equals(RandomVariableInterface randomVariable) {
+		return getView().equals(randomVariable);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getFiltrationTime()
+	 */
+	@Override
+	public double getFiltrationTime() {
+		return time;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#get(int)
+	 */
+	@Override
+	public double get(int pathOrState) {
+		if(isDeterministic)	return valueIfNonStochastic;
+		else				return getValues()[pathOrState];
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#size()
+	 */
+	@Override
+	public int size() {
+		return numberOfPaths;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#isDeterministic()
+	 */
+	@Override
+	public boolean isDeterministic() {
+		return isDeterministic;
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getRealizations()
+	 */
+	@Override
+	public double[] getRealizations() {
+		return getView().getRealizations();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.stochastic.RandomVariableInterface#getRealizations(int)
+	 */
+	@Override
+	public double[] getRealizations(int numberOfPaths) {
+		return getView().getRealizations(numberOfPaths);
+	}
+
+	@Override
+	public double getMin() {
+		return getView().getMin();
+	}
+
+	@Override
+	public double getMax() {
+		return getView().getMax();
+	}
+
+	@Override
+	public double getAverage() {
+		return getView().getAverage();
+	}
+
+	@Override
+	public double getAverage(RandomVariableInterface probabilities) {
+		return getView().getAverage(probabilities);
+	}
+
+	@Override
+	public double getVariance() {
+		return getView().getVariance();
+	}
+
+	@Override
+	public double getVariance(RandomVariableInterface probabilities) {
+		return getView().getVariance(probabilities);
+	}
+
+	@Override
+	public double getStandardDeviation() {
+		return getView().getStandardDeviation();
+	}
+
+	@Override
+	public double getStandardDeviation(RandomVariableInterface probabilities) {
+		return getView().getStandardDeviation(probabilities);
+	}
+
+	@Override
+	public double getStandardError() {
+		return getView().getStandardError();
+	}
+
+	@Override
+	public double getStandardError(RandomVariableInterface probabilities) {
+		return getView().getStandardError(probabilities);
+	}
+
+	@Override
+	public double getQuantile(double quantile) {
+		return getView().getQuantile(quantile);
+	}
+
+	@Override
+	public double[] getQuantiles(double[] quantiles) {
+		return getView().getQuantiles(quantiles);
+	}
+
+	@Override
+	public double getQuantile(double quantile, RandomVariableInterface probabilities) {
+		return getView().getQuantile(quantile, probabilities);
+	}
+
+	@Override
+	public double getQuantileExpectation(double quantileStart, double quantileEnd) {
+		return getView().getQuantileExpectation(quantileStart, quantileEnd);
+	}
+
+	@Override
+	public double[] getHistogram(double[] intervalPoints) {
+		return getView().getHistogram(intervalPoints);
+	}
+
+	@Override
+	public double[][] getHistogram(int numberOfPoints, double standardDeviations) {
+		return getView().getHistogram(numberOfPoints, standardDeviations);
+	}
+
+	@Override
+	public RandomVariableInterface cap(double cap) {
+		return apply(Operator.CAP, cap);
+	}
+
+	@Override
+	public RandomVariableInterface floor(double floor) {
+		return apply(Operator.FLOOR, floor);
+	}
+
+	@Override
+	public RandomVariableInterface add(double value) {
+		return apply(Operator.ADD, value);
+	}
+
+	@Override
+	public RandomVariableInterface sub(double value) {
+		return apply(Operator.SUB, value);
+	}
+
+	@Override
+	public RandomVariableInterface mult(double value) {
+		return apply(Operator.MULT, value);
+	}
+
+	@Override
+	public RandomVariableInterface div(double value) {
+		return apply(Operator.DIV, value);
+	}
+
+	@Override
+	public RandomVariableInterface pow(double exponent) {
+		return apply(Operator.POW, exponent);
+	}
+
+	@Override
+	public RandomVariableInterface squared() {
+		return apply(Operator.SQUARED, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface sqrt() {
+		return apply(Operator.SQRT, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface exp() {
+		return apply(Operator.EXP, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface log() {
+		return apply(Operator.LOG, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface sin() {
+		return apply(Operator.SIN, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface cos() {
+		return apply(Operator.COS, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface add(RandomVariableInterface randomVariable) {
+		return apply(Operator.ADD_RV, randomVariable, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface sub(RandomVariableInterface randomVariable) {
+		return apply(Operator.SUB_RV, randomVariable, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface mult(RandomVariableInterface randomVariable) {
+		return apply(Operator.MULT_RV, randomVariable, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface div(RandomVariableInterface randomVariable) {
+		return apply(Operator.DIV_RV, randomVariable, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface cap(RandomVariableInterface cap) {
+		return apply(Operator.CAP_RV, cap, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface floor(RandomVariableInterface floor) {
+		return apply(Operator.FLOOR_RV, floor, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface accrue(RandomVariableInterface rate, double periodLength) {
+		return apply(Operator.ACCRUE, rate, periodLength);
+	}
+
+	@Override
+	public RandomVariableInterface discount(RandomVariableInterface rate, double periodLength) {
+		return apply(Operator.DISCOUNT, rate, periodLength);
+	}
+
+	@Override
+	public RandomVariableInterface barrier(RandomVariableInterface trigger, RandomVariableInterface valueIfTriggerNonNegative, RandomVariableInterface valueIfTriggerNegative) {
+		RandomVariableLazyEvaluation[] operands = new RandomVariableLazyEvaluation[] { this, getLazy(trigger), getLazy(valueIfTriggerNonNegative), getLazy(valueIfTriggerNegative) };
+		double newTime = Math.max(time, trigger.getFiltrationTime());
+		newTime = Math.max(newTime, valueIfTriggerNonNegative.getFiltrationTime());
+		newTime = Math.max(newTime, valueIfTriggerNegative.getFiltrationTime());
+		return apply(newTime, Operator.BARRIER, operands, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface barrier(RandomVariableInterface trigger, RandomVariableInterface valueIfTriggerNonNegative, double valueIfTriggerNegative) {
+		return this.barrier(trigger, valueIfTriggerNonNegative, new RandomVariableLazyEvaluation(valueIfTriggerNonNegative.getFiltrationTime(), valueIfTriggerNegative));
+	}
+
+	@Override
+	public RandomVariableInterface invert() {
+		return apply(Operator.INVERT, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface abs() {
+		return apply(Operator.ABS, Double.NaN);
+	}
+
+	@Override
+	public RandomVariableInterface addProduct(RandomVariableInterface factor1, double factor2) {
+		return apply(Operator.ADDPRODUCT, factor1, factor2);
+	}
+
+	@Override
+	public RandomVariableInterface addProduct(RandomVariableInterface factor1, RandomVariableInterface factor2) {
+		return apply(Operator.ADDPRODUCT_RV, factor1, factor2);
+	}
+
+	@Override
+	public RandomVariableInterface addRatio(RandomVariableInterface numerator, RandomVariableInterface denominator) {
+		return apply(Operator.ADDRATIO, numerator, denominator);
+	}
+
+	@Override
+	public RandomVariableInterface subRatio(RandomVariableInterface numerator, RandomVariableInterface denominator) {
+		return apply(Operator.SUBRATIO, numerator, denominator);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return super.toString()
+				+ "\n" + "time: " + time
+				+ "\n" + "operator: " + operator
+				+ "\n" + "realizations: " + Arrays.toString(realizations);
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Deterministic, accurate and parallel reductions (sums, sums of squared deviations, minimum, maximum) of the realizations of a <code>RandomVariable</code>.
+ *
+ * Sums are calculated by pairwise (cascade) summation: the realizations are split into blocks of fixed size,
+ * each block is summed pairwise and the block sums are then combined pairwise. The rounding error
+ * grows like log(n) instead of n for the plain sequential loop, at the same speed.
+ * Variances are calculated in two passes (mean first, then the sum of squared deviations from the mean), avoiding the
+ * cancellation of <i>E(X<sup>2</sup>) - E(X)<sup>2</sup></i> if the mean is large compared to the standard deviation.
+ * Since the decomposition into blocks does not depend on the number of threads, the result is deterministic,
+ * i.e., identical for sequential and parallel execution and for any number of threads.
+ *
+ * For arrays with at least <code>parallelReductionThreshold</code> elements the blocks are processed in parallel on the shared executor of {@link ParallelExecution}.
+ *
+ * The reductions are used by <code>RandomVariable</code> if the system property
+ * <code>net.finmath.montecarlo.RandomVariable.isUseParallelReduction</code> is <code>true</code> (default is <code>false</code>,
+ * where the plain sequential loops are used). The threshold can be set via
+ * <code>net.finmath.montecarlo.RandomVariable.parallelReductionThreshold</code> (default 65536).
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+final class RandomVariableParallelReduction {
+
+	static final boolean	isUseParallelReduction		= Boolean.parseBoolean(System.getProperty("net.finmath.montecarlo.RandomVariable.isUseParallelReduction", "false"));
+	static final int		parallelReductionThreshold	= Integer.getInteger("net.finmath.montecarlo.RandomVariable.parallelReductionThreshold", 65536);
+
+	private static final int blockSize			= 4096;		// Unit of work of the parallel execution
+	private static final int pairwiseBaseSize	= 128;		// Size of the ranges summed directly
+
+	private RandomVariableParallelReduction() {
+	}
+
+	/**
+	 * The reduction of a single block.
+	 */
+	private interface BlockReduction {
+		void reduce(int blockIndex, int start, int end);
+	}
+
+	/**
+	 * Returns the sum of <code>values[i] * weight(i)</code>,
+	 * where weight(i) is <code>weights[i]</code> or, if <code>weights</code> is null, the constant <code>weight</code>.
+	 *
+	 * @param values The values.
+	 * @param weights The weights (may be null).
+	 * @param weight The constant weight, used if <code>weights</code> is null.
+	 * @return The weighted sum.
+	 */
+	static double getSum(double[] values, double[] weights, double weight) {
+		return getBlockwiseSum(values, weights, weight, false, 0.0);
+	}
+
+	/**
+	 * Returns the sum of <code>(values[i] - mean) * (values[i] - mean) * weight(i)</code>,
+	 * where weight(i) is <code>weights[i]</code> or, if <code>weights</code> is null, the constant <code>weight</code>.
+	 * Together with a mean calculated by {@link #getSum(double[], double[], double)} this is the second pass of a two-pass variance.
+	 *
+	 * @param values The values.
+	 * @param weights The weights (may be null).
+	 * @param weight The constant weight, used if <code>weights</code> is null.
+	 * @param mean The mean subtracted from the values.
+	 * @return The weighted sum of squared deviations from the mean.
+	 */
+	static double getSumOfSquaredDeviations(double[] values, double[] weights, double weight, double mean) {
+		return getBlockwiseSum(values, weights, weight, true, mean);
+	}
+
+	private static double getBlockwiseSum(final double[] values, final double[] weights, double weight, final boolean isSquared, final double shift) {
+		int numberOfBlocks = getNumberOfBlocks(values.length);
+		final double[] blockSums = new double[numberOfBlocks];
+
+		forEachBlock(values.length, new BlockReduction() {
+			@Override
+			public void reduce(int blockIndex, int start, int end) {
+				blockSums[blockIndex] = getPairwiseSum(values, weights, isSquared, shift, start, end);
+			}
+		});
+
+		double sum = getPairwiseSum(blockSums, null, false, 0.0, 0, numberOfBlocks);
+		if(weights == null) sum *= weight;
+		return sum;
+	}
+
+	/**
+	 * @param values The values (non empty).
+	 * @return The minimum of the values (NaN if one value is NaN), identical to a sequential application of <code>Math.min</code>.
+	 */
+	static double getMin(final double[] values) {
+		final double[] blockMins = new double[getNumberOfBlocks(values.length)];
+		forEachBlock(values.length, new BlockReduction() {
+			@Override
+			public void reduce(int blockIndex, int start, int end) {
+				double min = values[start];
+				for(int i=start; i<end; i++) min = Math.min(values[i], min);
+				blockMins[blockIndex] = min;
+			}
+		});
+
+		double min = blockMins[0];
+		for(double blockMin : blockMins) min = Math.min(blockMin, min);
+		return min;
+	}
+
+	/**
+	 * @param values The values (non empty).
+	 * @return The maximum of the values (NaN if one value is NaN), identical to a sequential application of <code>Math.max</code>.
+	 */
+	static double getMax(final double[] values) {
+		final double[] blockMaxs = new double[getNumberOfBlocks(values.length)];
+		forEachBlock(values.length, new BlockReduction() {
+			@Override
+			public void reduce(int blockIndex, int start, int end) {
+				double max = values[start];
+				for(int i=start; i<end; i++) max = Math.max(values[i], max);
+				blockMaxs[blockIndex] = max;
+			}
+		});
+
+		double max = blockMaxs[0];
+		for(double blockMax : blockMaxs) max = Math.max(blockMax, max);
+		return max;
+	}
+
+	private static int getNumberOfBlocks(int numberOfValues) {
+		return Math.max((numberOfValues + blockSize - 1) / blockSize, 1);
+	}
+
+	/**
+	 * Pairwise summation of <code>values[i] (* weights[i])</code> or, if <code>isSquared</code> is true, of
+	 * <code>(values[i] - shift) * (values[i] - shift) (* weights[i])</code>. Ranges of up to <code>pairwiseBaseSize</code> elements
+	 * are summed directly, using four partial sums (allowing the JIT to pipeline the loop).
+	 */
+	private static double getPairwiseSum(double[] values, double[] weights, boolean isSquared, double shift, int start, int end) {
+		if(end - start > pairwiseBaseSize) {
+			// Split at a multiple of pairwiseBaseSize (close to the middle)
+			int middle = start + ((end - start) / 2 + pairwiseBaseSize - 1) / pairwiseBaseSize * pairwiseBaseSize;
+			return getPairwiseSum(values, weights, isSquared, shift, start, middle) + getPairwiseSum(values, weights, isSquared, shift, middle, end);
+		}
+
+		double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sum3 = 0.0;
+		int i = start;
+		if(weights == null && !isSquared) {
+			for(; i+3<end; i+=4) {
+				sum0 += values[i];
+				sum1 += values[i+1];
+				sum2 += values[i+2];
+				sum3 += values[i+3];
+			}
+			for(; i<end; i++) sum0 += values[i];
+		}
+		else if(weights == null) {
+			for(; i+3<end; i+=4) {
+				double deviation0 = values[i] - shift;
+				double deviation1 = values[i+1] - shift;
+				double deviation2 = values[i+2] - shift;
+				double deviation3 = values[i+3] - shift;
+				sum0 += deviation0 * deviation0;
+				sum1 += deviation1 * deviation1;
+				sum2 += deviation2 * deviation2;
+				sum3 += deviation3 * deviation3;
+			}
+			for(; i<end; i++) sum0 += (values[i] - shift) * (values[i] - shift);
+		}
+		else if(!isSquared) {
+			for(; i+3<end; i+=4) {
+				sum0 += values[i] * weights[i];
+				sum1 += values[i+1] * weights[i+1];
+				sum2 += values[i+2] * weights[i+2];
+				sum3 += values[i+3] * weights[i+3];
+			}
+			for(; i<end; i++) sum0 += values[i] * weights[i];
+		}
+		else {
+			for(; i+3<end; i+=4) {
+				double deviation0 = values[i] - shift;
+				double deviation1 = values[i+1] - shift;
+				double deviation2 = values[i+2] - shift;
+				double deviation3 = values[i+3] - shift;
+				sum0 += deviation0 * deviation0 * weights[i];
+				sum1 += deviation1 * deviation1 * weights[i+1];
+				sum2 += deviation2 * deviation2 * weights[i+2];
+				sum3 += deviation3 * deviation3 * weights[i+3];
+			}
+			for(; i<end; i++) sum0 += (values[i] - shift) * (values[i] - shift) * weights[i];
+		}
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+
+	/**
+	 * Apply the block reduction to all blocks, in parallel if the number of values exceeds the threshold.
+	 */
+	private static void forEachBlock(final int numberOfValues, final BlockReduction blockReduction) {
+		final int numberOfBlocks = getNumberOfBlocks(numberOfValues);
+
+		if(numberOfValues < parallelReductionThreshold) {
+			for(int blockIndex=0; blockIndex<numberOfBlocks; blockIndex++) {
+				blockReduction.reduce(blockIndex, blockIndex*blockSize, Math.min((blockIndex+1)*blockSize, numberOfValues));
+			}
+			return;
+		}
+
+		try {
+			ParallelExecution.invokeAll(null, numberOfBlocks, new ParallelExecution.Task() {
+				@Override
+				public void run(int blockIndex) {
+					blockReduction.reduce(blockIndex, blockIndex*blockSize, Math.min((blockIndex+1)*blockSize, numberOfValues));
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Parallel reduction interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Parallel reduction failed.", e.getCause());
+		}
+	}
+}
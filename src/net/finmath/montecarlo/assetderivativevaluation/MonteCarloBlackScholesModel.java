@@ -9,7 +9,6 @@ import java.util.Map;
 
 import net.finmath.exception.CalculationException;
 import net.finmath.montecarlo.BrownianMotion;
-import net.finmath.montecarlo.BrownianMotionInterface;
 import net.finmath.montecarlo.MonteCarloSimulationInterface;
 import net.finmath.montecarlo.RandomVariable;
 import net.finmath.montecarlo.model.AbstractModel;
@@ -124,6 +123,11 @@ public class MonteCarloBlackScholesModel extends AbstractModel implements AssetM
 		return new RandomVariableInterface[] { volatilityOnPaths };
 	}
 
+	@Override
+	public boolean isFactorLoadingStateDependent() {
+		return false;
+	}
+
 	@Override
 	public RandomVariableInterface applyStateSpaceTransform(int componentIndex, RandomVariableInterface randomVariable) {
 		return randomVariable.exp();
@@ -162,7 +166,7 @@ public class MonteCarloBlackScholesModel extends AbstractModel implements AssetM
 
 	@Override
 	public RandomVariableInterface getRandomVariableForConstant(double value) {
-		return new RandomVariable(0.0, getProcess().getNumberOfPaths(), value);
+		return new RandomVariable(0.0, value);
 	}
 	
 	/* (non-Javadoc)
@@ -215,17 +219,17 @@ public class MonteCarloBlackScholesModel extends AbstractModel implements AssetM
     	double	newInitialValue	= dataModified.get("initialValue") != null	? ((Number)dataModified.get("initialValue")).doubleValue() : initialValue;
     	double	newRiskFreeRate	= dataModified.get("riskFreeRate") != null	? ((Number)dataModified.get("riskFreeRate")).doubleValue() : riskFreeRate;
     	double	newVolatility	= dataModified.get("volatility") != null	? ((Number)dataModified.get("volatility")).doubleValue()	: volatility;
-    	int		newSeed			= dataModified.get("seed") != null			? ((Number)dataModified.get("seed")).intValue()				: seed;
 
     	if(dataModified.get("seed") != null) {
-    		AbstractProcess process = new ProcessEulerScheme(new BrownianMotion(this.getTimeDiscretization(), 1, this.getNumberOfPaths(), newSeed));
+    		// Clone the process with a new Brownian motion, keeping the settings of the process (e.g. scheme, random variable factory, executor)
+    		int newSeed = ((Number)dataModified.get("seed")).intValue();
+    		AbstractProcess process = (AbstractProcess) ((AbstractProcess)getProcess()).getCloneWithModifiedSeed(newSeed);
     		return new MonteCarloBlackScholesModel(newInitialValue, newRiskFreeRate, newVolatility, process);
     	}
     	else
     	{
     		// The seed had not changed. We may reuse the random numbers (brownian motion) of the original model
-    		BrownianMotionInterface brownianMotion = this.getProcess().getBrownianMotion();
-    		AbstractProcess process = new ProcessEulerScheme(brownianMotion);
+    		AbstractProcess process = (AbstractProcess) getProcess().clone();
     		return new MonteCarloBlackScholesModel(newInitialValue, newRiskFreeRate, newVolatility, process);    		
     	}
     }
@@ -235,8 +239,8 @@ public class MonteCarloBlackScholesModel extends AbstractModel implements AssetM
 	 */
 	@Override
     public AssetModelMonteCarloSimulationInterface getCloneWithModifiedSeed(int seed) {
-		// Create a corresponding MC process
-		AbstractProcess process = new ProcessEulerScheme(new BrownianMotion(this.getTimeDiscretization(), 1 /* numberOfFactors */, this.getNumberOfPaths(), seed));
+		// Create a corresponding MC process with a new Brownian motion, keeping the settings of the process
+		AbstractProcess process = (AbstractProcess) ((AbstractProcess)getProcess()).getCloneWithModifiedSeed(seed);
 		return new MonteCarloBlackScholesModel(initialValue, riskFreeRate, volatility, process);
 	}
 
@@ -7,6 +7,7 @@ import net.finmath.exception.CalculationException;
 import net.finmath.montecarlo.AbstractMonteCarloProduct;
 import net.finmath.montecarlo.MonteCarloSimulationInterface;
 import net.finmath.montecarlo.assetderivativevaluation.AssetModelMonteCarloSimulationInterface;
+import net.finmath.montecarlo.process.ProcessObservationSet;
 import net.finmath.stochastic.RandomVariableInterface;
 
 /**
@@ -31,4 +32,15 @@ public abstract class AbstractAssetMonteCarloProduct extends AbstractMonteCarloP
     	// This product requires an AssetModelMonteCarloSimulationInterface model, otherwise there will be a class cast exception
     	return getValue(evaluationTime, (AssetModelMonteCarloSimulationInterface)model);
     }
+
+    /**
+     * Returns the observations <i>(t, i)</i> of the asset values <i>S<sub>i</sub>(t)</i> required by the valuation of this product.
+     * The observations of a portfolio (the union of the observations of its products) may be used to create a process
+     * retaining only the required time slices, see {@link ProcessObservationSet}.
+     * 
+     * @return The observations of the asset values required by this product, or null if the product does not declare its observations (i.e., it may require all observations).
+     */
+    public ProcessObservationSet getRequiredObservations() {
+    	return null;
+    }
 }
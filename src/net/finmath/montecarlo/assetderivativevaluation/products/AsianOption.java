@@ -8,6 +8,9 @@ package net.finmath.montecarlo.assetderivativevaluation.products;
 import net.finmath.exception.CalculationException;
 import net.finmath.montecarlo.RandomVariable;
 import net.finmath.montecarlo.assetderivativevaluation.AssetModelMonteCarloSimulationInterface;
+import net.finmath.montecarlo.assetderivativevaluation.MonteCarloBlackScholesModel;
+import net.finmath.montecarlo.process.ProcessObservationSet;
+import net.finmath.montecarlo.process.ProcessStepListener;
 import net.finmath.stochastic.RandomVariableInterface;
 import net.finmath.time.TimeDiscretizationInterface;
 
@@ -57,18 +60,78 @@ public class AsianOption extends AbstractAssetMonteCarloProduct {
             average = average.add(underlying);
     	}
         average = average.div(timesForAveraging.getNumberOfTimes());
-		
+
+        return getValue(evaluationTime, model, average, model.getMonteCarloWeights(maturity), model.getMonteCarloWeights(evaluationTime));
+	}
+
+    /**
+     * Calculates the value of the product like {@link #getValue(double, AssetModelMonteCarloSimulationInterface)},
+     * but consumes the process of the model time step by time step (see {@link net.finmath.montecarlo.process.AbstractProcessInterface#evolve(ProcessStepListener)}).
+     * If the process of the model has not been calculated, it is evolved up to the last time required without storing it,
+     * such that the memory requirement is bounded by a time slice.
+     * 
+     * @param evaluationTime The time on which this products value should be observed.
+     * @param model The model used to price the product.
+     * @return The random variable representing the value of the product discounted to evaluation time
+     * @throws CalculationException Thrown if the evolution of the process failed.
+     */
+    public RandomVariableInterface getValueStepwise(double evaluationTime, MonteCarloBlackScholesModel model) throws CalculationException {
+    	final int[] timeIndicesForAveraging = new int[timesForAveraging.getNumberOfTimes()];
+    	for(int i=0; i<timeIndicesForAveraging.length; i++) timeIndicesForAveraging[i] = getTimeIndex(model, timesForAveraging.getTime(i));
+    	final int timeIndexMaturity			= getTimeIndex(model, maturity);
+    	final int timeIndexEvaluationTime	= getTimeIndex(model, evaluationTime);
+
+    	int lastTimeIndex = Math.max(timeIndexMaturity, timeIndexEvaluationTime);
+    	for(int timeIndex : timeIndicesForAveraging) lastTimeIndex = Math.max(lastTimeIndex, timeIndex);
+    	final int lastTimeIndexRequired = lastTimeIndex;
+
+    	// The average and the Monte-Carlo weights at maturity and evaluation time are collected from the time slices
+    	final RandomVariableInterface[] sum					= new RandomVariableInterface[] { new RandomVariable(0.0) };
+    	final RandomVariableInterface[] monteCarloWeights	= new RandomVariableInterface[2];
+    	model.getProcess().evolve(new ProcessStepListener() {
+    		@Override
+    		public boolean processStep(int timeIndex, RandomVariableInterface[] processValues, RandomVariableInterface monteCarloWeightsAtTimeIndex) {
+    			for(int timeIndexForAveraging : timeIndicesForAveraging) {
+    				if(timeIndexForAveraging == timeIndex) sum[0] = sum[0].add(processValues[0]);
+    			}
+    			if(timeIndex == timeIndexMaturity)			monteCarloWeights[0] = monteCarloWeightsAtTimeIndex;
+    			if(timeIndex == timeIndexEvaluationTime)	monteCarloWeights[1] = monteCarloWeightsAtTimeIndex;
+    			return timeIndex < lastTimeIndexRequired;
+    		}
+    	});
+
+    	RandomVariableInterface average = sum[0].div(timesForAveraging.getNumberOfTimes());
+
+    	return getValue(evaluationTime, model, average, monteCarloWeights[0], monteCarloWeights[1]);
+    }
+
+    /* (non-Javadoc)
+     * @see net.finmath.montecarlo.assetderivativevaluation.products.AbstractAssetMonteCarloProduct#getRequiredObservations()
+     */
+    @Override
+    public ProcessObservationSet getRequiredObservations() {
+    	ProcessObservationSet observations = new ProcessObservationSet();
+    	for(double time : timesForAveraging) observations.add(time, 0);
+    	return observations;
+    }
+
+    private static int getTimeIndex(MonteCarloBlackScholesModel model, double time) {
+    	int timeIndex = model.getTimeIndex(time);
+    	if(timeIndex < 0) throw new IllegalArgumentException("The time " + time + " is not a time of the time discretization.");
+    	return timeIndex;
+    }
+
+    private RandomVariableInterface getValue(double evaluationTime, AssetModelMonteCarloSimulationInterface model, RandomVariableInterface average,
+    		RandomVariableInterface monteCarloWeights, RandomVariableInterface monteCarloProbabilitiesAtEvalTime) {
 		// The payoff: values = max(underlying - strike, 0)
 		RandomVariableInterface values = average.sub(strike).floor(0.0);
 
 		// Discounting...
 		RandomVariableInterface numeraireAtMaturity		= model.getNumeraire(maturity);
-		RandomVariableInterface monteCarloWeights		= model.getMonteCarloWeights(maturity);
         values = values.div(numeraireAtMaturity).mult(monteCarloWeights);
 
 		// ...to evaluation time.
         RandomVariableInterface	numeraireAtEvalTime					= model.getNumeraire(evaluationTime);
-        RandomVariableInterface	monteCarloProbabilitiesAtEvalTime	= model.getMonteCarloWeights(evaluationTime);
         values = values.mult(numeraireAtEvalTime).div(monteCarloProbabilitiesAtEvalTime);
 
         return values;
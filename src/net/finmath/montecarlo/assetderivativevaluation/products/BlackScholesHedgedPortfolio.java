@@ -12,6 +12,7 @@ import net.finmath.functions.AnalyticFormulas;
 import net.finmath.montecarlo.RandomVariable;
 import net.finmath.montecarlo.assetderivativevaluation.AssetModelMonteCarloSimulationInterface;
 import net.finmath.montecarlo.assetderivativevaluation.MonteCarloBlackScholesModel;
+import net.finmath.montecarlo.process.ProcessStepListener;
 import net.finmath.stochastic.RandomVariableInterface;
 
 /**
@@ -93,50 +94,113 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 		
 		// Ask the model for its discretization
 		int timeIndexEvaluationTime	= model.getTimeIndex(evaluationTime);
-		int numberOfPath			= model.getNumberOfPaths();
 
 		/*
-		 *  Going forward in time we monitor the hedge portfolio on each path.
+		 *  Initialize the portfolio to zero stocks and as much cash as the Black-Scholes Model predicts we need.
 		 */
-		
-		// We store the composition of the hedge portfolio (depending on the path)
-		double[] amountOfUderlyingAsset		= new double[numberOfPath];
-		double[] amountOfNumeraireAsset		= new double[numberOfPath];
-		
-		// In case of a gamma hedge, the hedge portfolio consist of additional options
-		double[] amountOfHedgeOptions		= new double[numberOfPath];
-
+		HedgePortfolio hedgePortfolio = new HedgePortfolio(model.getAssetValue(0.0,0).get(0), model.getNumberOfPaths());
 
-		
 		/*
-		 *  Initialize the portfolio to zero stocks and as much cash as the Black-Scholes Model predicts we need.
+		 *  Going forward in time we monitor the hedge portfolio on each path.
 		 */
-		RandomVariableInterface underlyingToday = model.getAssetValue(0.0,0);
-		double initialValue = underlyingToday.get(0);
-
-		double valueOfOptionAccordingBlackScholes = 	AnalyticFormulas.blackScholesOptionValue(
-				initialValue,
-				riskFreeRate,
-				volatility,
-				maturity,
-				strike);
-		
-		Arrays.fill(amountOfNumeraireAsset,valueOfOptionAccordingBlackScholes);
-		Arrays.fill(amountOfUderlyingAsset,0.0);
-		Arrays.fill(amountOfHedgeOptions,0.0);
-		
 		for(int timeIndex = 0; timeIndex<timeIndexEvaluationTime; timeIndex++) {
 			// Get value of underlying and numeraire assets			
-			RandomVariableInterface underlyingAtTimeIndex = model.getAssetValue(timeIndex,0);
-		    RandomVariableInterface numeraireAtTimeIndex  = model.getNumeraire(timeIndex);
+			hedgePortfolio.rebalance(model.getTime(timeIndex), model.getAssetValue(timeIndex,0), model.getNumeraire(timeIndex));
+		}
+
+		/*
+		 * At evaluationTime, calculate the value of the replication portfolio
+		 */
+		return hedgePortfolio.getValue(evaluationTime, model.getTime(timeIndexEvaluationTime), model.getAssetValue(timeIndexEvaluationTime,0), model.getNumeraire(timeIndexEvaluationTime), (MonteCarloBlackScholesModel)model);
+	}
+
+	/**
+	 * Calculates the value of the hedge portfolio like {@link #getValue(double, AssetModelMonteCarloSimulationInterface)},
+	 * but consumes the process of the model time step by time step (see {@link net.finmath.montecarlo.process.AbstractProcessInterface#evolve(ProcessStepListener)}).
+	 * If the process of the model has not been calculated, it is evolved up to the evaluation time without storing it,
+	 * such that the memory requirement is bounded by a time slice.
+	 * 
+	 * @param evaluationTime The time on which this products value should be observed (has to be a time of the time discretization of the model).
+	 * @param model The model used to price the product.
+	 * @return The random variable representing the value of the hedge portfolio at evaluation time.
+	 * @throws CalculationException Thrown if the evolution of the process failed.
+	 */
+	public RandomVariableInterface getValueStepwise(final double evaluationTime, final MonteCarloBlackScholesModel model) throws CalculationException {
+		final int timeIndexEvaluationTime = model.getTimeIndex(evaluationTime);
+		if(timeIndexEvaluationTime < 0) throw new IllegalArgumentException("The evaluation time " + evaluationTime + " is not a time of the time discretization.");
+
+		final HedgePortfolio[]				hedgePortfolio	= new HedgePortfolio[1];
+		final RandomVariableInterface[]		value			= new RandomVariableInterface[1];
+		model.getProcess().evolve(new ProcessStepListener() {
+			@Override
+			public boolean processStep(int timeIndex, RandomVariableInterface[] processValues, RandomVariableInterface monteCarloWeights) {
+				RandomVariableInterface underlyingAtTimeIndex = processValues[0];
+				if(timeIndex == 0) hedgePortfolio[0] = new HedgePortfolio(underlyingAtTimeIndex.get(0), model.getNumberOfPaths());
+
+				if(timeIndex < timeIndexEvaluationTime) {
+					hedgePortfolio[0].rebalance(model.getTime(timeIndex), underlyingAtTimeIndex, model.getNumeraire(timeIndex));
+					return true;
+				}
+				else {
+					value[0] = hedgePortfolio[0].getValue(evaluationTime, model.getTime(timeIndex), underlyingAtTimeIndex, model.getNumeraire(timeIndex), model);
+					return false;
+				}
+			}
+		});
+
+		return value[0];
+	}
+
+	/**
+	 * The composition of the hedge portfolio on each path, rebalanced going forward in time.
+	 */
+	private class HedgePortfolio {
+
+		// We store the composition of the hedge portfolio (depending on the path)
+		private final double[] amountOfUderlyingAsset;
+		private final double[] amountOfNumeraireAsset;
+
+		// In case of a gamma hedge, the hedge portfolio consist of additional options
+		private final double[] amountOfHedgeOptions;
+
+		/**
+		 * Initialize the portfolio to zero stocks and as much cash as the Black-Scholes Model predicts we need.
+		 * 
+		 * @param initialValue The initial value of the underlying.
+		 * @param numberOfPath The number of paths.
+		 */
+		HedgePortfolio(double initialValue, int numberOfPath) {
+			amountOfUderlyingAsset	= new double[numberOfPath];
+			amountOfNumeraireAsset	= new double[numberOfPath];
+			amountOfHedgeOptions	= new double[numberOfPath];
+
+			double valueOfOptionAccordingBlackScholes = 	AnalyticFormulas.blackScholesOptionValue(
+					initialValue,
+					riskFreeRate,
+					volatility,
+					maturity,
+					strike);
 
-			for(int path=0; path<model.getNumberOfPaths(); path++)
+			Arrays.fill(amountOfNumeraireAsset,valueOfOptionAccordingBlackScholes);
+			Arrays.fill(amountOfUderlyingAsset,0.0);
+			Arrays.fill(amountOfHedgeOptions,0.0);
+		}
+
+		/**
+		 * Change the portfolio according to the trading strategy.
+		 * 
+		 * @param time The current time.
+		 * @param underlying The value of the underlying at the current time.
+		 * @param numeraire The value of the numeraire at the current time.
+		 */
+		void rebalance(double time, RandomVariableInterface underlying, RandomVariableInterface numeraire) {
+			for(int path=0; path<amountOfUderlyingAsset.length; path++)
 			{
-				double underlyingValue	= underlyingAtTimeIndex.get(path);
-				double numeraireValue	= numeraireAtTimeIndex.get(path);
+				double underlyingValue	= underlying.get(path);
+				double numeraireValue	= numeraire.get(path);
 
 				// Change the portfolio according to the trading strategy
-				
+			
 				/*
 				 *  Calculate delta and gamma of option to replicate.
 				 */
@@ -146,16 +210,16 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 						underlyingValue,						// current underlying value
 						riskFreeRate,
 						volatility,
-						maturity-model.getTime(timeIndex),	// remaining time
+						maturity-time,	// remaining time
 						strike);
-				
+			
 				// If we do not perform a gamma hedge, set gamma to zero here, otherwise set it to the gamma of option to replicate.
 				double gamma = 0.0;
 				if(hedgeOptionStrike != 0) gamma = AnalyticFormulas.blackScholesOptionGamma(
 						underlyingValue,						// current underlying value
 						riskFreeRate,
 						volatility,
-						maturity-model.getTime(timeIndex),	// remaining time
+						maturity-time,	// remaining time
 						strike);
 
 				// If we do not perform a vega hedge, set vega to zero here, otherwise set it to the gamma of option to replicate.
@@ -164,8 +228,8 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 						underlyingValue,						// current underlying value
 						riskFreeRate,
 						volatility,
-						maturity-model.getTime(timeIndex),	// remaining time
-						strike) / (maturity-model.getTime(timeIndex));
+						maturity-time,	// remaining time
+						strike) / (maturity-time);
 
 				/*
 				 * If our hedge portfolio consist of a second option (gamma hedge), calculate its price, delta and gamma
@@ -176,7 +240,7 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 						underlyingValue,						// current underlying value
 						riskFreeRate,							// riskFreeRate,
 						volatility,								// volatility,										// *(1.0+0.1*(Math.random()-0.5))
-						hedgeOptionMaturity-model.getTime(timeIndex),	// remaining time
+						hedgeOptionMaturity-time,	// remaining time
 						hedgeOptionStrike);
 
 				// Delta of option used in hedge
@@ -184,7 +248,7 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 						underlyingValue,						// current underlying value
 						riskFreeRate,							// riskFreeRate,
 						volatility,								// volatility,
-						hedgeOptionMaturity-model.getTime(timeIndex),	// remaining time
+						hedgeOptionMaturity-time,	// remaining time
 						hedgeOptionStrike);
 
 				// Gamma of option used in hedge
@@ -192,7 +256,7 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 						underlyingValue,						// current underlying value
 						riskFreeRate,							// riskFreeRate,
 						volatility,								// volatility,
-						hedgeOptionMaturity-model.getTime(timeIndex),	// remaining time
+						hedgeOptionMaturity-time,	// remaining time
 						hedgeOptionStrike);
 
 				// Vega of option used in hedge
@@ -200,8 +264,8 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 						underlyingValue,						// current underlying value
 						riskFreeRate,							// riskFreeRate,
 						volatility,								// volatility,
-						hedgeOptionMaturity-model.getTime(timeIndex),	// remaining time
-						hedgeOptionStrike) / (hedgeOptionMaturity-model.getTime(timeIndex));
+						hedgeOptionMaturity-time,	// remaining time
+						hedgeOptionStrike) / (hedgeOptionMaturity-time);
 
 
 				// Determine the amount of hedge options to buy
@@ -214,7 +278,7 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 					newNumberOfHedgeOptions	= vega/vegaOfHedgeOption;
 					break;
 				}
-				if(Double.isNaN(newNumberOfHedgeOptions) || Double.isInfinite(newNumberOfHedgeOptions) || maturity-model.getTime(timeIndex) < 0.15) newNumberOfHedgeOptions = 0.0;
+				if(Double.isNaN(newNumberOfHedgeOptions) || Double.isInfinite(newNumberOfHedgeOptions) || maturity-time < 0.15) newNumberOfHedgeOptions = 0.0;
 
 				double hedgeOptionsToBuy		= newNumberOfHedgeOptions	- amountOfHedgeOptions[path];
 				// Adjust delta
@@ -235,32 +299,37 @@ public class BlackScholesHedgedPortfolio extends AbstractAssetMonteCarloProduct
 			}
 		}
 
-		/*
-		 * At evaluationTime, calculate the value of the replication portfolio
+		/**
+		 * Calculate the value of the replication portfolio.
+		 * 
+		 * @param evaluationTime The evaluation time (the filtration time of the result).
+		 * @param time The time of the time discretization corresponding to the evaluation time.
+		 * @param underlyingAtEvaluationTime The value of the underlying at evaluation time.
+		 * @param numeraireAtEvaluationTime The value of the numeraire at evaluation time.
+		 * @param model The model.
+		 * @return The value of the replication portfolio.
 		 */
-		//
-		double[] portfolioValue				= new double[numberOfPath];
-
-		// Get value of underlying and numeraire assets			
-		RandomVariableInterface underlyingAtEvaluationTime = model.getAssetValue(timeIndexEvaluationTime,0);
-		RandomVariableInterface numeraireAtEvaluationTime  = model.getNumeraire(timeIndexEvaluationTime);
-		for(int path=0; path<underlyingAtEvaluationTime.size(); path++)
-		{
-			double underlyingValue = underlyingAtEvaluationTime.get(path);
-			
-			double priceOfHedgeOption = AnalyticFormulas.blackScholesOptionValue(
-					underlyingValue,						// current underlying value
-					((MonteCarloBlackScholesModel)model).getRiskFreeRate(),	// riskFreeRate,
-					((MonteCarloBlackScholesModel)model).getVolatility(),	// volatility,
-					hedgeOptionMaturity-model.getTime(timeIndexEvaluationTime),	// remaining time
-					hedgeOptionStrike); 
-
-			portfolioValue[path] =
-					amountOfNumeraireAsset[path] * numeraireAtEvaluationTime.get(path)
-				+	amountOfUderlyingAsset[path] * underlyingValue
-				+	amountOfHedgeOptions[path] * priceOfHedgeOption;
+		RandomVariableInterface getValue(double evaluationTime, double time, RandomVariableInterface underlyingAtEvaluationTime, RandomVariableInterface numeraireAtEvaluationTime, MonteCarloBlackScholesModel model) {
+			double[] portfolioValue				= new double[amountOfUderlyingAsset.length];
+
+			for(int path=0; path<underlyingAtEvaluationTime.size(); path++)
+			{
+				double underlyingValue = underlyingAtEvaluationTime.get(path);
+
+				double priceOfHedgeOption = AnalyticFormulas.blackScholesOptionValue(
+						underlyingValue,						// current underlying value
+						model.getRiskFreeRate(),				// riskFreeRate,
+						model.getVolatility(),					// volatility,
+						hedgeOptionMaturity-time,				// remaining time
+						hedgeOptionStrike); 
+
+				portfolioValue[path] =
+						amountOfNumeraireAsset[path] * numeraireAtEvaluationTime.get(path)
+					+	amountOfUderlyingAsset[path] * underlyingValue
+					+	amountOfHedgeOptions[path] * priceOfHedgeOption;
+			}
+
+			return new RandomVariable(evaluationTime, portfolioValue);
 		}
-		
-		return new RandomVariable(evaluationTime, portfolioValue);
 	}
 }
@@ -7,6 +7,7 @@ package net.finmath.montecarlo.assetderivativevaluation.products;
 
 import net.finmath.exception.CalculationException;
 import net.finmath.montecarlo.assetderivativevaluation.AssetModelMonteCarloSimulationInterface;
+import net.finmath.montecarlo.process.ProcessObservationSet;
 import net.finmath.stochastic.RandomVariableInterface;
 
 /**
@@ -63,4 +64,12 @@ public class EuropeanOption extends AbstractAssetMonteCarloProduct {
 
         return values;
 	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.assetderivativevaluation.products.AbstractAssetMonteCarloProduct#getRequiredObservations()
+	 */
+	@Override
+	public ProcessObservationSet getRequiredObservations() {
+		return new ProcessObservationSet().add(maturity, 0);
+	}
 }
@@ -72,12 +72,16 @@ public class MonteCarloConditionalExpectationRegression implements MonteCarloCon
     
 	public double[] getLinearRegressionParameters(RandomVariableInterface dependents) {
 
-        // Build XTX - the symmetric matrix consisting of the scalar products of the basis functions.
+        /*
+         * Build XTX - the symmetric matrix consisting of the scalar products of the basis functions.
+         * Note: the scalar products are the averages of the products. A basis function cannot be passed as "probabilities" to getAverage,
+         * since a deterministic random variable returns its value, ignoring the probabilities.
+         */
         RandomVariableInterface[] basisFunctions = getNonZeroBasisFunctions(basisFunctionsEstimator);
         double[][] XTX = new double[basisFunctions.length][basisFunctions.length];
         for(int i=0; i<basisFunctions.length; i++) {
             for(int j=i; j<basisFunctions.length; j++) {
-            	XTX[i][j] = basisFunctions[i].getAverage(basisFunctions[j]);
+            	XTX[i][j] = basisFunctions[i].mult(basisFunctions[j]).getAverage();
             	XTX[j][i] = XTX[i][j];
             }
         }
@@ -85,7 +89,7 @@ public class MonteCarloConditionalExpectationRegression implements MonteCarloCon
         // Build XTy - the projection of the dependents random variable on the basis functions.
         double[] XTy = new double[basisFunctions.length];
         for(int i=0; i<basisFunctions.length; i++) {
-        	XTy[i] = dependents.getAverage(basisFunctions[i]);
+        	XTy[i] = dependents.mult(basisFunctions[i]).getAverage();
         }
 
         // Solve X^T X x = X^T y - which gives us the regression coefficients x = linearRegressionParameters
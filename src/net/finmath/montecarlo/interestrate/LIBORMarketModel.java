@@ -18,12 +18,14 @@ import net.finmath.marketdata.model.curves.ForwardCurveInterface;
 import net.finmath.marketdata.products.Swap;
 import net.finmath.marketdata.products.SwapAnnuity;
 import net.finmath.montecarlo.RandomVariable;
+import net.finmath.montecarlo.RandomVariableAccumulator;
 import net.finmath.montecarlo.interestrate.modelplugins.AbstractLIBORCovarianceModel;
 import net.finmath.montecarlo.interestrate.modelplugins.AbstractLIBORCovarianceModelParametric;
 import net.finmath.montecarlo.interestrate.products.AbstractLIBORMonteCarloProduct;
 import net.finmath.montecarlo.interestrate.products.SwaptionAnalyticApproximation;
 import net.finmath.montecarlo.interestrate.products.SwaptionSimple;
 import net.finmath.montecarlo.model.AbstractModel;
+import net.finmath.montecarlo.process.ProcessObservationSet;
 import net.finmath.stochastic.RandomVariableInterface;
 import net.finmath.time.TimeDiscretization;
 import net.finmath.time.TimeDiscretizationInterface;
@@ -336,6 +338,80 @@ public class LIBORMarketModel extends AbstractModel implements LIBORMarketModelI
 		return numeraire;
 	}
 
+	/**
+	 * Returns the observations of the process (the LIBORs at the simulation times) used in the calculation of the numeraire at a given time,
+	 * see {@link #getNumeraire(double)}. The observations may be used to create a process retaining only the time slices required by a product.
+	 * 
+	 * @param time Time time <i>t</i> for which the numeraire is requested <i>N(t)</i>.
+	 * @return The observations of the process used by the calculation of the numeraire.
+	 * @see net.finmath.montecarlo.process.ProcessEulerScheme#ProcessEulerScheme(net.finmath.montecarlo.BrownianMotionInterface, net.finmath.montecarlo.RandomVariableFactory, java.util.concurrent.ExecutorService, ProcessObservationSet)
+	 */
+	public ProcessObservationSet getObservationsOfNumeraire(double time) {
+		ProcessObservationSet observations = new ProcessObservationSet();
+
+		int timeIndex = getLiborPeriodIndex(time);
+		if(timeIndex < 0) {
+			// Interpolation of Numeraire: requires the numeraire at the neighboring tenor times.
+			int lowerIndex = -timeIndex -1;
+			int upperIndex = -timeIndex;
+			observations.addAll(getObservationsOfNumeraire(getLiborPeriod(lowerIndex)));
+			observations.addAll(getObservationsOfNumeraire(getLiborPeriod(upperIndex)));
+			return observations;
+		}
+
+		int firstLiborIndex	= timeIndex;
+		int lastLiborIndex	= liborPeriodDiscretization.getNumberOfTimeSteps()-1;
+		if(measure == Measure.SPOT) {
+			firstLiborIndex	= 0;
+			lastLiborIndex	= timeIndex-1;
+		}
+
+		for(int liborIndex = firstLiborIndex; liborIndex<=lastLiborIndex; liborIndex++) {
+			observations.add(Math.min(time,liborPeriodDiscretization.getTime(liborIndex)), liborIndex);
+		}
+		return observations;
+	}
+
+	/**
+	 * Returns the observations of the process (the LIBORs at the simulation time) used in the calculation of the forward rate
+	 * <i>L(T<sub>s</sub>,T<sub>e</sub>;t)</i> by {@link LIBORModelMonteCarloSimulation#getLIBOR(double, double, double)},
+	 * including the LIBORs used by the interpolation of a period start or end which is not a tenor time.
+	 * 
+	 * @param time The simulation time <i>t</i> at which the forward rate is requested.
+	 * @param periodStart The period start <i>T<sub>s</sub></i>.
+	 * @param periodEnd The period end <i>T<sub>e</sub></i>.
+	 * @return The observations of the process used by the calculation of the forward rate.
+	 */
+	public ProcessObservationSet getObservationsOfLIBOR(double time, double periodStart, double periodEnd) {
+		ProcessObservationSet observations = new ProcessObservationSet();
+
+		int periodStartIndex	= getLiborPeriodIndex(periodStart);
+		int periodEndIndex		= getLiborPeriodIndex(periodEnd);
+
+		// Interpolation on tenor: requires the LIBORs of the neighboring tenor times
+		if(periodEndIndex < 0) {
+			int		previousEndIndex	= -periodEndIndex-1;
+			double	previousEndTime		= getLiborPeriod(previousEndIndex);
+			double	nextEndTime			= getLiborPeriod(previousEndIndex+1);
+			observations.addAll(getObservationsOfLIBOR(time, periodStart, previousEndTime));
+			observations.addAll(getObservationsOfLIBOR(time, previousEndTime, nextEndTime));
+			return observations;
+		}
+		if(periodStartIndex < 0) {
+			int		previousStartIndex	= -periodStartIndex-1;
+			double	previousStartTime	= getLiborPeriod(previousStartIndex);
+			double	nextStartTime		= getLiborPeriod(previousStartIndex+1);
+			observations.addAll(getObservationsOfLIBOR(time, nextStartTime, periodEnd));
+			observations.addAll(getObservationsOfLIBOR(time, previousStartTime, nextStartTime));
+			return observations;
+		}
+
+		for(int liborIndex = periodStartIndex; liborIndex<periodEndIndex; liborIndex++) {
+			observations.add(time, liborIndex);
+		}
+		return observations;
+	}
+
 	@Override
 	public RandomVariableInterface[] getInitialState() {
 		double[] liborInitialStates = new double[liborPeriodDiscretization.getNumberOfTimeSteps()];
@@ -369,45 +445,51 @@ public class LIBORMarketModel extends AbstractModel implements LIBORMarketModelI
 		int		firstLiborIndex		= this.getLiborPeriodIndex(time)+1;
 		if(firstLiborIndex<0) firstLiborIndex = -firstLiborIndex-1 + 1;
 
-		// Allocate drift vector and initialize to zero (will be used to sum up drift components)
-		RandomVariableInterface[]	drift = new RandomVariableInterface[getNumberOfComponents()];
-		RandomVariableInterface[][]	covarianceFactorSums	= new RandomVariableInterface[getNumberOfComponents()][getNumberOfFactors()];
-		for(int componentIndex=firstLiborIndex; componentIndex<getNumberOfComponents(); componentIndex++) {
-			drift[componentIndex] = new RandomVariable(0.0, 0.0);
+		/*
+		 * The drift is calculated using the running sums of the factor loadings weighted with the one step measure transform.
+		 * Under the spot measure the sums run over the LIBORs from the first LIBOR up to the component, under the terminal measure
+		 * (with negative sign) over the LIBORs after the component to the last LIBOR, i.e., the components are visited in reverse order.
+		 * The factor loadings of a component are requested once and also give the variance, such that the calculation is
+		 * of order numberOfComponents &times; numberOfFactors.
+		 * All sums are performed in-place using RandomVariableAccumulator, such that the only allocations
+		 * per component are the drift itself, an immutable snapshot of the accumulator (and the factor loadings provided by the covariance model).
+		 */
+		RandomVariableInterface[]	drift					= new RandomVariableInterface[getNumberOfComponents()];
+		RandomVariableAccumulator	driftOfComponent		= new RandomVariableAccumulator(0.0, 0.0);
+		RandomVariableAccumulator[]	covarianceFactorSums	= new RandomVariableAccumulator[getNumberOfFactors()];
+		for(int factorIndex=0; factorIndex<getNumberOfFactors(); factorIndex++) {
+			covarianceFactorSums[factorIndex] = new RandomVariableAccumulator(0.0, 0.0);
 		}
+		RandomVariableAccumulator	oneStepMeasureTransform	= new RandomVariableAccumulator(0.0, 0.0);
+		RandomVariableAccumulator	variance				= new RandomVariableAccumulator(0.0, 0.0);
 
 		// Calculate drift for the component componentIndex (starting at firstLiborIndex, others are zero)
-		for(int componentIndex=firstLiborIndex; componentIndex<getNumberOfComponents(); componentIndex++) {
+		for(int liborCount=0; liborCount<getNumberOfComponents()-firstLiborIndex; liborCount++) {
+			int							componentIndex		= measure == Measure.TERMINAL ? getNumberOfComponents()-1-liborCount : firstLiborIndex+liborCount;
 			double						periodLength		= liborPeriodDiscretization.getTimeStep(componentIndex);
-			RandomVariableInterface libor = realizationAtTimeIndex[componentIndex];
-			RandomVariableInterface oneStepMeasureTransform = libor.discount(libor, periodLength).mult(periodLength);
+			RandomVariableInterface		libor				= realizationAtTimeIndex[componentIndex];
 
-			//oneStepMeasureTransform = oneStepMeasureTransform.mult(libor);
+			// oneStepMeasureTransform = libor * periodLength / (1 + libor * periodLength), with negative sign for the terminal measure
+			oneStepMeasureTransform.set(libor).discountInPlace(libor, periodLength).multInPlace(measure == Measure.TERMINAL ? -periodLength : periodLength);
 
-			RandomVariableInterface[]	factorLoading   	= getFactorLoading(timeIndex, componentIndex, realizationAtTimeIndex);
-			RandomVariableInterface[]   covarianceFactors   = new RandomVariableInterface[getNumberOfFactors()];
+			RandomVariableInterface[]	factorLoading		= getFactorLoading(timeIndex, componentIndex, realizationAtTimeIndex);
+			driftOfComponent.set(0.0);
+			variance.set(0.0);
 			for(int factorIndex=0; factorIndex<getNumberOfFactors(); factorIndex++) {
-				covarianceFactors[factorIndex] = factorLoading[factorIndex].mult(oneStepMeasureTransform);
-				covarianceFactorSums[componentIndex][factorIndex] = covarianceFactors[factorIndex];
-				if(componentIndex > firstLiborIndex)
-					covarianceFactorSums[componentIndex][factorIndex] = covarianceFactorSums[componentIndex][factorIndex].add(covarianceFactorSums[componentIndex-1][factorIndex]);
-			}
-			for(int factorIndex=0; factorIndex<getNumberOfFactors(); factorIndex++) {
-				drift[componentIndex] = drift[componentIndex].addProduct(covarianceFactorSums[componentIndex][factorIndex], factorLoading[factorIndex]);
-			}
-		}
-
-		// Above is the drift for the spot measure: a simple conversion makes it the drift of the terminal measure.
-		if(measure == Measure.TERMINAL) {
-			for(int componentIndex=firstLiborIndex; componentIndex<getNumberOfComponents(); componentIndex++) {
-				drift[componentIndex] = drift[componentIndex].sub(drift[getNumberOfComponents()-1]);
+				if(measure == Measure.TERMINAL) {
+					driftOfComponent.addProductInPlace(covarianceFactorSums[factorIndex], factorLoading[factorIndex]);
+					covarianceFactorSums[factorIndex].addProductInPlace(factorLoading[factorIndex], oneStepMeasureTransform);
+				}
+				else {
+					covarianceFactorSums[factorIndex].addProductInPlace(factorLoading[factorIndex], oneStepMeasureTransform);
+					driftOfComponent.addProductInPlace(covarianceFactorSums[factorIndex], factorLoading[factorIndex]);
+				}
+				variance.addProductInPlace(factorLoading[factorIndex], factorLoading[factorIndex]);
 			}
-		}
 
-		// Drift adjustment for log-coordinate in each component
-		for(int componentIndex=firstLiborIndex; componentIndex<getNumberOfComponents(); componentIndex++) {
-			RandomVariableInterface		variance		= covarianceModel.getCovariance(timeIndex, componentIndex, componentIndex, realizationAtTimeIndex);
-			drift[componentIndex] = drift[componentIndex].addProduct(variance, -0.5);
+			// Drift adjustment for log-coordinate
+			driftOfComponent.addProductInPlace(variance, -0.5);
+			drift[componentIndex] = driftOfComponent.get();
 		}
 
 		return drift;
@@ -445,6 +527,11 @@ public class LIBORMarketModel extends AbstractModel implements LIBORMarketModelI
 		return covarianceModel.getFactorLoading(timeIndex, componentIndex, realizationAtTimeIndex);
 	}
 
+	@Override
+	public boolean isFactorLoadingStateDependent() {
+		return covarianceModel.isFactorLoadingStateDependent();
+	}
+
 	@Override
 	public RandomVariableInterface applyStateSpaceTransform(int componentIndex, RandomVariableInterface randomVariable) {
 		return randomVariable.exp();
@@ -517,9 +604,6 @@ public class LIBORMarketModel extends AbstractModel implements LIBORMarketModelI
 		// The following is the drift of the LIBOR component
 		double	time					= getTime(timeIndex);
 
-		// Initialize to 0.0
-		RandomVariableInterface drift = new RandomVariable(time, 0.0);
-
 		// Get the start and end of the summation (start is the LIBOR after the current LIBOR component, end is the last LIBOR)
 		int firstLiborIndex, lastLiborIndex;
 		switch(measure) {
@@ -536,23 +620,47 @@ public class LIBORMarketModel extends AbstractModel implements LIBORMarketModelI
 			break;
 		}
 
+		/*
+		 * The sum of the covariances is calculated as the product of the factor loading of this component with the sums of the
+		 * factor loadings weighted with the one step measure transform, as in getDrift(int, RandomVariableInterface[], RandomVariableInterface[]).
+		 * This requests a single factor loading per LIBOR (instead of two per covariance).
+		 */
+		RandomVariableAccumulator[]	covarianceFactorSums	= new RandomVariableAccumulator[getNumberOfFactors()];
+		for(int factorIndex=0; factorIndex<getNumberOfFactors(); factorIndex++) {
+			covarianceFactorSums[factorIndex] = new RandomVariableAccumulator(0.0, 0.0);
+		}
+		RandomVariableAccumulator	oneStepMeasureTransform	= new RandomVariableAccumulator(0.0, 0.0);
+
 		// The sum
 		for(int liborIndex = firstLiborIndex; liborIndex<=lastLiborIndex; liborIndex++) {
 			double						periodLength	= liborPeriodDiscretization.getTimeStep(liborIndex);
-			RandomVariableInterface		covariance		= covarianceModel.getCovariance(timeIndex, componentIndex, liborIndex, null);
-			RandomVariableInterface libor			= liborVectorStart[liborIndex];
-			covariance = covariance.mult(periodLength).mult(libor).discount(libor, periodLength);
-			drift = drift.add(covariance);
+			RandomVariableInterface		libor			= liborVectorStart[liborIndex];
+
+			// oneStepMeasureTransform = libor * periodLength / (1 + libor * periodLength)
+			oneStepMeasureTransform.set(libor).discountInPlace(libor, periodLength).multInPlace(periodLength);
+
+			RandomVariableInterface[]	factorLoading	= getFactorLoading(timeIndex, liborIndex, liborVectorStart);
+			for(int factorIndex=0; factorIndex<getNumberOfFactors(); factorIndex++) {
+				covarianceFactorSums[factorIndex].addProductInPlace(factorLoading[factorIndex], oneStepMeasureTransform);
+			}
+		}
+
+		// Initialize to 0.0
+		RandomVariableAccumulator	drift		= new RandomVariableAccumulator(time, 0.0);
+		RandomVariableAccumulator	variance	= new RandomVariableAccumulator(0.0, 0.0);
+		RandomVariableInterface[]	factorLoadingOfComponent = getFactorLoading(timeIndex, componentIndex, liborVectorStart);
+		for(int factorIndex=0; factorIndex<getNumberOfFactors(); factorIndex++) {
+			drift.addProductInPlace(covarianceFactorSums[factorIndex], factorLoadingOfComponent[factorIndex]);
+			variance.addProductInPlace(factorLoadingOfComponent[factorIndex], factorLoadingOfComponent[factorIndex]);
 		}
 		if(measure == Measure.TERMINAL) {
-			drift = drift.mult(-1.0);
+			drift.multInPlace(-1.0);
 		}
 
 		// Drift adjustment for log-coordinate
-		RandomVariableInterface		variance		= covarianceModel.getCovariance(timeIndex, componentIndex, componentIndex, null);
-		drift = drift.addProduct(variance, -0.5);
+		drift.addProductInPlace(variance, -0.5);
 
-		return drift;
+		return drift.get();
 	}
 
 	private RandomVariableInterface getDriftLineIntegral(int timeIndex, int componentIndex, RandomVariableInterface[] liborVectorStart, RandomVariableInterface[] liborVectorEnd) {
@@ -734,13 +842,19 @@ public class LIBORMarketModel extends AbstractModel implements LIBORMarketModelI
 			swaptionMarketData = (AbstractSwaptionMarketData)dataModified.get("covarianceModel");
 		}
 
+		LIBORMarketModel model;
 		if(swaptionMarketData == null) {
-			return new LIBORMarketModel(liborPeriodDiscretization, forwardRateCurve, covarianceModel);
+			model = new LIBORMarketModel(liborPeriodDiscretization, forwardRateCurve, covarianceModel);
 		}
 		else {
-			return new LIBORMarketModel(liborPeriodDiscretization, forwardRateCurve, covarianceModel, swaptionMarketData);
-
+			model = new LIBORMarketModel(liborPeriodDiscretization, forwardRateCurve, covarianceModel, swaptionMarketData);
 		}
+
+		// Keep the numerical settings of this model
+		model.setMeasure(measure);
+		model.setDriftApproximationMethod(driftApproximationMethod);
+
+		return model;
 	}
 }
 
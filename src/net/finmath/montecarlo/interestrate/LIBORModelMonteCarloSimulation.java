@@ -257,11 +257,21 @@ public class LIBORModelMonteCarloSimulation implements LIBORModelMonteCarloSimul
 		return new LIBORModelMonteCarloSimulation(model, process);
 	}
 
-    /* (non-Javadoc)
+    /**
+     * Create a clone of this simulation modifying some of its properties.
+     * In addition to the properties supported by the model, the key <code>seed</code> (an <code>Integer</code>)
+     * creates a simulation using a new Brownian motion with the given seed.
+     * 
      * @see net.finmath.montecarlo.MonteCarloSimulationInterface#getCloneWithModifiedData(java.util.Map)
      */
     public LIBORModelMonteCarloSimulationInterface getCloneWithModifiedData(Map<String, Object> dataModified) throws CalculationException {
     	LIBORMarketModelInterface modelClone = model.getCloneWithModifiedData(dataModified);
-    	return new LIBORModelMonteCarloSimulation(modelClone, (AbstractProcess) getProcess().clone());
+    	if(dataModified.get("seed") != null) {
+    		int seed = ((Number)dataModified.get("seed")).intValue();
+    		return new LIBORModelMonteCarloSimulation(modelClone, (AbstractProcess) ((AbstractProcess)getProcess()).getCloneWithModifiedSeed(seed));
+    	}
+    	else {
+    		return new LIBORModelMonteCarloSimulation(modelClone, (AbstractProcess) getProcess().clone());
+    	}
     }
 }
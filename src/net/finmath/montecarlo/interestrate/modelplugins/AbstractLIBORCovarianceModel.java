@@ -59,6 +59,17 @@ public abstract class AbstractLIBORCovarianceModel {
 	 */
 	public abstract RandomVariableInterface	getFactorLoadingPseudoInverse(int timeIndex, int component, int factor, RandomVariableInterface[] realizationAtTimeIndex);
 
+	/**
+	 * Returns true if the factor loadings depend on the realization of the stochastic process (local volatility/covariance/correlation models).
+	 * The default implementation returns true. Models with deterministic factor loadings should return false, which allows the
+	 * simulation to skip calculations (e.g., the Milstein correction of the discretization scheme).
+	 * 
+	 * @return True, if the factor loadings depend on the realization of the stochastic process.
+	 */
+	public boolean isFactorLoadingStateDependent() {
+		return true;
+	}
+
 	/**
 	 * Returns the instantaneous covariance calculated from factor loadings.
 	 * 
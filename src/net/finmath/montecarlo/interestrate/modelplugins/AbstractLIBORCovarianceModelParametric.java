@@ -9,7 +9,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import net.finmath.exception.CalculationException;
-import net.finmath.montecarlo.BrownianMotion;
+import net.finmath.montecarlo.BrownianMotionInterface;
+import net.finmath.montecarlo.BrownianMotionRegistry;
 import net.finmath.montecarlo.interestrate.LIBORMarketModelInterface;
 import net.finmath.montecarlo.interestrate.LIBORModelMonteCarloSimulation;
 import net.finmath.montecarlo.interestrate.products.AbstractLIBORMonteCarloProduct;
@@ -64,16 +65,49 @@ public abstract class AbstractLIBORCovarianceModelParametric extends AbstractLIB
 		return calibrationCovarianceModel;
     }
     
+    /**
+     * Calibrate the covariance model to the given calibration products, using a Brownian motion with 5000 paths and seed 31415
+     * obtained from the {@link BrownianMotionRegistry} (such that it is shared with other users of the same specification).
+     * 
+     * @param calibrationModel The LIBOR market model used for the calibration (its covariance model is replaced).
+     * @param calibrationProducts The calibration products.
+     * @param calibrationTargetValues The target values of the calibration products.
+     * @param calibrationWeights The weights of the calibration products.
+     * @return The calibrated covariance model.
+     * @throws CalculationException Thrown if the calibration fails.
+     */
     public AbstractLIBORCovarianceModelParametric getCloneCalibrated(final LIBORMarketModelInterface calibrationModel, final AbstractLIBORMonteCarloProduct[] calibrationProducts, double[] calibrationTargetValues, double[] calibrationWeights) throws CalculationException {
 
-    	double[] initialParameters = this.getParameter();
-
     	// @TODO: These constants should become parameters. The numberOfPaths and seed is only relevant if Monte-Carlo products are used for calibration.
 		int numberOfPaths	= 5000;
 		int seed			= 31415;
-		final int maxIterations	= 400;
 
-		final BrownianMotion brownianMotion = new BrownianMotion(getTimeDiscretization(), getNumberOfFactors(), numberOfPaths, seed);
+		BrownianMotionInterface brownianMotion = BrownianMotionRegistry.acquire(getTimeDiscretization(), getNumberOfFactors(), numberOfPaths, seed);
+		try {
+			return getCloneCalibrated(calibrationModel, calibrationProducts, calibrationTargetValues, calibrationWeights, brownianMotion);
+		}
+		finally {
+			BrownianMotionRegistry.release(brownianMotion);
+		}
+    }
+
+    /**
+     * Calibrate the covariance model to the given calibration products, using the given Brownian motion
+     * (e.g. the Brownian motion used for the subsequent pricing).
+     * 
+     * @param calibrationModel The LIBOR market model used for the calibration (its covariance model is replaced).
+     * @param calibrationProducts The calibration products.
+     * @param calibrationTargetValues The target values of the calibration products.
+     * @param calibrationWeights The weights of the calibration products.
+     * @param brownianMotion The Brownian motion used for the simulation of the calibration model.
+     * @return The calibrated covariance model.
+     * @throws CalculationException Thrown if the calibration fails.
+     */
+    public AbstractLIBORCovarianceModelParametric getCloneCalibrated(final LIBORMarketModelInterface calibrationModel, final AbstractLIBORMonteCarloProduct[] calibrationProducts, double[] calibrationTargetValues, double[] calibrationWeights, final BrownianMotionInterface brownianMotion) throws CalculationException {
+
+    	double[] initialParameters = this.getParameter();
+
+		final int maxIterations	= 400;
 
 		// We do not allocate more threads the twice the number of processors.
 		int numberOfThreads = Math.min(Math.max(2 * Runtime.getRuntime().availableProcessors(),1), calibrationProducts.length);
@@ -64,6 +64,12 @@ public class LIBORCovarianceModelExponentialForm7Param extends AbstractLIBORCova
 		return factorLoading;
 	}
 
+	@Override
+	public boolean isFactorLoadingStateDependent() {
+		// The volatility and correlation models are deterministic
+		return false;
+	}
+
 	@Override
 	public RandomVariable getFactorLoadingPseudoInverse(int timeIndex, int component, int factor, RandomVariableInterface[] realizationAtTimeIndex) {
 		throw new UnsupportedOperationException();
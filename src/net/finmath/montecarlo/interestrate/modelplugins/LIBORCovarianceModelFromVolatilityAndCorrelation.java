@@ -45,6 +45,12 @@ public class LIBORCovarianceModelFromVolatilityAndCorrelation extends AbstractLI
 		return factorLoading;
 	}
 	
+	@Override
+	public boolean isFactorLoadingStateDependent() {
+		// The volatility and correlation models are deterministic
+		return false;
+	}
+
 	@Override
     public RandomVariableInterface getFactorLoadingPseudoInverse(int timeIndex, int component, int factor, RandomVariableInterface[] realizationAtTimeIndex) {
 		// Note that we assume that the correlation model getFactorLoading gives orthonormal vectors
@@ -11,7 +11,9 @@ import java.util.Map;
 import net.finmath.exception.CalculationException;
 import net.finmath.montecarlo.AbstractMonteCarloProduct;
 import net.finmath.montecarlo.MonteCarloSimulationInterface;
+import net.finmath.montecarlo.interestrate.LIBORMarketModel;
 import net.finmath.montecarlo.interestrate.LIBORModelMonteCarloSimulationInterface;
+import net.finmath.montecarlo.process.ProcessObservationSet;
 import net.finmath.montecarlo.process.component.factordrift.FactorDriftInterface;
 import net.finmath.stochastic.RandomVariableInterface;
 
@@ -81,4 +83,19 @@ public abstract class AbstractLIBORMonteCarloProduct extends AbstractMonteCarloP
         return null;
     }
 
+    /**
+     * Returns the observations <i>(t, i)</i> of the LIBORs <i>L<sub>i</sub>(t)</i> required by the valuation of this product
+     * in the given model, i.e., the LIBORs of the fixings and those used by the numeraire at the payment dates and at the evaluation time,
+     * see {@link LIBORMarketModel#getObservationsOfLIBOR(double, double, double)} and {@link LIBORMarketModel#getObservationsOfNumeraire(double)}.
+     * The observations of a portfolio (the union of the observations of its products) may be used to create a process
+     * retaining only the required time slices, see {@link ProcessObservationSet}.
+     * 
+     * @param evaluationTime The time on which this products value should be observed.
+     * @param model The model used to price the product.
+     * @return The observations of the LIBORs required by this product, or null if the product does not declare its observations (i.e., it may require all observations).
+     */
+    public ProcessObservationSet getRequiredObservations(double evaluationTime, LIBORMarketModel model) {
+    	return null;
+    }
+
 }
@@ -11,7 +11,9 @@ import net.finmath.exception.CalculationException;
 import net.finmath.montecarlo.RandomVariable;
 import net.finmath.montecarlo.conditionalexpectation.MonteCarloConditionalExpectation;
 import net.finmath.montecarlo.conditionalexpectation.MonteCarloConditionalExpectationRegression;
+import net.finmath.montecarlo.interestrate.LIBORMarketModel;
 import net.finmath.montecarlo.interestrate.LIBORModelMonteCarloSimulationInterface;
+import net.finmath.montecarlo.process.ProcessObservationSet;
 import net.finmath.stochastic.RandomVariableInterface;
 
 /**
@@ -113,6 +115,26 @@ public class BermudanSwaption extends AbstractLIBORMonteCarloProduct {
         return values;
 	}
 
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.interestrate.products.AbstractLIBORMonteCarloProduct#getRequiredObservations(double, net.finmath.montecarlo.interestrate.LIBORMarketModel)
+	 */
+	@Override
+	public ProcessObservationSet getRequiredObservations(double evaluationTime, LIBORMarketModel model) {
+		ProcessObservationSet observations = new ProcessObservationSet();
+		for(int period=0; period<fixingDates.length; period++) {
+			double fixingDate	= fixingDates[period];
+
+			// The LIBOR fixing and the numeraire at payment
+			observations.addAll(model.getObservationsOfLIBOR(fixingDate, fixingDate, fixingDate+periodLengths[period]));
+			observations.addAll(model.getObservationsOfNumeraire(paymentDates[period]));
+
+			// The regression basis functions at the exercise dates
+			if(isPeriodStartDateExerciseDate[period]) observations.addAll(model.getObservationsOfLIBOR(fixingDate, fixingDate, paymentDates[paymentDates.length-1]));
+		}
+		observations.addAll(model.getObservationsOfNumeraire(evaluationTime));
+		return observations;
+	}
+
 	/**
 	 * Return the conditional expectation estimator suitable for this product.
 	 * 
@@ -145,9 +167,9 @@ public class BermudanSwaption extends AbstractLIBORMonteCarloProduct {
 		RandomVariableInterface basisFunction = new RandomVariable(fixingDate, 1.0);
 		basisFunctions.add(basisFunction);
 
-		// LIBORs
-		RandomVariableInterface rate = model.getLIBOR(fixingDate, fixingDates[0], paymentDates[paymentDates.length-1]);
-		double periodLength = paymentDates[paymentDates.length-1]-fixingDates[0];
+		// LIBORs (over the remaining swap period, previous periods are already fixed)
+		RandomVariableInterface rate = model.getLIBOR(fixingDate, fixingDate, paymentDates[paymentDates.length-1]);
+		double periodLength = paymentDates[paymentDates.length-1]-fixingDate;
 		basisFunction = basisFunctions.get(0).getMutableCopy().discount(rate, periodLength);
 		basisFunctions.add(basisFunction);
 		basisFunction = basisFunctions.get(1).getMutableCopy().discount(rate, periodLength);
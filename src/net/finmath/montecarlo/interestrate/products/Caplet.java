@@ -6,7 +6,9 @@
 package net.finmath.montecarlo.interestrate.products;
 
 import net.finmath.exception.CalculationException;
+import net.finmath.montecarlo.interestrate.LIBORMarketModel;
 import net.finmath.montecarlo.interestrate.LIBORModelMonteCarloSimulationInterface;
+import net.finmath.montecarlo.process.ProcessObservationSet;
 import net.finmath.stochastic.RandomVariableInterface;
 
 /**
@@ -81,4 +83,17 @@ public class Caplet extends AbstractLIBORMonteCarloProduct {
 
 		return values;
 	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.interestrate.products.AbstractLIBORMonteCarloProduct#getRequiredObservations(double, net.finmath.montecarlo.interestrate.LIBORMarketModel)
+	 */
+	@Override
+	public ProcessObservationSet getRequiredObservations(double evaluationTime, LIBORMarketModel model) {
+		double paymentDate = maturity+periodLength;
+
+		ProcessObservationSet observations = model.getObservationsOfLIBOR(maturity, maturity, paymentDate);
+		observations.addAll(model.getObservationsOfNumeraire(paymentDate));
+		observations.addAll(model.getObservationsOfNumeraire(evaluationTime));
+		return observations;
+	}
 }
@@ -13,7 +13,9 @@ import net.finmath.marketdata.model.curves.ForwardCurveInterface;
 import net.finmath.marketdata.products.Swap;
 import net.finmath.marketdata.products.SwapAnnuity;
 import net.finmath.montecarlo.RandomVariable;
+import net.finmath.montecarlo.interestrate.LIBORMarketModel;
 import net.finmath.montecarlo.interestrate.LIBORModelMonteCarloSimulationInterface;
+import net.finmath.montecarlo.process.ProcessObservationSet;
 import net.finmath.stochastic.RandomVariableInterface;
 import net.finmath.time.TimeDiscretization;
 import net.finmath.time.TimeDiscretizationInterface;
@@ -154,6 +156,23 @@ public class Swaption extends AbstractLIBORMonteCarloProduct {
 		return values;
 	}
     
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.interestrate.products.AbstractLIBORMonteCarloProduct#getRequiredObservations(double, net.finmath.montecarlo.interestrate.LIBORMarketModel)
+	 */
+	@Override
+	public ProcessObservationSet getRequiredObservations(double evaluationTime, LIBORMarketModel model) {
+		// The swap is valued at the exercise date, using the rates at simulation time = exerciseDate
+		ProcessObservationSet observations = new ProcessObservationSet();
+		for(int period=0; period<fixingDates.length; period++) {
+			observations.addAll(model.getObservationsOfLIBOR(exerciseDate, fixingDates[period], paymentDates[period]));
+		}
+		if(fixingDates[0] != exerciseDate) observations.addAll(model.getObservationsOfLIBOR(exerciseDate, exerciseDate, fixingDates[0]));
+
+		observations.addAll(model.getObservationsOfNumeraire(exerciseDate));
+		observations.addAll(model.getObservationsOfNumeraire(evaluationTime));
+		return observations;
+	}
+
     /**
      * This method returns the value of the product using a Black-Scholes model for the swap rate
      * The model is determined by a discount factor curve and a swap rate volatility.
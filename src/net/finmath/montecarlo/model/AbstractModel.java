@@ -48,6 +48,17 @@ public abstract class AbstractModel implements AbstractModelInterface {
 		return drift;
 	}
 
+    /**
+     * Returns true if the factor loadings depend on the realization of the process.
+     * The default implementation returns true. Models with deterministic factor loadings should return false.
+     * 
+     * @return True, if the factor loadings depend on the realization of the process.
+     * @see net.finmath.montecarlo.model.AbstractModelInterface#isFactorLoadingStateDependent()
+     */
+    public boolean isFactorLoadingStateDependent() {
+    	return true;
+    }
+
     /*
      * Delegation to process (numerical scheme)
      */
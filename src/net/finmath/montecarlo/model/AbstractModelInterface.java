@@ -119,6 +119,18 @@ public interface AbstractModelInterface {
      */
     RandomVariableInterface[] getFactorLoading(int timeIndex, int componentIndex, RandomVariableInterface[] realizationAtTimeIndex);
 
+    /**
+     * Returns true if the factor loadings <i>&lambda;<sub>i,j</sub></i> depend on the realization of the process <i>X</i>.
+     * 
+     * Higher order schemes (like the Milstein scheme) require the derivatives of the factor loadings with respect to the state <i>Y</i>,
+     * which vanish if the factor loadings do not depend on the realization. In this case the scheme may skip their calculation.
+     * Note that for a model with <i>f = exp</i> and deterministic factor loadings and drift (e.g., the Black-Scholes model),
+     * the Euler scheme of <i>Y</i> is the exact log-Euler step of <i>X</i>.
+     * 
+     * @return True, if the factor loadings depend on the realization of the process.
+     */
+    boolean isFactorLoadingStateDependent();
+
     /**
      * Set the numerical scheme used to generate the stochastic process.
      * 
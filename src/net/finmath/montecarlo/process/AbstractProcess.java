@@ -5,6 +5,7 @@
  */
 package net.finmath.montecarlo.process;
 
+import net.finmath.exception.CalculationException;
 import net.finmath.montecarlo.model.AbstractModelInterface;
 import net.finmath.stochastic.RandomVariableInterface;
 import net.finmath.time.TimeDiscretizationInterface;
@@ -34,6 +35,23 @@ public abstract class AbstractProcess implements AbstractProcessInterface, Clone
 
 	public abstract Object getCloneWithModifiedSeed(int seed);	
 
+	/**
+	 * Passes the time slices of the process to the given listener. This implementation passes the values
+	 * of <code>getProcessValue</code> and <code>getMonteCarloWeights</code>, i.e., the stored process.
+	 * 
+	 * @param listener The listener receiving the time slices.
+	 * @throws CalculationException Thrown if the process could not be calculated or if the listener throws an exception.
+	 */
+	@Override
+	public void evolve(ProcessStepListener listener) throws CalculationException {
+		for(int timeIndex=0; timeIndex<getTimeDiscretization().getNumberOfTimes(); timeIndex++) {
+			RandomVariableInterface[] processValues = new RandomVariableInterface[getNumberOfComponents()];
+			for(int componentIndex=0; componentIndex<processValues.length; componentIndex++) processValues[componentIndex] = getProcessValue(timeIndex, componentIndex);
+
+			if(!listener.processStep(timeIndex, processValues, getMonteCarloWeights(timeIndex))) return;
+		}
+	}
+
 
 	
     /*
@@ -68,6 +86,11 @@ public abstract class AbstractProcess implements AbstractProcessInterface, Clone
         return model.applyStateSpaceTransform(componentIndex, randomVariable);
     }    
 
+    public boolean isFactorLoadingStateDependent() {
+        // Delegate to model
+        return model.isFactorLoadingStateDependent();
+    }
+
 
 	/*
 	 * Time discretization management
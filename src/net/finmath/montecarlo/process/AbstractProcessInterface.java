@@ -34,6 +34,18 @@ public interface AbstractProcessInterface {
      */
     RandomVariableInterface getMonteCarloWeights(int timeIndex) throws CalculationException;
 
+    /**
+     * Passes the time slices of the process to the given listener, in the order of the time index, starting with time index 0.
+     * Stops once the listener returns false or all time slices have been passed.
+     * 
+     * Implementations may evolve the process for the listener without storing it, such that
+     * the memory requirement is bounded by a time slice.
+     * 
+     * @param listener The listener receiving the time slices.
+     * @throws net.finmath.exception.CalculationException
+     */
+    void evolve(ProcessStepListener listener) throws CalculationException;
+
     /**
      * @return Returns the numberOfComponents.
      */
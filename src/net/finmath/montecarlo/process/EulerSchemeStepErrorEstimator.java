@@ -0,0 +1,162 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.process;
+
+import net.finmath.exception.CalculationException;
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretizationBuilder;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * An estimate of the discretization error of a time step of the Euler scheme, which may be used to refine a time discretization,
+ * see {@link TimeDiscretizationBuilder#setRefinement(TimeDiscretizationBuilder.StepErrorEstimator, double)}.
+ *
+ * The Euler scheme freezes the drift <i>&mu;</i> and the factor loadings <i>&lambda;</i> at the start of a time step.
+ * The error estimate of the time step from <i>s</i> to <i>e</i> is the maximum over the components and the times <i>t</i> in <i>[s,e]</i> of
+ * <br>
+ * <i>|&mu;(t) - &mu;(s)| (e-s) + ||&lambda;(t) - &lambda;(s)|| &radic;(e-s)</i>,
+ * <br>
+ * where the drift and the factor loadings are the averages over the paths of a pilot simulation, i.e., a simulation of the model
+ * on a fine time discretization with a small number of paths. Components which have stopped to evolve are ignored.
+ * Between the times of the pilot simulation the coefficients are interpolated linearly, such that a time step within a single time step
+ * of the pilot simulation (including the last one) gets the corresponding fraction of the change of the coefficients over that time step.
+ *
+ * The coefficients are calculated in the constructor. The class is immutable.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class EulerSchemeStepErrorEstimator implements TimeDiscretizationBuilder.StepErrorEstimator {
+
+	private final TimeDiscretizationInterface	timeDiscretization;
+
+	// The path average of the coefficients at each time of the pilot simulation, including the last (NaN for components which have stopped to evolve)
+	private final double[][]	drift;
+	private final double[][][]	factorLoadings;
+
+	/**
+	 * Create the error estimate from a pilot simulation.
+	 *
+	 * @param process The pilot simulation (a process associated with a model).
+	 * @throws CalculationException Thrown if the simulation of the process failed.
+	 */
+	public EulerSchemeStepErrorEstimator(AbstractProcess process) throws CalculationException {
+		super();
+		this.timeDiscretization = process.getTimeDiscretization();
+
+		int numberOfTimes		= timeDiscretization.getNumberOfTimes();
+		int numberOfComponents	= process.getNumberOfComponents();
+		int numberOfFactors		= process.getNumberOfFactors();
+
+		drift			= new double[numberOfTimes][numberOfComponents];
+		factorLoadings	= new double[numberOfTimes][numberOfComponents][numberOfFactors];
+		for(int timeIndex=0; timeIndex<numberOfTimes; timeIndex++) {
+			RandomVariableInterface[] realizationAtTimeIndex = new RandomVariableInterface[numberOfComponents];
+			for(int componentIndex=0; componentIndex<numberOfComponents; componentIndex++) {
+				realizationAtTimeIndex[componentIndex] = process.getProcessValue(timeIndex, componentIndex);
+			}
+
+			RandomVariableInterface[] driftAtTimeIndex = process.getDrift(timeIndex, realizationAtTimeIndex, null);
+			for(int componentIndex=0; componentIndex<numberOfComponents; componentIndex++) {
+				if(driftAtTimeIndex[componentIndex] == null) {
+					drift[timeIndex][componentIndex] = Double.NaN;
+					continue;
+				}
+
+				drift[timeIndex][componentIndex] = driftAtTimeIndex[componentIndex].getAverage();
+				RandomVariableInterface[] factorLoadingsOfComponent = process.getFactorLoading(timeIndex, componentIndex, realizationAtTimeIndex);
+				for(int factor=0; factor<numberOfFactors; factor++) {
+					factorLoadings[timeIndex][componentIndex][factor] = factorLoadingsOfComponent[factor].getAverage();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the error estimate of the time step from <code>startTime</code> to <code>endTime</code>,
+	 * see {@link TimeDiscretizationBuilder.StepErrorEstimator#getErrorEstimate(double, double)}.
+	 *
+	 * @param startTime The start time of the time step.
+	 * @param endTime The end time of the time step.
+	 * @return The estimate of the discretization error of the time step (non-negative).
+	 * @throws IllegalArgumentException Thrown if the end time is before the start time or if the time step is not within the time discretization of the pilot simulation.
+	 */
+	@Override
+	public double getErrorEstimate(double startTime, double endTime) {
+		int numberOfTimeSteps	= timeDiscretization.getNumberOfTimeSteps();
+		int startTimeIndex		= timeDiscretization.getTimeIndexNearestLessOrEqual(startTime);
+		int endTimeIndex		= timeDiscretization.getTimeIndexNearestGreaterOrEqual(endTime);
+
+		if(endTime < startTime) throw new IllegalArgumentException("The end time " + endTime + " is before the start time " + startTime + ".");
+		if(startTimeIndex < 0 || endTimeIndex > numberOfTimeSteps) {
+			throw new IllegalArgumentException("The time step [" + startTime + ", " + endTime + "] is not within the time discretization of the pilot simulation ["
+					+ timeDiscretization.getTime(0) + ", " + timeDiscretization.getTime(numberOfTimeSteps) + "].");
+		}
+
+		// The time steps of the pilot simulation containing the start time and the end time (the last time belongs to the last time step)
+		startTimeIndex	= Math.min(startTimeIndex, numberOfTimeSteps-1);
+		endTimeIndex	= Math.max(Math.min(timeDiscretization.getTimeIndexNearestLessOrEqual(endTime), numberOfTimeSteps-1), startTimeIndex);
+
+		double startTimeWeight	= getInterpolationWeight(startTime, startTimeIndex);
+		double endTimeWeight	= getInterpolationWeight(endTime, endTimeIndex);
+		double timeStep			= endTime - startTime;
+
+		/*
+		 * The coefficients are piecewise linear in time, hence the maximum change over [s,e] is attained
+		 * at a time of the pilot simulation within the time step or at the end time.
+		 */
+		double errorEstimate = 0.0;
+		for(int componentIndex=0; componentIndex<drift[startTimeIndex].length; componentIndex++) {
+			for(int timeIndex=startTimeIndex+1; timeIndex<=endTimeIndex; timeIndex++) {
+				errorEstimate = Math.max(errorEstimate, getErrorEstimate(componentIndex, startTimeIndex, startTimeWeight, timeIndex, 0.0, timeStep));
+			}
+			errorEstimate = Math.max(errorEstimate, getErrorEstimate(componentIndex, startTimeIndex, startTimeWeight, endTimeIndex, endTimeWeight, timeStep));
+		}
+
+		return errorEstimate;
+	}
+
+	/**
+	 * Returns the error estimate of a component for the change of the coefficients between two times, each given by the index of a time step
+	 * of the pilot simulation and the weight of the end of that time step (linear interpolation).
+	 * Returns 0 if the component has stopped to evolve at one of the times.
+	 */
+	private double getErrorEstimate(int componentIndex, int timeIndex1, double weight1, int timeIndex2, double weight2, double timeStep) {
+		double driftChange = getInterpolatedValue(drift, timeIndex2, weight2, componentIndex) - getInterpolatedValue(drift, timeIndex1, weight1, componentIndex);
+
+		// Components which have stopped to evolve are ignored
+		if(Double.isNaN(driftChange)) return 0.0;
+
+		double factorLoadingChangeSquared = 0.0;
+		for(int factor=0; factor<factorLoadings[timeIndex1][componentIndex].length; factor++) {
+			double factorLoadingChange = getInterpolatedFactorLoading(timeIndex2, weight2, componentIndex, factor) - getInterpolatedFactorLoading(timeIndex1, weight1, componentIndex, factor);
+			factorLoadingChangeSquared += factorLoadingChange * factorLoadingChange;
+		}
+
+		return Math.abs(driftChange) * timeStep + Math.sqrt(factorLoadingChangeSquared) * Math.sqrt(timeStep);
+	}
+
+	/**
+	 * Returns the weight of the end of the time step <code>timeIndex</code> of the pilot simulation for the linear interpolation at the given time.
+	 */
+	private double getInterpolationWeight(double time, int timeIndex) {
+		double timeStep = timeDiscretization.getTimeStep(timeIndex);
+		return Math.min(Math.max((time - timeDiscretization.getTime(timeIndex)) / timeStep, 0.0), 1.0);
+	}
+
+	private static double getInterpolatedValue(double[][] values, int timeIndex, double weight, int componentIndex) {
+		// Avoid the value at the end of the time step if it is not required (it may be NaN)
+		if(weight == 0.0) return values[timeIndex][componentIndex];
+		if(weight == 1.0) return values[timeIndex+1][componentIndex];
+		return (1.0 - weight) * values[timeIndex][componentIndex] + weight * values[timeIndex+1][componentIndex];
+	}
+
+	private double getInterpolatedFactorLoading(int timeIndex, double weight, int componentIndex, int factor) {
+		if(weight == 0.0) return factorLoadings[timeIndex][componentIndex][factor];
+		if(weight == 1.0) return factorLoadings[timeIndex+1][componentIndex][factor];
+		return (1.0 - weight) * factorLoadings[timeIndex][componentIndex][factor] + weight * factorLoadings[timeIndex+1][componentIndex][factor];
+	}
+}
@@ -0,0 +1,403 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import net.finmath.montecarlo.RandomVariable;
+import net.finmath.montecarlo.RandomVariableDoubleBuffer;
+import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretization;
+import net.finmath.time.TimeDiscretizationInterface;
+
+/**
+ * A storage for the values of a discretized process (and its Monte-Carlo weights) in a memory mapped file.
+ *
+ * A slot holds the realizations of one component, or of the Monte-Carlo weights, at one time index. The slots are mapped
+ * in regions of consecutive time slices (all components and the Monte-Carlo weights of a time index), each region being at most 2 GB,
+ * such that the size of the storage is not limited by the heap or by the maximum size of a single mapping, while the number of
+ * mappings stays small. If a single time slice exceeds 2 GB, a region holds as many slots as fit into 2 GB.
+ * Only a single slot, i.e., <code>8 * numberOfPaths</code> bytes, has to fit into one mapping.
+ * Values are returned as zero-copy views ({@link net.finmath.montecarlo.RandomVariableDoubleBuffer}) on the mapped file.
+ * Deterministic values and missing values (<code>null</code>) are stored in a table and do not occupy data storage.
+ *
+ * A storage which has been marked as complete (see {@link #setComplete()}) can be opened read-only
+ * (see {@link #open(File)}), e.g., by a second JVM, to reuse a simulation without regenerating the paths.
+ *
+ * The file layout is (all values in the byte order of the platform which created the file, recorded in the header):
+ * <ul>
+ * 	<li>a header of 8 ints: magic number, version, number of times, number of components, number of paths, number of factors, completion flag, byte order (0 = big endian, 1 = little endian),</li>
+ * 	<li>the times of the time discretization (<code>double[numberOfTimes]</code>),</li>
+ * 	<li>a table with one entry (state, filtration time, value) for each time index and each component (the last component being the Monte-Carlo weights),</li>
+ * 	<li>the realizations, one slot of <code>numberOfPaths</code> doubles for each time index and each component.</li>
+ * </ul>
+ *
+ * The class is not thread safe with respect to writing. Reading is thread safe.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class MemoryMappedProcessStorage {
+
+	private static final int	magicNumber		= 0x464D5053;
+	private static final int	version			= 2;
+
+	private static final int	headerSize		= 8 * 4;
+	private static final int	tableEntrySize	= 3 * 8;
+
+	private static final int	stateNull			= 0;
+	private static final int	stateDeterministic	= 1;
+	private static final int	stateStochastic		= 2;
+
+	private final File							file;
+	private final boolean						isReadOnly;
+	private final TimeDiscretizationInterface	timeDiscretization;
+	private final int							numberOfComponents;
+	private final int							numberOfPaths;
+	private final int							numberOfFactors;
+	private final ByteOrder						byteOrder;
+
+	private RandomAccessFile					randomAccessFile;
+	private FileChannel							channel;
+	private MappedByteBuffer					table;
+	private final int							numberOfSlotsPerRegion;
+	private final MappedByteBuffer[]			regions;
+
+	private MemoryMappedProcessStorage(File file, boolean isReadOnly, TimeDiscretizationInterface timeDiscretization, int numberOfComponents, int numberOfPaths, int numberOfFactors, ByteOrder byteOrder) {
+		super();
+		this.file				= file;
+		this.isReadOnly			= isReadOnly;
+		this.timeDiscretization	= timeDiscretization;
+		this.numberOfComponents	= numberOfComponents;
+		this.numberOfPaths		= numberOfPaths;
+		this.numberOfFactors	= numberOfFactors;
+		this.byteOrder			= byteOrder;
+
+		// A region holds whole time slices if possible, otherwise as many slots as fit into a single mapping
+		long numberOfSlots			= (long)timeDiscretization.getNumberOfTimes() * (numberOfComponents+1);
+		long numberOfSlotsPerTime	= numberOfComponents+1;
+		long slotSize				= Math.max(getSlotSize(), 1);
+		long numberOfSlotsPerRegion	= Integer.MAX_VALUE / slotSize;
+		if(numberOfSlotsPerRegion >= numberOfSlotsPerTime) numberOfSlotsPerRegion = numberOfSlotsPerRegion / numberOfSlotsPerTime * numberOfSlotsPerTime;
+		this.numberOfSlotsPerRegion	= (int)Math.max(Math.min(numberOfSlotsPerRegion, numberOfSlots), 1);
+		this.regions				= new MappedByteBuffer[(int)((numberOfSlots + this.numberOfSlotsPerRegion - 1) / this.numberOfSlotsPerRegion)];
+	}
+
+	/**
+	 * Create a new storage. An existing file will be overwritten.
+	 *
+	 * @param file The file.
+	 * @param timeDiscretization The time discretization of the process.
+	 * @param numberOfComponents The number of components of the process.
+	 * @param numberOfPaths The number of paths.
+	 * @param numberOfFactors The number of factors of the process (stored for informative purposes).
+	 * @return The new storage.
+	 * @throws IOException Thrown if the file could not be created.
+	 * @throws IllegalArgumentException Thrown if a single slot (<code>8 * numberOfPaths</code> bytes) or the table exceeds the maximum size of a mapping.
+	 */
+	public static MemoryMappedProcessStorage create(File file, TimeDiscretizationInterface timeDiscretization, int numberOfComponents, int numberOfPaths, int numberOfFactors) throws IOException {
+		MemoryMappedProcessStorage storage = new MemoryMappedProcessStorage(file, false, timeDiscretization, numberOfComponents, numberOfPaths, numberOfFactors, ByteOrder.nativeOrder());
+		if(storage.getSlotSize() > Integer.MAX_VALUE)	throw new IllegalArgumentException("Number of paths exceeds the maximum size of a mapped slot.");
+		if(storage.getTableSize() > Integer.MAX_VALUE)	throw new IllegalArgumentException("Number of times and components exceeds the maximum size of the mapped table.");
+
+		storage.randomAccessFile	= new RandomAccessFile(file, "rw");
+		storage.channel				= storage.randomAccessFile.getChannel();
+		storage.randomAccessFile.setLength(0);
+		storage.randomAccessFile.setLength(storage.getDataOffset() + storage.getDataSize());
+
+		MappedByteBuffer header = storage.channel.map(FileChannel.MapMode.READ_WRITE, 0, storage.getTableOffset());
+		header.order(storage.byteOrder);
+		header.putInt(magicNumber);
+		header.putInt(version);
+		header.putInt(timeDiscretization.getNumberOfTimes());
+		header.putInt(numberOfComponents);
+		header.putInt(numberOfPaths);
+		header.putInt(numberOfFactors);
+		header.putInt(0);	// Not complete
+		header.putInt(storage.byteOrder == ByteOrder.LITTLE_ENDIAN ? 1 : 0);
+		for(int timeIndex=0; timeIndex<timeDiscretization.getNumberOfTimes(); timeIndex++) header.putDouble(timeDiscretization.getTime(timeIndex));
+		header.force();
+
+		storage.mapTable();
+
+		return storage;
+	}
+
+	/**
+	 * Open an existing (complete) storage for reading.
+	 *
+	 * @param file The file.
+	 * @return The storage.
+	 * @throws IOException Thrown if the file could not be read, is not a process storage or is not complete.
+	 */
+	public static MemoryMappedProcessStorage open(File file) throws IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		FileChannel channel = randomAccessFile.getChannel();
+
+		MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, headerSize);
+
+		// The magic number determines the byte order of the file, which may differ from the native byte order of this platform
+		header.order(ByteOrder.BIG_ENDIAN);
+		int magicNumberOfFile = header.getInt(0);
+		ByteOrder byteOrder;
+		if(magicNumberOfFile == magicNumber)							byteOrder = ByteOrder.BIG_ENDIAN;
+		else if(magicNumberOfFile == Integer.reverseBytes(magicNumber))	byteOrder = ByteOrder.LITTLE_ENDIAN;
+		else															byteOrder = null;
+
+		if(byteOrder != null) header.order(byteOrder);
+		if(byteOrder == null || header.getInt() != magicNumber || header.getInt() != version || header.getInt(7 * 4) != (byteOrder == ByteOrder.LITTLE_ENDIAN ? 1 : 0)) {
+			randomAccessFile.close();
+			throw new IOException("File " + file + " is not a process storage (or has an unsupported version).");
+		}
+		int numberOfTimes		= header.getInt();
+		int numberOfComponents	= header.getInt();
+		int numberOfPaths		= header.getInt();
+		int numberOfFactors		= header.getInt();
+		boolean isComplete		= header.getInt() != 0;
+		if(!isComplete) {
+			randomAccessFile.close();
+			throw new IOException("File " + file + " does not contain a complete process.");
+		}
+
+		DoubleBuffer timesBuffer = channel.map(FileChannel.MapMode.READ_ONLY, headerSize, numberOfTimes * 8L).order(byteOrder).asDoubleBuffer();
+		double[] times = new double[numberOfTimes];
+		timesBuffer.get(times);
+
+		MemoryMappedProcessStorage storage = new MemoryMappedProcessStorage(file, true, new TimeDiscretization(times), numberOfComponents, numberOfPaths, numberOfFactors, byteOrder);
+		storage.randomAccessFile	= randomAccessFile;
+		storage.channel				= channel;
+		storage.mapTable();
+
+		return storage;
+	}
+
+	/**
+	 * Store the value of a component of the process at a given time index.
+	 *
+	 * @param timeIndex The time index.
+	 * @param componentIndex The component index.
+	 * @param value The value (may be null).
+	 * @throws IOException Thrown if the slot could not be mapped.
+	 */
+	public void setProcessValue(int timeIndex, int componentIndex, RandomVariableInterface value) throws IOException {
+		if(componentIndex < 0 || componentIndex >= numberOfComponents) throw new ArrayIndexOutOfBoundsException("Component index out of bounds.");
+		setValue(timeIndex, componentIndex, value);
+	}
+
+	/**
+	 * Returns the value of a component of the process at a given time index. Stochastic values are returned as
+	 * views on the mapped file.
+	 *
+	 * @param timeIndex The time index.
+	 * @param componentIndex The component index.
+	 * @return The value (may be null).
+	 * @throws IOException Thrown if the slot could not be mapped.
+	 */
+	public RandomVariableInterface getProcessValue(int timeIndex, int componentIndex) throws IOException {
+		if(componentIndex < 0 || componentIndex >= numberOfComponents) throw new ArrayIndexOutOfBoundsException("Component index out of bounds.");
+		return getValue(timeIndex, componentIndex);
+	}
+
+	/**
+	 * Store the Monte-Carlo weights at a given time index.
+	 *
+	 * @param timeIndex The time index.
+	 * @param weights The Monte-Carlo weights.
+	 * @throws IOException Thrown if the slot could not be mapped.
+	 */
+	public void setMonteCarloWeights(int timeIndex, RandomVariableInterface weights) throws IOException {
+		setValue(timeIndex, numberOfComponents, weights);
+	}
+
+	/**
+	 * Returns the Monte-Carlo weights at a given time index.
+	 *
+	 * @param timeIndex The time index.
+	 * @return The Monte-Carlo weights.
+	 * @throws IOException Thrown if the slot could not be mapped.
+	 */
+	public RandomVariableInterface getMonteCarloWeights(int timeIndex) throws IOException {
+		return getValue(timeIndex, numberOfComponents);
+	}
+
+	/**
+	 * Marks the storage as complete and writes all data to the file.
+	 * Only complete storages can be opened by {@link #open(File)}.
+	 */
+	public synchronized void setComplete() {
+		if(isReadOnly) throw new UnsupportedOperationException("Storage is read only.");
+
+		for(MappedByteBuffer region : regions) if(region != null) region.force();
+		table.force();
+
+		try {
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, headerSize);
+			header.order(byteOrder);
+			header.putInt(6 * 4, 1);
+			header.force();
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to write header of process storage " + file + ".", e);
+		}
+	}
+
+	/**
+	 * Closes the file. Views on the file which have already been returned remain valid until they are garbage collected.
+	 *
+	 * @throws IOException Thrown if the file could not be closed.
+	 */
+	public synchronized void close() throws IOException {
+		randomAccessFile.close();
+	}
+
+	/**
+	 * @return The file.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return The time discretization.
+	 */
+	public TimeDiscretizationInterface getTimeDiscretization() {
+		return timeDiscretization;
+	}
+
+	/**
+	 * @return The number of components.
+	 */
+	public int getNumberOfComponents() {
+		return numberOfComponents;
+	}
+
+	/**
+	 * @return The number of paths.
+	 */
+	public int getNumberOfPaths() {
+		return numberOfPaths;
+	}
+
+	/**
+	 * @return The number of factors.
+	 */
+	public int getNumberOfFactors() {
+		return numberOfFactors;
+	}
+
+	/**
+	 * @return The byte order of the values in the file.
+	 */
+	public ByteOrder getByteOrder() {
+		return byteOrder;
+	}
+
+	/*
+	 * Internals
+	 */
+
+	private void setValue(int timeIndex, int slotIndex, RandomVariableInterface value) throws IOException {
+		if(isReadOnly) throw new UnsupportedOperationException("Storage is read only.");
+
+		int tableIndex = getTableIndex(timeIndex, slotIndex);
+		if(value == null) {
+			setTableEntry(tableIndex, stateNull, Double.NaN, Double.NaN);
+		}
+		else if(value.isDeterministic()) {
+			setTableEntry(tableIndex, stateDeterministic, value.getFiltrationTime(), value.get(0));
+		}
+		else {
+			DoubleBuffer slot = getSlot(timeIndex, slotIndex);
+			if(value.size() != numberOfPaths) throw new IllegalArgumentException("Inconsistent number of paths.");
+			slot.put(value.getRealizations(numberOfPaths));
+			setTableEntry(tableIndex, stateStochastic, value.getFiltrationTime(), Double.NaN);
+		}
+	}
+
+	private RandomVariableInterface getValue(int timeIndex, int slotIndex) throws IOException {
+		int tableIndex = getTableIndex(timeIndex, slotIndex);
+		int state;
+		double filtrationTime, value;
+		synchronized(this) {
+			state			= (int)table.getDouble(tableIndex * tableEntrySize);
+			filtrationTime	= table.getDouble(tableIndex * tableEntrySize + 8);
+			value			= table.getDouble(tableIndex * tableEntrySize + 16);
+		}
+
+		switch(state) {
+		case stateNull:				return null;
+		case stateDeterministic:	return new RandomVariable(filtrationTime, value);
+		case stateStochastic:		return new RandomVariableDoubleBuffer(filtrationTime, getSlot(timeIndex, slotIndex));
+		default:
+			throw new IOException("Process storage " + file + " is corrupted.");
+		}
+	}
+
+	private synchronized void setTableEntry(int tableIndex, int state, double filtrationTime, double value) {
+		// Values are written before the state, such that a reader never observes a state with undefined values
+		table.putDouble(tableIndex * tableEntrySize + 8, filtrationTime);
+		table.putDouble(tableIndex * tableEntrySize + 16, value);
+		table.putDouble(tableIndex * tableEntrySize, state);
+	}
+
+	private DoubleBuffer getSlot(int timeIndex, int slotIndex) throws IOException {
+		long slotNumber		= (long)timeIndex * (numberOfComponents+1) + slotIndex;
+		int regionIndex		= (int)(slotNumber / numberOfSlotsPerRegion);
+		int slotPosition	= (int)(slotNumber % numberOfSlotsPerRegion * getSlotSize());
+
+		MappedByteBuffer region;
+		synchronized(this) {
+			region = regions[regionIndex];
+			if(region == null) {
+				long regionOffset	= (long)regionIndex * numberOfSlotsPerRegion * getSlotSize();
+				long regionSize		= Math.min(numberOfSlotsPerRegion * getSlotSize(), getDataSize() - regionOffset);
+				region = channel.map(isReadOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, getDataOffset() + regionOffset, regionSize);
+				regions[regionIndex] = region;
+			}
+		}
+
+		ByteBuffer slot = region.duplicate();
+		slot.limit(slotPosition + (int)getSlotSize());
+		slot.position(slotPosition);
+		return slot.slice().order(byteOrder).asDoubleBuffer();
+	}
+
+	private void mapTable() throws IOException {
+		table = channel.map(isReadOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, getTableOffset(), getTableSize());
+		table.order(byteOrder);
+	}
+
+	private int getTableIndex(int timeIndex, int slotIndex) {
+		if(timeIndex < 0 || timeIndex >= timeDiscretization.getNumberOfTimes()) throw new ArrayIndexOutOfBoundsException("Time index out of bounds.");
+		return timeIndex * (numberOfComponents+1) + slotIndex;
+	}
+
+	private long getTableOffset() {
+		return headerSize + timeDiscretization.getNumberOfTimes() * 8L;
+	}
+
+	private long getTableSize() {
+		return (long)timeDiscretization.getNumberOfTimes() * (numberOfComponents+1) * tableEntrySize;
+	}
+
+	private long getDataOffset() {
+		return getTableOffset() + getTableSize();
+	}
+
+	private long getDataSize() {
+		return (long)timeDiscretization.getNumberOfTimes() * (numberOfComponents+1) * getSlotSize();
+	}
+
+	private long getSlotSize() {
+		return numberOfPaths * 8L;
+	}
+}
@@ -5,17 +5,22 @@
  */
 package net.finmath.montecarlo.process;
 
-import java.util.Vector;
-import java.util.concurrent.Callable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
+import net.finmath.exception.CalculationException;
 import net.finmath.montecarlo.BrownianMotionInterface;
+import net.finmath.montecarlo.ParallelExecution;
 import net.finmath.montecarlo.RandomVariable;
-import net.finmath.optimizer.SolverException;
+import net.finmath.montecarlo.RandomVariableAccumulator;
+import net.finmath.montecarlo.RandomVariableFactory;
+import net.finmath.montecarlo.RandomVariableLazyEvaluation;
 import net.finmath.stochastic.RandomVariableInterface;
+import net.finmath.time.TimeDiscretizationInterface;
 
 /**
  * This class is an abstract base class to implement a multi-dimensional multi-factor Ito process.
@@ -26,29 +31,164 @@ import net.finmath.stochastic.RandomVariableInterface;
  */
 public class ProcessEulerScheme extends AbstractProcess {
 
+	/**
+	 * The discretization scheme of the state <i>Y</i> (where <i>X = f(Y)</i> is the process, see {@link net.finmath.montecarlo.model.AbstractModelInterface}).
+	 * 
+	 * For <i>f = exp</i> the schemes are log-Euler schemes of <i>X</i>. If the drift and the factor loadings are deterministic
+	 * (e.g., the Black-Scholes model), the Euler step is exact.
+	 */
 	public enum Scheme {
-		EULER, PREDICTOR_CORRECTOR
+		/** The Euler scheme. */
+		EULER,
+		/** The Euler scheme with a corrector step for the drift, using the drift at the predicted realization (weak order 2 for deterministic factor loadings). */
+		PREDICTOR_CORRECTOR,
+		/**
+		 * The (derivative free) Milstein scheme for commutative noise, see Kloeden and Platen (ISBN 3540540628), Section 11.1.
+		 * The derivatives of the factor loadings are approximated by evaluating the factor loadings at one supporting value per factor,
+		 * which requires the calculation of all factor loadings for each factor.
+		 * If the factor loadings do not depend on the realization ({@link net.finmath.montecarlo.model.AbstractModelInterface#isFactorLoadingStateDependent()}),
+		 * the Milstein correction vanishes and the scheme coincides with the Euler scheme.
+		 */
+		MILSTEIN
 	};
 
 	private BrownianMotionInterface brownianMotion;
 
 	private Scheme		scheme = Scheme.EULER;
 
-	// Uses locally for multi-threadded calculation.
-	private ExecutorService executor;
+	// Factory used to create the random variables storing the process
+	private final RandomVariableFactory	randomVariableFactory;
+
+	// File used to store the process (if null, the process is stored on the heap)
+	private final File					processStorageFile;
+
+	private static final int	pathBlockSize		= 1024;		// Number of paths of a task of the evolution
+	private static final int	componentRangeSize	= 8;		// Number of components of a task of the evolution
+
+	// Executor used for the multi-threadded calculation (if null, the shared executor of ParallelExecution is used)
+	private final ExecutorService executor;
+
+	// The observations of the process to retain (if null, the process is retained at all times)
+	private final ProcessObservationSet observations;
 
 	/*
 	 * The storage of the simulated stochastic process.
 	 */
 	private transient RandomVariableInterface[][]	discreteProcess = null;
 	private transient RandomVariableInterface[]	discreteProcessWeights;
+	private transient boolean[][]					isRetained;
 
 	/**
+	 * Create an Euler scheme storing the process in double precision.
+	 * 
 	 * @param brownianMotion The Brownian driver of the process
 	 */
 	public ProcessEulerScheme(BrownianMotionInterface brownianMotion) {
+		this(brownianMotion, new RandomVariableFactory());
+	}
+
+	/**
+	 * Create an Euler scheme storing the process using the given random variable factory.
+	 * Using a factory for single precision random variables halves the memory required to store the process.
+	 * The state (in the state space of the model) is accumulated in double precision. The drift and the factor loadings are however
+	 * evaluated on the stored process values, i.e., with single precision storage on values rounded to single precision,
+	 * such that the simulation differs from the one with double precision storage by more than the rounding of the stored values.
+	 * 
+	 * If the factory uses lazy evaluation (see {@link RandomVariableFactory#isUseLazyEvaluation()}), the drift and the factor loadings
+	 * are calculated on lazy evaluated process values, such that the operations of the model functions are evaluated in a single pass over
+	 * the paths (on the threads calculating the factor loadings). The simulation is identical to the one without lazy evaluation.
+	 * 
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param randomVariableFactory The factory used to create the random variables storing the process.
+	 */
+	public ProcessEulerScheme(BrownianMotionInterface brownianMotion, RandomVariableFactory randomVariableFactory) {
+		this(brownianMotion, randomVariableFactory, null);
+	}
+
+	/**
+	 * Create an Euler scheme storing the process using the given random variable factory and performing the
+	 * multi-threadded evolution on the given executor.
+	 * 
+	 * The executor is not shut down by this class, such that it may be shared among many simulations
+	 * (e.g., the valuations of a calibration). The thread calling the simulation takes part in the calculation,
+	 * hence the simulation may be started from a task running on the same executor.
+	 * 
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param randomVariableFactory The factory used to create the random variables storing the process.
+	 * @param executor The executor used for the multi-threadded evolution. If null, the shared executor of {@link ParallelExecution} is used.
+	 */
+	public ProcessEulerScheme(BrownianMotionInterface brownianMotion, RandomVariableFactory randomVariableFactory, ExecutorService executor) {
+		this(brownianMotion, randomVariableFactory, executor, null);
+	}
+
+	/**
+	 * Create an Euler scheme retaining only the given observations of the process.
+	 * 
+	 * The evolution keeps only the time slice required for the next time step, hence the memory required by the process
+	 * is proportional to the number of observations (instead of the number of time steps times the number of components).
+	 * The request of a process value which is not part of the observations results in an <code>IllegalArgumentException</code>.
+	 * The Monte-Carlo weights are available at all times.
+	 * 
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param randomVariableFactory The factory used to create the random variables storing the process.
+	 * @param executor The executor used for the multi-threadded evolution. If null, the shared executor of {@link ParallelExecution} is used.
+	 * @param observations The observations of the process to retain, e.g., the observations required by the products of a portfolio. If null, the process is retained at all times.
+	 * @throws IllegalArgumentException Thrown if an observation time is not part of the time discretization of the process.
+	 */
+	public ProcessEulerScheme(BrownianMotionInterface brownianMotion, RandomVariableFactory randomVariableFactory, ExecutorService executor, ProcessObservationSet observations) {
+		this(brownianMotion, randomVariableFactory, Scheme.EULER, executor, observations);
+	}
+
+	/**
+	 * Create a discretization scheme of the given type storing the process in double precision.
+	 * 
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param scheme The scheme.
+	 */
+	public ProcessEulerScheme(BrownianMotionInterface brownianMotion, Scheme scheme) {
+		this(brownianMotion, new RandomVariableFactory(), scheme, null, null);
+	}
+
+	/**
+	 * Create a discretization scheme of the given type retaining the given observations of the process,
+	 * see {@link #ProcessEulerScheme(BrownianMotionInterface, RandomVariableFactory, ExecutorService, ProcessObservationSet)}.
+	 * 
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param randomVariableFactory The factory used to create the random variables storing the process.
+	 * @param scheme The scheme.
+	 * @param executor The executor used for the multi-threadded evolution. If null, the shared executor of {@link ParallelExecution} is used.
+	 * @param observations The observations of the process to retain. If null, the process is retained at all times.
+	 * @throws IllegalArgumentException Thrown if an observation time is not part of the time discretization of the process.
+	 */
+	public ProcessEulerScheme(BrownianMotionInterface brownianMotion, RandomVariableFactory randomVariableFactory, Scheme scheme, ExecutorService executor, ProcessObservationSet observations) {
 		super(brownianMotion.getTimeDiscretization());
 		this.brownianMotion = brownianMotion;
+		this.randomVariableFactory = randomVariableFactory;
+		this.scheme = scheme;
+		this.processStorageFile = null;
+		this.executor = executor;
+
+		this.observations = getCopyOfObservations(observations, getTimeDiscretization());
+	}
+
+	/**
+	 * Create an Euler scheme storing the process in a memory mapped file.
+	 * 
+	 * Each time slice of the process is written to the file once it has been calculated and is then served from the file,
+	 * such that the size of the simulation is not limited by the heap. After the simulation has been completed
+	 * the file may be opened by a {@link ProcessFromMemoryMappedStorage}, e.g., in a different JVM, to reuse the paths.
+	 * Note that clones of this process store their paths on the heap.
+	 * 
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param processStorageFile The file used to store the process. An existing file will be overwritten.
+	 */
+	public ProcessEulerScheme(BrownianMotionInterface brownianMotion, File processStorageFile) {
+		super(brownianMotion.getTimeDiscretization());
+		this.brownianMotion = brownianMotion;
+		this.randomVariableFactory = new RandomVariableFactory();
+		this.processStorageFile = processStorageFile;
+		this.executor = null;
+		this.observations = null;
 	}
 
 	/**
@@ -56,9 +196,11 @@ public class ProcessEulerScheme extends AbstractProcess {
 	 * 
 	 * @param timeIndex Time index at which the process should be observed
 	 * @return A vector of process realizations (on path)
+	 * @throws CalculationException Thrown if the process could not be stored.
+	 * @throws IllegalArgumentException Thrown if the process value is not part of the retained observations.
 	 */
 	@Override
-    public RandomVariableInterface getProcessValue(int timeIndex, int componentIndex) {
+    public RandomVariableInterface getProcessValue(int timeIndex, int componentIndex) throws CalculationException {
 		// Thread safe lazy initialization
 		synchronized(this) {
 			if (discreteProcess == null || discreteProcess.length == 0) {
@@ -66,6 +208,10 @@ public class ProcessEulerScheme extends AbstractProcess {
 			}
 		}
 
+		if(isRetained != null && (isRetained[timeIndex] == null || !isRetained[timeIndex][componentIndex])) {
+			throw new IllegalArgumentException("The process value of component " + componentIndex + " at time " + getTime(timeIndex) + " is not part of the observations retained by the process.");
+		}
+
 		// Return value of process
 		return discreteProcess[timeIndex][componentIndex];
 	}
@@ -75,9 +221,10 @@ public class ProcessEulerScheme extends AbstractProcess {
 	 * 
 	 * @param timeIndex Time index at which the process should be observed
 	 * @return A vector of positive weights
+	 * @throws CalculationException Thrown if the process could not be stored.
 	 */
 	@Override
-    public RandomVariableInterface getMonteCarloWeights(int timeIndex) {
+    public RandomVariableInterface getMonteCarloWeights(int timeIndex) throws CalculationException {
 		// Thread safe lazy initialization
 		synchronized(this) {
 			if (discreteProcessWeights == null || discreteProcessWeights.length == 0) {
@@ -89,40 +236,170 @@ public class ProcessEulerScheme extends AbstractProcess {
 		return discreteProcessWeights[timeIndex];
 	}
 
+	/**
+	 * Passes the time slices of the process to the given listener. If the process has already been calculated (retaining all observations),
+	 * the stored time slices are passed. Otherwise the process is evolved for the listener without storing it, keeping only the current time slice.
+	 * The evolution stops once the listener returns false.
+	 * 
+	 * @param listener The listener receiving the time slices.
+	 * @throws CalculationException Thrown if the evolution failed or if the listener throws an exception.
+	 */
+	@Override
+	public void evolve(ProcessStepListener listener) throws CalculationException {
+		boolean isCalculated;
+		synchronized(this) {
+			isCalculated = discreteProcess != null && discreteProcess.length != 0 && isRetained == null;
+		}
+
+		if(isCalculated)	super.evolve(listener);
+		else				doEvolve(listener);
+	}
+
 	/**
 	 * Calculates the whole (discrete) process.
+	 * 
+	 * @throws CalculationException Thrown if the process could not be stored.
 	 */
-	private void doPrecalculateProcess() {
+	private void doPrecalculateProcess() throws CalculationException {
 		if (discreteProcess != null && discreteProcess.length != 0)	return;
 
+		final MemoryMappedProcessStorage processStorage;
+		if(processStorageFile != null) {
+			try {
+				processStorage = MemoryMappedProcessStorage.create(processStorageFile, getTimeDiscretization(), getNumberOfComponents(), getNumberOfPaths(), getNumberOfFactors());
+			} catch (IOException e) {
+				throw new CalculationException("Unable to create process storage " + processStorageFile + ".", e);
+			}
+		}
+		else {
+			processStorage = null;
+		}
+
+		// Allocate Memory
+		final RandomVariableInterface[][]	discreteProcess			= new RandomVariableInterface[getTimeDiscretization().getNumberOfTimeSteps() + 1][];
+		final RandomVariableInterface[]		discreteProcessWeights	= new RandomVariableInterface[getTimeDiscretization().getNumberOfTimeSteps() + 1];
+		final boolean[][]					isRetained				= observations != null ? getRetainedObservations(observations, getTimeDiscretization(), getNumberOfComponents()) : null;
+
+		// Store the time slices (the values replaced by views on the storage are used in the subsequent time step)
+		doEvolve(new ProcessStepListener() {
+			@Override
+			public boolean processStep(int timeIndex, RandomVariableInterface[] processValues, RandomVariableInterface monteCarloWeights) throws CalculationException {
+				if(isRetained == null) {
+					discreteProcess[timeIndex]	= processValues;
+				}
+				else if(isRetained[timeIndex] != null) {
+					// Keep the observed components only (the time slice itself is released after the next time step)
+					discreteProcess[timeIndex]	= new RandomVariableInterface[processValues.length];
+					for (int componentIndex = 0; componentIndex < processValues.length; componentIndex++) {
+						if(isRetained[timeIndex][componentIndex]) discreteProcess[timeIndex][componentIndex] = processValues[componentIndex];
+					}
+				}
+				discreteProcessWeights[timeIndex]	= processStorage != null ? storeTimeSlice(processStorage, timeIndex, processValues, monteCarloWeights) : monteCarloWeights;
+				return true;
+			}
+		});
+
+		if(processStorage != null) {
+			processStorage.setComplete();
+			try {
+				processStorage.close();
+			} catch (IOException e) {
+				throw new CalculationException("Unable to close process storage " + processStorageFile + ".", e);
+			}
+		}
+
+		this.discreteProcess		= discreteProcess;
+		this.discreteProcessWeights	= discreteProcessWeights;
+		this.isRetained				= isRetained;
+	}
+
+	/**
+	 * Returns a copy of the given observations, after checking that the observation times are part of the time discretization.
+	 * 
+	 * @param observations The observations to retain (may be null).
+	 * @param timeDiscretization The time discretization of the process.
+	 * @return A copy of the observations (null if observations is null).
+	 * @throws IllegalArgumentException Thrown if an observation time is not part of the time discretization of the process.
+	 */
+	static ProcessObservationSet getCopyOfObservations(ProcessObservationSet observations, TimeDiscretizationInterface timeDiscretization) {
+		if(observations == null) return null;
+
+		for(double time : observations.getTimes()) {
+			if(timeDiscretization.getTimeIndex(time) < 0) throw new IllegalArgumentException("Observation time " + time + " is not part of the time discretization of the process.");
+		}
+		return new ProcessObservationSet().addAll(observations);
+	}
+
+	/**
+	 * Returns the flags of the retained process values, indexed by time index and component index.
+	 * 
+	 * @param observations The observations to retain.
+	 * @param timeDiscretization The time discretization of the process.
+	 * @param numberOfComponents The number of components of the process.
+	 * @return For each time index, an array of flags indicating the retained components, or null if no component is retained at this time index.
+	 */
+	static boolean[][] getRetainedObservations(ProcessObservationSet observations, TimeDiscretizationInterface timeDiscretization, int numberOfComponents) {
+		boolean[][] isRetained = new boolean[timeDiscretization.getNumberOfTimeSteps() + 1][];
+		for(double time : observations.getTimes()) {
+			int timeIndex = timeDiscretization.getTimeIndex(time);
+			if(isRetained[timeIndex] == null) isRetained[timeIndex] = new boolean[numberOfComponents];
+
+			Set<Integer> componentIndices = observations.getComponentIndices(time);
+			if(componentIndices == null) {
+				Arrays.fill(isRetained[timeIndex], true);
+			}
+			else {
+				for(int componentIndex : componentIndices) {
+					if(componentIndex >= 0 && componentIndex < numberOfComponents) isRetained[timeIndex][componentIndex] = true;
+				}
+			}
+		}
+		return isRetained;
+	}
+
+	/**
+	 * Evolves the process and passes each time slice to the given listener, keeping only the current time slice.
+	 * 
+	 * @param listener The listener receiving the time slices.
+	 * @throws CalculationException Thrown if the evolution failed or if the listener throws an exception.
+	 */
+	private void doEvolve(ProcessStepListener listener) throws CalculationException {
 		final int numberOfPaths			= this.getNumberOfPaths();
 		final int numberOfFactors		= this.getNumberOfFactors();
 		final int numberOfComponents	= this.getNumberOfComponents();
 
-		// Allocate Memory
-		discreteProcess			= new RandomVariableInterface[getTimeDiscretization().getNumberOfTimeSteps() + 1][getNumberOfComponents()];
-		discreteProcessWeights	= new RandomVariableInterface[getTimeDiscretization().getNumberOfTimeSteps() + 1];
-
-		// Set initial Monte-Carlo weights
-		discreteProcessWeights[0] = new RandomVariable(getTime(0), 1.0 / numberOfPaths);
+		// Set initial Monte-Carlo weights (all time steps share the initial weights)
+		RandomVariableInterface monteCarloWeights = new RandomVariable(getTime(0), 1.0 / numberOfPaths);
 
 		// Set initial value
 		RandomVariableInterface[] initialState = getInitialState();
-		final RandomVariableInterface[] currentState = new RandomVariableInterface[numberOfComponents];
+		RandomVariableInterface[] processAtTimeIndex = new RandomVariableInterface[numberOfComponents];
+		final RandomVariableAccumulator[] currentState	= new RandomVariableAccumulator[numberOfComponents];
+		final RandomVariableAccumulator[] increments	= new RandomVariableAccumulator[numberOfComponents];
 		for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
-			currentState[componentIndex] = initialState[componentIndex].getMutableCopy();
-			discreteProcess[0][componentIndex] = applyStateSpaceTransform(componentIndex, currentState[componentIndex].getMutableCopy());
+			currentState[componentIndex] = new RandomVariableAccumulator(initialState[componentIndex]);
+			increments[componentIndex] = new RandomVariableAccumulator(getTime(0), 0.0);
+			processAtTimeIndex[componentIndex] = randomVariableFactory.createRandomVariable(applyStateSpaceTransform(componentIndex, initialState[componentIndex]));
 		}
+		if(!listener.processStep(0, processAtTimeIndex, monteCarloWeights)) return;
 
 		/*
 		 * Evolve the process using an Euler scheme.
-		 * The evolution is performed multi-threadded.
-		 * Each component vector runs in its own thread.
+		 * The evolution is performed multi-threadded: for each time step the factor loadings and the state space
+		 * transforms are calculated in parallel over the components, the increments are calculated in parallel over
+		 * blocks of paths and ranges of components.
 		 */
+		final int numberOfPathBlocks		= (numberOfPaths + pathBlockSize - 1) / pathBlockSize;
+		final int numberOfComponentRanges	= (numberOfComponents + componentRangeSize - 1) / componentRangeSize;
+
+		final RandomVariableInterface[][]	factorLoadings			= new RandomVariableInterface[numberOfComponents][];
+		final RandomVariableInterface[][]	factors1				= new RandomVariableInterface[numberOfComponents][];
+		final RandomVariableInterface[]		factors2				= new RandomVariableInterface[numberOfFactors + 1];
+		final boolean[]						isIncrementStochastic	= new boolean[numberOfComponents];
 
-		// We do not allocate more threads the twice the number of processors.
-		int numberOfThreads = Math.min(Math.max(2 * Runtime.getRuntime().availableProcessors(),1),numberOfComponents);
-		executor = Executors.newFixedThreadPool(numberOfThreads);
+		// The realizations of the stochastic factors (null for deterministic factors), obtained once per time step for all path blocks
+		final double[][][]					factors1Realizations	= new double[numberOfComponents][][];
+		final double[][]					factors2Realizations	= new double[numberOfFactors + 1][];
 
 		// Evolve process
 		for (int timeIndex2 = 1; timeIndex2 < getTimeDiscretization().getNumberOfTimeSteps()+1; timeIndex2++) {
@@ -130,73 +407,128 @@ public class ProcessEulerScheme extends AbstractProcess {
 			// Generate process from timeIndex-1 to timeIndex
 			final double deltaT = getTime(timeIndex) - getTime(timeIndex - 1);
 
-			// Fetch drift vector
-			RandomVariableInterface[] drift = getDrift(timeIndex - 1, discreteProcess[timeIndex - 1], null);
-
-			// Calculate new realization
-			Vector<Future<RandomVariableInterface>> discreteProcessAtCurrentTimeIndex = new Vector<Future<RandomVariableInterface>>(numberOfComponents);
-			discreteProcessAtCurrentTimeIndex.setSize(numberOfComponents);
-			for (int componentIndex2 = 0; componentIndex2 < numberOfComponents; componentIndex2++) {
-				final int componentIndex = componentIndex2;
+			final RandomVariableInterface[] processAtPreviousTimeIndex	= processAtTimeIndex;
+			final RandomVariableInterface[] processAtCurrentTimeIndex	= new RandomVariableInterface[numberOfComponents];
 
-				final RandomVariableInterface	driftOfComponent	= drift[componentIndex];
+			// The model functions operate on the operands of the factory (e.g. lazy evaluated process values)
+			final RandomVariableInterface[] processAtPreviousTimeIndexOperands = getOperands(processAtPreviousTimeIndex);
 
-				// Check if the component process has stopped to evolve
-				if (driftOfComponent == null) continue;
+			// Fetch drift vector
+			final RandomVariableInterface[] drift = getDrift(timeIndex - 1, processAtPreviousTimeIndexOperands, null);
 
-				Callable<RandomVariableInterface> worker = new  Callable<RandomVariableInterface>() {
-					public RandomVariableInterface call() throws SolverException {
-						RandomVariableInterface[]	factorLoadings		= getFactorLoading(timeIndex - 1, componentIndex, discreteProcess[timeIndex - 1]);
+			// Fetch Brownian increments
+			for (int factor = 0; factor < numberOfFactors; factor++) {
+				factors2[factor] = brownianMotion.getBrownianIncrement(timeIndex - 1, factor);
+			}
+			factors2[numberOfFactors] = new RandomVariable(deltaT);
+			for (int factor = 0; factor <= numberOfFactors; factor++) {
+				factors2Realizations[factor] = factors2[factor].isDeterministic() ? null : factors2[factor].getRealizations(numberOfPaths);
+			}
 
+			// Calculate factor loadings
+			invokeAll(executor, numberOfComponentRanges, new ParallelExecution.Task() {
+				@Override
+				public void run(int componentRange) {
+					for (int componentIndex = componentRange * componentRangeSize; componentIndex < Math.min((componentRange + 1) * componentRangeSize, numberOfComponents); componentIndex++) {
 						// Check if the component process has stopped to evolve
-						if (factorLoadings == null) return null;
+						if (drift[componentIndex] == null)	factorLoadings[componentIndex] = null;
+						else								factorLoadings[componentIndex] = getFactorLoading(timeIndex - 1, componentIndex, processAtPreviousTimeIndexOperands);
 
-						// Temp storage for variance and diffusion
-						RandomVariableInterface diffusionOfComponent		= new RandomVariable(getTime(timeIndex - 1), 0.0);
+						// Evaluate deferred operations on this thread
+						if(randomVariableFactory.isUseLazyEvaluation() && drift[componentIndex] != null) {
+							evaluate(drift[componentIndex], numberOfPaths);
+							for(RandomVariableInterface factorLoading : factorLoadings[componentIndex]) evaluate(factorLoading, numberOfPaths);
+						}
+					}
+				}
+			});
 
-						// Generate values for diffusionOfComponent and varianceOfComponent 
-						for (int factor = 0; factor < numberOfFactors; factor++) {
-							RandomVariableInterface factorLoading		= factorLoadings[factor];
-							RandomVariableInterface brownianIncrement	= brownianMotion.getBrownianIncrement(timeIndex - 1, factor);
+			// The Milstein correction uses the state at the previous time index
+			final RandomVariableInterface[] milsteinCorrection = scheme == Scheme.MILSTEIN && isFactorLoadingStateDependent() ?
+					getMilsteinCorrection(timeIndex - 1, deltaT, drift, factorLoadings, factors2, currentState, processAtPreviousTimeIndex) : null;
 
-							diffusionOfComponent = diffusionOfComponent.addProduct(factorLoading, brownianIncrement);
-						}
+			// Prepare the state: a deterministic increment is added here, a stochastic increment is added below
+			for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
+				RandomVariableInterface[] factorLoadingsOfComponent = factorLoadings[componentIndex];
+
+				// Check if the component process has stopped to evolve
+				if (factorLoadingsOfComponent == null) {
+					factors1[componentIndex] = null;
+					continue;
+				}
+
+				// The increment is the sum of factorLoading * brownianIncrement over all factors plus drift * deltaT
+				factors1[componentIndex] = new RandomVariableInterface[numberOfFactors + 1];
+				System.arraycopy(factorLoadingsOfComponent, 0, factors1[componentIndex], 0, numberOfFactors);
+				factors1[componentIndex][numberOfFactors] = drift[componentIndex];
+
+				double filtrationTimeOfIncrement = getTime(0);
+				isIncrementStochastic[componentIndex] = false;
+				for (int factor = 0; factor <= numberOfFactors; factor++) {
+					filtrationTimeOfIncrement = Math.max(filtrationTimeOfIncrement, factors1[componentIndex][factor].getFiltrationTime());
+					if(factor < numberOfFactors) filtrationTimeOfIncrement = Math.max(filtrationTimeOfIncrement, factors2[factor].getFiltrationTime());
+					isIncrementStochastic[componentIndex] |= !factors1[componentIndex][factor].isDeterministic() || !factors2[factor].isDeterministic();
+				}
 
-						RandomVariableInterface increment = diffusionOfComponent;
-						if(driftOfComponent != null) increment = increment.addProduct(driftOfComponent, deltaT);
+				if(isIncrementStochastic[componentIndex]) {
+					increments[componentIndex].expand(filtrationTimeOfIncrement, numberOfPaths);
+					currentState[componentIndex].expand(filtrationTimeOfIncrement, numberOfPaths);
 
-						// Add increment to state and applyStateSpaceTransform
-						currentState[componentIndex] = currentState[componentIndex].add(increment);
-						
-						// Transform the state space to the value space and return it.
-						return applyStateSpaceTransform(componentIndex, currentState[componentIndex].getMutableCopy());
+					// Obtain the realizations once (this may copy, e.g., for single precision values), not once for each path block
+					if(factors1Realizations[componentIndex] == null) factors1Realizations[componentIndex] = new double[numberOfFactors + 1][];
+					for (int factor = 0; factor <= numberOfFactors; factor++) {
+						RandomVariableInterface factor1 = factors1[componentIndex][factor];
+						factors1Realizations[componentIndex][factor] = factor1.isDeterministic() ? null : factor1.getRealizations(numberOfPaths);
 					}
-				};
+				}
+				else {
+					RandomVariableAccumulator increment = increments[componentIndex].set(0.0);
+					for (int factor = 0; factor <= numberOfFactors; factor++) increment.addProductInPlace(factors1[componentIndex][factor], factors2[factor]);
+					currentState[componentIndex].addInPlace(increment);
+				}
 
-				
-				// The following line will add the result of the calculation to the vector discreteProcessAtCurrentTimeIndex
-				discreteProcessAtCurrentTimeIndex.set(componentIndex, executor.submit(worker));
+				if(milsteinCorrection != null && milsteinCorrection[componentIndex] != null) currentState[componentIndex].addInPlace(milsteinCorrection[componentIndex]);
 			}
 
-			// Fetch results and move to discreteProcess[timeIndex]
-			for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
-				try {
-					Future<RandomVariableInterface> discreteProcessAtCurrentTimeIndexAndComponent = discreteProcessAtCurrentTimeIndex.get(componentIndex);
-					if(discreteProcessAtCurrentTimeIndexAndComponent != null)	discreteProcess[timeIndex][componentIndex] = discreteProcessAtCurrentTimeIndexAndComponent.get();
-					else														discreteProcess[timeIndex][componentIndex] = null;
-				} catch (InterruptedException e) {
-					// TODO Auto-generated catch block
-					e.printStackTrace();
-				} catch (ExecutionException e) {
-					// TODO Auto-generated catch block
-					e.printStackTrace();
+			// Add the stochastic increments to the state
+			invokeAll(executor, numberOfPathBlocks * numberOfComponentRanges, new ParallelExecution.Task() {
+				@Override
+				public void run(int taskIndex) {
+					int firstPath		= (taskIndex % numberOfPathBlocks) * pathBlockSize;
+					int lastPath		= Math.min(firstPath + pathBlockSize, numberOfPaths);
+					int componentRange	= taskIndex / numberOfPathBlocks;
+					for (int componentIndex = componentRange * componentRangeSize; componentIndex < Math.min((componentRange + 1) * componentRangeSize, numberOfComponents); componentIndex++) {
+						if(factors1[componentIndex] == null || !isIncrementStochastic[componentIndex]) continue;
+
+						RandomVariableAccumulator increment = increments[componentIndex].set(0.0, firstPath, lastPath);
+						for (int factor = 0; factor <= numberOfFactors; factor++) {
+							double[] factor1Realizations = factors1Realizations[componentIndex][factor];
+							double[] factor2Realizations = factors2Realizations[factor];
+							if(factor1Realizations != null && factor2Realizations != null)	increment.addProductInPlace(factor1Realizations, factor2Realizations, firstPath, lastPath);
+							else if(factor1Realizations != null)							increment.addProductInPlace(factor1Realizations, factors2[factor].get(0), firstPath, lastPath);
+							else if(factor2Realizations != null)							increment.addProductInPlace(factor2Realizations, factors1[componentIndex][factor].get(0), firstPath, lastPath);
+							else															increment.addInPlace(factors1[componentIndex][factor].get(0) * factors2[factor].get(0), firstPath, lastPath);
+						}
+						currentState[componentIndex].addInPlace(increment, firstPath, lastPath);
+					}
 				}
-			}
+			});
+
+			// Transform the state space to the value space
+			invokeAll(executor, numberOfComponentRanges, new ParallelExecution.Task() {
+				@Override
+				public void run(int componentRange) {
+					for (int componentIndex = componentRange * componentRangeSize; componentIndex < Math.min((componentRange + 1) * componentRangeSize, numberOfComponents); componentIndex++) {
+						if(factors1[componentIndex] == null)	processAtCurrentTimeIndex[componentIndex] = null;
+						else									processAtCurrentTimeIndex[componentIndex] = getStateSpaceTransformed(componentIndex, currentState[componentIndex]);
+					}
+				}
+			});
 
 			if (scheme == Scheme.PREDICTOR_CORRECTOR) {
 				// Apply corrector step to realizations at next time step
 
-				RandomVariableInterface[] driftWithPredictor = getDrift(timeIndex - 1, discreteProcess[timeIndex], null);
+				RandomVariableInterface[] driftWithPredictor = getDrift(timeIndex - 1, getOperands(processAtCurrentTimeIndex), null);
 
 				for (int componentIndex = 0; componentIndex < getNumberOfComponents(); componentIndex++) {
 					RandomVariableInterface driftWithPredictorOfComponent		= driftWithPredictor[componentIndex];
@@ -204,30 +536,165 @@ public class ProcessEulerScheme extends AbstractProcess {
 
 					if (driftWithPredictorOfComponent == null || driftWithoutPredictorOfComponent == null) continue;
 
-					// Get reference to newRealization
-					RandomVariableInterface newRealization = (RandomVariableInterface)currentState[componentIndex];
-
 					// newRealization[pathIndex] = newRealization[pathIndex] * Math.exp(0.5 * (driftWithPredictorOnPath - driftWithoutPredictorOnPath) * deltaT);
-					RandomVariableInterface driftAdjustment = driftWithPredictorOfComponent.getMutableCopy().sub(driftWithoutPredictorOfComponent).div(2.0).mult(deltaT);
-					currentState[componentIndex] = currentState[componentIndex].add(driftAdjustment);
+					RandomVariableAccumulator driftAdjustment = increments[componentIndex].set(0.0);
+					driftAdjustment.addProductInPlace(driftWithPredictorOfComponent, 0.5 * deltaT);
+					driftAdjustment.addProductInPlace(driftWithoutPredictorOfComponent, -0.5 * deltaT);
+					currentState[componentIndex].addInPlace(driftAdjustment);
 
 					// Reapply state space transform
-					discreteProcess[timeIndex][componentIndex] = applyStateSpaceTransform(componentIndex, currentState[componentIndex].getMutableCopy());
+					processAtCurrentTimeIndex[componentIndex] = getStateSpaceTransformed(componentIndex, currentState[componentIndex]);
 				} // End for(componentIndex)
 			} // End if(scheme == Scheme.PREDICTOR_CORRECTOR)
 
-			// Set Monte-Carlo weights
-			discreteProcessWeights[timeIndex] = discreteProcessWeights[timeIndex - 1];
+			if(!listener.processStep(timeIndex, processAtCurrentTimeIndex, monteCarloWeights)) return;
+
+			processAtTimeIndex = processAtCurrentTimeIndex;
 		} // End for(timeIndex)
+	}
+
+	/**
+	 * Calculates the Milstein correction of the increment of the state from <i>t<sub>i</sub></i> to <i>t<sub>i+1</sub></i>
+	 * for commutative noise using the derivative free approximation of Kloeden and Platen (ISBN 3540540628), Section 11.1, i.e.,
+	 * <br>
+	 * <i>1/(2 &radic;&Delta;t) &Sigma;<sub>j,k</sub> (&lambda;<sub>k</sub>(&Upsilon;<sub>j</sub>) - &lambda;<sub>k</sub>(Y)) (&Delta;W<sub>j</sub> &Delta;W<sub>k</sub> - &delta;<sub>j,k</sub> &Delta;t)</i>,
+	 * <br>
+	 * where <i>&Upsilon;<sub>j</sub> = Y + &mu; &Delta;t + &lambda;<sub>j</sub> &radic;&Delta;t</i> is the supporting value of factor <i>j</i>.
+	 * 
+	 * @param timeIndex The time index <i>i</i>.
+	 * @param deltaT The time step <i>&Delta;t</i>.
+	 * @param drift The drift at time index <i>i</i> (null for components which have stopped to evolve).
+	 * @param factorLoadings The factor loadings at time index <i>i</i> (null for components which have stopped to evolve).
+	 * @param brownianIncrements The Brownian increments of the time step.
+	 * @param state The state <i>Y</i> at time index <i>i</i>.
+	 * @param processAtTimeIndex The process <i>X</i> at time index <i>i</i>.
+	 * @return The Milstein correction of each component (null for components which have stopped to evolve).
+	 */
+	private RandomVariableInterface[] getMilsteinCorrection(int timeIndex, double deltaT, RandomVariableInterface[] drift, RandomVariableInterface[][] factorLoadings,
+			RandomVariableInterface[] brownianIncrements, RandomVariableAccumulator[] state, RandomVariableInterface[] processAtTimeIndex) {
+		int		numberOfComponents	= getNumberOfComponents();
+		int		numberOfFactors		= getNumberOfFactors();
+		double	sqrtOfDeltaT		= Math.sqrt(deltaT);
+
+		RandomVariableInterface[] milsteinCorrection = new RandomVariableInterface[numberOfComponents];
+		for (int factor1 = 0; factor1 < numberOfFactors; factor1++) {
+			// The supporting value of the factor
+			RandomVariableInterface[] supportingValue = new RandomVariableInterface[numberOfComponents];
+			for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
+				if(factorLoadings[componentIndex] == null) {
+					supportingValue[componentIndex] = processAtTimeIndex[componentIndex];
+				}
+				else {
+					RandomVariableInterface supportingState = state[componentIndex].get().addProduct(drift[componentIndex], deltaT).addProduct(factorLoadings[componentIndex][factor1], sqrtOfDeltaT);
+					supportingValue[componentIndex] = applyStateSpaceTransform(componentIndex, supportingState);
+				}
+			}
+
+			// (dW_1 dW_2 - delta_12 dt) / (2 sqrt(dt))
+			RandomVariableInterface[] brownianProducts = new RandomVariableInterface[numberOfFactors];
+			for (int factor2 = 0; factor2 < numberOfFactors; factor2++) {
+				brownianProducts[factor2] = brownianIncrements[factor1].mult(brownianIncrements[factor2]);
+				if(factor1 == factor2) brownianProducts[factor2] = brownianProducts[factor2].sub(deltaT);
+				brownianProducts[factor2] = brownianProducts[factor2].mult(0.5 / sqrtOfDeltaT);
+			}
+
+			for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
+				if(factorLoadings[componentIndex] == null) continue;
+
+				RandomVariableInterface[] factorLoadingsAtSupportingValue = getFactorLoading(timeIndex, componentIndex, supportingValue);
+				for (int factor2 = 0; factor2 < numberOfFactors; factor2++) {
+					RandomVariableInterface correction = factorLoadingsAtSupportingValue[factor2].sub(factorLoadings[componentIndex][factor2]).mult(brownianProducts[factor2]);
+					milsteinCorrection[componentIndex] = milsteinCorrection[componentIndex] == null ? correction : milsteinCorrection[componentIndex].add(correction);
+				}
+			}
+		}
+
+		return milsteinCorrection;
+	}
 
+	/**
+	 * Runs the tasks with index 0, ..., numberOfTasks-1 on the given executor (see {@link ParallelExecution#invokeAll(ExecutorService, int, ParallelExecution.Task)}).
+	 * 
+	 * @param executor The executor. If null, the shared executor of {@link ParallelExecution} is used.
+	 * @param numberOfTasks The number of tasks.
+	 * @param task The task.
+	 * @throws CalculationException Thrown if one of the tasks failed or if the calling thread has been interrupted.
+	 */
+	static void invokeAll(ExecutorService executor, int numberOfTasks, ParallelExecution.Task task) throws CalculationException {
 		try {
-			executor.shutdown();
+			ParallelExecution.invokeAll(executor, numberOfTasks, task);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CalculationException("Evolution of the process interrupted.", e);
+		} catch (ExecutionException e) {
+			if(e.getCause() instanceof CalculationException) throw (CalculationException)e.getCause();
+			throw new CalculationException("Evolution of the process failed.", e.getCause());
 		}
-		catch(SecurityException e) {
-			//
+	}
+
+	/**
+	 * Writes the process at the given time index to the storage and replaces the values on the heap by views on the storage.
+	 * 
+	 * @param processStorage The storage.
+	 * @param timeIndex The time index.
+	 * @param processValues The values of the process at the time index (replaced by the views on the storage).
+	 * @param monteCarloWeights The Monte-Carlo weights at the time index.
+	 * @return The view of the Monte-Carlo weights on the storage.
+	 * @throws CalculationException Thrown if the process could not be stored.
+	 */
+	private RandomVariableInterface storeTimeSlice(MemoryMappedProcessStorage processStorage, int timeIndex, RandomVariableInterface[] processValues, RandomVariableInterface monteCarloWeights) throws CalculationException {
+		try {
+			for (int componentIndex = 0; componentIndex < processValues.length; componentIndex++) {
+				processStorage.setProcessValue(timeIndex, componentIndex, processValues[componentIndex]);
+				processValues[componentIndex] = processStorage.getProcessValue(timeIndex, componentIndex);
+			}
+			processStorage.setMonteCarloWeights(timeIndex, monteCarloWeights);
+			return processStorage.getMonteCarloWeights(timeIndex);
+		} catch (IOException e) {
+			throw new CalculationException("Unable to write to process storage " + processStorageFile + ".", e);
 		}
 	}
 
+	/**
+	 * Returns the given process values as operands of the model functions, see {@link RandomVariableFactory#createOperand(RandomVariableInterface)}.
+	 * 
+	 * @param processValues The process values (components may be null).
+	 * @return The operands (the given array if the factory does not use lazy evaluation).
+	 */
+	private RandomVariableInterface[] getOperands(RandomVariableInterface[] processValues) {
+		if(!randomVariableFactory.isUseLazyEvaluation()) return processValues;
+
+		RandomVariableInterface[] operands = new RandomVariableInterface[processValues.length];
+		for(int componentIndex=0; componentIndex<processValues.length; componentIndex++) operands[componentIndex] = randomVariableFactory.createOperand(processValues[componentIndex]);
+		return operands;
+	}
+
+	/**
+	 * Evaluates the deferred operations of a lazy evaluated random variable (the result is cached by the random variable).
+	 * 
+	 * @param randomVariable The random variable (may be null).
+	 * @param numberOfPaths The number of paths.
+	 */
+	private static void evaluate(RandomVariableInterface randomVariable, int numberOfPaths) {
+		if(randomVariable instanceof RandomVariableLazyEvaluation && !randomVariable.isDeterministic()) randomVariable.getRealizations(numberOfPaths);
+	}
+
+	/**
+	 * Applies the state space transform to the current state and converts the result to the storage representation.
+	 * Since the state is mutable, the result must not share its storage.
+	 * 
+	 * @param componentIndex The component index.
+	 * @param state The (mutable) state of the component.
+	 * @return The (immutable) value of the component.
+	 */
+	private RandomVariableInterface getStateSpaceTransformed(int componentIndex, RandomVariableAccumulator state) {
+		RandomVariableInterface value = applyStateSpaceTransform(componentIndex, state);
+
+		// An identity transform may return its argument: take a snapshot
+		if(value == state) value = state.get();
+
+		return randomVariableFactory.createRandomVariable(value);
+	}
 
 	/**
 	 * Reset all precalculated values
@@ -235,6 +702,7 @@ public class ProcessEulerScheme extends AbstractProcess {
 	private synchronized void reset() {
 		this.discreteProcess = null;
 		this.discreteProcessWeights = null;
+		this.isRetained = null;
 	}
 
 	/**
@@ -288,6 +756,13 @@ public class ProcessEulerScheme extends AbstractProcess {
 		this.reset();
 	}
 
+	/**
+	 * @return Returns the factory used to create the random variables storing the process.
+	 */
+	public RandomVariableFactory getRandomVariableFactory() {
+		return randomVariableFactory;
+	}
+
 	/**
 	 * @return Returns the scheme.
 	 */
@@ -306,13 +781,27 @@ public class ProcessEulerScheme extends AbstractProcess {
 		this.reset();
 	}
 
+	/**
+	 * @return Returns the executor used for the multi-threadded evolution (null if the shared executor of {@link ParallelExecution} is used).
+	 */
+	public ExecutorService getExecutorService() {
+		return executor;
+	}
+
+	/**
+	 * @return Returns the observations retained by the process (null if the process is retained at all times).
+	 */
+	public ProcessObservationSet getObservations() {
+		return observations != null ? new ProcessObservationSet().addAll(observations) : null;
+	}
+
 	@Override
 	public ProcessEulerScheme clone() {
-		return new ProcessEulerScheme(getBrownianMotion());
+		return new ProcessEulerScheme(getBrownianMotion(), randomVariableFactory, scheme, executor, observations);
 	}
 
 	@Override
 	public Object getCloneWithModifiedSeed(int seed) {
-		return new ProcessEulerScheme((BrownianMotionInterface)this.getBrownianMotion().getCloneWithModifiedSeed(seed));
+		return new ProcessEulerScheme((BrownianMotionInterface)this.getBrownianMotion().getCloneWithModifiedSeed(seed), randomVariableFactory, scheme, executor, observations);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,489 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.process;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+
+import net.finmath.exception.CalculationException;
+import net.finmath.montecarlo.BrownianMotionInterface;
+import net.finmath.montecarlo.ParallelExecution;
+import net.finmath.montecarlo.RandomVariable;
+import net.finmath.montecarlo.RandomVariableAccumulator;
+import net.finmath.montecarlo.RandomVariableFactory;
+import net.finmath.montecarlo.process.ProcessEulerScheme.Scheme;
+import net.finmath.stochastic.RandomVariableInterface;
+
+/**
+ * An Euler scheme which distributes the paths (instead of the components) over the available processors.
+ *
+ * The paths are partitioned into blocks. For each time step, a task evolves all components of a block of paths,
+ * evaluating the drift and the factor loadings of the model on random variables holding the realizations of the block only.
+ * Hence the scheme scales with the number of processors also for models with a single component, like
+ * <code>MonteCarloBlackScholesModel</code>, where <code>ProcessEulerScheme</code> cannot parallelize the model functions.
+ *
+ * The blocks are evolved time step synchronously: the Brownian increments of a time step are fetched once (by the calling thread)
+ * and each block reads its range of paths from them without a copy. Hence Brownian motions which generate their time slices on demand
+ * and discard them after use (like <code>BrownianMotionTimeSliced</code>) generate each time slice once.
+ *
+ * The scheme requires that the functions of the model (initial state, drift, factor loadings and state space transform)
+ * act path by path, i.e., the value on a path depends only on the given realizations on that path,
+ * and that they may be called concurrently. Under this condition the simulated process is identical to
+ * the one of <code>ProcessEulerScheme</code> (for double precision storage).
+ *
+ * Like <code>ProcessEulerScheme</code>, the process may retain a given set of observations only
+ * (see {@link #ProcessEulerSchemePathParallel(BrownianMotionInterface, RandomVariableFactory, Scheme, ExecutorService, ProcessObservationSet)})
+ * and may pass its time slices to a listener without storing them (see {@link #evolve(ProcessStepListener)}).
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class ProcessEulerSchemePathParallel extends AbstractProcess {
+
+	private static final int	pathBlocksPerProcessor	= 4;		// Number of tasks per processor (for load balancing)
+
+	private final BrownianMotionInterface	brownianMotion;
+
+	private final Scheme					scheme;
+
+	// Factory used to create the random variables storing the process
+	private final RandomVariableFactory		randomVariableFactory;
+
+	// Executor used for the multi-threadded calculation (if null, the shared executor of ParallelExecution is used)
+	private final ExecutorService			executor;
+
+	// The observations of the process to retain (if null, the process is retained at all times)
+	private final ProcessObservationSet		observations;
+
+	/*
+	 * The storage of the simulated stochastic process.
+	 */
+	private transient RandomVariableInterface[][]	discreteProcess = null;
+	private transient RandomVariableInterface[]	discreteProcessWeights;
+	private transient boolean[][]					isRetained;
+
+	/**
+	 * Create a path parallel Euler scheme retaining the given observations of the process.
+	 *
+	 * The request of a process value which is not part of the observations results in an <code>IllegalArgumentException</code>,
+	 * see {@link ProcessEulerScheme#ProcessEulerScheme(BrownianMotionInterface, RandomVariableFactory, ExecutorService, ProcessObservationSet)}.
+	 *
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param randomVariableFactory The factory used to create the random variables storing the process.
+	 * @param scheme The scheme (Euler or predictor corrector).
+	 * @param executor The executor used for the multi-threadded evolution. If null, the shared executor of {@link ParallelExecution} is used.
+	 * @param observations The observations of the process to retain. If null, the process is retained at all times.
+	 * @throws IllegalArgumentException Thrown if the scheme is not supported (Milstein) or if an observation time is not part of the time discretization of the process.
+	 */
+	public ProcessEulerSchemePathParallel(BrownianMotionInterface brownianMotion, RandomVariableFactory randomVariableFactory, Scheme scheme, ExecutorService executor, ProcessObservationSet observations) {
+		super(brownianMotion.getTimeDiscretization());
+		if(scheme == Scheme.MILSTEIN) throw new IllegalArgumentException("The scheme " + scheme + " is not supported by the path parallel scheme.");
+		this.brownianMotion = brownianMotion;
+		this.randomVariableFactory = randomVariableFactory;
+		this.scheme = scheme;
+		this.executor = executor;
+		this.observations = ProcessEulerScheme.getCopyOfObservations(observations, getTimeDiscretization());
+	}
+
+	/**
+	 * Create a path parallel Euler scheme.
+	 *
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param randomVariableFactory The factory used to create the random variables storing the process.
+	 * @param scheme The scheme (Euler or predictor corrector).
+	 * @param executor The executor used for the multi-threadded evolution. If null, the shared executor of {@link ParallelExecution} is used.
+	 * @throws IllegalArgumentException Thrown if the scheme is not supported (Milstein).
+	 */
+	public ProcessEulerSchemePathParallel(BrownianMotionInterface brownianMotion, RandomVariableFactory randomVariableFactory, Scheme scheme, ExecutorService executor) {
+		this(brownianMotion, randomVariableFactory, scheme, executor, null);
+	}
+
+	/**
+	 * Create a path parallel Euler scheme storing the process using the given random variable factory.
+	 *
+	 * @param brownianMotion The Brownian driver of the process
+	 * @param randomVariableFactory The factory used to create the random variables storing the process.
+	 */
+	public ProcessEulerSchemePathParallel(BrownianMotionInterface brownianMotion, RandomVariableFactory randomVariableFactory) {
+		this(brownianMotion, randomVariableFactory, Scheme.EULER, null);
+	}
+
+	/**
+	 * Create a path parallel Euler scheme storing the process in double precision.
+	 *
+	 * @param brownianMotion The Brownian driver of the process
+	 */
+	public ProcessEulerSchemePathParallel(BrownianMotionInterface brownianMotion) {
+		this(brownianMotion, new RandomVariableFactory());
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getProcessValue(int, int)
+	 */
+	@Override
+	public RandomVariableInterface getProcessValue(int timeIndex, int componentIndex) throws CalculationException {
+		// Thread safe lazy initialization
+		synchronized(this) {
+			if(discreteProcess == null) doPrecalculateProcess();
+		}
+
+		if(isRetained != null && (isRetained[timeIndex] == null || !isRetained[timeIndex][componentIndex])) {
+			throw new IllegalArgumentException("The process value of component " + componentIndex + " at time " + getTime(timeIndex) + " is not part of the observations retained by the process.");
+		}
+
+		return discreteProcess[timeIndex][componentIndex];
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getMonteCarloWeights(int)
+	 */
+	@Override
+	public RandomVariableInterface getMonteCarloWeights(int timeIndex) throws CalculationException {
+		// Thread safe lazy initialization
+		synchronized(this) {
+			if(discreteProcess == null) doPrecalculateProcess();
+		}
+
+		return discreteProcessWeights[timeIndex];
+	}
+
+	/**
+	 * Passes the time slices of the process to the given listener. If the process has already been calculated (retaining all observations),
+	 * the stored time slices are passed. Otherwise the process is evolved for the listener without storing it, keeping only the current time slice.
+	 * The evolution stops once the listener returns false.
+	 *
+	 * @param listener The listener receiving the time slices.
+	 * @throws CalculationException Thrown if the evolution failed or if the listener throws an exception.
+	 */
+	@Override
+	public void evolve(ProcessStepListener listener) throws CalculationException {
+		boolean isCalculated;
+		synchronized(this) {
+			isCalculated = discreteProcess != null && isRetained == null;
+		}
+
+		if(isCalculated)	super.evolve(listener);
+		else				doEvolve(listener);
+	}
+
+	/**
+	 * Calculates the whole (discrete) process, retaining the observations of the process.
+	 *
+	 * @throws CalculationException Thrown if the evolution of a block of paths failed.
+	 */
+	private void doPrecalculateProcess() throws CalculationException {
+		final RandomVariableInterface[][]	discreteProcess			= new RandomVariableInterface[getTimeDiscretization().getNumberOfTimes()][];
+		final RandomVariableInterface[]		discreteProcessWeights	= new RandomVariableInterface[getTimeDiscretization().getNumberOfTimes()];
+		final boolean[][]					isRetained				= observations != null ? ProcessEulerScheme.getRetainedObservations(observations, getTimeDiscretization(), getNumberOfComponents()) : null;
+
+		doEvolve(new ProcessStepListener() {
+			@Override
+			public boolean processStep(int timeIndex, RandomVariableInterface[] processValues, RandomVariableInterface monteCarloWeights) {
+				if(isRetained == null) {
+					discreteProcess[timeIndex]	= processValues;
+				}
+				else if(isRetained[timeIndex] != null) {
+					// Keep the observed components only
+					discreteProcess[timeIndex]	= new RandomVariableInterface[processValues.length];
+					for (int componentIndex = 0; componentIndex < processValues.length; componentIndex++) {
+						if(isRetained[timeIndex][componentIndex]) discreteProcess[timeIndex][componentIndex] = processValues[componentIndex];
+					}
+				}
+				discreteProcessWeights[timeIndex] = monteCarloWeights;
+				return true;
+			}
+		});
+
+		this.discreteProcessWeights	= discreteProcessWeights;
+		this.isRetained				= isRetained;
+		this.discreteProcess		= discreteProcess;
+	}
+
+	/**
+	 * Evolves the process and passes each time slice to the given listener, keeping only the current time slice.
+	 *
+	 * @param listener The listener receiving the time slices.
+	 * @throws CalculationException Thrown if the evolution of a block of paths failed or if the listener throws an exception.
+	 */
+	private void doEvolve(ProcessStepListener listener) throws CalculationException {
+		final int numberOfPaths			= getNumberOfPaths();
+		final int numberOfFactors		= getNumberOfFactors();
+		final int numberOfComponents	= getNumberOfComponents();
+
+		final int numberOfProcessors = Runtime.getRuntime().availableProcessors();
+		final int numberOfPathBlocks = numberOfProcessors > 1 ? Math.min(numberOfPaths, pathBlocksPerProcessor * numberOfProcessors) : 1;
+
+		// Set initial Monte-Carlo weights (all time steps share the initial weights)
+		RandomVariableInterface monteCarloWeights = new RandomVariable(getTime(0), 1.0 / numberOfPaths);
+
+		// Set initial value
+		RandomVariableInterface[] initialState = getInitialState();
+		RandomVariableInterface[] processAtTimeIndex = new RandomVariableInterface[numberOfComponents];
+		for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
+			processAtTimeIndex[componentIndex] = randomVariableFactory.createRandomVariable(applyStateSpaceTransform(componentIndex, initialState[componentIndex]));
+		}
+
+		final PathBlock[] pathBlocks = new PathBlock[numberOfPathBlocks];
+		for (int pathBlock = 0; pathBlock < numberOfPathBlocks; pathBlock++) {
+			int firstPath	= (int)((long)pathBlock * numberOfPaths / numberOfPathBlocks);
+			int lastPath	= (int)((long)(pathBlock + 1) * numberOfPaths / numberOfPathBlocks);
+			pathBlocks[pathBlock] = new PathBlock(firstPath, lastPath, initialState, processAtTimeIndex);
+		}
+
+		if(!listener.processStep(0, processAtTimeIndex, monteCarloWeights)) return;
+
+		final RandomVariableInterface[]	brownianIncrements				= new RandomVariableInterface[numberOfFactors];
+		final double[][]				brownianIncrementsRealizations	= new double[numberOfFactors][];
+		for (int timeIndex2 = 1; timeIndex2 < getTimeDiscretization().getNumberOfTimes(); timeIndex2++) {
+			final int timeIndex = timeIndex2;
+
+			// Fetch the Brownian increments once for all blocks (the realizations of a stochastic increment are read without a copy)
+			for (int factor = 0; factor < numberOfFactors; factor++) {
+				brownianIncrements[factor]				= brownianMotion.getBrownianIncrement(timeIndex - 1, factor);
+				brownianIncrementsRealizations[factor]	= brownianIncrements[factor].isDeterministic() ? null : brownianIncrements[factor].getRealizations(numberOfPaths);
+			}
+
+			// The values of the time slice, the blocks write their ranges of paths (not used for a single block)
+			final double[][] values = numberOfPathBlocks > 1 ? new double[numberOfComponents][numberOfPaths] : null;
+
+			// Evolve the blocks of paths
+			ProcessEulerScheme.invokeAll(executor, numberOfPathBlocks, new ParallelExecution.Task() {
+				@Override
+				public void run(int pathBlock) {
+					pathBlocks[pathBlock].doEvolve(timeIndex, brownianIncrements, brownianIncrementsRealizations, values);
+				}
+			});
+
+			processAtTimeIndex = new RandomVariableInterface[numberOfComponents];
+			for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
+				// The blocks are evolved consistently, i.e., a component is stopped for all blocks or for none
+				RandomVariableInterface valueOfFirstBlock = pathBlocks[0].processAtTimeIndex[componentIndex];
+				if(valueOfFirstBlock == null)	processAtTimeIndex[componentIndex] = null;
+				else if(values == null)			processAtTimeIndex[componentIndex] = valueOfFirstBlock;
+				else							processAtTimeIndex[componentIndex] = randomVariableFactory.createRandomVariable(valueOfFirstBlock.getFiltrationTime(), values[componentIndex]);
+			}
+
+			if(!listener.processStep(timeIndex, processAtTimeIndex, monteCarloWeights)) return;
+		}
+	}
+
+	/**
+	 * The state of the evolution of a block of paths.
+	 */
+	private class PathBlock {
+		private final int							firstPath;
+		private final int							lastPath;
+
+		private RandomVariableInterface[]			processAtTimeIndex;
+		private final RandomVariableAccumulator[]	currentState;
+		private final RandomVariableAccumulator[]	increments;
+		private final double[]						incrementRealizations;
+
+		PathBlock(int firstPath, int lastPath, RandomVariableInterface[] initialState, RandomVariableInterface[] initialValue) {
+			this.firstPath	= firstPath;
+			this.lastPath	= lastPath;
+
+			int numberOfComponents = getNumberOfComponents();
+			processAtTimeIndex	= new RandomVariableInterface[numberOfComponents];
+			currentState		= new RandomVariableAccumulator[numberOfComponents];
+			increments			= new RandomVariableAccumulator[numberOfComponents];
+			for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
+				currentState[componentIndex]		= new RandomVariableAccumulator(getPathBlock(initialState[componentIndex]));
+				increments[componentIndex]			= new RandomVariableAccumulator(getTime(0), 0.0);
+				processAtTimeIndex[componentIndex]	= getPathBlock(initialValue[componentIndex]);
+			}
+			incrementRealizations = new double[lastPath - firstPath];
+		}
+
+		/**
+		 * Evolves the block from timeIndex-1 to timeIndex and writes its values to the corresponding range of <code>values</code> (if not null).
+		 */
+		void doEvolve(int timeIndex, RandomVariableInterface[] brownianIncrements, double[][] brownianIncrementsRealizations, double[][] values) {
+			int numberOfFactors		= getNumberOfFactors();
+			int numberOfComponents	= getNumberOfComponents();
+			int numberOfPathsOfBlock	= lastPath - firstPath;
+			double deltaT = getTime(timeIndex) - getTime(timeIndex - 1);
+
+			// Fetch drift vector
+			RandomVariableInterface[] drift = getDrift(timeIndex - 1, processAtTimeIndex, null);
+
+			RandomVariableInterface[] processAtNextTimeIndex = new RandomVariableInterface[numberOfComponents];
+			for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
+				RandomVariableInterface driftOfComponent = drift[componentIndex];
+
+				// Check if the component process has stopped to evolve
+				if (driftOfComponent == null) continue;
+
+				RandomVariableInterface[] factorLoadings = getFactorLoading(timeIndex - 1, componentIndex, processAtTimeIndex);
+
+				// Check if the component process has stopped to evolve
+				if (factorLoadings == null) continue;
+
+				/*
+				 * The increment is the sum of factorLoading * brownianIncrement over all factors plus drift * deltaT,
+				 * summed in the same order as in ProcessEulerScheme. The Brownian increments are read at the offset of the block.
+				 */
+				double filtrationTimeOfIncrement = Math.max(getTime(0), driftOfComponent.getFiltrationTime());
+				Arrays.fill(incrementRealizations, 0.0);
+				for (int factor = 0; factor < numberOfFactors; factor++) {
+					RandomVariableInterface factorLoading = factorLoadings[factor];
+					filtrationTimeOfIncrement = Math.max(filtrationTimeOfIncrement, Math.max(factorLoading.getFiltrationTime(), brownianIncrements[factor].getFiltrationTime()));
+
+					double[] brownianIncrement = brownianIncrementsRealizations[factor];
+					if(brownianIncrement == null) {
+						addProduct(incrementRealizations, factorLoading, brownianIncrements[factor].get(0));
+					}
+					else if(factorLoading.isDeterministic()) {
+						double factorLoadingValue = factorLoading.get(0);
+						for(int i=0; i<numberOfPathsOfBlock; i++) incrementRealizations[i] += brownianIncrement[firstPath+i] * factorLoadingValue;
+					}
+					else {
+						double[] factorLoadingRealizations = factorLoading.getRealizations(numberOfPathsOfBlock);
+						for(int i=0; i<numberOfPathsOfBlock; i++) incrementRealizations[i] += factorLoadingRealizations[i] * brownianIncrement[firstPath+i];
+					}
+				}
+				addProduct(incrementRealizations, driftOfComponent, deltaT);
+
+				// Add increment to state
+				currentState[componentIndex].expand(filtrationTimeOfIncrement, numberOfPathsOfBlock).addInPlace(incrementRealizations, 0, numberOfPathsOfBlock);
+
+				processAtNextTimeIndex[componentIndex] = getStateSpaceTransformed(componentIndex, currentState[componentIndex]);
+			}
+
+			if (scheme == Scheme.PREDICTOR_CORRECTOR) {
+				// Apply corrector step to realizations at next time step
+				RandomVariableInterface[] driftWithPredictor = getDrift(timeIndex - 1, processAtNextTimeIndex, null);
+
+				for (int componentIndex = 0; componentIndex < numberOfComponents; componentIndex++) {
+					RandomVariableInterface driftWithPredictorOfComponent		= driftWithPredictor[componentIndex];
+					RandomVariableInterface driftWithoutPredictorOfComponent	= drift[componentIndex];
+
+					if (driftWithPredictorOfComponent == null || driftWithoutPredictorOfComponent == null) continue;
+
+					RandomVariableAccumulator driftAdjustment = increments[componentIndex].set(0.0);
+					driftAdjustment.addProductInPlace(driftWithPredictorOfComponent, 0.5 * deltaT);
+					driftAdjustment.addProductInPlace(driftWithoutPredictorOfComponent, -0.5 * deltaT);
+					currentState[componentIndex].addInPlace(driftAdjustment);
+
+					// Reapply state space transform
+					processAtNextTimeIndex[componentIndex] = getStateSpaceTransformed(componentIndex, currentState[componentIndex]);
+				}
+			}
+
+			// Store the block
+			for (int componentIndex = 0; componentIndex < numberOfComponents && values != null; componentIndex++) {
+				RandomVariableInterface value = processAtNextTimeIndex[componentIndex];
+				if(value == null) continue;
+
+				if(value.isDeterministic())	Arrays.fill(values[componentIndex], firstPath, lastPath, value.get(0));
+				else						System.arraycopy(value.getRealizations(numberOfPathsOfBlock), 0, values[componentIndex], firstPath, numberOfPathsOfBlock);
+			}
+
+			processAtTimeIndex = processAtNextTimeIndex;
+		}
+
+		/**
+		 * Returns the realizations <code>firstPath</code>, ..., <code>lastPath-1</code> of a random variable,
+		 * or the random variable itself if it is deterministic or if the block covers all paths.
+		 */
+		private RandomVariableInterface getPathBlock(RandomVariableInterface randomVariable) {
+			if(randomVariable == null || randomVariable.isDeterministic()) return randomVariable;
+			if(firstPath == 0 && lastPath == getNumberOfPaths()) return randomVariable;
+
+			double[] realizations = randomVariable.getRealizations(getNumberOfPaths());
+			return new RandomVariable(randomVariable.getFiltrationTime(), Arrays.copyOfRange(realizations, firstPath, lastPath));
+		}
+	}
+
+	/**
+	 * Applies x &rarr; x + factor1 * factor2 to the given realizations.
+	 */
+	private static void addProduct(double[] realizations, RandomVariableInterface factor1, double factor2) {
+		if(factor1.isDeterministic()) {
+			double value = factor1.get(0) * factor2;
+			for(int i=0; i<realizations.length; i++) realizations[i] += value;
+		}
+		else {
+			double[] factor1Realizations = factor1.getRealizations(realizations.length);
+			for(int i=0; i<realizations.length; i++) realizations[i] += factor1Realizations[i] * factor2;
+		}
+	}
+
+	/**
+	 * Applies the state space transform to the current state and converts the result to the storage representation.
+	 * Since the state is mutable, the result must not share its storage.
+	 */
+	private RandomVariableInterface getStateSpaceTransformed(int componentIndex, RandomVariableAccumulator state) {
+		RandomVariableInterface value = applyStateSpaceTransform(componentIndex, state);
+
+		// An identity transform may return its argument: take a snapshot
+		if(value == state) value = state.get();
+
+		return randomVariableFactory.createRandomVariable(value);
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getNumberOfPaths()
+	 */
+	@Override
+	public int getNumberOfPaths() {
+		return brownianMotion.getNumberOfPaths();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getNumberOfFactors()
+	 */
+	@Override
+	public int getNumberOfFactors() {
+		return brownianMotion.getNumberOfFactors();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getBrownianMotion()
+	 */
+	@Override
+	public BrownianMotionInterface getBrownianMotion() {
+		return brownianMotion;
+	}
+
+	/**
+	 * @return Returns the factory used to create the random variables storing the process.
+	 */
+	public RandomVariableFactory getRandomVariableFactory() {
+		return randomVariableFactory;
+	}
+
+	/**
+	 * @return Returns the scheme.
+	 */
+	public Scheme getScheme() {
+		return scheme;
+	}
+
+	/**
+	 * @return Returns the executor used for the multi-threadded evolution (null if the shared executor of {@link ParallelExecution} is used).
+	 */
+	public ExecutorService getExecutorService() {
+		return executor;
+	}
+
+	/**
+	 * @return Returns the observations retained by the process (null if the process is retained at all times).
+	 */
+	public ProcessObservationSet getObservations() {
+		return observations != null ? new ProcessObservationSet().addAll(observations) : null;
+	}
+
+	@Override
+	public ProcessEulerSchemePathParallel clone() {
+		return new ProcessEulerSchemePathParallel(brownianMotion, randomVariableFactory, scheme, executor, observations);
+	}
+
+	@Override
+	public Object getCloneWithModifiedSeed(int seed) {
+		return new ProcessEulerSchemePathParallel(brownianMotion.getCloneWithModifiedSeed(seed), randomVariableFactory, scheme, executor, observations);
+	}
+}
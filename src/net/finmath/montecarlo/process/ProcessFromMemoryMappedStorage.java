@@ -0,0 +1,138 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.process;
+
+import java.io.File;
+import java.io.IOException;
+
+import net.finmath.exception.CalculationException;
+import net.finmath.montecarlo.BrownianMotionInterface;
+import net.finmath.stochastic.RandomVariableInterface;
+
+/**
+ * A process whose realizations are read from a {@link MemoryMappedProcessStorage}, e.g., a simulation which
+ * has been generated by a {@link ProcessEulerScheme} with a process storage file (possibly in a different JVM).
+ * 
+ * The realizations are served as zero-copy views on the memory mapped file. The paths are not regenerated,
+ * hence the Brownian motion is not available and the process cannot be cloned with a modified seed.
+ * 
+ * The model associated with this process has to be the same (with respect to the number of components and
+ * to the state space transform) as the model used to generate the storage.
+ * 
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class ProcessFromMemoryMappedStorage extends AbstractProcess {
+
+	private final MemoryMappedProcessStorage processStorage;
+
+	/**
+	 * Create a process from a storage.
+	 * 
+	 * @param processStorage The storage.
+	 */
+	public ProcessFromMemoryMappedStorage(MemoryMappedProcessStorage processStorage) {
+		super(processStorage.getTimeDiscretization());
+		this.processStorage = processStorage;
+	}
+
+	/**
+	 * Create a process from a storage file.
+	 * 
+	 * @param processStorageFile A file containing a complete process storage.
+	 * @throws IOException Thrown if the file cannot be opened.
+	 */
+	public ProcessFromMemoryMappedStorage(File processStorageFile) throws IOException {
+		this(MemoryMappedProcessStorage.open(processStorageFile));
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getProcessValue(int, int)
+	 */
+	@Override
+	public RandomVariableInterface getProcessValue(int timeIndex, int component) throws CalculationException {
+		try {
+			return processStorage.getProcessValue(timeIndex, component);
+		} catch (IOException e) {
+			throw new CalculationException("Unable to read from process storage " + processStorage.getFile() + ".", e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getMonteCarloWeights(int)
+	 */
+	@Override
+	public RandomVariableInterface getMonteCarloWeights(int timeIndex) throws CalculationException {
+		try {
+			return processStorage.getMonteCarloWeights(timeIndex);
+		} catch (IOException e) {
+			throw new CalculationException("Unable to read from process storage " + processStorage.getFile() + ".", e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcess#getNumberOfComponents()
+	 */
+	@Override
+	public int getNumberOfComponents() {
+		return processStorage.getNumberOfComponents();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getNumberOfPaths()
+	 */
+	@Override
+	public int getNumberOfPaths() {
+		return processStorage.getNumberOfPaths();
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcessInterface#getNumberOfFactors()
+	 */
+	@Override
+	public int getNumberOfFactors() {
+		return processStorage.getNumberOfFactors();
+	}
+
+	/**
+	 * The Brownian motion is not available for a process read from a storage.
+	 * 
+	 * @return null.
+	 */
+	@Override
+	public BrownianMotionInterface getBrownianMotion() {
+		return null;
+	}
+
+	/**
+	 * @return The process storage.
+	 */
+	public MemoryMappedProcessStorage getProcessStorage() {
+		return processStorage;
+	}
+
+	/**
+	 * A process read from a storage cannot be regenerated with a different seed, since neither the Brownian motion nor
+	 * the model used to generate the paths are available. To obtain a simulation with a different seed, clone the
+	 * generating process (e.g., the {@link ProcessEulerScheme} with a new storage file) and open its storage.
+	 * 
+	 * @param seed The seed.
+	 * @return This method does not return.
+	 * @throws UnsupportedOperationException Always.
+	 */
+	@Override
+	public Object getCloneWithModifiedSeed(int seed) {
+		throw new UnsupportedOperationException("A process read from a storage cannot be regenerated with a different seed.");
+	}
+
+	/* (non-Javadoc)
+	 * @see net.finmath.montecarlo.process.AbstractProcess#clone()
+	 */
+	@Override
+	public ProcessFromMemoryMappedStorage clone() {
+		return new ProcessFromMemoryMappedStorage(processStorage);
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.process;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A set of observations <i>(t, i)</i> of a process, i.e., the times <i>t</i> and component indices <i>i</i>
+ * at which the process is observed (e.g., by the products of a portfolio).
+ *
+ * A process given an observation set retains only the observed values, see
+ * {@link ProcessEulerScheme#ProcessEulerScheme(net.finmath.montecarlo.BrownianMotionInterface, net.finmath.montecarlo.RandomVariableFactory, java.util.concurrent.ExecutorService, ProcessObservationSet)}.
+ * The observations of a portfolio are the union of the observations of its products, see {@link #addAll(ProcessObservationSet)}.
+ *
+ * The class is not thread safe. A process keeps a copy of the set given to it.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class ProcessObservationSet {
+
+	// The observed component indices of each time (null if all components are observed)
+	private final Map<Double, Set<Integer>> componentIndicesOfTime = new TreeMap<Double, Set<Integer>>();
+
+	/**
+	 * Create an empty observation set.
+	 */
+	public ProcessObservationSet() {
+		super();
+	}
+
+	/**
+	 * Add the observation of a component at a given time.
+	 *
+	 * @param time The time.
+	 * @param componentIndex The component index.
+	 * @return This observation set.
+	 */
+	public ProcessObservationSet add(double time, int componentIndex) {
+		if(!componentIndicesOfTime.containsKey(time)) componentIndicesOfTime.put(time, new TreeSet<Integer>());
+
+		Set<Integer> componentIndices = componentIndicesOfTime.get(time);
+		if(componentIndices != null) componentIndices.add(componentIndex);
+		return this;
+	}
+
+	/**
+	 * Add the observation of all components at a given time.
+	 *
+	 * @param time The time.
+	 * @return This observation set.
+	 */
+	public ProcessObservationSet add(double time) {
+		componentIndicesOfTime.put(time, null);
+		return this;
+	}
+
+	/**
+	 * Add all observations of a given observation set to this set.
+	 *
+	 * @param observations The observations to add.
+	 * @return This observation set.
+	 */
+	public ProcessObservationSet addAll(ProcessObservationSet observations) {
+		for(double time : observations.getTimes()) {
+			Set<Integer> componentIndices = observations.componentIndicesOfTime.get(time);
+			if(componentIndices == null) {
+				add(time);
+			}
+			else {
+				for(int componentIndex : componentIndices) add(time, componentIndex);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * @return The (sorted) times at which the process is observed.
+	 */
+	public Set<Double> getTimes() {
+		return Collections.unmodifiableSet(componentIndicesOfTime.keySet());
+	}
+
+	/**
+	 * Returns the indices of the components observed at a given time.
+	 *
+	 * @param time The time.
+	 * @return The (sorted) component indices observed at the given time, an empty set if the process is not observed at this time,
+	 * or null if all components are observed at this time.
+	 */
+	public Set<Integer> getComponentIndices(double time) {
+		if(!componentIndicesOfTime.containsKey(time)) return Collections.emptySet();
+
+		Set<Integer> componentIndices = componentIndicesOfTime.get(time);
+		return componentIndices != null ? Collections.unmodifiableSet(componentIndices) : null;
+	}
+
+	/**
+	 * @param time The time.
+	 * @param componentIndex The component index.
+	 * @return True, if the given component is observed at the given time.
+	 */
+	public boolean contains(double time, int componentIndex) {
+		if(!componentIndicesOfTime.containsKey(time)) return false;
+
+		Set<Integer> componentIndices = componentIndicesOfTime.get(time);
+		return componentIndices == null || componentIndices.contains(componentIndex);
+	}
+
+	@Override
+	public String toString() {
+		return "ProcessObservationSet [" + componentIndicesOfTime + "]";
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.montecarlo.process;
+
+import net.finmath.exception.CalculationException;
+import net.finmath.stochastic.RandomVariableInterface;
+
+/**
+ * A listener receiving the time slices of a process in the order of the time index,
+ * see {@link AbstractProcessInterface#evolve(ProcessStepListener)}.
+ *
+ * A listener allows a path dependent product to consume each time slice of the process as it is produced, such that
+ * the process does not have to be stored.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public interface ProcessStepListener {
+
+	/**
+	 * Receives the time slice of the process at the given time index.
+	 *
+	 * The random variables are immutable and may be retained. The array may be reused by the process
+	 * (as input to the next time step) and must not be modified.
+	 *
+	 * @param timeIndex The time index.
+	 * @param processValues The values of the components of the process at the time index (null for components which have stopped to evolve).
+	 * @param monteCarloWeights The Monte-Carlo weights at the time index.
+	 * @return True, if the process should continue with the next time step, false if the listener does not require further time slices.
+	 * @throws CalculationException Thrown if the listener fails to process the time slice.
+	 */
+	boolean processStep(int timeIndex, RandomVariableInterface[] processValues, RandomVariableInterface monteCarloWeights) throws CalculationException;
+}
@@ -0,0 +1,224 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.randomnumbers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Sobol sequence (low discrepancy sequence) of arbitrary dimension with 32 bit resolution.
+ *
+ * The first dimension is the van der Corput sequence in base 2. The primitive polynomials and the initial direction numbers
+ * <i>m<sub>k</sub></i> of the dimensions j &gt; 1 are read from the resource <code>new-joe-kuo-6.21201</code>, which has the
+ * format of the table of Joe and Kuo (2008), whose direction numbers are chosen to optimize the two dimensional projections
+ * (one line <i>d s a m<sub>1</sub> ... m<sub>s</sub></i> per dimension d, where s is the degree of the primitive polynomial
+ * and the bits of a are its inner coefficients). The maximum dimension is given by the number of lines of the table
+ * (see {@link #getMaximumDimension()}). The resource shipped with this version holds the dimensions up to 20;
+ * replacing it by the published file of Joe and Kuo extends the maximum dimension to 21201.
+ * Since the higher dimensions are less uniform, the most important variables should be mapped to the first dimensions
+ * (e.g., by a Brownian bridge).
+ *
+ * The sequence may be randomized by a random digital shift (an exclusive or of each coordinate with a random 32 bit integer),
+ * which preserves the low discrepancy of the sequence and allows to estimate the integration error from independent shifts.
+ *
+ * The n-th point is mapped to the center of its cell of width 2<sup>-32</sup>, such that all coordinates are in the
+ * open interval (0,1) and the point with index 0 may be used (it is required to obtain a balanced (t,m,s)-net).
+ *
+ * The class is immutable and thread safe.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class SobolSequence {
+
+	private static final int	numberOfBits		= 32;
+	private static final long	maximumNumberOfPoints	= 1L << numberOfBits;
+	private static final double	doubleUnit			= 1.0 / maximumNumberOfPoints;
+	private static final String	directionNumbersResource	= "new-joe-kuo-6.21201";
+
+	private static int[]	degrees;					// degrees[j-1] is the degree s of the primitive polynomial of dimension j+1
+	private static int[]	coefficients;				// coefficients[j-1] are the inner coefficients a of the primitive polynomial of dimension j+1
+	private static int[][]	initialDirectionNumbers;	// initialDirectionNumbers[j-1] are m_1, ..., m_s of dimension j+1
+
+	private final int		dimension;
+	private final int[][]	directionNumbers;	// directionNumbers[j][k] is the k-th direction number of dimension j, left aligned
+	private final int[]		digitalShift;
+
+	/**
+	 * Create a (non randomized) Sobol sequence.
+	 *
+	 * @param dimension The dimension.
+	 */
+	public SobolSequence(int dimension) {
+		this(dimension, null);
+	}
+
+	/**
+	 * Create a Sobol sequence randomized by a random digital shift.
+	 *
+	 * @param dimension The dimension.
+	 * @param seed The seed of the random digital shift.
+	 */
+	public SobolSequence(int dimension, long seed) {
+		this(dimension, createDigitalShift(dimension, seed));
+	}
+
+	private SobolSequence(int dimension, int[] digitalShift) {
+		super();
+		if(dimension < 1) throw new IllegalArgumentException("Dimension must be positive.");
+		if(dimension > getMaximumDimension()) throw new IllegalArgumentException("Dimension " + dimension + " exceeds the maximum dimension " + getMaximumDimension() + " of the table of direction numbers.");
+		this.dimension			= dimension;
+		this.directionNumbers	= createDirectionNumbers(dimension);
+		this.digitalShift		= digitalShift;
+	}
+
+	/**
+	 * Returns the maximum dimension of a Sobol sequence, given by the number of dimensions of the table of direction numbers.
+	 *
+	 * @return The maximum dimension.
+	 */
+	public static int getMaximumDimension() {
+		readDirectionNumbers();
+		return initialDirectionNumbers.length + 1;
+	}
+
+	/**
+	 * @return The dimension of the sequence.
+	 */
+	public int getDimension() {
+		return dimension;
+	}
+
+	/**
+	 * Returns the point with the given index.
+	 *
+	 * @param index The index of the point (starting at 0).
+	 * @param point Array of length <code>getDimension()</code> receiving the point.
+	 */
+	public void getPoint(long index, double[] point) {
+		getPoints(index, new double[][] { point });
+	}
+
+	/**
+	 * Returns consecutive points of the sequence. The first point is generated directly from its index, the following points
+	 * are generated by the Gray code recursion, which requires a single exclusive or per coordinate.
+	 *
+	 * @param firstIndex The index of the point stored in <code>points[0]</code>.
+	 * @param points Array of arrays of length <code>getDimension()</code> (or larger) receiving the points (in their first <code>getDimension()</code> elements).
+	 */
+	public void getPoints(long firstIndex, double[][] points) {
+		if(firstIndex < 0 || firstIndex + points.length > maximumNumberOfPoints) throw new IllegalArgumentException("Index of Sobol point out of range [0, 2^32).");
+		if(points.length == 0) return;
+
+		// Coordinates of the point with Gray code index g(n) = n ^ (n >> 1), which is a permutation of each block of 2^m points.
+		int[] coordinates = new int[dimension];
+		long grayCode = firstIndex ^ (firstIndex >>> 1);
+		for(int bit=0; bit<numberOfBits; bit++) {
+			if((grayCode & (1L << bit)) != 0) {
+				for(int j=0; j<dimension; j++) coordinates[j] ^= directionNumbers[j][bit];
+			}
+		}
+
+		for(int i=0; i<points.length; i++) {
+			if(i > 0) {
+				// g(n) and g(n-1) differ in the bit of the lowest zero bit of n-1.
+				int bit = Long.numberOfTrailingZeros(~(firstIndex + i - 1));
+				for(int j=0; j<dimension; j++) coordinates[j] ^= directionNumbers[j][bit];
+			}
+			double[] point = points[i];
+			for(int j=0; j<dimension; j++) {
+				int coordinate = digitalShift != null ? coordinates[j] ^ digitalShift[j] : coordinates[j];
+				point[j] = ((coordinate & 0xFFFFFFFFL) + 0.5) * doubleUnit;
+			}
+		}
+	}
+
+	private static int[] createDigitalShift(int dimension, long seed) {
+		SplitMix64 random = new SplitMix64(seed);
+		int[] digitalShift = new int[dimension];
+		for(int j=0; j<dimension; j++) digitalShift[j] = (int)(long)(random.getDouble(j) * maximumNumberOfPoints);
+		return digitalShift;
+	}
+
+	private static int[][] createDirectionNumbers(int dimension) {
+		int[][] directionNumbers = new int[dimension][numberOfBits];
+
+		// First dimension: van der Corput sequence
+		for(int k=0; k<numberOfBits; k++) directionNumbers[0][k] = 1 << (numberOfBits-1-k);
+
+		for(int j=1; j<dimension; j++) {
+			int degree		= degrees[j-1];
+			long polynomial	= (1L << degree) | ((long)coefficients[j-1] << 1) | 1L;
+
+			// m[k] for k = 1,...,numberOfBits (index 0 unused)
+			long[] m = new long[numberOfBits+1];
+			for(int k=1; k<=degree; k++) m[k] = initialDirectionNumbers[j-1][k-1];
+			for(int k=degree+1; k<=numberOfBits; k++) {
+				// m_k = 2 a_1 m_{k-1} ^ 4 a_2 m_{k-2} ^ ... ^ 2^(s-1) a_{s-1} m_{k-s+1} ^ 2^s m_{k-s} ^ m_{k-s}
+				long value = m[k-degree] ^ (m[k-degree] << degree);
+				for(int i=1; i<degree; i++) {
+					if((polynomial & (1L << (degree-i))) != 0) value ^= m[k-i] << i;
+				}
+				m[k] = value;
+			}
+			for(int k=1; k<=numberOfBits; k++) directionNumbers[j][k-1] = (int)(m[k] << (numberOfBits-k));
+		}
+
+		return directionNumbers;
+	}
+
+	/**
+	 * Reads the table of primitive polynomials and initial direction numbers (once).
+	 */
+	private static synchronized void readDirectionNumbers() {
+		if(initialDirectionNumbers != null) return;
+
+		InputStream inputStream = SobolSequence.class.getResourceAsStream(directionNumbersResource);
+		if(inputStream == null) throw new RuntimeException("Resource " + directionNumbersResource + " of direction numbers not found.");
+
+		List<int[]> lines = new ArrayList<int[]>();
+		try {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, "US-ASCII"));
+			try {
+				reader.readLine();	// Header
+				String line;
+				while((line = reader.readLine()) != null) {
+					line = line.trim();
+					if(line.length() == 0) continue;
+
+					String[] fields = line.split("\\s+");
+					int[] values = new int[fields.length];
+					for(int i=0; i<fields.length; i++) values[i] = Integer.parseInt(fields[i]);
+					if(values[0] != lines.size()+2 || values.length != values[1]+3) throw new RuntimeException("Resource " + directionNumbersResource + " is corrupted at dimension " + (lines.size()+2) + ".");
+					lines.add(values);
+				}
+			}
+			finally {
+				reader.close();
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Unable to read resource " + directionNumbersResource + " of direction numbers.", e);
+		}
+
+		int[]	degreesOfTable					= new int[lines.size()];
+		int[]	coefficientsOfTable				= new int[lines.size()];
+		int[][]	initialDirectionNumbersOfTable	= new int[lines.size()][];
+		for(int j=0; j<lines.size(); j++) {
+			int[] values = lines.get(j);
+			degreesOfTable[j]					= values[1];
+			coefficientsOfTable[j]				= values[2];
+			initialDirectionNumbersOfTable[j]	= new int[values[1]];
+			System.arraycopy(values, 3, initialDirectionNumbersOfTable[j], 0, values[1]);
+		}
+		degrees					= degreesOfTable;
+		coefficients			= coefficientsOfTable;
+		initialDirectionNumbers	= initialDirectionNumbersOfTable;
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.randomnumbers;
+
+/**
+ * A counter based uniform random number generator using the SplitMix64 output function (Steele, Lea, Flood, 2014).
+ *
+ * The i-th number of the sequence with key <i>k</i> is <i>mix(k + (i+1) &gamma;)</i>, where &gamma; is the 64 bit golden ratio
+ * and <i>mix</i> is a bijective avalanche function (variant 13 of Stafford's mixing functions).
+ * Since the i-th number is a function of the index i only, the sequence can be split into blocks of arbitrary size
+ * and the blocks can be generated independently (e.g., in parallel) with a result that does not depend on the decomposition.
+ * The sequence passes the BigCrush test suite.
+ *
+ * The class is immutable and thread safe.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class SplitMix64 {
+
+	private static final long	golden				= 0x9E3779B97F4A7C15L;
+	private static final double	doubleUnit			= 1.0 / (1L << 53);
+
+	private final long key;
+
+	/**
+	 * Create the generator for the given seed. Different seeds lead to (statistically) independent sequences.
+	 *
+	 * @param seed The seed.
+	 */
+	public SplitMix64(long seed) {
+		super();
+		this.key = mix(seed);
+	}
+
+	/**
+	 * Returns the element with the given index of the sequence of uniform random numbers.
+	 *
+	 * @param index The index of the element (starting at 0).
+	 * @return A uniform random number in the open interval (0,1).
+	 */
+	public double getDouble(long index) {
+		// The 53 bits are centered in their interval to exclude 0 and 1 (the inverse normal distribution is infinite there).
+		return ((mix(key + (index+1) * golden) >>> 11) + 0.5) * doubleUnit;
+	}
+
+	/**
+	 * Returns the element with the given index of the sequence of uniform random 64 bit integers.
+	 *
+	 * @param index The index of the element (starting at 0).
+	 * @return A uniform random 64 bit integer.
+	 */
+	public long getLong(long index) {
+		return mix(key + (index+1) * golden);
+	}
+
+	/**
+	 * Fill the given array with consecutive elements of the sequence of uniform random numbers.
+	 *
+	 * @param firstIndex The index of the element stored in <code>values[0]</code>.
+	 * @param values The array to fill.
+	 */
+	public void getDoubles(long firstIndex, double[] values) {
+		long state = key + firstIndex * golden;
+		for(int i=0; i<values.length; i++) {
+			state += golden;
+			values[i] = ((mix(state) >>> 11) + 0.5) * doubleUnit;
+		}
+	}
+
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
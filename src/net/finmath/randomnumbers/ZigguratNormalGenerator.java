@@ -0,0 +1,116 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.randomnumbers;
+
+/**
+ * A generator of standard normal random numbers using the Ziggurat method of Marsaglia and Tsang (2000),
+ * in the variant of Doornik (2005) with 128 layers, using independent random bits for the choice of the layer and the sample.
+ *
+ * The generator consumes the elements of a sequence of uniform random integers of a <code>SplitMix64</code> starting at a given index.
+ * About 98.8% of the samples require a single random integer and a multiplication, the others require additional
+ * random integers and an exponential or a logarithm. Since the number of random integers consumed per sample is random,
+ * the method cannot be used with low discrepancy sequences and the i-th sample is not a function of i.
+ * Independent streams can be obtained from disjoint ranges of indices.
+ *
+ * The samples are exactly normal distributed (up to the resolution of the 53 bit uniforms), i.e., there is no approximation error as
+ * in the inversion of the normal distribution function.
+ *
+ * The class is not thread safe. Use one instance per thread (or per stream).
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class ZigguratNormalGenerator {
+
+	private static final int	numberOfLayers	= 128;
+	private static final double	tailStart		= 3.442619855899;		// The x coordinate of the start of the tail
+	private static final double	layerArea		= 9.91256303526217e-3;	// The area of each layer (and of the base layer including the tail)
+	private static final double	doubleUnit		= 1.0 / (1L << 53);
+
+	private static final double[]	layerX		= new double[numberOfLayers+1];		// The right end of the layers
+	private static final double[]	layerRatio	= new double[numberOfLayers];		// layerX[i+1] / layerX[i], the fraction of the rectangle below the density
+
+	static {
+		double density = Math.exp(-0.5 * tailStart * tailStart);
+		layerX[0] = layerArea / density;
+		layerX[1] = tailStart;
+		layerX[numberOfLayers] = 0.0;
+		for(int i=2; i<numberOfLayers; i++) {
+			layerX[i] = Math.sqrt(-2.0 * Math.log(layerArea / layerX[i-1] + density));
+			density = Math.exp(-0.5 * layerX[i] * layerX[i]);
+		}
+		for(int i=0; i<numberOfLayers; i++) layerRatio[i] = layerX[i+1] / layerX[i];
+	}
+
+	private final SplitMix64	uniformGenerator;
+	private long				index;
+
+	/**
+	 * Create a generator of normal random numbers.
+	 *
+	 * @param uniformGenerator The generator of the uniform random integers.
+	 * @param firstIndex The index of the first random integer used.
+	 */
+	public ZigguratNormalGenerator(SplitMix64 uniformGenerator, long firstIndex) {
+		super();
+		this.uniformGenerator	= uniformGenerator;
+		this.index				= firstIndex;
+	}
+
+	/**
+	 * @return The index of the next random integer used.
+	 */
+	public long getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return The next normal random number.
+	 */
+	public double nextDouble() {
+		while(true) {
+			long random		= uniformGenerator.getLong(index++);
+			double uniform	= 2.0 * ((random >>> 11) + 0.5) * doubleUnit - 1.0;	// Uniform in (-1,1) from the upper 53 bits
+			int layer		= (int)(random & (numberOfLayers-1));				// Layer from the lower 7 bits
+
+			// The rectangle completely below the density
+			if(Math.abs(uniform) < layerRatio[layer]) return uniform * layerX[layer];
+
+			if(layer == 0) return getTail(uniform < 0);
+
+			// The wedge of the layer: accept with the probability of being below the density
+			double x = uniform * layerX[layer];
+			double density0 = Math.exp(-0.5 * (layerX[layer] * layerX[layer] - x * x));
+			double density1 = Math.exp(-0.5 * (layerX[layer+1] * layerX[layer+1] - x * x));
+			if(density1 + nextUniform() * (density0 - density1) < 1.0) return x;
+		}
+	}
+
+	/**
+	 * Fill the given array with normal random numbers.
+	 *
+	 * @param values The array to fill.
+	 */
+	public void nextDoubles(double[] values) {
+		for(int i=0; i<values.length; i++) values[i] = nextDouble();
+	}
+
+	/**
+	 * Sample of the tail |x| &gt; tailStart (Marsaglia, 1964).
+	 */
+	private double getTail(boolean isNegative) {
+		double x, y;
+		do {
+			x = Math.log(nextUniform()) / tailStart;
+			y = Math.log(nextUniform());
+		} while(-2.0 * y < x * x);
+		return isNegative ? x - tailStart : tailStart - x;
+	}
+
+	private double nextUniform() {
+		return ((uniformGenerator.getLong(index++) >>> 11) + 0.5) * doubleUnit;
+	}
+}
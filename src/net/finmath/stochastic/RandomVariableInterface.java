@@ -189,6 +189,16 @@ public interface RandomVariableInterface {
 	 * @return The quantile value assuming the given probability weights.
 	 */
 	public double getQuantile(double quantile, RandomVariableInterface probabilities);
+
+	/**
+	 * Returns the quantile values for a set of quantile levels, see {@link #getQuantile(double)}.
+	 * Implementations should calculate all quantiles from a single ordering of the realizations,
+	 * such that this method is considerably faster than repeated calls to {@link #getQuantile(double)}.
+	 * 
+	 * @param quantiles The quantile levels.
+	 * @return The quantile values assuming equi-distribution, result[i] corresponds to quantiles[i].
+	 */
+	public double[] getQuantiles(double[] quantiles);
 			
 	/**
 	 * Returns the expectation over a quantile for this given random variable.
@@ -192,6 +192,14 @@ public class RandomVariableMutableClone implements RandomVariableInterface {
     public double getQuantile(double quantile) {
 		return randomVariable.getQuantile(quantile);
     }
+
+	/* (non-Javadoc)
+     * @see net.finmath.stochastic.RandomVariableInterface#getQuantiles(double[])
+     */
+    @Override
+    public double[] getQuantiles(double[] quantiles) {
+		return randomVariable.getQuantiles(quantiles);
+    }
     
 	/* (non-Javadoc)
      * @see net.finmath.stochastic.RandomVariableInterface#getQuantile(double, net.finmath.stochastic.RandomVariableInterface)
@@ -206,7 +214,7 @@ public class RandomVariableMutableClone implements RandomVariableInterface {
 	 */
     @Override
     public double getQuantileExpectation(double quantileStart, double quantileEnd) {
-		return randomVariable.getQuantileExpectation(quantileStart, 1.0);
+		return randomVariable.getQuantileExpectation(quantileStart, quantileEnd);
     }
 
 	/* (non-Javadoc)
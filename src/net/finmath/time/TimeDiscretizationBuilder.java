@@ -0,0 +1,188 @@
+/*
+ * (c) Copyright Christian P. Fries, Germany. All rights reserved. Contact: email@christian-fries.de.
+ *
+ * Created on 15.10.2026
+ */
+package net.finmath.time;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a (non-equidistant) time discretization, e.g., for a Monte-Carlo simulation, from
+ * <ul>
+ * 	<li>a coarse equidistant grid from an initial time to a last time with a given maximum time step,</li>
+ * 	<li>event times which have to be part of the discretization (e.g., the fixing and payment dates of the products of a portfolio, or the tenor of a LIBOR market model),</li>
+ * 	<li>an optional refinement: each time step is bisected as long as the error estimate of the step exceeds a given tolerance
+ * 		(and the time step is larger than twice the minimum time step).</li>
+ * </ul>
+ * The refinement inserts time steps only where the error estimate requires it, e.g., where the drift or the volatility of a model change fast,
+ * such that the number of time steps is smaller than the one of an equidistant discretization with the same accuracy.
+ *
+ * The times are rounded to the time tick size of {@link TimeDiscretization}; times which coincide after rounding are merged.
+ *
+ * The class is not thread safe.
+ *
+ * @author Christian Fries
+ * @version 1.0
+ */
+public class TimeDiscretizationBuilder {
+
+	/**
+	 * An estimate of the (local) discretization error of a time step, e.g., provided by a numerical scheme.
+	 */
+	public interface StepErrorEstimator {
+
+		/**
+		 * Returns an estimate of the discretization error of a single time step from <code>startTime</code> to <code>endTime</code>.
+		 *
+		 * @param startTime The start time of the time step.
+		 * @param endTime The end time of the time step.
+		 * @return The estimate of the discretization error of the time step (non-negative).
+		 */
+		double getErrorEstimate(double startTime, double endTime);
+	}
+
+	private final double		initial;
+	private final double		last;
+	private final double		maximumTimeStep;
+
+	private final List<Double>	eventTimes = new ArrayList<Double>();
+
+	private double				minimumTimeStep	= 1.0 / 365.0;
+	private StepErrorEstimator	stepErrorEstimator;
+	private double				tolerance;
+
+	/**
+	 * Create a builder of a time discretization from <code>initial</code> to <code>last</code>
+	 * using time steps not larger than <code>maximumTimeStep</code>.
+	 *
+	 * @param initial First discretization point.
+	 * @param last Last discretization point.
+	 * @param maximumTimeStep The maximum time step (the time step of the coarse grid).
+	 */
+	public TimeDiscretizationBuilder(double initial, double last, double maximumTimeStep) {
+		super();
+		if(last < initial)			throw new IllegalArgumentException("The last time " + last + " is before the initial time " + initial + ".");
+		if(maximumTimeStep <= 0)	throw new IllegalArgumentException("The maximum time step has to be positive.");
+		this.initial			= initial;
+		this.last				= last;
+		this.maximumTimeStep	= maximumTimeStep;
+	}
+
+	/**
+	 * Add an event time, which will be part of the time discretization.
+	 *
+	 * @param time The event time.
+	 * @return This builder.
+	 * @throws IllegalArgumentException Thrown if the time is outside the interval from the initial time to the last time.
+	 */
+	public TimeDiscretizationBuilder addTime(double time) {
+		if(time < initial || time > last) throw new IllegalArgumentException("The time " + time + " is outside the time discretization [" + initial + ", " + last + "].");
+		eventTimes.add(time);
+		return this;
+	}
+
+	/**
+	 * Add event times, which will be part of the time discretization.
+	 *
+	 * @param times The event times.
+	 * @return This builder.
+	 * @throws IllegalArgumentException Thrown if a time is outside the interval from the initial time to the last time.
+	 */
+	public TimeDiscretizationBuilder addTimes(double[] times) {
+		for(double time : times) addTime(time);
+		return this;
+	}
+
+	/**
+	 * Add the times of a time discretization (e.g., the tenor of a LIBOR market model) as event times.
+	 *
+	 * @param times The event times.
+	 * @return This builder.
+	 * @throws IllegalArgumentException Thrown if a time is outside the interval from the initial time to the last time.
+	 */
+	public TimeDiscretizationBuilder addTimes(TimeDiscretizationInterface times) {
+		for(double time : times) addTime(time);
+		return this;
+	}
+
+	/**
+	 * Set the minimum time step of the refinement. A time step is only bisected if the resulting time steps are not smaller than the minimum time step.
+	 * The default is one day (1.0 / 365.0). Note that the time steps between event times may be smaller.
+	 *
+	 * @param minimumTimeStep The minimum time step of the refinement.
+	 * @return This builder.
+	 */
+	public TimeDiscretizationBuilder setMinimumTimeStep(double minimumTimeStep) {
+		this.minimumTimeStep = minimumTimeStep;
+		return this;
+	}
+
+	/**
+	 * Set the refinement of the time discretization: each time step is bisected as long as its error estimate exceeds the tolerance.
+	 *
+	 * @param stepErrorEstimator The estimator of the discretization error of a time step. If null, the time discretization is not refined.
+	 * @param tolerance The tolerance of the error estimate of a time step.
+	 * @return This builder.
+	 */
+	public TimeDiscretizationBuilder setRefinement(StepErrorEstimator stepErrorEstimator, double tolerance) {
+		this.stepErrorEstimator	= stepErrorEstimator;
+		this.tolerance			= tolerance;
+		return this;
+	}
+
+	/**
+	 * Build the time discretization.
+	 *
+	 * @return The time discretization.
+	 */
+	public TimeDiscretization build() {
+		// Merge the coarse grid and the event times
+		int numberOfCoarseTimeSteps = (int)Math.ceil((last - initial) / maximumTimeStep - 1E-10);
+		List<Double> times = new ArrayList<Double>(eventTimes);
+		for(int timeIndex=0; timeIndex<numberOfCoarseTimeSteps; timeIndex++) times.add(initial + timeIndex * (last - initial) / numberOfCoarseTimeSteps);
+		times.add(last);
+		double[] mergedTimes = getRoundedDistinctTimes(times);
+
+		// Refine the time steps
+		List<Double> refinedTimes = new ArrayList<Double>();
+		refinedTimes.add(mergedTimes[0]);
+		for(int timeIndex=1; timeIndex<mergedTimes.length; timeIndex++) {
+			addRefinedTimeStep(refinedTimes, mergedTimes[timeIndex-1], mergedTimes[timeIndex]);
+		}
+
+		return new TimeDiscretization(getRoundedDistinctTimes(refinedTimes));
+	}
+
+	/**
+	 * Adds the end time of the time step (and the times bisecting it, if the time step requires refinement) to the given list.
+	 */
+	private void addRefinedTimeStep(List<Double> times, double startTime, double endTime) {
+		if(stepErrorEstimator != null && (endTime - startTime) >= 2 * minimumTimeStep && stepErrorEstimator.getErrorEstimate(startTime, endTime) > tolerance) {
+			double midTime = 0.5 * (startTime + endTime);
+			addRefinedTimeStep(times, startTime, midTime);
+			addRefinedTimeStep(times, midTime, endTime);
+		}
+		else {
+			times.add(endTime);
+		}
+	}
+
+	/**
+	 * @return The sorted times, rounded to the time tick size, without duplicates.
+	 */
+	private static double[] getRoundedDistinctTimes(List<Double> times) {
+		Double[] timesArray = times.toArray(new Double[times.size()]);
+		double[] roundedTimes = new TimeDiscretization(timesArray).getAsDoubleArray();
+
+		int numberOfDistinctTimes = 0;
+		for(int timeIndex=0; timeIndex<roundedTimes.length; timeIndex++) {
+			if(numberOfDistinctTimes == 0 || roundedTimes[timeIndex] != roundedTimes[numberOfDistinctTimes-1]) roundedTimes[numberOfDistinctTimes++] = roundedTimes[timeIndex];
+		}
+
+		double[] distinctTimes = new double[numberOfDistinctTimes];
+		System.arraycopy(roundedTimes, 0, distinctTimes, 0, numberOfDistinctTimes);
+		return distinctTimes;
+	}
+}